@@ -12,6 +12,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.travel"
@@ -32,6 +33,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Metrics (/actuator/prometheus)
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     // Database
     runtimeOnly("com.h2database:h2")
@@ -57,3 +62,64 @@ tasks.withType<Test> {
 tasks.withType<JavaExec> {
     jvmArgs("--enable-preview")
 }
+
+// ============================================
+// [Key Point] JMH 마이크로벤치마크 (src/jmh/java)
+// 실행: ./gradlew jmh                                  (전체)
+//       ./gradlew jmh -PjmhIncludes=MoneyBenchmark     (정규식으로 선택)
+// - 처리량(thrpt) + gc 프로파일러의 gc.alloc.rate.norm (ops당 할당 바이트)
+// - 결과는 build/reports/jmh/results.json 에 저장 → 배포 전 이전 결과와 비교
+// ============================================
+jmh {
+    jmhVersion = "1.37"
+    benchmarkMode = listOf("thrpt")
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    jvmArgsAppend = listOf("--enable-preview")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+// ============================================
+// [Key Point] 부하 테스트 하네스 (src/loadtest/java)
+// 실행: ./gradlew loadTest                                          (platform → virtual 순서로 둘 다)
+//       ./gradlew loadTest -PloadTestModes=virtual -PloadTestConcurrency=800 -PloadTestSeconds=60
+// - 앱을 내장 H2로 모드마다 새로 띄우고 JDK HttpClient로 예약 생성/조회 부하
+// - 모드별 처리량과 p50/p99/p999 지연 시간을 표로 출력
+// ============================================
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["loadtestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadtestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "platform/virtual 스레드 모드별 예약 API 부하 테스트"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.travel.loadtest.BookingLoadTest"
+    args = listOf(
+            "--modes=" + (project.findProperty("loadTestModes") ?: "platform,virtual"),
+            "--concurrency=" + (project.findProperty("loadTestConcurrency") ?: "400"),
+            "--warmup-seconds=" + (project.findProperty("loadTestWarmupSeconds") ?: "10"),
+            "--seconds=" + (project.findProperty("loadTestSeconds") ?: "30")
+    )
+}
+
+// 실행: ./gradlew archiveLoadTest -ParchiveBookings=500000 -ParchivedPercent=95
+// - 종료 예약이 대부분인 bookings를 seed → 조회 지연 측정 → BookingArchiveJob → 다시 측정 (처리량 + 전후 p50/p99)
+tasks.register<JavaExec>("archiveLoadTest") {
+    group = "verification"
+    description = "예약 보관 처리량과 보관 전후 조회 지연 측정"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.travel.loadtest.BookingArchiveLoadTest"
+    args = listOf(
+            "--bookings=" + (project.findProperty("archiveBookings") ?: "200000"),
+            "--archived-percent=" + (project.findProperty("archivedPercent") ?: "90"),
+            "--lookups=" + (project.findProperty("archiveLookups") ?: "2000")
+    )
+}
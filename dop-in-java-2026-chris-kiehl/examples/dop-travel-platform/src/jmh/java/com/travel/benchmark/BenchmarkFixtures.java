@@ -0,0 +1,158 @@
+package com.travel.benchmark;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.membership.MembershipTier;
+import com.travel.domain.promotion.PromotionRule;
+import com.travel.domain.settlement.Settlement;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 입력 데이터
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 모든 벤치마크가 같은 모양의 데이터를 쓰도록 생성 로직을 한 곳에 모음
+ *
+ * <pre>
+ * [Key Point] 입력은 @Setup에서 한 번만 만들고 측정 구간에서는 재사용
+ * [Trap] 측정 메서드 안에서 fixture 생성 → 도메인 연산이 아니라 fixture 비용을 측정하게 됨
+ * [Key Point] 날짜는 고정값 사용 - 실행 시점에 따라 결과(예: DateInRange)가 바뀌지 않도록
+ * </pre>
+ */
+public final class BenchmarkFixtures {
+
+    public static final LocalDate BASE_DATE = LocalDate.of(2026, 7, 1);
+
+    private BenchmarkFixtures() {}
+
+    // ============================================
+    // 예약 항목 (3가지 variant를 순환)
+    // ============================================
+
+    public static BookingItem item(int i) {
+        LocalDate checkIn = BASE_DATE.plusDays(i % 30);
+        return switch (i % 3) {
+            case 0 -> new BookingItem.Accommodation(
+                    "ROOM-" + i, "호텔 " + i, "디럭스",
+                    new DateRange(checkIn, checkIn.plusDays(2)),
+                    Money.krw(100_000 + (i % 10) * 10_000L), 2);
+            case 1 -> new BookingItem.Flight(
+                    "FL-" + i, "항공사", "KE" + (100 + i % 900),
+                    "ICN", "NRT",
+                    LocalDateTime.of(checkIn, LocalTime.of(9, 0)),
+                    LocalDateTime.of(checkIn, LocalTime.of(11, 30)),
+                    BookingItem.Flight.SeatClass.ECONOMY,
+                    Money.krw(250_000 + (i % 5) * 5_000L), 1);
+            default -> new BookingItem.TravelPackage(
+                    "PKG-" + i, "패키지 " + i, "3박 4일",
+                    new DateRange(checkIn, checkIn.plusDays(3)),
+                    Money.krw(890_000), List.of("호텔", "조식", "가이드"), 2);
+        };
+    }
+
+    public static List<BookingItem> items(int count) {
+        List<BookingItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(item(i));
+        }
+        return List.copyOf(items);
+    }
+
+    // ============================================
+    // 예약 / 회원
+    // ============================================
+
+    public static Booking booking(int itemCount) {
+        return Booking.create(MemberId.generate(), items(itemCount));
+    }
+
+    /**
+     * 상태가 섞인 예약 목록 (Pending / Confirmed / Completed / Cancelled 순환)
+     */
+    public static List<Booking> bookings(int count, int itemsPerBooking) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Booking booking = booking(itemsPerBooking);
+            bookings.add(switch (i % 4) {
+                case 0 -> booking;
+                case 1 -> booking.confirm("PAY-" + i);
+                case 2 -> booking.confirm("PAY-" + i).complete();
+                default -> booking.cancel("벤치마크", null,
+                        BookingStatus.Cancelled.CancelledBy.USER);
+            });
+        }
+        return List.copyOf(bookings);
+    }
+
+    public static Member member(MembershipTier tier) {
+        return Member.create("bench@example.com", "벤치", "010-0000-0000")
+                .withMembershipTier(tier);
+    }
+
+    // ============================================
+    // 프로모션 규칙
+    // ============================================
+
+    /**
+     * 깊이 depth의 완전 이진 규칙 트리 (And/Or 교대, leaf는 6종 순환)
+     *
+     * <p>Always/Never leaf가 섞여 있어 simplify가 실제로 줄일 수 있는 구조</p>
+     */
+    public static PromotionRule ruleTree(int depth) {
+        return ruleTree(depth, new int[]{0});
+    }
+
+    private static PromotionRule ruleTree(int depth, int[] leafCounter) {
+        if (depth == 0) {
+            return switch (leafCounter[0]++ % 6) {
+                case 0 -> PromotionRule.membershipIs(MembershipTier.GOLD);
+                case 1 -> PromotionRule.minimumAmount(Money.krw(300_000));
+                case 2 -> PromotionRule.dateInRange(BASE_DATE.minusDays(10), BASE_DATE.plusDays(10));
+                case 3 -> PromotionRule.itemTypeIs(PromotionRule.ItemTypeIs.ItemType.FLIGHT);
+                case 4 -> PromotionRule.always();
+                default -> PromotionRule.never().not();
+            };
+        }
+        PromotionRule left = ruleTree(depth - 1, leafCounter);
+        PromotionRule right = ruleTree(depth - 1, leafCounter);
+        return depth % 2 == 0 ? left.and(right) : left.or(right);
+    }
+
+    // ============================================
+    // 정산
+    // ============================================
+
+    public static List<Settlement.SettlementItem> settlementItems(int count) {
+        Instant completedAt = Instant.parse("2026-07-01T00:00:00Z");
+        List<Settlement.SettlementItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Settlement.SettlementItem(
+                    "B-" + i, "호텔 " + i, Money.krw(100_000 + i * 1_000L), completedAt));
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * 합이 100인 비율 목록 (shares개로 최대한 균등 분할)
+     */
+    public static List<Integer> percentages(int shares) {
+        List<Integer> result = new ArrayList<>(shares);
+        int base = 100 / shares;
+        int remainder = 100 % shares;
+        for (int i = 0; i < shares; i++) {
+            result.add(base + (i < remainder ? 1 : 0));
+        }
+        return List.copyOf(result);
+    }
+}
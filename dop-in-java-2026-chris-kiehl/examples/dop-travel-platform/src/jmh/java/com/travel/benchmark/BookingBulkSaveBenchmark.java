@@ -0,0 +1,155 @@
+package com.travel.benchmark;
+
+import com.travel.TravelPlatformApplication;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 일괄 저장 벤치마크 - save 반복 vs saveAll (JDBC 배치)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 제휴 채널 대량 적재 경로의 처리량(예약/초)과 DB 왕복 수(준비된 statement 수) 비교
+ *
+ * <pre>
+ * saveEach : BookingRepository.save를 예약마다 호출 (예약마다 트랜잭션 + merge SELECT)
+ * saveAll  : BookingRepository.saveAll (chunk flush/clear + JDBC 배치)
+ * batchSize: hibernate.jdbc.batch_size - 1이면 배치 꺼짐
+ *
+ * 결과 읽는 법
+ *   score                  : 예약/μs (@OperationsPerInvocation = 예약 수)
+ *   StatementCounter.statements / rows : 이터레이션 동안 준비된 statement 수 / 저장한 예약 수
+ *
+ * [Key Point] 실제 H2(in-memory) + Spring 컨텍스트 사용 - 네트워크 왕복이 없으므로
+ *   실제 DB에서는 statement 수 차이가 처리량 차이로 더 크게 나타남
+ * [Key Point] 이터레이션마다 테이블 비움 - 행이 쌓여 인덱스 비용이 변하지 않도록
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingBulkSaveBenchmark {
+
+    private static final int BOOKINGS_PER_INVOCATION = 1_000;
+    private static final int ITEMS_PER_BOOKING = 3;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository repository;
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+
+    /**
+     * 이터레이션 단위 statement / 행 수 (합계로 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            rows = 0;
+        }
+    }
+
+    /**
+     * 호출마다 새 예약 (ID가 겹치면 UPDATE 경로를 측정하게 됨)
+     */
+    @State(Scope.Thread)
+    public static class Input {
+        List<Booking> bookings;
+
+        @Setup(Level.Invocation)
+        public void generate() {
+            bookings = BenchmarkFixtures.bookings(BOOKINGS_PER_INVOCATION, ITEMS_PER_BOOKING);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        SpringApplication application = new SpringApplication(TravelPlatformApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:bulk-save-bench;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql", "false",
+                "spring.jpa.properties.hibernate.format_sql", "false",
+                "spring.jpa.properties.hibernate.generate_statistics", "true",
+                "spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize),
+                "spring.h2.console.enabled", "false",
+                "logging.level.root", "WARN"));
+        context = application.run();
+        repository = context.getBean(BookingRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("DELETE FROM booking_items");
+        jdbcTemplate.execute("DELETE FROM bookings");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKINGS_PER_INVOCATION)
+    public int saveEach(Input input, StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        for (Booking booking : input.bookings) {
+            repository.save(booking);
+        }
+        return count(input, counter, before);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKINGS_PER_INVOCATION)
+    public int saveAll(Input input, StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        repository.saveAll(input.bookings);
+        return count(input, counter, before);
+    }
+
+    private int count(Input input, StatementCounter counter, long before) {
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        counter.rows += input.bookings.size();
+        return input.bookings.size();
+    }
+}
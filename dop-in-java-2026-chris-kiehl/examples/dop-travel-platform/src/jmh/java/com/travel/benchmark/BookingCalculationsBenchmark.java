@@ -0,0 +1,82 @@
+package com.travel.benchmark;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingCalculations;
+import com.travel.domain.booking.BookingItem;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingCalculations 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약 생성/취소/매출 집계 경로의 순수 계산 비용을 항목 수에 따라 측정
+ *
+ * <pre>
+ * itemCount : 예약당 항목 수 (calculateTotalAmount의 입력 크기)
+ * 매출 집계는 1,000건 예약 목록 기준
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingCalculationsBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private List<BookingItem> items;
+    private List<Booking> bookings;
+    private Money paid;
+    private Money fixedDiscount;
+
+    @Setup
+    public void setUp() {
+        items = BenchmarkFixtures.items(itemCount);
+        bookings = BenchmarkFixtures.bookings(1_000, 1);
+        paid = BookingCalculations.calculateTotalAmount(items);
+        fixedDiscount = Money.krw(30_000);
+    }
+
+    @Benchmark
+    public Money totalAmount() {
+        return BookingCalculations.calculateTotalAmount(items);
+    }
+
+    @Benchmark
+    public Money bestDiscount() {
+        return BookingCalculations.calculateBestDiscount(paid, fixedDiscount, 10);
+    }
+
+    @Benchmark
+    public Money refundAmount() {
+        return BookingCalculations.calculateRefundAmount(paid, 5);
+    }
+
+    @Benchmark
+    public boolean sameCurrency() {
+        return BookingCalculations.hasSameCurrency(items);
+    }
+
+    @Benchmark
+    public Money totalRevenue() {
+        return BookingCalculations.calculateTotalRevenue(bookings, Currency.KRW);
+    }
+}
@@ -0,0 +1,116 @@
+package com.travel.benchmark;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.infrastructure.persistence.eventstore.BookingEventLog;
+import com.travel.infrastructure.persistence.eventstore.EventSourcedBookingRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 저장소 벤치마크 - 상태 전이 기록/재구성 비용
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 상태 전이 1건 저장이 스냅샷 전체 기록 대비 얼마나 싼지, 조회 시 재생 비용이 얼마인지 측정
+ *
+ * <pre>
+ * saveStatusChange : 상태만 바꾼 예약 저장 (STATUS_CHANGED 추가, snapshotInterval마다 스냅샷)
+ * saveSnapshot     : 처음 보는 예약 저장 (SNAPSHOT 추가)
+ * findById         : 스냅샷 + 이벤트 재생
+ *
+ * [Key Point] 이터레이션마다 임시 디렉토리에 로그를 새로 만들고 지움 - 디스크 누적 방지
+ * [Trap] fsyncOnAppend=false 측정값은 page cache 기록 속도 - 내구성 비용은 포함되지 않음
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingEventStoreBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int BOOKING_COUNT = 1_024;
+
+    @Param({"4", "16"})
+    public int snapshotInterval;
+
+    private Path directory;
+    private BookingEventLog log;
+    private EventSourcedBookingRepository repository;
+    private List<Booking> bookings;
+    private List<Booking> fresh;
+    private int cursor;
+    private long tick;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("booking-events-bench");
+        log = BookingEventLog.open(directory, SEGMENT_SIZE, false);
+        repository = new EventSourcedBookingRepository(log, snapshotInterval);
+        bookings = BenchmarkFixtures.bookings(BOOKING_COUNT, 3);
+        bookings.forEach(repository::save);
+        fresh = BenchmarkFixtures.bookings(BOOKING_COUNT, 3);
+        cursor = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.delete(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public Booking saveStatusChange() {
+        Booking booking = bookings.get(next());
+        // 상태 외 필드는 그대로 두고 상태만 교체 → 이벤트 경로
+        Instant now = Instant.ofEpochSecond(1_780_000_000L + tick++);
+        return repository.save(booking.withStatus(new BookingStatus.Confirmed("PAY-" + tick, now)));
+    }
+
+    @Benchmark
+    public Booking saveSnapshot() {
+        return repository.save(fresh.get(next()));
+    }
+
+    @Benchmark
+    public Booking findById() {
+        return repository.findById(bookings.get(next()).id()).getOrThrow();
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (cursor + 1) & (BOOKING_COUNT - 1);
+        return i;
+    }
+}
@@ -0,0 +1,67 @@
+package com.travel.benchmark;
+
+import com.travel.domain.booking.Booking;
+import com.travel.infrastructure.persistence.entity.BookingEntity;
+import com.travel.infrastructure.persistence.mapper.BookingMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingMapper 벤치마크 - Domain ↔ Entity 변환 비용
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 저장/조회마다 발생하는 매핑 비용(상태 JSON 직렬화 포함) 측정
+ *
+ * <pre>
+ * [Key Point] DB 없이 매퍼만 측정 - Spring 컨텍스트 불필요 (BookingMapper는 의존성 없음)
+ * roundTrip : toEntity → toDomain (저장 후 재조회 경로)
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingMapperBenchmark {
+
+    @Param({"1", "10"})
+    public int itemCount;
+
+    private BookingMapper mapper;
+    private Booking booking;
+    private BookingEntity entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new BookingMapper();
+        booking = BenchmarkFixtures.booking(itemCount).confirm("PAY-BENCH");
+        entity = mapper.toEntity(booking);
+    }
+
+    @Benchmark
+    public BookingEntity toEntity() {
+        return mapper.toEntity(booking);
+    }
+
+    @Benchmark
+    public Booking toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Booking roundTrip() {
+        return mapper.toDomain(mapper.toEntity(booking));
+    }
+}
@@ -0,0 +1,95 @@
+package com.travel.benchmark;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponCalculations;
+import com.travel.domain.coupon.CouponStatus;
+import com.travel.domain.coupon.CouponType;
+import com.travel.domain.coupon.MemberCouponIndex;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최적 쿠폰 선택 벤치마크 - 캠페인 쿠폰을 많이 가진 회원의 결제 1건
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 보유 쿠폰 전체를 계산하는 selectBestCoupon과 MemberCouponIndex 조회 비교
+ *
+ * <pre>
+ * selectBestCoupon : 쿠폰마다 isUsable(LocalDate.now) + calculateDiscount(BigDecimal)
+ * indexBest        : 이분 탐색 + 지배되지 않은 정률 쿠폰만 long 계산
+ * indexBuild       : 인덱스 재빌드 비용 (발급/사용 후 첫 조회)
+ *
+ * [Key Point] 쿠폰은 캠페인 8종 × coupons/8장 - 같은 조건 쿠폰이 반복되는 실제 보유 모양
+ * [Trap] 쿠폰 유효기간은 Coupon.isUsable이 LocalDate.now()로 판단 → 실행일 기준으로 생성
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CouponSelectionBenchmark {
+
+    @Param({"10", "300"})
+    public int coupons;
+
+    private MemberId memberId;
+    private List<Coupon> memberCoupons;
+    private MemberCouponIndex index;
+    private Money orderAmount;
+
+    @Setup
+    public void setUp() {
+        memberId = MemberId.generate();
+        LocalDate today = LocalDate.now();
+        memberCoupons = new ArrayList<>(coupons);
+        for (int i = 0; i < coupons; i++) {
+            int campaign = i % 8;
+            boolean fixed = campaign % 2 == 0;
+            memberCoupons.add(new Coupon("C-" + i, "CODE-" + i,
+                    fixed ? CouponType.FIXED_AMOUNT : CouponType.PERCENTAGE,
+                    fixed ? Money.krw(5_000L * (campaign + 1)) : null,
+                    fixed ? 0 : 5 * campaign,
+                    Money.krw(50_000L * campaign),
+                    fixed ? null : Money.krw(10_000L * campaign),
+                    memberId, new CouponStatus.Available(),
+                    today.minusDays(30), today.plusDays(30 + i), Instant.now()));
+        }
+        index = MemberCouponIndex.build(memberId, memberCoupons, today);
+        orderAmount = Money.krw(320_000);
+    }
+
+    @Benchmark
+    public Coupon selectBestCoupon() {
+        return CouponCalculations.selectBestCoupon(memberCoupons, orderAmount);
+    }
+
+    @Benchmark
+    public Optional<Coupon> indexBest() {
+        return index.best(orderAmount);
+    }
+
+    @Benchmark
+    public MemberCouponIndex indexBuild() {
+        return MemberCouponIndex.build(memberId, memberCoupons, LocalDate.now());
+    }
+}
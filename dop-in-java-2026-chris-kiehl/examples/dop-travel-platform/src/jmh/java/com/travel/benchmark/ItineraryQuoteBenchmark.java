@@ -0,0 +1,141 @@
+package com.travel.benchmark;
+
+import com.travel.application.booking.BookingDomainService;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.Itinerary;
+import com.travel.domain.booking.ItineraryQuoteEngine;
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponCalculations;
+import com.travel.domain.coupon.CouponStatus;
+import com.travel.domain.coupon.CouponType;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 일괄 견적 벤치마크 - 후보 1,200개 (항공 3편 × 좌석 4등급 × 객실 50 × 패키지 유무) 중 상위 10개
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 후보마다 예약을 만들어 쿠폰을 적용하던 경로와 ItineraryQuoteEngine의 견적 처리량 비교
+ *
+ * <pre>
+ * perItinerary : 후보마다 Booking.create → CouponCalculations.selectBestCoupon → applyDiscount, 전체 정렬 후 상위 K
+ * engine       : forMember 1회 + quote 1회 - 항목 가격 공유, long 합산, 상위 K 가지치기
+ *
+ * [Key Point] @OperationsPerInvocation(ITINERARIES) - 결과 단위가 "후보 1건" (ops/us = 백만 후보/초)
+ * [Trap] 쿠폰 유효기간은 Coupon.isUsable이 LocalDate.now()로 판단 → 고정 날짜(BASE_DATE) 대신 실행일 기준으로 생성
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItineraryQuoteBenchmark {
+
+    private static final int FLIGHTS = 3;
+    private static final int ROOMS = 50;
+    private static final int ITINERARIES = FLIGHTS * 4 * ROOMS * 2;
+    private static final int TOP_K = 10;
+
+    private MemberId memberId;
+    private List<Coupon> coupons;
+    private List<Itinerary> itineraries;
+
+    @Setup
+    public void setUp() {
+        memberId = MemberId.generate();
+        LocalDate today = LocalDate.now();
+        coupons = List.of(
+                coupon("FIXED", CouponType.FIXED_AMOUNT, Money.krw(30_000), 0, Money.krw(500_000), null, today),
+                coupon("PCT-10", CouponType.PERCENTAGE, null, 10, Money.krw(1_000_000), Money.krw(100_000), today),
+                coupon("PCT-5", CouponType.PERCENTAGE, null, 5, null, null, today));
+
+        // 같은 상품은 같은 BookingItem 인스턴스를 공유 (검색 결과 조합과 같은 모양)
+        LocalDate checkIn = BenchmarkFixtures.BASE_DATE;
+        List<BookingItem> flights = new ArrayList<>();
+        for (int f = 0; f < FLIGHTS; f++) {
+            for (var seatClass : BookingItem.Flight.SeatClass.values()) {
+                flights.add(new BookingItem.Flight("FL-" + f + "-" + seatClass, "항공사", "KE" + (100 + f),
+                        "ICN", "NRT",
+                        LocalDateTime.of(checkIn, LocalTime.of(9 + f, 0)),
+                        LocalDateTime.of(checkIn, LocalTime.of(11 + f, 30)),
+                        seatClass, Money.krw(250_000L * (seatClass.ordinal() + 1) + f * 7_000L), 2));
+            }
+        }
+        List<BookingItem> rooms = new ArrayList<>();
+        for (int r = 0; r < ROOMS; r++) {
+            rooms.add(new BookingItem.Accommodation("ROOM-" + r, "호텔 " + r / 5, "디럭스",
+                    new DateRange(checkIn, checkIn.plusDays(3)), Money.krw(80_000 + r * 3_000L), 2));
+        }
+        BookingItem tour = new BookingItem.TravelPackage("PKG-1", "시내 투어", "1일 투어",
+                new DateRange(checkIn.plusDays(1), checkIn.plusDays(2)), Money.krw(120_000), List.of("가이드"), 2);
+
+        itineraries = new ArrayList<>(ITINERARIES);
+        for (BookingItem flight : flights) {
+            for (BookingItem room : rooms) {
+                itineraries.add(new Itinerary("I-" + itineraries.size(), List.of(flight, room)));
+                itineraries.add(new Itinerary("I-" + itineraries.size(), List.of(flight, room, tour)));
+            }
+        }
+    }
+
+    private Coupon coupon(String id, CouponType type, Money amount, int percent, Money minOrder, Money cap,
+                          LocalDate today) {
+        return new Coupon(id, "CODE-" + id, type, amount, percent, minOrder, cap, memberId,
+                new CouponStatus.Available(), today.minusDays(30), today.plusDays(30), Instant.now());
+    }
+
+    /**
+     * 기존 경로 - 후보마다 예약 생성 + 쿠폰 선택 + 할인 적용, 전체 정렬
+     */
+    @Benchmark
+    @OperationsPerInvocation(ITINERARIES)
+    public List<Booking> perItinerary() {
+        List<Booking> quoted = new ArrayList<>(itineraries.size());
+        for (Itinerary itinerary : itineraries) {
+            Booking booking = Booking.create(memberId, itinerary.items());
+            Coupon best = CouponCalculations.selectBestCoupon(coupons, booking.totalAmount());
+            if (best != null) {
+                booking = BookingDomainService.applyDiscount(booking, best.calculateDiscount(booking.totalAmount()), best.id())
+                        .getOrElse(booking);
+            }
+            quoted.add(booking);
+        }
+        return quoted.stream()
+                .sorted(Comparator.comparing(b -> b.finalAmount().amount()))
+                .limit(TOP_K)
+                .toList();
+    }
+
+    /**
+     * 일괄 견적 엔진 - 쿠폰 사전 계산 포함
+     */
+    @Benchmark
+    @OperationsPerInvocation(ITINERARIES)
+    public ItineraryQuoteEngine.Batch engine() {
+        return ItineraryQuoteEngine.forMember(memberId, coupons, LocalDate.now()).quote(itineraries, TOP_K);
+    }
+}
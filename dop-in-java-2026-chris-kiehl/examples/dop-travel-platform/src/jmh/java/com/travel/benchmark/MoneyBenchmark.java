@@ -0,0 +1,83 @@
+package com.travel.benchmark;
+
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money 산술 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 모든 금액 계산의 바닥 비용 - BigDecimal 생성 + setScale 정규화 - 측정
+ *
+ * <pre>
+ * [Key Point] Money 연산 1회 = 새 BigDecimal + 새 Money (불변 객체)
+ *   gc.alloc.rate.norm으로 연산당 할당 바이트를 확인하고,
+ *   상위 계산(BookingCalculations 등)의 할당이 Money 연산 횟수로 설명되는지 비교
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private Money a;
+    private Money b;
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        a = Money.krw(1_234_567);
+        b = Money.krw(89_000);
+        amounts = new Money[100];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Money.krw(10_000L + i * 137L);
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Money multiplyPercent() {
+        return a.multiplyPercent(15);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return a.isGreaterThanOrEqual(b);
+    }
+
+    /**
+     * 100건 합산 - 항등원에서 시작하는 fold
+     */
+    @Benchmark
+    public void sum100(Blackhole bh) {
+        Money total = Money.ZERO_KRW;
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        bh.consume(total);
+    }
+}
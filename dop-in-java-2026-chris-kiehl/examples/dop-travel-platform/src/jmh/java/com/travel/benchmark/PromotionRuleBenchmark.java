@@ -0,0 +1,72 @@
+package com.travel.benchmark;
+
+import com.travel.domain.membership.MembershipTier;
+import com.travel.domain.promotion.PromotionRule;
+import com.travel.domain.promotion.PromotionRuleEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PromotionRuleEngine 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 규칙 트리 크기에 따른 evaluate(재귀 인터프리터)와 simplify(트리 재작성) 비용 측정
+ *
+ * <pre>
+ * depth : 완전 이진 트리 깊이 → leaf 2^depth개
+ * evaluate           : 원본 트리 평가 (단락 평가로 일부 서브트리는 건너뜀)
+ * evaluateSimplified : simplify 결과 평가 - simplify를 미리 해 둘 가치가 있는지 비교
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromotionRuleBenchmark {
+
+    @Param({"3", "6", "10"})
+    public int depth;
+
+    private PromotionRule rule;
+    private PromotionRule simplified;
+    private PromotionRuleEngine.PromotionContext context;
+
+    @Setup
+    public void setUp() {
+        rule = BenchmarkFixtures.ruleTree(depth);
+        simplified = PromotionRuleEngine.simplify(rule);
+        context = new PromotionRuleEngine.PromotionContext(
+                BenchmarkFixtures.member(MembershipTier.GOLD),
+                BenchmarkFixtures.booking(3),
+                BenchmarkFixtures.BASE_DATE,
+                false);
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return PromotionRuleEngine.evaluate(rule, context);
+    }
+
+    @Benchmark
+    public boolean evaluateSimplified() {
+        return PromotionRuleEngine.evaluate(simplified, context);
+    }
+
+    @Benchmark
+    public PromotionRule simplify() {
+        return PromotionRuleEngine.simplify(rule);
+    }
+}
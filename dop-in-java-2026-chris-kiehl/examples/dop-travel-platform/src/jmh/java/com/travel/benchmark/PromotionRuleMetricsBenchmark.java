@@ -0,0 +1,104 @@
+package com.travel.benchmark;
+
+import com.travel.application.promotion.PromotionEligibilityService;
+import com.travel.application.promotion.PromotionRuleMetrics;
+import com.travel.application.promotion.PromotionRuleRegistry;
+import com.travel.domain.membership.MembershipTier;
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleEngine;
+import com.travel.domain.promotion.PromotionRuleParser;
+import com.travel.domain.promotion.PromotionRuleSet;
+import com.travel.domain.promotion.PromotionRuleSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로모션 규칙 계측 오버헤드 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * travel.promotion.metrics.enabled=false 일 때 계측 비용이 0인지, 켰을 때 샘플링 비율별 비용이 얼마인지 확인
+ *
+ * <pre>
+ * baseline    : PromotionRuleSet.eligiblePromotions 직접 호출 (계측 코드 없음)
+ * disabled    : PromotionEligibilityService, 계측 꺼짐         → baseline과 오차 범위 안이어야 함
+ * sampled100  : 계측 켜짐, 100번 중 1번 계측 (기본값)
+ * sampled1    : 계측 켜짐, 매번 계측                           → 노드당 nanoTime 2회 + LongAdder 갱신 비용
+ *
+ * 규칙: BenchmarkFixtures.ruleTree(4) 를 simplify한 프로모션 8개 (노드 약 30개씩)
+ * [Key Point] @Threads(4) - LongAdder 경합까지 포함한 비용 (단일 스레드 결과만 보면 AtomicLong과 차이가 안 보임)
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class PromotionRuleMetricsBenchmark {
+
+    private static final int PROMOTIONS = 8;
+
+    private PromotionRuleSet rules;
+    private PromotionEligibilityService disabled;
+    private PromotionEligibilityService sampled100;
+    private PromotionEligibilityService sampled1;
+    private PromotionRuleEngine.PromotionContext context;
+
+    @Setup
+    public void setUp() {
+        List<PromotionRuleDefinition> definitions = new ArrayList<>();
+        String expression = PromotionRuleParser.format(BenchmarkFixtures.ruleTree(4));
+        for (int i = 0; i < PROMOTIONS; i++) {
+            definitions.add(new PromotionRuleDefinition("PROMO-" + i, expression));
+        }
+        PromotionRuleSource source = new PromotionRuleSource() {
+            @Override public List<PromotionRuleDefinition> load() { return definitions; }
+            @Override public String description() { return "benchmark"; }
+        };
+        PromotionRuleRegistry registry = new PromotionRuleRegistry(source, 2);
+        rules = registry.current();
+        disabled = new PromotionEligibilityService(registry, new PromotionRuleMetrics(new SimpleMeterRegistry(), false, 100));
+        sampled100 = new PromotionEligibilityService(registry, new PromotionRuleMetrics(new SimpleMeterRegistry(), true, 100));
+        sampled1 = new PromotionEligibilityService(registry, new PromotionRuleMetrics(new SimpleMeterRegistry(), true, 1));
+        context = new PromotionRuleEngine.PromotionContext(
+                BenchmarkFixtures.member(MembershipTier.GOLD),
+                BenchmarkFixtures.booking(3),
+                BenchmarkFixtures.BASE_DATE,
+                false);
+    }
+
+    @Benchmark
+    public List<String> baseline() {
+        return rules.eligiblePromotions(context);
+    }
+
+    @Benchmark
+    public List<String> disabled() {
+        return disabled.eligiblePromotions(context);
+    }
+
+    @Benchmark
+    public List<String> sampled100() {
+        return sampled100.eligiblePromotions(context);
+    }
+
+    @Benchmark
+    public List<String> sampled1() {
+        return sampled1.eligiblePromotions(context);
+    }
+}
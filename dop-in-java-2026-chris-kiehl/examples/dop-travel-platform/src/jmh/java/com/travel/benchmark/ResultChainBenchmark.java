@@ -0,0 +1,70 @@
+package com.travel.benchmark;
+
+import com.travel.shared.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result.flatMap 체인 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Railway 스타일 파이프라인(검증 → 조회 → 계산 …)의 단계당 비용 측정
+ *
+ * <pre>
+ * success : 모든 단계 통과 - 단계마다 새 Success 할당
+ * failure : 첫 단계 실패 - 이후 단계는 같은 Failure를 전달만 함
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultChainBenchmark {
+
+    private static final int STEPS = 10;
+
+    @Param({"success", "failure"})
+    public String scenario;
+
+    private Result<Integer, String> start;
+
+    @Setup
+    public void setUp() {
+        start = scenario.equals("success") ? Result.success(1) : Result.failure("검증 실패");
+    }
+
+    private static Result<Integer, String> step(int value) {
+        return value < 1_000_000 ? Result.success(value + 1) : Result.failure("한도 초과");
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapChain() {
+        Result<Integer, String> result = start;
+        for (int i = 0; i < STEPS; i++) {
+            result = result.flatMap(ResultChainBenchmark::step);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapChain() {
+        Result<Integer, String> result = start;
+        for (int i = 0; i < STEPS; i++) {
+            result = result.map(v -> v + 1);
+        }
+        return result;
+    }
+}
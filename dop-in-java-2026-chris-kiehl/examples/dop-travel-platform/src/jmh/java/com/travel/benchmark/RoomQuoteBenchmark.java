@@ -0,0 +1,172 @@
+package com.travel.benchmark;
+
+import com.travel.application.product.RoomQuoteCache;
+import com.travel.domain.product.accommodation.NightlyRate;
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomPriceTable;
+import com.travel.domain.product.accommodation.RoomType;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객실 견적 벤치마크 - 검색 결과 한 페이지(객실 2,000개 × 같은 숙박 기간) 견적
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 날짜별 요금(주말 요금)을 반영한 견적의 초당 처리량을 경로별로 비교
+ *
+ * <pre>
+ * nightlySum     : 가격표 없이 밤마다 요금 조회 + Money.add - 박 수에 비례
+ * priceTable     : RoomPriceTable.quote - 누적합 차이, 박 수와 무관
+ * priceTableAll  : RoomPriceTable.quoteAll - 숙소 단위 일괄 (검색 결과 경로)
+ * quoteCacheHit  : RoomQuoteCache 적중 - 계산 없이 저장된 Money 반환
+ * calculatePrice : Room.calculatePrice - 날짜별 요금을 반영하지 못하는 기존 계산 (비용 바닥선)
+ *
+ * [Key Point] @OperationsPerInvocation(ROOMS) - 결과 단위가 "호출"이 아닌 "견적 1건" (ops/us = 백만 견적/초)
+ * [Trap] calculatePrice는 1박 요금 × 박 수 한 번의 곱이라 가장 빠르지만 주말 요금이 빠진 틀린 값
+ *   → 같은 값을 내는 경로끼리(nightlySum vs priceTable/캐시) 비교
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoomQuoteBenchmark {
+
+    private static final int HOTELS = 20;
+    private static final int ROOMS_PER_HOTEL = 100;
+    private static final int ROOMS = HOTELS * ROOMS_PER_HOTEL;
+
+    @Param({"2", "7"})
+    public int nights;
+
+    private Room[] rooms;
+    private RoomPriceTable[] tables;
+    private Map<String, Map<LocalDate, Money>> nightlyRates;
+    private RoomQuoteCache cache;
+    private DateRange stay;
+
+    @Setup
+    public void setUp() {
+        rooms = new Room[ROOMS];
+        tables = new RoomPriceTable[ROOMS];
+        nightlyRates = new HashMap<>();
+        for (int h = 0; h < HOTELS; h++) {
+            String hotelId = "HOTEL-" + h;
+            List<Room> hotelRooms = new ArrayList<>();
+            List<NightlyRate> weekendRates = new ArrayList<>();
+            for (int r = 0; r < ROOMS_PER_HOTEL; r++) {
+                Room room = new Room(hotelId + "-ROOM-" + r, hotelId, "호텔 " + h, new RoomType.Deluxe(),
+                        Money.krw(80_000 + (r % 20) * 5_000L), 2, List.of("WiFi"), "");
+                hotelRooms.add(room);
+                for (int week = 0; week < 52; week++) {
+                    weekendRates.add(new NightlyRate(room.id(), BenchmarkFixtures.BASE_DATE.plusDays(week * 7L + 5),
+                            Money.krw(150_000)));
+                }
+                Map<LocalDate, Money> byNight = new HashMap<>();
+                weekendRates.stream()
+                        .filter(rate -> rate.roomId().equals(room.id()))
+                        .forEach(rate -> byNight.put(rate.night(), rate.rate()));
+                nightlyRates.put(room.id(), byNight);
+            }
+            RoomPriceTable table = RoomPriceTable.build(hotelId, hotelRooms, weekendRates,
+                    BenchmarkFixtures.BASE_DATE, 365);
+            for (int r = 0; r < ROOMS_PER_HOTEL; r++) {
+                rooms[h * ROOMS_PER_HOTEL + r] = hotelRooms.get(r);
+                tables[h * ROOMS_PER_HOTEL + r] = table;
+            }
+        }
+        stay = new DateRange(BenchmarkFixtures.BASE_DATE.plusDays(30), BenchmarkFixtures.BASE_DATE.plusDays(30 + nights));
+        cache = new RoomQuoteCache(ROOMS * 2);
+        for (int i = 0; i < ROOMS; i++) {
+            RoomPriceTable table = tables[i];
+            String roomId = rooms[i].id();
+            cache.get(new RoomQuoteCache.Key(roomId, stay), table, () -> table.quote(roomId, stay).orElseThrow());
+        }
+    }
+
+    /**
+     * 가격표 없이 날짜별 요금 반영 - 밤마다 Map 조회 + Money.add
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void nightlySum(Blackhole bh) {
+        for (Room room : rooms) {
+            Map<LocalDate, Money> byNight = nightlyRates.get(room.id());
+            Money total = Money.zero(room.nightlyRate().currency());
+            for (LocalDate night = stay.startDate(); night.isBefore(stay.endDate()); night = night.plusDays(1)) {
+                total = total.add(byNight.getOrDefault(night, room.nightlyRate()));
+            }
+            bh.consume(total);
+        }
+    }
+
+    /**
+     * 기존 계산 - 1박 요금 × 박 수 (날짜별 요금 미반영)
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void calculatePrice(Blackhole bh) {
+        int n = (int) stay.nights();
+        for (Room room : rooms) {
+            bh.consume(room.calculatePrice(n));
+        }
+    }
+
+    /**
+     * 가격표 - long 누적합 차이 + Money 생성 1회
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void priceTable(Blackhole bh) {
+        for (int i = 0; i < ROOMS; i++) {
+            bh.consume(tables[i].quote(rooms[i].id(), stay));
+        }
+    }
+
+    /**
+     * 가격표 일괄 - 숙소마다 기간 → 위치 변환 1회
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void priceTableAll(Blackhole bh) {
+        for (int h = 0; h < HOTELS; h++) {
+            bh.consume(tables[h * ROOMS_PER_HOTEL].quoteAll(stay));
+        }
+    }
+
+    /**
+     * 캐시 적중 - 키 생성 + ConcurrentHashMap 조회 + 참조 비교
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void quoteCacheHit(Blackhole bh) {
+        for (int i = 0; i < ROOMS; i++) {
+            RoomPriceTable table = tables[i];
+            String roomId = rooms[i].id();
+            bh.consume(cache.get(new RoomQuoteCache.Key(roomId, stay), table,
+                    () -> table.quote(roomId, stay).orElseThrow()));
+        }
+    }
+}
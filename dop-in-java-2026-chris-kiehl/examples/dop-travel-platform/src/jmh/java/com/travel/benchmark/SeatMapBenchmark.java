@@ -0,0 +1,106 @@
+package com.travel.benchmark;
+
+import com.travel.domain.product.flight.CabinLayout;
+import com.travel.domain.product.flight.Seat;
+import com.travel.domain.product.flight.SeatClass;
+import com.travel.domain.product.flight.SeatMap;
+import com.travel.shared.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 좌석 탐색 벤치마크 - 대부분 찬 이코노미 객실에서 나란히 붙은 빈 좌석 찾기
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 좌석마다 boolean을 확인하는 탐색과 SeatMap의 단어 단위(shift-and) 탐색 비교
+ *
+ * <pre>
+ * naiveScan      : 행 → 묶음 → 시작 좌석마다 count석 확인 (boolean[][])
+ * findAdjacent   : 단어 하나(6행)씩 run 시작 비트 계산 → numberOfTrailingZeros
+ * allocateRelease: CAS 배정 + 해제 한 쌍 (경합 없는 단일 스레드 비용)
+ *
+ * [Key Point] 이코노미 60행 3-4-3, 무작위 85% 점유 - 앞쪽 행에서 바로 찾지 못하는 만석 직전 모양
+ * [Trap] 같은 시드로 두 표현에 같은 좌석을 채움 - 점유 모양이 다르면 비교가 무의미
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SeatMapBenchmark {
+
+    private static final SeatClass ECONOMY = new SeatClass.Economy();
+    private static final String LETTERS = "ABC DEFG HJK";
+    private static final int FIRST_ROW = 10;
+    private static final int ROWS = 60;
+    private static final int[][] BLOCKS = {{0, 3}, {3, 4}, {7, 3}};
+
+    @Param({"2", "4"})
+    public int groupSize;
+
+    private SeatMap seatMap;
+    private boolean[][] occupied;
+
+    @Setup
+    public void setUp() {
+        seatMap = SeatMap.of("F-BENCH", List.of(new CabinLayout(ECONOMY, FIRST_ROW, FIRST_ROW + ROWS - 1, LETTERS)));
+        occupied = new boolean[ROWS][10];
+        String letters = LETTERS.replace(" ", "");
+        SplittableRandom random = new SplittableRandom(46);
+        for (int row = 0; row < ROWS; row++) {
+            for (int seat = 0; seat < 10; seat++) {
+                if (random.nextInt(100) < 85) {
+                    occupied[row][seat] = true;
+                    seatMap.claim(new Seat(ECONOMY, FIRST_ROW + row, letters.charAt(seat))).getOrThrow();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int naiveScan() {
+        for (int row = 0; row < ROWS; row++) {
+            for (int[] block : BLOCKS) {
+                for (int start = block[0]; start + groupSize <= block[0] + block[1]; start++) {
+                    boolean free = true;
+                    for (int i = 0; i < groupSize && free; i++) {
+                        free = !occupied[row][start + i];
+                    }
+                    if (free) {
+                        return row * 10 + start;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public Result<List<Seat>, ?> findAdjacent() {
+        return seatMap.findAdjacent(ECONOMY, groupSize);
+    }
+
+    @Benchmark
+    public Result<List<Seat>, ?> allocateRelease() {
+        Result<List<Seat>, ?> result = seatMap.allocateAdjacent(ECONOMY, groupSize);
+        if (result.isSuccess()) {
+            seatMap.release(result.getOrThrow());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.travel.benchmark;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.SettlementCalculations;
+import com.travel.shared.types.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettlementCalculations 벤치마크
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 정산 분배(distribute)와 합산 비용을 분배 대상 수에 따라 측정
+ *
+ * <pre>
+ * shares : 분배 비율 개수 (distribute는 shares - 1회 multiplyPercent + add)
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SettlementDistributeBenchmark {
+
+    @Param({"2", "10", "50"})
+    public int shares;
+
+    private Money total;
+    private List<Integer> percentages;
+    private List<Settlement.SettlementItem> items;
+
+    @Setup
+    public void setUp() {
+        total = Money.krw(12_345_678);
+        percentages = BenchmarkFixtures.percentages(shares);
+        items = BenchmarkFixtures.settlementItems(1_000);
+    }
+
+    @Benchmark
+    public List<Money> distribute() {
+        return SettlementCalculations.distribute(total, percentages);
+    }
+
+    @Benchmark
+    public Money totalAmount() {
+        return SettlementCalculations.calculateTotalAmount(items);
+    }
+
+    @Benchmark
+    public Money fee() {
+        return SettlementCalculations.calculateFee(total, 12);
+    }
+}
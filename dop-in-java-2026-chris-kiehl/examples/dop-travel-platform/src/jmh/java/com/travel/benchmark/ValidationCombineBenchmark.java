@@ -0,0 +1,87 @@
+package com.travel.benchmark;
+
+import com.travel.shared.Validation;
+import com.travel.shared.ValidationBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Validation 4-ary 결합 벤치마크 - 커리된 ap 체인 vs 직접 결합 vs ValidationBuilder
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 폼 제출마다 실행되는 필드 검증 결합의 ops당 할당량 비교
+ *
+ * <pre>
+ * ./gradlew jmh  →  gc.alloc.rate.norm (B/op) 비교
+ *
+ * curriedAp : 이전 구현 재현 - 커리된 람다 4개 + 중간 Valid 3개 + 오류 리스트 반복 복사
+ * direct    : Validation.combine - Valid 1개 또는 오류 리스트 1개
+ * builder   : ValidationBuilder - 슬롯 4개 + 값 배열 1개 (임의 개수 지원 비용)
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationCombineBenchmark {
+
+    record Form(String name, String email, String phone, Integer guests) {}
+
+    /**
+     * valid: 모든 필드 통과, invalid: 4개 필드 모두 실패
+     */
+    @Param({"valid", "invalid"})
+    public String scenario;
+
+    private Validation<String, String> name;
+    private Validation<String, String> email;
+    private Validation<String, String> phone;
+    private Validation<Integer, String> guests;
+
+    @Setup
+    public void setUp() {
+        boolean ok = scenario.equals("valid");
+        name = ok ? Validation.valid("홍길동") : Validation.invalid("이름은 필수입니다");
+        email = ok ? Validation.valid("hong@example.com") : Validation.invalid("이메일 형식이 아닙니다");
+        phone = ok ? Validation.valid("010-1234-5678") : Validation.invalid("전화번호 형식이 아닙니다");
+        guests = ok ? Validation.valid(2) : Validation.invalid("인원은 1명 이상이어야 합니다");
+    }
+
+    @Benchmark
+    public Validation<Form, String> curriedAp() {
+        Validation<Function<String, Function<String, Function<Integer, Form>>>, String> step1 =
+                name.map(n -> e -> p -> g -> new Form(n, e, p, g));
+        Validation<Function<String, Function<Integer, Form>>, String> step2 = Validation.ap(step1, email);
+        Validation<Function<Integer, Form>, String> step3 = Validation.ap(step2, phone);
+        return Validation.ap(step3, guests);
+    }
+
+    @Benchmark
+    public Validation<Form, String> direct() {
+        return Validation.combine(name, email, phone, guests, Form::new);
+    }
+
+    @Benchmark
+    public Validation<Form, String> builder() {
+        var b = ValidationBuilder.<String>withExpectedSize(4);
+        var n = b.add(name);
+        var e = b.add(email);
+        var p = b.add(phone);
+        var g = b.add(guests);
+        return b.build(v -> new Form(v.get(n), v.get(e), v.get(p), v.get(g)));
+    }
+}
@@ -0,0 +1,215 @@
+package com.travel.loadtest;
+
+import com.travel.TravelPlatformApplication;
+import com.travel.application.booking.BookingArchiveJob;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.settlement.SettlementCheckpointRepository;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 예약 보관 측정 - 보관 처리량 + 보관 전후 조회 지연
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 종료 예약이 대부분인 bookings를 보관했을 때 요청 경로의 조회가 얼마나 빨라지는지,
+ * 보관소로 이어지는 조회(보관된 예약 ID)가 얼마나 느린지, 보관 Job이 초당 몇 건을 옮기는지 측정
+ *
+ * <h2>핵심 개념 (Key Concept): 측정 절차</h2>
+ * <pre>
+ * 1. 앱 기동 (내장 H2, travel.booking.repository=jpa)
+ * 2. seed: bookings건 중 archived-percent%는 3년 전에 끝난 예약(완료/취소), 나머지는 진행 중(Pending)
+ * 3. before: 연산마다 lookups회 - 상품별 활성 예약 / 회원별 예약 / 활성 예약 ID / 종료 예약 ID
+ * 4. 12개월 전 기간을 정산 완료로 기록 (보관 상한) → BookingArchiveJob.run(1년 전) → 옮긴 수, 건/초, 가장 느린 배치
+ * 5. after: 3과 같은 연산 (종료 예약 ID는 이제 보관소에서 읽음)
+ *
+ * 출력: 단계, 연산, 횟수, p50/p99/p999 (ms)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 내장 H2는 인덱스가 메모리에 다 올라가 있음 - 실제 DB에서는 버퍼 풀에 들어가지 않는 인덱스가
+ *       디스크를 읽으므로 보관 효과가 더 크게 나옴. 절대값이 아니라 전후 비교로만 해석</li>
+ *   <li>[Trap] 한 스레드에서 순서대로 호출 - 동시성이 아니라 조회 한 번의 비용을 측정</li>
+ * </ul>
+ */
+public final class BookingArchiveLoadTest {
+
+    private static final int MEMBER_COUNT = 2_000;
+    private static final int PRODUCT_COUNT = 500;
+    private static final int SEED_CHUNK = 5_000;
+
+    private BookingArchiveLoadTest() {}
+
+    /**
+     * 실행 옵션
+     */
+    record Options(int bookings, int archivedPercent, int lookups) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+                values.put(pair[0], pair.length > 1 ? pair[1] : "true");
+            }
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("bookings", "200000")),
+                    Integer.parseInt(values.getOrDefault("archived-percent", "90")),
+                    Integer.parseInt(values.getOrDefault("lookups", "2000")));
+        }
+    }
+
+    /**
+     * seed 결과 - 조회에 쓸 ID
+     */
+    record Seed(List<MemberId> members, List<BookingId> active, List<BookingId> finished) {}
+
+    public static void main(String[] args) {
+        Options options = Options.parse(args);
+        try (ConfigurableApplicationContext context = start()) {
+            BookingRepository repository = context.getBean(BookingRepository.class);
+            System.out.println("[loadtest] 예약 " + options.bookings() + "건 seed (종료 " + options.archivedPercent() + "%)");
+            Seed seed = seed(repository, options);
+
+            Map<String, LatencySamples> before = measure(repository, seed, options.lookups());
+
+            // 정산 Job을 돌리지 않으므로 보관 상한만 열어 줌 - seed의 종료 예약은 3년 전
+            new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                    context.getBean(SettlementCheckpointRepository.class)
+                            .markCompleted(YearMonth.now().minusMonths(12), "loadtest", 0));
+            BookingArchiveJob.Report report = context.getBean(BookingArchiveJob.class)
+                    .run(Instant.now().minus(Duration.ofDays(365)));
+            System.out.printf("[loadtest] 보관: %d건, 배치 %d개, %d ms, %.0f건/초, 가장 느린 배치 %d ms%n",
+                    report.archived(), report.batches(), report.elapsed().toMillis(),
+                    report.perSecond(), report.slowestBatch().toMillis());
+
+            Map<String, LatencySamples> after = measure(repository, seed, options.lookups());
+            print(before, after);
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        SpringApplication application = new SpringApplication(TravelPlatformApplication.class);
+        return application.run(
+                "--server.port=0",
+                "--travel.booking.repository=jpa",
+                "--spring.datasource.url=jdbc:h2:mem:archive-loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN");
+    }
+
+    // ============================================
+    // seed
+    // ============================================
+
+    private static Seed seed(BookingRepository repository, Options options) {
+        Random random = new Random(42);
+        List<MemberId> members = IntStream.range(0, MEMBER_COUNT).mapToObj(i -> MemberId.generate()).toList();
+        Instant longAgo = Instant.now().minus(Duration.ofDays(3 * 365));
+        List<BookingId> active = new ArrayList<>();
+        List<BookingId> finished = new ArrayList<>();
+        List<Booking> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < options.bookings(); i++) {
+            LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(180));
+            Booking booking = Booking.create(members.get(random.nextInt(MEMBER_COUNT)), List.of(
+                    new BookingItem.Accommodation("ROOM-" + random.nextInt(PRODUCT_COUNT), "측정 호텔", "디럭스",
+                            new DateRange(checkIn, checkIn.plusDays(1 + random.nextInt(4))),
+                            Money.krw(50_000 + random.nextInt(20) * 10_000L), 2)));
+            if (random.nextInt(100) < options.archivedPercent()) {
+                Instant endedAt = longAgo.plus(Duration.ofHours(random.nextInt(24 * 365)));
+                BookingStatus ended = random.nextBoolean()
+                        ? new BookingStatus.Completed(endedAt)
+                        : new BookingStatus.Cancelled("고객 요청", endedAt, null, BookingStatus.Cancelled.CancelledBy.USER);
+                booking = new Booking(booking.id(), booking.memberId(), booking.items(), ended,
+                        booking.totalAmount(), booking.discountAmount(), booking.finalAmount(), null,
+                        endedAt.minus(Duration.ofDays(30)), endedAt);
+                finished.add(booking.id());
+            } else {
+                active.add(booking.id());
+            }
+            chunk.add(booking);
+            if (chunk.size() == SEED_CHUNK) {
+                repository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        repository.saveAll(chunk);
+        return new Seed(members, active, finished);
+    }
+
+    // ============================================
+    // 측정
+    // ============================================
+
+    private static Map<String, LatencySamples> measure(BookingRepository repository, Seed seed, int lookups) {
+        Random random = new Random(7);
+        Map<String, LatencySamples> results = new LinkedHashMap<>();
+        results.put("active-by-product", time(lookups, i ->
+                repository.findActiveByProductId("ROOM-" + random.nextInt(PRODUCT_COUNT), null, 50)));
+        results.put("by-member", time(lookups, i ->
+                repository.findByMemberId(seed.members().get(random.nextInt(seed.members().size())))));
+        if (!seed.active().isEmpty()) {
+            results.put("by-id(active)", time(lookups, i ->
+                    repository.findByIdOptional(seed.active().get(random.nextInt(seed.active().size())))));
+        }
+        if (!seed.finished().isEmpty()) {
+            results.put("by-id(finished)", time(lookups, i ->
+                    repository.findByIdOptional(seed.finished().get(random.nextInt(seed.finished().size())))));
+        }
+        return results;
+    }
+
+    /**
+     * 처음 10%는 예열로 버림
+     */
+    private static LatencySamples time(int lookups, IntConsumer lookup) {
+        int warmup = lookups / 10;
+        LatencySamples samples = new LatencySamples();
+        for (int i = 0; i < warmup + lookups; i++) {
+            long started = System.nanoTime();
+            lookup.accept(i);
+            if (i >= warmup) {
+                samples.record(System.nanoTime() - started);
+            }
+        }
+        return LatencySamples.merge(List.of(samples));
+    }
+
+    // ============================================
+    // 결과 출력
+    // ============================================
+
+    private static void print(Map<String, LatencySamples> before, Map<String, LatencySamples> after) {
+        System.out.println();
+        System.out.printf("%-7s %-18s %7s %9s %9s %9s%n", "phase", "op", "count", "p50(ms)", "p99(ms)", "p999(ms)");
+        before.forEach((op, samples) -> printRow("before", op, samples));
+        after.forEach((op, samples) -> printRow("after", op, samples));
+    }
+
+    private static void printRow(String phase, String op, LatencySamples samples) {
+        System.out.printf("%-7s %-18s %7d %9.3f %9.3f %9.3f%n", phase, op, samples.count(),
+                samples.percentileMillis(0.50), samples.percentileMillis(0.99), samples.percentileMillis(0.999));
+    }
+}
@@ -0,0 +1,247 @@
+package com.travel.loadtest;
+
+import com.travel.TravelPlatformApplication;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 예약 API 부하 테스트 - platform 스레드 vs virtual 스레드
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 같은 부하(동시 사용자 수, 시간)에서 요청 처리 스레드 모드만 바꿔
+ * 예약 생성(POST)과 조회(GET)의 처리량/지연 시간을 비교
+ *
+ * <h2>핵심 개념 (Key Concept): 측정 절차</h2>
+ * <pre>
+ * 모드마다:
+ *   1. 앱 기동 (내장 H2 - 모드마다 새 DB, 임의 포트, spring.threads.virtual.enabled=모드, 요청 제한 끔)
+ *   2. 회원 seed (MemberRepository.saveAll)
+ *   3. 가상 사용자 concurrency명 - 각자 "예약 생성 → 생성된 예약 조회"를 반복
+ *   4. warmup 구간은 버리고 측정 구간만 기록 (JIT/커넥션 풀/캐시 예열)
+ *   5. 앱 종료
+ *
+ * 출력: 모드, 연산, 성공 수, 오류 수, 처리량(req/s), p50/p99/p999 (ms)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] concurrency가 Tomcat 스레드 수(기본 200)보다 작으면 두 모드의 차이가 거의 없음 -
+ *       platform 모드의 병목은 요청 스레드 수, virtual 모드의 병목은 커넥션 풀</li>
+ *   <li>[Trap] 내장 H2는 네트워크 왕복이 없어 JDBC 대기가 짧음 - 실제 DB보다 두 모드의 차이가 작게 나옴</li>
+ *   <li>[Trap] 부하 생성기와 서버가 같은 JVM/CPU를 나눠 씀 - 절대값이 아니라 모드 간 비교로만 해석</li>
+ *   <li>[Trap] 모든 요청이 127.0.0.1에서 옴 - 요청 제한을 켜 두면 첫 버스트 뒤로는 429만 측정하게 되므로
+ *       travel.booking.rate-limit.enabled=false로 기동</li>
+ *   <li>[Why 닫힌 루프] 가상 사용자는 응답을 받아야 다음 요청 → 서버가 느려지면 요청률도 줄어듦
+ *       (coordinated omission - 꼬리 지연은 실제보다 낙관적으로 나옴)</li>
+ * </ul>
+ */
+public final class BookingLoadTest {
+
+    private static final int MEMBER_COUNT = 1_000;
+    private static final int PRODUCT_COUNT = 500;
+
+    private BookingLoadTest() {}
+
+    /**
+     * 실행 옵션
+     */
+    record Options(List<String> modes, int concurrency, Duration warmup, Duration measure) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+                values.put(pair[0], pair.length > 1 ? pair[1] : "true");
+            }
+            return new Options(
+                    List.of(values.getOrDefault("modes", "platform,virtual").split(",")),
+                    Integer.parseInt(values.getOrDefault("concurrency", "400")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("seconds", "30"))));
+        }
+    }
+
+    /**
+     * 한 모드의 측정 결과
+     */
+    record ModeResult(String mode, Duration measured, LatencySamples create, LatencySamples lookup) {}
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        List<ModeResult> results = new ArrayList<>();
+        for (String mode : options.modes()) {
+            results.add(runMode(mode.trim(), options));
+        }
+        print(results);
+    }
+
+    // ============================================
+    // 모드별 실행
+    // ============================================
+
+    private static ModeResult runMode(String mode, Options options) throws InterruptedException {
+        if (!mode.equals("platform") && !mode.equals("virtual")) {
+            throw new IllegalArgumentException("모드는 platform 또는 virtual: " + mode);
+        }
+        System.out.println("[loadtest] " + mode + " 모드 기동 (동시 사용자 " + options.concurrency() + ")");
+
+        try (ConfigurableApplicationContext context = start(mode)) {
+            List<String> memberIds = seedMembers(context.getBean(MemberRepository.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            URI base = URI.create("http://localhost:" + port + "/api/bookings");
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build()) {
+                long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+                long measureEnd = warmupEnd + options.measure().toNanos();
+
+                List<VirtualUser> users = IntStream.range(0, options.concurrency())
+                        .mapToObj(i -> new VirtualUser(client, base, memberIds, warmupEnd, measureEnd))
+                        .toList();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    users.forEach(executor::submit);
+                }
+
+                return new ModeResult(mode, options.measure(),
+                        LatencySamples.merge(users.stream().map(VirtualUser::create).toList()),
+                        LatencySamples.merge(users.stream().map(VirtualUser::lookup).toList()));
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        SpringApplication application = new SpringApplication(TravelPlatformApplication.class);
+        return application.run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--travel.booking.rate-limit.enabled=false",
+                "--logging.level.root=WARN");
+    }
+
+    private static List<String> seedMembers(MemberRepository memberRepository) {
+        List<Member> members = IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> Member.create("load-" + i + "@example.com", "부하테스트" + i, null))
+                .toList();
+        return memberRepository.saveAll(members).stream()
+                .map(member -> member.id().value().toString())
+                .toList();
+    }
+
+    // ============================================
+    // 가상 사용자 - 예약 생성 → 조회 반복
+    // ============================================
+
+    /**
+     * [Key Point] 측정 구간 안에서 시작한 요청만 기록 (warmup 요청의 지연은 버림)
+     */
+    private record VirtualUser(
+            HttpClient client,
+            URI base,
+            List<String> memberIds,
+            long warmupEnd,
+            long measureEnd,
+            LatencySamples create,
+            LatencySamples lookup
+    ) implements Runnable {
+
+        VirtualUser(HttpClient client, URI base, List<String> memberIds, long warmupEnd, long measureEnd) {
+            this(client, base, memberIds, warmupEnd, measureEnd, new LatencySamples(), new LatencySamples());
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < measureEnd) {
+                boolean measuring = now >= warmupEnd;
+                String location = send(HttpRequest.newBuilder(base)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(createBody()))
+                                .build(),
+                        201, measuring ? create : null);
+                if (location == null) {
+                    continue;
+                }
+                send(HttpRequest.newBuilder(base.resolve(location)).GET().build(),
+                        200, System.nanoTime() >= warmupEnd ? lookup : null);
+            }
+        }
+
+        /**
+         * @return 성공 시 Location 헤더 (없으면 빈 문자열), 실패 시 null
+         */
+        private String send(HttpRequest request, int expectedStatus, LatencySamples samples) {
+            long started = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                long elapsed = System.nanoTime() - started;
+                if (response.statusCode() != expectedStatus) {
+                    if (samples != null) samples.recordError();
+                    return null;
+                }
+                if (samples != null) samples.record(elapsed);
+                return response.headers().firstValue("Location").orElse("");
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                if (samples != null) samples.recordError();
+                return null;
+            }
+        }
+
+        private String createBody() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDate checkIn = LocalDate.now().plusDays(30 + random.nextInt(180));
+            return """
+                    {"memberId":"%s","items":[{"type":"ACCOMMODATION","productId":"ROOM-%d",\
+                    "name":"부하테스트 호텔","option":"디럭스","startDate":"%s","endDate":"%s",\
+                    "price":%d,"currency":"KRW","quantity":2}]}"""
+                    .formatted(memberIds.get(random.nextInt(memberIds.size())),
+                            random.nextInt(PRODUCT_COUNT), checkIn, checkIn.plusDays(1 + random.nextInt(4)),
+                            50_000 + random.nextInt(20) * 10_000);
+        }
+    }
+
+    // ============================================
+    // 결과 출력
+    // ============================================
+
+    private static void print(List<ModeResult> results) {
+        System.out.println();
+        System.out.printf("%-9s %-7s %9s %7s %10s %9s %9s %9s%n",
+                "mode", "op", "ok", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (ModeResult result : results) {
+            printRow(result.mode(), "create", result.create(), result.measured());
+            printRow(result.mode(), "lookup", result.lookup(), result.measured());
+        }
+    }
+
+    private static void printRow(String mode, String op, LatencySamples samples, Duration measured) {
+        System.out.printf("%-9s %-7s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                mode, op, samples.count(), samples.errors(),
+                samples.count() / (measured.toMillis() / 1000.0),
+                samples.percentileMillis(0.50), samples.percentileMillis(0.99), samples.percentileMillis(0.999));
+    }
+}
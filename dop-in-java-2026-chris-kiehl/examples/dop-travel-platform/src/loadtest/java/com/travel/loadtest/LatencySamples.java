@@ -0,0 +1,64 @@
+package com.travel.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 표본 - worker 하나가 단독으로 기록하고, 측정이 끝나면 합쳐서 percentile 계산
+ *
+ * <pre>
+ * [Key Point] worker마다 자기 배열 → 기록 경로에 락/원자 연산 없음
+ *   (공유 큐에 넣으면 부하 생성기 자체가 경합 지점이 되어 서버가 아니라 하네스를 측정함)
+ * [Key Point] percentile은 정렬 후 nearest-rank - 표본 전체를 보관하므로 p999도 근사 없이 계산
+ * </pre>
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private int errors;
+
+    void record(long elapsedNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    int count() {
+        return size;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    static LatencySamples merge(Iterable<LatencySamples> parts) {
+        LatencySamples merged = new LatencySamples();
+        for (LatencySamples part : parts) {
+            for (int i = 0; i < part.size; i++) {
+                merged.record(part.nanos[i]);
+            }
+            merged.errors += part.errors;
+        }
+        Arrays.sort(merged.nanos, 0, merged.size);
+        return merged;
+    }
+
+    /**
+     * nearest-rank percentile (merge 결과에서만 호출 - 정렬되어 있어야 함)
+     *
+     * @param quantile 0 &lt; q ≤ 1 (예: 0.999)
+     * @return 밀리초
+     */
+    double percentileMillis(double quantile) {
+        if (size == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(quantile * size);
+        return nanos[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
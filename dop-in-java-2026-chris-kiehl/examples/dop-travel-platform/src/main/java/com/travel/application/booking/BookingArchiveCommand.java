@@ -0,0 +1,44 @@
+package com.travel.application.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 보관 명령 - 기동 시 1회 실행
+ *
+ * <pre>
+ * 실행:
+ *   --travel.booking.archive.before=2025-10-01   그 전에 끝난 취소/완료/노쇼 예약 보관 (중단 후 같은 인자로 재실행)
+ *
+ * [Key Point] 속성이 없으면 Bean 자체가 생성되지 않음 (평소 기동에 영향 없음)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.booking.archive.before")
+public class BookingArchiveCommand implements CommandLineRunner {
+
+    private final BookingArchiveJob job;
+    private final LocalDate before;
+
+    public BookingArchiveCommand(
+            BookingArchiveJob job,
+            @Value("${travel.booking.archive.before}") String before
+    ) {
+        this.job = job;
+        this.before = LocalDate.parse(before);
+    }
+
+    @Override
+    public void run(String... args) {
+        var report = job.run(before);
+        System.out.println("[IS] " + before + " 이전 예약 보관: " + report.archived() + "건, 배치 " + report.batches()
+                + "개, 월 테이블 " + report.months().size() + "개"
+                + (report.months().isEmpty() ? "" : " (" + report.months().first() + " ~ " + report.months().last() + ")")
+                + ", " + report.elapsed().toMillis() + "ms (" + Math.round(report.perSecond()) + "건/초, 가장 느린 배치 "
+                + report.slowestBatch().toMillis() + "ms)");
+    }
+}
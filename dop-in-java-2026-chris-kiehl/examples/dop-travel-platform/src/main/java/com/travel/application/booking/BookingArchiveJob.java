@@ -0,0 +1,159 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.BookingArchive;
+import com.travel.domain.settlement.SettlementCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 예약 보관 Job - cutoff 이전에 끝난 예약을 배치 단위로 월별 보관 테이블로 이동
+ *
+ * <h2>목적 (Purpose)</h2>
+ * bookings/booking_items를 진행 중이거나 최근에 끝난 예약 크기로 유지
+ * (요청 경로의 인덱스 조회가 몇 년치 종료 예약 때문에 느려지지 않도록)
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * run(before)
+ *   cutoff = before 00:00 (zone-id)
+ *   [IS] 상한 검사: cutoff ≤ 마지막 정산 기간의 다음 달 1일 00:00, cutoff ≤ 오늘 - min-age
+ *        넘으면 IllegalArgumentException (아무것도 옮기지 않음)
+ *   반복: [IS] archive.archiveBatch(cutoff, batch-size)   배치마다 트랜잭션 하나
+ *         0건이면 종료
+ *   → Report: 옮긴 수, 배치 수, 월, 걸린 시간, 처리량(건/초), 가장 느린 배치
+ *
+ * [Key Point] 배치 크기 = 잠금 범위 - 한 배치가 잠그는 예약 수와 트랜잭션 길이의 상한
+ * [Key Point] 재실행 가능 - 옮긴 예약은 bookings에서 지워졌으므로 같은 before로 다시 실행하면 남은 것만
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 정산 생성은 보관된 완료 예약을 읽지 않음 → 아직 정산되지 않은 기간의 예약을 옮기면 정산에서 빠짐
+ *       그래서 run이 마지막 정산 기간(완료 기록이 있는 가장 최근 월) 이후의 cutoff를 거부.
+ *       정산 기록이 하나도 없으면 어떤 cutoff도 거부</li>
+ *   <li>[Trap] 마지막 정산 기간에 실패한 파트너가 남아 있으면 그 파트너 예약도 옮겨짐 - 정산 Job 재실행으로 실패를 비운 뒤 보관</li>
+ *   <li>[Trap] 정산 기간 경계(travel.settlement.zone-id)와 zone-id를 같게 - 다르면 월 경계의 예약이 어긋남</li>
+ *   <li>[Trap] 보관 후 조회 지연 개선은 booking.repository Timer(find_by_member_id, find_active_by_product_id)로 전후 비교</li>
+ * </ul>
+ */
+@Service
+public class BookingArchiveJob {
+
+    private final BookingArchive archive;
+    private final SettlementCheckpointRepository settlementCheckpoints;
+    private final int batchSize;
+    private final Duration minAge;
+    private final ZoneId zoneId;
+
+    public BookingArchiveJob(
+            BookingArchive archive,
+            SettlementCheckpointRepository settlementCheckpoints,
+            @Value("${travel.booking.archive.batch-size:500}") int batchSize,
+            @Value("${travel.booking.archive.min-age:90d}") Duration minAge,
+            @Value("${travel.booking.archive.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        if (batchSize < 1) throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+        if (minAge.isNegative()) throw new IllegalArgumentException("최소 경과 기간은 0 이상이어야 합니다: " + minAge);
+        this.archive = archive;
+        this.settlementCheckpoints = settlementCheckpoints;
+        this.batchSize = batchSize;
+        this.minAge = minAge;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * 실행 결과
+     *
+     * @param cutoff       이 시각 이전에 끝난 예약이 대상
+     * @param archived     옮긴 예약 수
+     * @param batches      옮긴 예약이 있던 배치 수
+     * @param months       기록한 월 테이블
+     * @param elapsed      전체 시간
+     * @param slowestBatch 가장 오래 걸린 배치 (잠금 유지 시간의 상한)
+     */
+    public record Report(
+            Instant cutoff,
+            long archived,
+            int batches,
+            SortedSet<YearMonth> months,
+            Duration elapsed,
+            Duration slowestBatch
+    ) {
+        /**
+         * 처리량 (건/초)
+         */
+        public double perSecond() {
+            return elapsed.isZero() ? 0 : archived * 1_000_000_000.0 / elapsed.toNanos();
+        }
+    }
+
+    // ============================================
+    // 실행
+    // ============================================
+
+    /**
+     * before 00:00 (zone-id) 이전에 끝난 예약 보관
+     */
+    public Report run(LocalDate before) {
+        return run(before.atStartOfDay(zoneId).toInstant());
+    }
+
+    /**
+     * cutoff 이전에 끝난 예약 보관
+     *
+     * @throws IllegalArgumentException cutoff가 마지막 정산 기간 이후이거나 오늘 - min-age 이후
+     */
+    public Report run(Instant cutoff) {
+        checkCutoff(cutoff);
+        long started = System.nanoTime();
+        long slowest = 0;
+        long archived = 0;
+        int batches = 0;
+        SortedSet<YearMonth> months = new TreeSet<>();
+        while (true) {
+            long batchStarted = System.nanoTime();
+            BookingArchive.Batch batch = archive.archiveBatch(cutoff, batchSize);
+            if (batch.archived() == 0) {
+                break;
+            }
+            slowest = Math.max(slowest, System.nanoTime() - batchStarted);
+            archived += batch.archived();
+            batches++;
+            months.addAll(batch.months());
+        }
+        return new Report(cutoff, archived, batches, months,
+                Duration.ofNanos(System.nanoTime() - started), Duration.ofNanos(slowest));
+    }
+
+    // ============================================
+    // [Key Point] 보관 상한 - 정산이 끝난 기간만
+    // ============================================
+
+    private void checkCutoff(Instant cutoff) {
+        Instant oldest = LocalDate.now(zoneId).minusDays(minAge.toDays()).atStartOfDay(zoneId).toInstant();
+        if (cutoff.isAfter(oldest)) {
+            throw new IllegalArgumentException("보관 기준 " + cutoff.atZone(zoneId).toLocalDate()
+                    + "은(는) 오늘로부터 " + minAge.toDays() + "일 이전(" + oldest.atZone(zoneId).toLocalDate()
+                    + " 이하)이어야 합니다 (travel.booking.archive.min-age)");
+        }
+        Optional<YearMonth> lastSettled = settlementCheckpoints.findLastSettledPeriod();
+        if (lastSettled.isEmpty()) {
+            throw new IllegalArgumentException("정산 기록이 없어 보관할 수 없습니다 - 정산 생성 후 그 기간까지만 보관");
+        }
+        Instant settledUntil = lastSettled.get().plusMonths(1).atDay(1).atStartOfDay(zoneId).toInstant();
+        if (cutoff.isAfter(settledUntil)) {
+            throw new IllegalArgumentException("보관 기준 " + cutoff.atZone(zoneId).toLocalDate()
+                    + "은(는) 마지막 정산 기간 " + lastSettled.get() + " 이후입니다 - "
+                    + settledUntil.atZone(zoneId).toLocalDate() + " 이하로 지정 (정산되지 않은 완료 예약이 정산에서 빠짐)");
+        }
+    }
+}
@@ -106,6 +106,9 @@ public final class BookingDomainService {
      * - 새 Booking 반환
      * </pre>
      *
+     * <p>[Trap] 확정/완료/노쇼를 저장하는 유스케이스는 아직 없음 - 추가할 때는 CancelBookingUseCase처럼
+     * 저장 뒤 BookingStatusChanged를 발행해야 감사 기록(BookingAuditTrail)에 남음</p>
+     *
      * @param booking   원본 예약
      * @param paymentId 결제 ID
      * @return 확정된 예약
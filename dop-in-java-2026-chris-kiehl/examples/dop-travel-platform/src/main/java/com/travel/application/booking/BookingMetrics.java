@@ -0,0 +1,142 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.BookingError;
+import com.travel.shared.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 예약 메트릭 - UseCase 단계별 Timer와 BookingError 종류별 실패 Counter
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약 생성이 느려졌을 때 회원 조회/쿠폰 검증/재고 확인/가격 계산/저장 중 어디가 원인인지,
+ * 실패가 늘었을 때 어떤 BookingError가 늘었는지 /actuator/prometheus 에서 바로 보이도록 함
+ *
+ * <h2>핵심 개념 (Key Concept): 메트릭 이름과 태그</h2>
+ * <pre>
+ * booking.usecase             {usecase}            UseCase 전체 시간
+ * booking.usecase.stage       {usecase, stage}     단계별 시간
+ * booking.usecase.failures    {usecase, error}     실패 수 (error = BookingError 구현 레코드 이름)
+ * booking.repository          {operation}          JpaBookingRepository 메서드별 시간
+ *
+ * [Key Point] Timer는 percentile histogram 발행 → Prometheus에서 histogram_quantile로
+ *   여러 인스턴스를 합친 p95/p99 계산 (클라이언트 계산 percentile은 인스턴스끼리 합칠 수 없음)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 3 sealed 타입 = 닫힌 태그 집합</h2>
+ * <pre>
+ * BookingError.class.getPermittedSubclasses() → 가능한 error 태그 값 전체
+ *   → 기동 시 UseCase마다 Counter를 모두 미리 등록 (0건인 오류도 0으로 노출)
+ *   → 실패 시 Map 조회 1회 + increment (문자열 생성/레지스트리 조회 없음)
+ *   → 새 오류 레코드를 추가하면 자동으로 태그 값이 늘어남 (카디널리티는 레코드 수로 고정)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 호출마다 Timer.builder(...).register(...) - 레지스트리 조회 + 태그 정렬이 매번 일어남.
+ *       Timer/Counter는 생성자에서 한 번 만들어 필드로 보관</li>
+ *   <li>[Trap] 태그에 예약 ID/회원 ID 등 값 넣기 - 시계열이 무한히 늘어남. 태그는 닫힌 집합만</li>
+ *   <li>[Trap] UseCase Timer는 @Transactional 프록시 안쪽 - 커밋 시점 flush(INSERT)와 커밋은
+ *       booking.usecase에도 잡히지 않음 (http.server.requests와의 차이로 확인)</li>
+ *   <li>[Why 버킷 범위 제한] histogram 버킷 수 = 시계열 수 → 1ms~10s 밖의 버킷은 만들지 않음</li>
+ * </ul>
+ */
+@Component
+public class BookingMetrics {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry registry;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // ============================================
+    // Timer
+    // ============================================
+
+    /**
+     * UseCase 전체 시간
+     */
+    public Timer useCaseTimer(String useCase) {
+        return histogram(Timer.builder("booking.usecase")
+                .description("예약 UseCase 실행 시간")
+                .tag("usecase", useCase));
+    }
+
+    /**
+     * UseCase 단계별 시간
+     */
+    public Timer stageTimer(String useCase, String stage) {
+        return histogram(Timer.builder("booking.usecase.stage")
+                .description("예약 UseCase 단계별 실행 시간")
+                .tag("usecase", useCase)
+                .tag("stage", stage));
+    }
+
+    /**
+     * Repository 메서드별 시간
+     */
+    public Timer repositoryTimer(String operation) {
+        return histogram(Timer.builder("booking.repository")
+                .description("예약 Repository 실행 시간")
+                .tag("operation", operation));
+    }
+
+    private Timer histogram(Timer.Builder builder) {
+        return builder
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    // ============================================
+    // [Key Point] 실패 Counter - BookingError 종류별
+    // ============================================
+
+    /**
+     * UseCase의 실패 Counter 묶음 (BookingError 구현 레코드마다 하나씩 미리 등록)
+     */
+    public FailureCounters failureCounters(String useCase) {
+        Map<Class<?>, Counter> counters = new HashMap<>();
+        for (Class<?> variant : BookingError.class.getPermittedSubclasses()) {
+            counters.put(variant, Counter.builder("booking.usecase.failures")
+                    .description("예약 UseCase 실패 수 (BookingError 종류별)")
+                    .tag("usecase", useCase)
+                    .tag("error", variant.getSimpleName())
+                    .register(registry));
+        }
+        return new FailureCounters(Map.copyOf(counters));
+    }
+
+    /**
+     * BookingError 종류 → Counter
+     */
+    public static final class FailureCounters {
+
+        private final Map<Class<?>, Counter> counters;
+
+        private FailureCounters(Map<Class<?>, Counter> counters) {
+            this.counters = counters;
+        }
+
+        /**
+         * 실패면 오류 종류의 Counter 증가 - 결과는 그대로 반환 (Result 체인 중간에 끼워 넣기용)
+         */
+        public <T> Result<T, BookingError> count(Result<T, BookingError> result) {
+            if (result instanceof Result.Failure<T, BookingError>(var error)) {
+                counters.get(error.getClass()).increment();
+            }
+            return result;
+        }
+    }
+}
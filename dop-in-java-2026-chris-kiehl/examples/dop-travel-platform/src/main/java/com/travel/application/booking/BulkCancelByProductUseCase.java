@@ -0,0 +1,191 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingCalculations;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.domain.payment.RefundRequestRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 일괄 취소 UseCase - 항공편 결항/호텔 폐업 시 해당 상품의 활성 예약 전체 취소
+ *
+ * <h2>목적 (Purpose)</h2>
+ * CancelBookingUseCase를 예약마다 호출하면 예약당 조회/저장/환불 호출이 직렬로 일어남 →
+ * 페이지 단위로 읽고, 취소는 한 번에 UPDATE, 환불은 outbox에 넣어 나중에 동시성 제한으로 처리
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell - 페이지 단위 샌드위치</h2>
+ * <pre>
+ * 페이지마다 (트랜잭션 1개):
+ *   [IS] findActiveByProductId(productId, after, pageSize)   booking_items.product_id 인덱스
+ *   [FC] 예약별 환불 금액 계산 + cancel (parallelStream - 순수 계산이라 공유 상태 없음)
+ *   [IS] updateStatuses  → 읽은 뒤 바뀐 예약은 건너뛰고 나머지를 JDBC 배치 UPDATE
+ *   [IS] 환불 요청 saveAll (refund_requests outbox) + 상태 변경 이벤트 발행
+ *   after = 페이지의 마지막 예약 ID
+ *
+ * 트랜잭션 커밋 후 RefundDispatcher가 outbox를 PG로 전송 (동시 호출 수 제한)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 재시작 가능</h2>
+ * <pre>
+ * [Key Point] 진행 기록이 따로 필요 없음 - 취소된 예약은 "활성" 조건에서 빠지므로
+ *   중단 후 같은 상품으로 다시 실행하면 남은 예약만 다시 읽힘
+ * [Key Point] 취소와 환불 요청이 한 트랜잭션 → "취소됐는데 환불 요청이 없는" 예약이 생기지 않음
+ *   (refund_requests PK = 예약 ID → 같은 예약의 환불이 두 번 들어가면 그 페이지가 롤백)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 환불 금액은 calculateRefundAmount 규칙 (여행 시작일까지 남은 일수) - 공급자 사유라
+ *       전액 환불해야 하는 정책이면 계산 규칙이 아니라 여기서 바꿀 것</li>
+ *   <li>[Trap] 건너뛴 예약(skipped)은 동시에 다른 경로로 상태가 바뀐 예약 - 여전히 활성이면 재실행 시 다시 처리</li>
+ *   <li>[Trap] 쿠폰 복구는 하지 않음 - CancelBookingUseCase와 같은 TODO</li>
+ * </ul>
+ */
+@Service
+public class BulkCancelByProductUseCase {
+
+    private final BookingRepository bookingRepository;
+    private final RefundRequestRepository refundRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final ZoneId zoneId;
+
+    public BulkCancelByProductUseCase(
+            BookingRepository bookingRepository,
+            RefundRequestRepository refundRequestRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${travel.booking.bulk-cancel.page-size:500}") int pageSize,
+            @Value("${travel.booking.bulk-cancel.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        if (pageSize < 1) throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        this.bookingRepository = bookingRepository;
+        this.refundRequestRepository = refundRequestRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * 일괄 취소 결과
+     *
+     * @param scanned        읽은 활성 예약 수
+     * @param cancelled      취소한 예약 수
+     * @param skipped        읽은 뒤 상태가 바뀌어 건너뛴 예약 수
+     * @param refundsQueued  환불 요청(outbox)에 넣은 수
+     */
+    public record Report(int scanned, int cancelled, int skipped, int refundsQueued) {
+
+        static final Report EMPTY = new Report(0, 0, 0, 0);
+
+        Report plus(Report other) {
+            return new Report(scanned + other.scanned, cancelled + other.cancelled,
+                    skipped + other.skipped, refundsQueued + other.refundsQueued);
+        }
+    }
+
+    /**
+     * 페이지 처리 결과
+     */
+    private record Page(Report report, BookingId lastId, boolean last) {}
+
+    // ============================================
+    // [Key Point] 메인 실행 로직
+    // ============================================
+
+    /**
+     * 상품의 활성 예약 전체 취소 (관리자 취소)
+     *
+     * @param productId 상품 ID
+     * @param reason    취소 사유
+     * @return 처리 결과
+     */
+    public Report execute(String productId, String reason) {
+        if (productId == null || productId.isBlank()) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다");
+        }
+        if (reason == null || reason.isBlank()) {
+            throw new IllegalArgumentException("취소 사유는 필수입니다");
+        }
+
+        Report total = Report.EMPTY;
+        BookingId after = null;
+        while (true) {
+            BookingId cursor = after;
+            Page page = transactionTemplate.execute(status -> cancelPage(productId, reason, cursor));
+            total = total.plus(page.report());
+            if (page.last()) {
+                return total;
+            }
+            after = page.lastId();
+        }
+    }
+
+    private Page cancelPage(String productId, String reason, BookingId after) {
+        // [Top Bun] 활성 예약 한 페이지
+        List<Booking> bookings = bookingRepository.findActiveByProductId(productId, after, pageSize);
+        if (bookings.isEmpty()) {
+            return new Page(Report.EMPTY, after, true);
+        }
+
+        // [Meat] 환불 금액 계산 + 취소 (순수 함수)
+        LocalDate today = LocalDate.now(zoneId);
+        List<BookingStatusChanged> changes = bookings.parallelStream()
+                .map(booking -> BookingStatusChanged.transitioned(booking, cancel(booking, reason, today)))
+                .toList();
+
+        // [Bottom Bun] 배치 UPDATE → 환불 outbox → 이벤트
+        List<BookingStatusChanged> applied = bookingRepository.updateStatuses(changes);
+        Instant now = Instant.now();
+        List<RefundRequest> refunds = applied.stream()
+                .flatMap(change -> refundRequest(change, now).stream())
+                .toList();
+        if (!refunds.isEmpty()) {
+            refundRequestRepository.saveAll(refunds);
+        }
+        applied.forEach(eventPublisher::publishEvent);
+
+        Report report = new Report(bookings.size(), applied.size(),
+                bookings.size() - applied.size(), refunds.size());
+        return new Page(report, bookings.getLast().id(), bookings.size() < pageSize);
+    }
+
+    // ============================================
+    // [FC] 순수 함수
+    // ============================================
+
+    private static Booking cancel(Booking booking, String reason, LocalDate today) {
+        return booking.cancel(reason,
+                BookingCalculations.calculateCancellationRefund(booking, today).orElse(null),
+                BookingStatus.Cancelled.CancelledBy.ADMIN);
+    }
+
+    /**
+     * 환불 요청 - 확정 후 취소되어 환불 금액이 있는 예약만 (결제 ID는 이전 Confirmed 상태에서)
+     */
+    private static Optional<RefundRequest> refundRequest(BookingStatusChanged change, Instant now) {
+        if (change.previous().status() instanceof BookingStatus.Confirmed confirmed
+                && change.current().status() instanceof BookingStatus.Cancelled cancelled
+                && cancelled.hasRefund()) {
+            return Optional.of(RefundRequest.pending(
+                    change.current().id(), confirmed.paymentId(), cancelled.refundAmount(), now));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.travel.application.booking;
+
+import com.travel.application.payment.RefundDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 일괄 취소 명령 - 기동 시 1회 실행
+ *
+ * <pre>
+ * 실행:
+ *   --travel.booking.bulk-cancel.product-id=FLIGHT-KE123-20261101
+ *   --travel.booking.bulk-cancel.reason="항공편 결항"   (생략 시 기본 사유)
+ *
+ * 1. 활성 예약 취소 + 환불 요청 기록 (중단되면 같은 인자로 재실행 - 남은 예약만 처리)
+ * 2. 쌓인 환불 요청 전송 (동시 travel.refund.max-concurrency개)
+ *
+ * [Key Point] 속성이 없으면 Bean 자체가 생성되지 않음 (평소 기동에 영향 없음)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.booking.bulk-cancel.product-id")
+public class BulkCancelCommand implements CommandLineRunner {
+
+    private final BulkCancelByProductUseCase useCase;
+    private final RefundDispatcher refundDispatcher;
+    private final String productId;
+    private final String reason;
+
+    public BulkCancelCommand(
+            BulkCancelByProductUseCase useCase,
+            RefundDispatcher refundDispatcher,
+            @Value("${travel.booking.bulk-cancel.product-id}") String productId,
+            @Value("${travel.booking.bulk-cancel.reason:공급자 사정으로 인한 상품 취소}") String reason
+    ) {
+        this.useCase = useCase;
+        this.refundDispatcher = refundDispatcher;
+        this.productId = productId;
+        this.reason = reason;
+    }
+
+    @Override
+    public void run(String... args) {
+        var report = useCase.execute(productId, reason);
+        System.out.println("[IS] 상품 " + productId + " 일괄 취소: 활성 예약 " + report.scanned()
+                + "건 중 취소 " + report.cancelled() + "건 (건너뜀 " + report.skipped()
+                + "), 환불 요청 " + report.refundsQueued() + "건");
+
+        var refunds = refundDispatcher.dispatchPending();
+        System.out.println("[IS] 환불 전송: 완료 " + refunds.completed() + ", 재시도 대기 " + refunds.retrying()
+                + ", 실패 " + refunds.failed());
+    }
+}
@@ -2,6 +2,8 @@ package com.travel.application.booking;
 
 import com.travel.domain.booking.*;
 import com.travel.shared.Result;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,10 +32,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class CancelBookingUseCase {
 
     private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
     // private final PaymentGateway paymentGateway; // 환불 처리용 (TODO)
 
-    public CancelBookingUseCase(BookingRepository bookingRepository) {
+    private final Timer totalTimer;
+    private final Timer loadTimer;
+    private final Timer cancellationTimer;
+    private final Timer persistenceTimer;
+    private final Timer refundTimer;
+    private final BookingMetrics.FailureCounters failures;
+
+    public CancelBookingUseCase(
+            BookingRepository bookingRepository,
+            ApplicationEventPublisher eventPublisher,
+            BookingMetrics metrics
+    ) {
         this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.totalTimer = metrics.useCaseTimer("cancel");
+        this.loadTimer = metrics.stageTimer("cancel", "load");
+        this.cancellationTimer = metrics.stageTimer("cancel", "cancellation");
+        this.persistenceTimer = metrics.stageTimer("cancel", "persistence");
+        this.refundTimer = metrics.stageTimer("cancel", "refund");
+        this.failures = metrics.failureCounters("cancel");
     }
 
     /**
@@ -80,13 +101,21 @@ public class CancelBookingUseCase {
             BookingId bookingId,
             String reason,
             BookingStatus.Cancelled.CancelledBy cancelledBy
+    ) {
+        return failures.count(totalTimer.record(() -> run(bookingId, reason, cancelledBy)));
+    }
+
+    private Result<Booking, BookingError> run(
+            BookingId bookingId,
+            String reason,
+            BookingStatus.Cancelled.CancelledBy cancelledBy
     ) {
         // ========================================
         // [Top Bun] 데이터 조회 (Imperative Shell)
         // ========================================
 
         // 1. 예약 조회
-        Result<Booking, BookingError> bookingResult = bookingRepository.findById(bookingId);
+        Result<Booking, BookingError> bookingResult = loadTimer.record(() -> bookingRepository.findById(bookingId));
         if (bookingResult.isFailure()) {
             return bookingResult;
         }
@@ -97,8 +126,8 @@ public class CancelBookingUseCase {
         // ========================================
 
         // 2. [FC] 취소 가능 여부 검증 및 취소 처리
-        Result<Booking, BookingError> cancelResult =
-                BookingDomainService.cancelBooking(booking, reason, cancelledBy);
+        Result<Booking, BookingError> cancelResult = cancellationTimer.record(() ->
+                BookingDomainService.cancelBooking(booking, reason, cancelledBy));
         if (cancelResult.isFailure()) {
             return cancelResult;
         }
@@ -108,13 +137,17 @@ public class CancelBookingUseCase {
         // [Bottom Bun] 부수효과 실행 (Imperative Shell)
         // ========================================
 
-        // 3. [IS] 예약 저장
-        Booking savedBooking = bookingRepository.save(cancelledBooking);
+        // 3. [IS] 예약 저장 + 상태 변경 이벤트 발행 (읽기 모델 갱신 - 같은 트랜잭션)
+        Booking savedBooking = persistenceTimer.record(() -> {
+            Booking saved = bookingRepository.save(cancelledBooking);
+            eventPublisher.publishEvent(BookingStatusChanged.transitioned(booking, saved));
+            return saved;
+        });
 
         // 4. [IS] 환불 처리 (확정된 예약이었던 경우)
         if (savedBooking.status() instanceof BookingStatus.Cancelled cancelled) {
             if (cancelled.hasRefund()) {
-                processRefund(savedBooking, cancelled);
+                refundTimer.record(() -> processRefund(savedBooking, cancelled));
             }
         }
 
@@ -2,11 +2,14 @@ package com.travel.application.booking;
 
 import com.travel.domain.booking.*;
 import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponChanged;
 import com.travel.domain.coupon.CouponRepository;
 import com.travel.domain.member.Member;
 import com.travel.domain.member.MemberRepository;
 import com.travel.shared.Result;
 import com.travel.shared.types.Money;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +57,7 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>[Trap] UseCase에 비즈니스 로직 작성 → FC로 분리해야 함</li>
  *   <li>[Trap] FC에서 Repository 호출 → IS에서만 해야 함</li>
  *   <li>[Why @Transactional] 여러 Repository 작업을 원자적으로</li>
+ *   <li>[Why 단계별 Timer] 전체 시간만으로는 느려진 단계를 알 수 없음 - BookingMetrics 참고</li>
  * </ul>
  */
 @Service
@@ -62,16 +66,36 @@ public class CreateBookingUseCase {
     private final BookingRepository bookingRepository;
     private final MemberRepository memberRepository;
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // [Key Point] Timer/Counter는 생성 시 한 번 등록 - 호출 경로에서는 record/increment만
+    private final Timer totalTimer;
+    private final Timer memberLookupTimer;
+    private final Timer couponValidationTimer;
+    private final Timer availabilityTimer;
+    private final Timer pricingTimer;
+    private final Timer persistenceTimer;
+    private final BookingMetrics.FailureCounters failures;
 
     // [Key Point] 생성자 주입 - 테스트 시 Mock 주입 용이
     public CreateBookingUseCase(
             BookingRepository bookingRepository,
             MemberRepository memberRepository,
-            CouponRepository couponRepository
+            CouponRepository couponRepository,
+            ApplicationEventPublisher eventPublisher,
+            BookingMetrics metrics
     ) {
         this.bookingRepository = bookingRepository;
         this.memberRepository = memberRepository;
         this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.totalTimer = metrics.useCaseTimer("create");
+        this.memberLookupTimer = metrics.stageTimer("create", "member_lookup");
+        this.couponValidationTimer = metrics.stageTimer("create", "coupon_validation");
+        this.availabilityTimer = metrics.stageTimer("create", "availability");
+        this.pricingTimer = metrics.stageTimer("create", "pricing");
+        this.persistenceTimer = metrics.stageTimer("create", "persistence");
+        this.failures = metrics.failureCounters("create");
     }
 
     // ============================================
@@ -96,7 +120,7 @@ public class CreateBookingUseCase {
      *
      * === Bottom Bun (IS) ===
      * 7. 예약 저장
-     * 8. 이벤트 발행 (TODO)
+     * 8. 이벤트 발행
      * </pre>
      *
      * @param command 예약 생성 커맨드
@@ -104,13 +128,17 @@ public class CreateBookingUseCase {
      */
     @Transactional
     public Result<Booking, BookingError> execute(CreateBookingCommand command) {
+        return failures.count(totalTimer.record(() -> run(command)));
+    }
+
+    private Result<Booking, BookingError> run(CreateBookingCommand command) {
 
         // ========================================
         // [Top Bun] 데이터 수집 (Imperative Shell)
         // ========================================
 
         // 1. 회원 조회
-        Result<Member, BookingError> memberResult = loadMember(command.memberId());
+        Result<Member, BookingError> memberResult = memberLookupTimer.record(() -> loadMember(command.memberId()));
         if (memberResult.isFailure()) {
             return Result.failure(memberResult.errorOrNull());
         }
@@ -119,10 +147,8 @@ public class CreateBookingUseCase {
         // 2. 쿠폰 조회 (있으면)
         Money discountAmount = Money.ZERO_KRW;
         if (command.hasCoupon()) {
-            Result<Coupon, BookingError> couponResult = loadAndValidateCoupon(
-                    command.couponId(),
-                    command.memberId()
-            );
+            Result<Coupon, BookingError> couponResult = couponValidationTimer.record(() ->
+                    loadAndValidateCoupon(command.couponId(), command.memberId()));
             if (couponResult.isFailure()) {
                 return Result.failure(couponResult.errorOrNull());
             }
@@ -130,7 +156,7 @@ public class CreateBookingUseCase {
         }
 
         // 3. 재고 확인 (각 항목별)
-        Result<Void, BookingError> stockResult = checkAvailability(command.items());
+        Result<java.util.List<BookingItem>, BookingError> stockResult = availabilityTimer.record(() -> checkAvailability(command.items()));
         if (stockResult.isFailure()) {
             return Result.failure(stockResult.errorOrNull());
         }
@@ -139,35 +165,46 @@ public class CreateBookingUseCase {
         // [Meat] 순수 비즈니스 로직 (Functional Core)
         // ========================================
 
-        // 4. [FC] 예약 생성 (순수 함수)
-        Booking booking = Booking.create(command.memberId(), command.items());
-
-        // 5. [FC] 할인 적용 (순수 함수)
-        if (!discountAmount.isZero()) {
-            Result<Booking, BookingError> discountResult =
-                    BookingDomainService.applyDiscount(booking, discountAmount, command.couponId());
-            if (discountResult.isFailure()) {
-                return discountResult;
-            }
-            booking = discountResult.getOrThrow();
+        // 4-5. [FC] 예약 생성 + 할인 적용 (순수 함수)
+        Money discount = discountAmount;
+        Result<Booking, BookingError> pricingResult = pricingTimer.record(() -> price(command, discount));
+        if (pricingResult.isFailure()) {
+            return pricingResult;
         }
+        Booking booking = pricingResult.getOrThrow();
 
         // ========================================
         // [Bottom Bun] 부수효과 실행 (Imperative Shell)
         // ========================================
 
-        // 6. [IS] 예약 저장
-        Booking savedBooking = bookingRepository.save(booking);
+        // 6-8. [IS] 예약 저장 + 쿠폰 사용 처리 + 이벤트 발행 (읽기 모델 갱신 - 같은 트랜잭션)
+        Booking savedBooking = persistenceTimer.record(() -> {
+            Booking saved = bookingRepository.save(booking);
+            if (command.hasCoupon()) {
+                markCouponAsUsed(command.couponId());
+            }
+            eventPublisher.publishEvent(BookingStatusChanged.created(saved));
+            return saved;
+        });
 
-        // 7. [IS] 쿠폰 사용 처리
-        if (command.hasCoupon()) {
-            markCouponAsUsed(command.couponId());
-        }
+        return Result.success(savedBooking);
+    }
 
-        // 8. [IS] 이벤트 발행 (TODO: 이벤트 시스템 구현 시)
-        // eventPublisher.publish(new BookingCreatedEvent(savedBooking));
+    // ============================================
+    // [Meat] 순수 계산 (Functional Core)
+    // ============================================
 
-        return Result.success(savedBooking);
+    /**
+     * 예약 생성 + 할인 적용
+     *
+     * <p>[FC] 순수 함수: 커맨드와 할인 금액만으로 결정</p>
+     */
+    private static Result<Booking, BookingError> price(CreateBookingCommand command, Money discountAmount) {
+        Booking booking = Booking.create(command.memberId(), command.items());
+        if (discountAmount.isZero()) {
+            return Result.success(booking);
+        }
+        return BookingDomainService.applyDiscount(booking, discountAmount, command.couponId());
     }
 
     // ============================================
@@ -224,7 +261,7 @@ public class CreateBookingUseCase {
      *
      * <p>실제로는 각 상품 유형별 Repository/Service 호출 필요</p>
      */
-    private Result<Void, BookingError> checkAvailability(
+    private Result<java.util.List<BookingItem>, BookingError> checkAvailability(
             java.util.List<BookingItem> items
     ) {
         // TODO: 실제 재고 확인 로직 구현
@@ -239,7 +276,7 @@ public class CreateBookingUseCase {
             //         packageService.checkAvailability(p.packageId(), p.participantCount());
             // }
         }
-        return Result.success(null);
+        return Result.success(items); // [Trap] Result.success(null)은 NPE - 확인한 항목을 그대로 반환
     }
 
     // ============================================
@@ -254,6 +291,7 @@ public class CreateBookingUseCase {
                 .ifPresent(coupon -> {
                     Coupon usedCoupon = coupon.markAsUsed();
                     couponRepository.save(usedCoupon);
+                    eventPublisher.publishEvent(CouponChanged.of(usedCoupon));
                 });
     }
 }
@@ -0,0 +1,52 @@
+package com.travel.application.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 예약 요약 관리 명령 - 기동 시 1회 실행
+ *
+ * <pre>
+ * 실행:
+ *   --travel.projection.member-summary.command=rebuild   전체 재구성
+ *   --travel.projection.member-summary.command=verify    일관성 검사 (불일치 회원 출력)
+ *
+ * [Key Point] 속성이 없으면 Bean 자체가 생성되지 않음 (평소 기동에 영향 없음)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.projection.member-summary.command")
+public class MemberBookingSummaryCommand implements CommandLineRunner {
+
+    private final MemberBookingSummaryProjection projection;
+    private final String command;
+
+    public MemberBookingSummaryCommand(
+            MemberBookingSummaryProjection projection,
+            @Value("${travel.projection.member-summary.command}") String command
+    ) {
+        this.projection = projection;
+        this.command = command;
+    }
+
+    @Override
+    public void run(String... args) {
+        switch (command) {
+            case "rebuild" -> {
+                int members = projection.rebuildAll();
+                System.out.println("[IS] member_booking_summary 재구성 완료: " + members + "명");
+            }
+            case "verify" -> {
+                var report = projection.verify();
+                report.mismatches().forEach(m -> System.out.println(
+                        "[IS] 불일치 " + m.memberId() + " expected=" + m.expected() + " actual=" + m.actual()));
+                System.out.println("[IS] member_booking_summary 검사: " + report.checkedMembers()
+                        + "명 중 불일치 " + report.mismatches().size() + "명");
+            }
+            default -> throw new IllegalArgumentException(
+                    "알 수 없는 명령: " + command + " (rebuild | verify)");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.booking.MemberBookingSummary;
+import com.travel.domain.booking.MemberBookingSummaryRepository;
+import com.travel.domain.member.MemberId;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 회원별 예약 요약 Projection - 상태 변경 이벤트로 읽기 모델 갱신
+ *
+ * <h2>목적 (Purpose)</h2>
+ * member_booking_summary를 예약 저장과 같은 트랜잭션에서 갱신하고,
+ * 전체 재구성과 일관성 검사를 제공
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * [IS] 요약 조회 → [FC] summary.apply(event) → [IS] 요약 저장
+ *
+ * [Key Point] @EventListener (동기) - 발행한 UseCase의 트랜잭션 안에서 실행
+ *   예약 저장과 요약 갱신이 함께 커밋/롤백 → 읽기 모델이 원본보다 앞서거나 뒤처지지 않음
+ *
+ * [Key Point] 자가 복구 - 요약이 없거나(도입 이전 회원) 차감이 실패하면(어긋난 요약)
+ *   해당 회원만 예약 목록에서 다시 계산
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 이벤트 발행 없이 BookingRepository.save만 호출하는 경로는 요약에 반영되지 않음 - verify로 발견</li>
+ *   <li>[Trap] rebuildAll은 한 트랜잭션 - 회원이 매우 많으면 verify 결과의 회원만 rebuild(memberId)</li>
+ * </ul>
+ */
+@Service
+public class MemberBookingSummaryProjection {
+
+    private final BookingRepository bookingRepository;
+    private final MemberBookingSummaryRepository summaryRepository;
+
+    public MemberBookingSummaryProjection(
+            BookingRepository bookingRepository,
+            MemberBookingSummaryRepository summaryRepository
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * 일관성 검사 결과
+     *
+     * @param checkedMembers 검사한 회원 수
+     * @param mismatches     원본 재계산과 다른 회원
+     */
+    public record ConsistencyReport(int checkedMembers, List<Mismatch> mismatches) {
+        public boolean isConsistent() {
+            return mismatches.isEmpty();
+        }
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @param expected 예약 목록에서 재계산한 값
+     * @param actual   저장된 요약 (없으면 empty)
+     */
+    public record Mismatch(MemberId memberId, MemberBookingSummary expected, Optional<MemberBookingSummary> actual) {}
+
+    // ============================================
+    // [Key Point] 이벤트 구독 - 증분 갱신
+    // ============================================
+
+    @EventListener
+    public void on(BookingStatusChanged event) {
+        MemberId memberId = event.current().memberId();
+        MemberBookingSummary updated = summaryRepository.findByMemberId(memberId)
+                .flatMap(summary -> applyOrEmpty(summary, event))
+                .orElseGet(() -> recompute(memberId));
+        summaryRepository.save(updated);
+    }
+
+    // ============================================
+    // 재구성 / 일관성 검사
+    // ============================================
+
+    /**
+     * 전체 재구성 - 요약 테이블을 비우고 모든 회원을 예약 목록에서 다시 계산
+     *
+     * @return 재구성한 회원 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        summaryRepository.deleteAll();
+        List<MemberId> memberIds = bookingRepository.findAllMemberIds();
+        for (MemberId memberId : memberIds) {
+            summaryRepository.save(recompute(memberId));
+        }
+        return memberIds.size();
+    }
+
+    /**
+     * 한 회원 재구성
+     */
+    @Transactional
+    public MemberBookingSummary rebuild(MemberId memberId) {
+        return summaryRepository.save(recompute(memberId));
+    }
+
+    /**
+     * 일관성 검사 - 저장된 요약과 예약 목록 재계산 비교 (읽기 전용)
+     *
+     * <p>예약은 있는데 요약이 없는 회원, 예약 없이 요약만 남은 회원도 불일치로 보고</p>
+     */
+    @Transactional(readOnly = true)
+    public ConsistencyReport verify() {
+        Set<MemberId> memberIds = new LinkedHashSet<>(bookingRepository.findAllMemberIds());
+        memberIds.addAll(summaryRepository.findAllMemberIds());
+
+        List<Mismatch> mismatches = new ArrayList<>();
+        for (MemberId memberId : memberIds) {
+            MemberBookingSummary expected = recompute(memberId);
+            Optional<MemberBookingSummary> actual = summaryRepository.findByMemberId(memberId);
+            boolean matches = actual.map(expected::equals)
+                    .orElse(expected.equals(MemberBookingSummary.empty(memberId)));
+            if (!matches) {
+                mismatches.add(new Mismatch(memberId, expected, actual));
+            }
+        }
+        return new ConsistencyReport(memberIds.size(), List.copyOf(mismatches));
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private MemberBookingSummary recompute(MemberId memberId) {
+        return MemberBookingSummary.of(memberId, bookingRepository.findByMemberId(memberId));
+    }
+
+    /**
+     * 요약이 원본과 어긋나 차감이 불가능하면 empty → 호출자가 재계산
+     */
+    private static Optional<MemberBookingSummary> applyOrEmpty(MemberBookingSummary summary, BookingStatusChanged event) {
+        try {
+            return Optional.of(summary.apply(event));
+        } catch (IllegalStateException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.Itinerary;
+import com.travel.domain.booking.ItineraryQuoteEngine;
+import com.travel.domain.coupon.CouponRepository;
+import com.travel.domain.member.MemberId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 일정 일괄 견적 UseCase - 패키지 검색 결과(후보 조합)를 회원 쿠폰 기준 최종 금액 순으로 상위 K개 견적
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * [IS] 회원 쿠폰 조회 (1회), 오늘 날짜 (zone-id 기준)
+ * [FC] ItineraryQuoteEngine.forMember → quote (DB 접근 없음)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 견적은 예약이 아님 - 쿠폰 사용/재고 확인은 CreateBookingUseCase가 다시 수행</li>
+ *   <li>[Trap] k는 max-k로 제한 - 후보 전체를 돌려주면 Money/ItineraryQuote 생성 비용이 다시 후보 수에 비례</li>
+ * </ul>
+ */
+@Service
+public class QuoteItinerariesUseCase {
+
+    private final CouponRepository couponRepository;
+    private final int maxK;
+    private final ZoneId zoneId;
+
+    public QuoteItinerariesUseCase(
+            CouponRepository couponRepository,
+            @Value("${travel.booking.quote.max-k:50}") int maxK,
+            @Value("${travel.booking.quote.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        if (maxK < 1) throw new IllegalArgumentException("max-k는 1 이상이어야 합니다: " + maxK);
+        this.couponRepository = couponRepository;
+        this.maxK = maxK;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * @param memberId    견적 대상 회원
+     * @param itineraries 후보 일정 (같은 상품은 같은 BookingItem 인스턴스로 넘길 것)
+     * @param k           반환할 견적 수 (max-k 초과 시 max-k)
+     */
+    public ItineraryQuoteEngine.Batch execute(MemberId memberId, List<Itinerary> itineraries, int k) {
+        var engine = ItineraryQuoteEngine.forMember(
+                memberId, couponRepository.findByOwnerId(memberId), LocalDate.now(zoneId));
+        return engine.quote(itineraries, Math.min(k, maxK));
+    }
+}
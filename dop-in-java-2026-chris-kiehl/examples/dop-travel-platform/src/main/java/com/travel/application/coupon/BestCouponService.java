@@ -0,0 +1,89 @@
+package com.travel.application.coupon;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponChanged;
+import com.travel.domain.coupon.CouponRepository;
+import com.travel.domain.coupon.MemberCouponIndex;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최적 쿠폰 조회 서비스 - 회원별 MemberCouponIndex 캐시
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * bestFor(memberId, orderAmount):
+ *   [IS] 캐시된 인덱스가 없거나 오늘 쓸 수 없으면 (쿠폰 만료/시작일 도래) findByOwnerId로 다시 빌드
+ *   [FC] index.best(orderAmount) - 이분 탐색 + 남은 정률 쿠폰만 계산
+ *
+ * on(CouponChanged): 커밋 후 해당 회원 인덱스 제거 (발급/사용/취소)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Why AFTER_COMMIT] 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 데이터로 다시 빌드해 이전 쿠폰이 남음</li>
+ *   <li>[Trap] 그래도 "빌드 중 읽은 뒤 커밋" 경합은 남음 - 결과는 추천일 뿐, 예약 생성이 쿠폰을 다시 검증</li>
+ *   <li>[Trap] max-members 초과 시 약 10%를 임의로 제거 (RoomQuoteCache와 같은 근사 상한)</li>
+ * </ul>
+ */
+@Service
+public class BestCouponService {
+
+    private final CouponRepository couponRepository;
+    private final Map<MemberId, MemberCouponIndex> indexes = new ConcurrentHashMap<>();
+    private final int maxMembers;
+    private final ZoneId zoneId;
+
+    public BestCouponService(
+            CouponRepository couponRepository,
+            @Value("${travel.coupon.index.max-members:50000}") int maxMembers,
+            @Value("${travel.coupon.index.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        if (maxMembers < 1) throw new IllegalArgumentException("최대 회원 수는 1 이상이어야 합니다: " + maxMembers);
+        this.couponRepository = couponRepository;
+        this.maxMembers = maxMembers;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * 주문 금액에 가장 유리한 회원 쿠폰
+     *
+     * @return 할인이 가장 큰 쿠폰, 할인을 주는 쿠폰이 없으면 empty
+     */
+    public Optional<Coupon> bestFor(MemberId memberId, Money orderAmount) {
+        LocalDate today = LocalDate.now(zoneId);
+        MemberCouponIndex index = indexes.get(memberId);
+        if (index == null || !index.isValidOn(today)) {
+            index = MemberCouponIndex.build(memberId, couponRepository.findByOwnerId(memberId), today);
+            if (indexes.put(memberId, index) == null && indexes.size() > maxMembers) {
+                evict();
+            }
+        }
+        return index.best(orderAmount);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(CouponChanged event) {
+        indexes.remove(event.ownerId());
+    }
+
+    private void evict() {
+        int target = maxMembers - maxMembers / 10;
+        Iterator<MemberId> members = indexes.keySet().iterator();
+        while (indexes.size() > target && members.hasNext()) {
+            members.next();
+            members.remove();
+        }
+    }
+}
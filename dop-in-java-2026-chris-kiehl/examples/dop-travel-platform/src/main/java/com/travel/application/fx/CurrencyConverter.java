@@ -0,0 +1,123 @@
+package com.travel.application.fx;
+
+import com.travel.domain.fx.ConvertingAggregator;
+import com.travel.domain.fx.DailyRates;
+import com.travel.domain.fx.ExchangeRate;
+import com.travel.domain.fx.ExchangeRateSource;
+import com.travel.domain.fx.ExchangeRates;
+import com.travel.domain.fx.FxCalculations;
+import com.travel.domain.fx.FxError;
+import com.travel.shared.Result;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 환산 서비스 - (from, to, date) 환율 테이블을 메모리에 두고 Money 환산
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 보고서/정산이 통화별 합계를 스프레드시트에서 환산하던 작업을 애플리케이션 안으로 가져옴
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * rate(from, to, date):
+ *   [IS] 테이블 조회 (from, to, date) → 있으면 반환
+ *   [IS] 없으면 그 날짜를 처음 보는 경우에만 출처에서 고시 로드
+ *   [FC] DailyRates.resolveAll() → 직접/역/교차 환율 전부 테이블에 적재
+ *
+ * [Key Point] 출처 호출은 날짜당 1회 - 같은 날짜의 다른 통화 쌍은 적재된 테이블에서 바로 응답
+ * [Key Point] 환산 규칙(반올림)은 FxCalculations, 대량 합산은 aggregator() → ConvertingAggregator
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 테이블은 날짜가 늘어나는 만큼 커짐 (날짜당 최대 6쌍) - 고시 정정 시 evict(date)</li>
+ *   <li>[Trap] 출처에 없던 날짜도 "로드함"으로 기록 - 나중에 고시가 추가되면 evict(date) 후 재조회</li>
+ *   <li>[Why computeIfAbsent] 같은 날짜를 여러 스레드가 동시에 처음 조회해도 출처 호출은 1회</li>
+ * </ul>
+ */
+@Service
+public class CurrencyConverter implements ExchangeRates {
+
+    private final ExchangeRateSource source;
+
+    /**
+     * 환율 테이블 - 도출된 환율 포함
+     */
+    private final Map<RateKey, BigDecimal> table = new ConcurrentHashMap<>();
+
+    /**
+     * 로드한 날짜 → 적재한 통화 쌍 수
+     */
+    private final Map<LocalDate, Integer> loadedDates = new ConcurrentHashMap<>();
+
+    /**
+     * 환율 테이블 키
+     */
+    record RateKey(Currency from, Currency to, LocalDate date) {}
+
+    public CurrencyConverter(ExchangeRateSource source) {
+        this.source = source;
+    }
+
+    // ============================================
+    // 조회 / 환산
+    // ============================================
+
+    @Override
+    public Result<BigDecimal, FxError> rate(Currency from, Currency to, LocalDate date) {
+        if (from == to) {
+            return Result.success(BigDecimal.ONE);
+        }
+        RateKey key = new RateKey(from, to, date);
+        BigDecimal rate = table.get(key);
+        if (rate == null) {
+            loadedDates.computeIfAbsent(date, this::load);
+            rate = table.get(key);
+        }
+        return rate == null
+                ? Result.failure(new FxError.RateNotFound(from, to, date))
+                : Result.success(rate);
+    }
+
+    /**
+     * 금액 환산 (FxCalculations 반올림 규칙)
+     */
+    public Result<Money, FxError> convert(Money money, Currency to, LocalDate date) {
+        return rate(money.currency(), to, date)
+                .map(rate -> FxCalculations.convert(money, to, rate));
+    }
+
+    /**
+     * 대량 합산기 - 이 서비스의 환율 테이블을 사용
+     */
+    public ConvertingAggregator aggregator(Currency target, LocalDate date) {
+        return new ConvertingAggregator(target, date, this);
+    }
+
+    /**
+     * 날짜의 환율을 테이블에서 제거 - 다음 조회 때 출처에서 다시 로드
+     */
+    public void evict(LocalDate date) {
+        loadedDates.remove(date);
+        table.keySet().removeIf(key -> key.date().equals(date));
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private Integer load(LocalDate date) {
+        List<ExchangeRate> resolved = DailyRates.of(date, source.ratesOn(date)).resolveAll();
+        for (ExchangeRate rate : resolved) {
+            table.put(new RateKey(rate.from(), rate.to(), date), rate.rate());
+        }
+        return resolved.size();
+    }
+}
@@ -0,0 +1,49 @@
+package com.travel.application.member;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 회원 대량 가져오기 명령 - 기동 시 1회 실행
+ *
+ * <pre>
+ * 실행:
+ *   --travel.member.import.file=partner-members.csv
+ *   --travel.member.import.error-report=partner-members.errors.csv   (선택, 기본: 입력 파일명.errors.csv)
+ *
+ * [Key Point] 속성이 없으면 Bean 자체가 생성되지 않음 (평소 기동에 영향 없음)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.member.import.file")
+public class MemberImportCommand implements CommandLineRunner {
+
+    private final MemberImportPipeline pipeline;
+    private final Path input;
+    private final Path errorReport;
+
+    public MemberImportCommand(
+            MemberImportPipeline pipeline,
+            @Value("${travel.member.import.file}") String input,
+            @Value("${travel.member.import.error-report:}") String errorReport
+    ) {
+        this.pipeline = pipeline;
+        this.input = Path.of(input);
+        this.errorReport = errorReport.isBlank()
+                ? this.input.resolveSibling(this.input.getFileName() + ".errors.csv")
+                : Path.of(errorReport);
+    }
+
+    @Override
+    public void run(String... args) {
+        var report = pipeline.run(input, errorReport);
+        System.out.println("[IS] 회원 가져오기 " + input + ": " + report.rowsRead() + "행 중 "
+                + report.imported() + "명 저장, 거절 " + report.rejectedTotal() + "행 " + report.rejected());
+        System.out.printf("[IS] 처리량 %.0f행/초 (%d ms), 오류 보고서: %s%n",
+                report.rowsPerSecond(), report.elapsed().toMillis(), errorReport);
+    }
+}
@@ -0,0 +1,276 @@
+package com.travel.application.member;
+
+import com.travel.shared.Result;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 회원 가져오기 파일 파싱 - 순수 함수 모음 (Functional Core)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * CSV / NDJSON 한 줄을 회원 입력 행(Row)으로 변환. 형식 오류는 예외가 아닌 Result.Failure
+ *
+ * <h2>핵심 개념 (Key Concept): 지원 형식</h2>
+ * <pre>
+ * CSV    : 첫 줄 헤더 (email, name, phone - 순서 무관, phone 생략 가능)
+ *          "홍길동, 주니어" 처럼 쉼표가 있는 값은 큰따옴표, 값 안의 큰따옴표는 "" 로
+ * NDJSON : 한 줄에 평평한 JSON 객체 하나
+ *          {"email":"a@b.com","name":"홍길동","phone":"010-1234-5678"}
+ *
+ * [Key Point] 파싱(형식)과 검증(값)을 분리 - 파싱은 "필드를 읽을 수 있는가"만 판단,
+ *   이메일 형식/이름 길이 등은 Member.validateNew가 누적 검증
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] CSV 값 안의 줄바꿈은 지원하지 않음 - 한 줄 = 한 행 (행 번호로 오류 보고)</li>
+ *   <li>[Trap] NDJSON은 문자열/null 값만 지원 - 중첩 객체/배열은 형식 오류</li>
+ * </ul>
+ */
+public final class MemberImportParser {
+
+    private MemberImportParser() {}
+
+    /**
+     * 파일 형식
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 확장자로 형식 판별 (.csv, .ndjson, .jsonl)
+         */
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) return CSV;
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return NDJSON;
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다 (.csv | .ndjson | .jsonl): " + file);
+        }
+    }
+
+    /**
+     * 회원 입력 한 행 (검증 전)
+     *
+     * @param lineNumber 파일의 줄 번호 (1부터, 헤더 포함)
+     * @param email      이메일 (없으면 null)
+     * @param name       이름 (없으면 null)
+     * @param phone      전화번호 (없으면 null)
+     */
+    public record Row(long lineNumber, String email, String name, String phone) {}
+
+    /**
+     * CSV 헤더 - 컬럼 위치
+     *
+     * @param email 이메일 컬럼 위치
+     * @param name  이름 컬럼 위치
+     * @param phone 전화번호 컬럼 위치 (없으면 -1)
+     */
+    public record CsvHeader(int email, int name, int phone) {
+
+        public static Result<CsvHeader, String> parse(String line) {
+            return splitCsv(line).flatMap(columns -> {
+                int email = -1, name = -1, phone = -1;
+                for (int i = 0; i < columns.size(); i++) {
+                    switch (columns.get(i).strip().toLowerCase(Locale.ROOT)) {
+                        case "email" -> email = i;
+                        case "name" -> name = i;
+                        case "phone", "phone_number" -> phone = i;
+                        default -> { }
+                    }
+                }
+                if (email < 0 || name < 0) {
+                    return Result.failure("CSV 헤더에 email, name 컬럼이 필요합니다: " + line);
+                }
+                return Result.success(new CsvHeader(email, name, phone));
+            });
+        }
+    }
+
+    // ============================================
+    // [FC] 행 파싱
+    // ============================================
+
+    public static Result<Row, String> parseCsv(long lineNumber, String line, CsvHeader header) {
+        return splitCsv(line).map(columns -> new Row(
+                lineNumber,
+                column(columns, header.email()),
+                column(columns, header.name()),
+                column(columns, header.phone())));
+    }
+
+    public static Result<Row, String> parseNdjson(long lineNumber, String line) {
+        return parseFlatJson(line).map(fields -> new Row(
+                lineNumber, fields.get("email"), fields.get("name"), fields.get("phone")));
+    }
+
+    private static String column(List<String> columns, int index) {
+        return index >= 0 && index < columns.size() ? columns.get(index) : null;
+    }
+
+    // ============================================
+    // CSV
+    // ============================================
+
+    /**
+     * CSV 한 줄 분리 (RFC 4180 인용 규칙, 줄바꿈 제외)
+     */
+    static Result<List<String>, String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else if (c == '"' && current.isEmpty()) {
+                quoted = true;
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return Result.failure("닫히지 않은 큰따옴표");
+        }
+        columns.add(current.toString());
+        return Result.success(columns);
+    }
+
+    // ============================================
+    // NDJSON (평평한 객체만)
+    // ============================================
+
+    /**
+     * {"key":"value", "key2":null} 형태의 한 줄 파싱
+     *
+     * <p>[Why 직접 파싱] 문자열 필드 몇 개뿐인 행마다 범용 JSON 트리를 만들 필요가 없음 (BookingMapper와 같은 방식)</p>
+     */
+    static Result<Map<String, String>, String> parseFlatJson(String line) {
+        var cursor = new JsonCursor(line);
+        Map<String, String> fields = new HashMap<>();
+        if (!cursor.consume('{')) {
+            return Result.failure("JSON 객체가 아닙니다");
+        }
+        if (cursor.consume('}')) {
+            return cursor.atEnd() ? Result.success(fields) : Result.failure("객체 뒤에 불필요한 문자가 있습니다");
+        }
+        do {
+            String key = cursor.string();
+            if (key == null || !cursor.consume(':')) {
+                return Result.failure("JSON 형식 오류 (위치 " + cursor.position + ")");
+            }
+            String value;
+            if (cursor.consumeLiteral("null")) {
+                value = null;
+            } else {
+                value = cursor.string();
+                if (value == null) {
+                    return Result.failure("문자열 또는 null 값만 지원합니다: " + key);
+                }
+            }
+            fields.put(key, value);
+        } while (cursor.consume(','));
+
+        if (!cursor.consume('}') || !cursor.atEnd()) {
+            return Result.failure("JSON 형식 오류 (위치 " + cursor.position + ")");
+        }
+        return Result.success(fields);
+    }
+
+    private static final class JsonCursor {
+        private final String text;
+        private int position;
+
+        JsonCursor(String text) {
+            this.text = text;
+        }
+
+        boolean consume(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean consumeLiteral(String literal) {
+            skipWhitespace();
+            if (text.startsWith(literal, position)) {
+                position += literal.length();
+                return true;
+            }
+            return false;
+        }
+
+        boolean atEnd() {
+            skipWhitespace();
+            return position == text.length();
+        }
+
+        /**
+         * 문자열 리터럴 읽기 (실패 시 null)
+         */
+        String string() {
+            if (!consume('"')) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    return null;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append(escaped);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length()) return null;
+                        try {
+                            sb.append((char) Integer.parseInt(text, position, position + 4, 16));
+                        } catch (NumberFormatException e) {
+                            return null;
+                        }
+                        position += 4;
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
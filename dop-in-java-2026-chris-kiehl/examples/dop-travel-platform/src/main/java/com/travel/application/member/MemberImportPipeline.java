@@ -0,0 +1,393 @@
+package com.travel.application.member;
+
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberRepository;
+import com.travel.shared.Result;
+import com.travel.shared.Validation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 회원 대량 가져오기 파이프라인 - 파싱 → 검증 → 배치 저장
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 제휴 멤버십 회원 수백만 명을 save 반복 없이 스트리밍으로 가져오고, 거절된 행을 보고
+ *
+ * <h2>핵심 개념 (Key Concept): 제한된 큐로 연결한 3단계</h2>
+ * <pre>
+ *  [파싱 스레드]            [검증 스레드]                [저장 스레드]
+ *  파일 한 줄씩 읽기   →   Member.validateNew      →   DB 중복 조회 (IN, 배치당 1회)
+ *  CSV/NDJSON → Row   큐   파일 내 중복 이메일 검사  큐   saveAll (JDBC 배치 INSERT)
+ *
+ * [Key Point] 큐는 "행 배치"(batchSize개)를 담고 용량이 제한됨 (queueCapacity개 배치)
+ *   → 저장이 느리면 put이 막혀 파싱도 멈춤 (backpressure) → 메모리 = O(배치 × 큐 용량)
+ *   → 행마다 큐 연산을 하지 않아 스레드 간 전달 비용이 배치 수에 비례
+ * [Key Point] 검증 스레드는 1개 - 파일 내 중복은 "먼저 나온 행이 유효"로 결정적
+ * [Key Point] 거절 사유는 행 번호와 함께 오류 보고서로 (errorReport 파일 + 앞부분 샘플)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 배치는 저장되는 즉시 커밋 - 중간에 실패하면 앞 배치는 남음.
+ *       다시 실행하면 이미 들어간 회원은 DB 중복으로 거절되므로 같은 파일로 재실행 가능</li>
+ *   <li>[Trap] 파일 내 중복 검사용 이메일 집합이 파일 크기에 비례 (수백만 행 → 수백 MB) - 힙 여유 확인</li>
+ *   <li>[Trap] 가져오는 동안 같은 이메일로 가입이 일어나면 그 배치의 INSERT가 제약 위반으로 실패</li>
+ * </ul>
+ */
+@Service
+public class MemberImportPipeline {
+
+    /**
+     * 스트림 끝 표시 (identity 비교)
+     */
+    private static final List<?> END = new ArrayList<>(0);
+
+    private static final int ERROR_SAMPLE_SIZE = 100;
+
+    private final MemberRepository memberRepository;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    public MemberImportPipeline(
+            MemberRepository memberRepository,
+            @Value("${travel.member.import.batch-size:500}") int batchSize,
+            @Value("${travel.member.import.queue-capacity:8}") int queueCapacity
+    ) {
+        if (batchSize < 1) throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+        if (queueCapacity < 1) throw new IllegalArgumentException("큐 용량은 1 이상이어야 합니다: " + queueCapacity);
+        this.memberRepository = memberRepository;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // ============================================
+    // 결과 / 오류 보고
+    // ============================================
+
+    /**
+     * 거절 사유 분류
+     */
+    public enum RejectReason {
+        PARSE_ERROR, INVALID, DUPLICATE_IN_FILE, DUPLICATE_IN_DB
+    }
+
+    /**
+     * 거절된 행
+     *
+     * @param lineNumber 줄 번호
+     * @param reason     분류
+     * @param messages   상세 사유 (검증 오류는 누적된 전부)
+     */
+    public record RowError(long lineNumber, RejectReason reason, List<String> messages) {}
+
+    /**
+     * 가져오기 결과
+     *
+     * @param rowsRead     읽은 데이터 행 수 (헤더/빈 줄 제외)
+     * @param imported     저장한 회원 수
+     * @param rejected     분류별 거절 행 수
+     * @param errorSamples 앞쪽 거절 행 (최대 100개, 전체는 오류 보고서 파일)
+     * @param elapsed      소요 시간
+     */
+    public record ImportReport(
+            long rowsRead,
+            long imported,
+            Map<RejectReason, Long> rejected,
+            List<RowError> errorSamples,
+            Duration elapsed
+    ) {
+        public long rejectedTotal() {
+            return rejected.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * 처리량 (읽은 행 / 초)
+         */
+        public double rowsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return rowsRead * 1_000_000_000.0 / nanos;
+        }
+    }
+
+    // ============================================
+    // 실행
+    // ============================================
+
+    /**
+     * 파일 가져오기 (형식은 확장자로 판별)
+     */
+    public ImportReport run(Path input, Path errorReport) {
+        return run(input, MemberImportParser.Format.of(input), errorReport);
+    }
+
+    /**
+     * 파일 가져오기
+     *
+     * @param input       CSV / NDJSON 파일 (UTF-8)
+     * @param format      파일 형식
+     * @param errorReport 거절 행을 기록할 CSV 파일 (null이면 샘플만)
+     * @throws IllegalStateException 파일 I/O 또는 저장 실패 (이미 저장된 배치는 유지)
+     */
+    public ImportReport run(Path input, MemberImportParser.Format format, Path errorReport) {
+        long started = System.nanoTime();
+        BlockingQueue<List<MemberImportParser.Row>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<Candidate>> validated = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ErrorSink errors = ErrorSink.open(errorReport)) {
+            Future<Long> parser;
+            Future<Long> writer;
+            List<Future<?>> running = new CopyOnWriteArrayList<>();
+            try (ExecutorService stages = Executors.newFixedThreadPool(3)) {
+                parser = stages.submit(stage(failure, running, () -> parse(input, format, parsed, errors)));
+                running.add(parser);
+                running.add(stages.submit(stage(failure, running, () -> validate(parsed, validated, errors))));
+                writer = stages.submit(stage(failure, running, () -> write(validated, errors)));
+                running.add(writer);
+                if (failure.get() != null) {
+                    cancelAll(running);
+                }
+            }
+            if (failure.get() != null) {
+                throw new IllegalStateException("회원 가져오기 실패: " + failure.get().getMessage(), failure.get());
+            }
+            return new ImportReport(parser.resultNow(), writer.resultNow(), errors.counts(), errors.samples(),
+                    Duration.ofNanos(System.nanoTime() - started));
+        } catch (IOException e) {
+            throw new UncheckedIOException("오류 보고서를 쓸 수 없습니다: " + errorReport, e);
+        }
+    }
+
+    // ============================================
+    // 1단계: 파싱
+    // ============================================
+
+    private long parse(
+            Path input,
+            MemberImportParser.Format format,
+            BlockingQueue<List<MemberImportParser.Row>> out,
+            ErrorSink errors
+    ) throws IOException, InterruptedException {
+        long rows = 0;
+        long lineNumber = 0;
+        MemberImportParser.CsvHeader header = null;
+        List<MemberImportParser.Row> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == MemberImportParser.Format.CSV && header == null) {
+                    header = MemberImportParser.CsvHeader.parse(stripBom(line)).getOrThrow();
+                    continue;
+                }
+                rows++;
+                Result<MemberImportParser.Row, String> row = format == MemberImportParser.Format.CSV
+                        ? MemberImportParser.parseCsv(lineNumber, line, header)
+                        : MemberImportParser.parseNdjson(lineNumber, lineNumber == 1 ? stripBom(line) : line);
+                switch (row) {
+                    case Result.Success<MemberImportParser.Row, String>(var value) -> batch.add(value);
+                    case Result.Failure<MemberImportParser.Row, String>(var error) ->
+                            errors.reject(lineNumber, RejectReason.PARSE_ERROR, List.of(error));
+                }
+                if (batch.size() == batchSize) {
+                    out.put(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            out.put(batch);
+        }
+        out.put(end());
+        return rows;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    // ============================================
+    // 2단계: 검증 (+ 파일 내 중복)
+    // ============================================
+
+    /**
+     * 검증을 통과한 회원과 원래 줄 번호
+     */
+    private record Candidate(long lineNumber, Member member) {}
+
+    private Long validate(
+            BlockingQueue<List<MemberImportParser.Row>> in,
+            BlockingQueue<List<Candidate>> out,
+            ErrorSink errors
+    ) throws InterruptedException {
+        Map<String, Long> firstLineByEmail = new HashMap<>();
+        List<MemberImportParser.Row> rows;
+        while ((rows = in.take()) != END) {
+            List<Candidate> batch = new ArrayList<>(rows.size());
+            for (MemberImportParser.Row row : rows) {
+                switch (Member.validateNew(row.email(), row.name(), row.phone())) {
+                    case Validation.Invalid<Member, String>(var messages) ->
+                            errors.reject(row.lineNumber(), RejectReason.INVALID, messages);
+                    case Validation.Valid<Member, String>(var member) -> {
+                        Long firstLine = firstLineByEmail.putIfAbsent(member.email().value(), row.lineNumber());
+                        if (firstLine != null) {
+                            errors.reject(row.lineNumber(), RejectReason.DUPLICATE_IN_FILE,
+                                    List.of("파일 안에서 중복된 이메일입니다: " + member.email() + " (" + firstLine + "행)"));
+                        } else {
+                            batch.add(new Candidate(row.lineNumber(), member));
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                out.put(batch);
+            }
+        }
+        out.put(end());
+        return (long) firstLineByEmail.size();
+    }
+
+    // ============================================
+    // 3단계: DB 중복 제외 후 배치 저장
+    // ============================================
+
+    private long write(BlockingQueue<List<Candidate>> in, ErrorSink errors) throws InterruptedException {
+        long imported = 0;
+        List<Candidate> batch;
+        while ((batch = in.take()) != END) {
+            List<String> emails = batch.stream().map(c -> c.member().email().value()).toList();
+            Set<String> existing = memberRepository.findExistingEmails(emails);
+
+            List<Member> members = new ArrayList<>(batch.size());
+            for (Candidate candidate : batch) {
+                String email = candidate.member().email().value();
+                if (existing.contains(email)) {
+                    errors.reject(candidate.lineNumber(), RejectReason.DUPLICATE_IN_DB,
+                            List.of("이미 가입된 이메일입니다: " + email));
+                } else {
+                    members.add(candidate.member());
+                }
+            }
+            if (!members.isEmpty()) {
+                memberRepository.saveAll(members);
+                imported += members.size();
+            }
+        }
+        return imported;
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> end() {
+        return (List<T>) END;
+    }
+
+    /**
+     * 단계 실행 래퍼 - 한 단계가 실패하면 나머지를 인터럽트해 막힌 put/take에서 빠져나오게 함
+     *
+     * <p>[Key Point] 가장 먼저 실패한 단계의 예외만 원인으로 기록 (인터럽트된 단계의 예외는 결과)</p>
+     * <p>[Why shutdownNow 아님] 다른 단계를 아직 제출하기 전에 실패하면 이후 submit이 거부됨 →
+     *   제출된 Future만 취소하고, 제출 전에 실패한 경우는 run에서 제출을 마친 뒤 다시 취소</p>
+     */
+    private static <T> Callable<T> stage(AtomicReference<Throwable> failure, List<Future<?>> running, Callable<T> body) {
+        return () -> {
+            try {
+                return body.call();
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+                cancelAll(running);
+                throw t;
+            }
+        };
+    }
+
+    private static void cancelAll(List<Future<?>> running) {
+        running.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * 거절 행 기록 - 여러 단계가 동시에 기록하므로 synchronized
+     */
+    private static final class ErrorSink implements AutoCloseable {
+        private final BufferedWriter writer;
+        private final Map<RejectReason, Long> counts = new EnumMap<>(RejectReason.class);
+        private final List<RowError> samples = new ArrayList<>();
+
+        private ErrorSink(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        static ErrorSink open(Path file) throws IOException {
+            if (file == null) {
+                return new ErrorSink(null);
+            }
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write("line,reason,messages");
+            writer.newLine();
+            return new ErrorSink(writer);
+        }
+
+        synchronized void reject(long lineNumber, RejectReason reason, List<String> messages) {
+            counts.merge(reason, 1L, Long::sum);
+            if (samples.size() < ERROR_SAMPLE_SIZE) {
+                samples.add(new RowError(lineNumber, reason, List.copyOf(messages)));
+            }
+            if (writer != null) {
+                try {
+                    writer.write(lineNumber + "," + reason + ",\"" + String.join("; ", messages).replace("\"", "\"\"") + "\"");
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        synchronized Map<RejectReason, Long> counts() {
+            return Map.copyOf(counts);
+        }
+
+        synchronized List<RowError> samples() {
+            return samples.stream()
+                    .sorted(Comparator.comparingLong(RowError::lineNumber))
+                    .toList();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
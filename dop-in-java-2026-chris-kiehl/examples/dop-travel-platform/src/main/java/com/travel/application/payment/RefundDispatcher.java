@@ -0,0 +1,150 @@
+package com.travel.application.payment;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.payment.PaymentError;
+import com.travel.domain.payment.PaymentGateway;
+import com.travel.domain.payment.PaymentId;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.domain.payment.RefundRequestRepository;
+import com.travel.shared.Result;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 환불 전송기 - refund_requests(outbox)의 PENDING 요청을 PG로 전송
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 일괄 취소로 쌓인 수천 건의 환불을 PG에 보내되, 동시에 열리는 호출 수를 제한
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell - 동시성 제한 전송</h2>
+ * <pre>
+ * [IS] PENDING keyset 페이지 조회
+ *   → 요청마다 (가상 스레드, Semaphore로 동시 max-concurrency개):
+ *        PaymentGateway.refund(결제 ID, 금액, "refund-" + 예약 ID)
+ *        [FC] request.complete / request.fail
+ *        [IS] 결과 저장 (요청마다 짧은 트랜잭션)
+ *
+ * [Key Point] Semaphore를 제출 전에 획득 → 전송이 밀리면 조회도 멈춤 (대기 작업이 무한히 쌓이지 않음)
+ * [Key Point] 멱등성 키가 예약 ID에서 결정됨 → 결과 저장 전에 죽어 다시 보내도 PG가 한 번만 환불
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 한 번 호출에서 요청마다 최대 1회 전송 - 실패한 요청은 PENDING으로 남아 다음 호출에서 재시도</li>
+ *   <li>[Trap] 결과 저장이 실패하면 retrying으로 집계 + 로그 - 요청은 PENDING 그대로라 다음 호출에서
+ *       같은 멱등성 키로 다시 보냄 (작업 안에서 잡음 - 버려지는 Future에 예외가 묻히지 않도록)</li>
+ *   <li>[Trap] PaymentGateway 구현이 없으면 아무것도 보내지 않음 - 요청은 outbox에 그대로 남음</li>
+ * </ul>
+ */
+@Service
+public class RefundDispatcher {
+
+    private final RefundRequestRepository refundRequestRepository;
+    private final Optional<PaymentGateway> paymentGateway;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final int pageSize;
+
+    public RefundDispatcher(
+            RefundRequestRepository refundRequestRepository,
+            Optional<PaymentGateway> paymentGateway,
+            @Value("${travel.refund.max-concurrency:8}") int maxConcurrency,
+            @Value("${travel.refund.max-attempts:5}") int maxAttempts,
+            @Value("${travel.refund.page-size:200}") int pageSize
+    ) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("동시 전송 수는 1 이상이어야 합니다: " + maxConcurrency);
+        if (maxAttempts < 1) throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다: " + maxAttempts);
+        if (pageSize < 1) throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        this.refundRequestRepository = refundRequestRepository;
+        this.paymentGateway = paymentGateway;
+        this.maxConcurrency = maxConcurrency;
+        this.maxAttempts = maxAttempts;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 전송 결과
+     *
+     * @param completed 환불 완료
+     * @param retrying  실패했거나 결과를 저장하지 못해 재시도 대상으로 남음
+     * @param failed    최대 시도 횟수에 도달해 FAILED
+     */
+    public record Report(int completed, int retrying, int failed) {
+        public int total() {
+            return completed + retrying + failed;
+        }
+    }
+
+    /**
+     * PENDING 환불 요청을 한 번씩 전송
+     *
+     * @return 전송 결과 (PaymentGateway가 없으면 모두 0)
+     */
+    public Report dispatchPending() {
+        if (paymentGateway.isEmpty()) {
+            System.out.println("[IS] PaymentGateway 미구성 - 환불 요청은 refund_requests에 대기");
+            return new Report(0, 0, 0);
+        }
+        PaymentGateway gateway = paymentGateway.get();
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger retrying = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            BookingId after = null;
+            List<RefundRequest> page;
+            do {
+                page = refundRequestRepository.findPending(after, pageSize);
+                for (RefundRequest request : page) {
+                    permits.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            RefundRequest result = refundRequestRepository.update(send(gateway, request));
+                            switch (result.status()) {
+                                case COMPLETED -> completed.incrementAndGet();
+                                case PENDING -> retrying.incrementAndGet();
+                                case FAILED -> failed.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            retrying.incrementAndGet();
+                            System.out.println("[IS] 환불 결과 저장 실패 - 예약 " + request.bookingId()
+                                    + " PENDING 유지, 다음 호출에서 재전송: " + e.getMessage());
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                after = page.isEmpty() ? after : page.getLast().bookingId();
+            } while (page.size() == pageSize);
+        }
+        return new Report(completed.get(), retrying.get(), failed.get());
+    }
+
+    /**
+     * PG 호출 1회 → 완료 또는 실패 기록
+     *
+     * <p>[Trap] 결제 ID가 UUID가 아니거나 PG 클라이언트가 예외를 던져도 실패로 기록 (전송기가 멈추지 않음)</p>
+     */
+    private RefundRequest send(PaymentGateway gateway, RefundRequest request) {
+        Instant now = Instant.now();
+        try {
+            Result<PaymentGateway.RefundResult, PaymentError> result = gateway.refund(
+                    PaymentId.from(request.paymentId()), request.amount(), request.idempotencyKey());
+            return result.fold(
+                    refund -> request.complete(refund.refundId(), now),
+                    error -> request.fail(error.code() + ": " + error.message(), maxAttempts, now));
+        } catch (RuntimeException e) {
+            return request.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), maxAttempts, now);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.travel.application.product;
+
+import com.travel.domain.product.CatalogueChange;
+import com.travel.domain.product.ProductCatalogue;
+import com.travel.domain.product.ProductCatalogueSource;
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomPricesChanged;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.travelpackage.TravelPackage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 카탈로그 서비스 - 메모리 스냅샷 조회 + 변경 번호 기반 증분 새로 고침
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약 생성/검색이 객실·항공편·패키지를 매번 DB에서 읽지 않고 스냅샷에서 O(1)로 찾음
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * room(id) / flight(id) / travelPackage(id)
+ *   AtomicReference.get → 불변 스냅샷의 Map.get   (잠금 없음)
+ *
+ * refresh()   (refresh-interval마다, 한 스레드)
+ *   [IS] source.latestVersion()                 스냅샷보다 작으면 전체 다시 적재
+ *   [IS] source.changesSince(version - lag-window)   바뀐 행 + 이미 읽은 번호대의 행
+ *   [FC] ProductCatalogue.reflects로 걸러 냄     스냅샷에 이미 있는 상태는 제외 → 남은 게 없으면 여기서 끝
+ *   [FC] ProductCatalogue.apply                 닿은 Map만 복사한 새 스냅샷 (메모리 추정도 변경분만)
+ *   [IS] AtomicReference.set + 크기 보고
+ *   [IS] 객실이 바뀐 숙소마다 RoomPricesChanged 발행 → RoomQuoteService가 가격표 교체
+ *
+ * 기동 완료(ContextRefreshedEvent) 시 모든 숙소의 RoomPricesChanged 발행 (첫 가격표)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 조회 결과는 최대 refresh-interval만큼 늦음 - 가격/재고를 확정하는 단계는 DB 기준으로 다시 확인</li>
+ *   <li>[Key Point] 보장 범위 - 번호를 받은 뒤 그 아래 lag-window개 안에 드는 동안 커밋된 행은 다음 새로 고침에 반영.
+ *       쓰는 쪽이 그보다 많은 번호를 앞질러 커밋하면 여전히 놓침 → 쓰기 직렬화 규칙(ProductCatalogueEntity)은 그대로</li>
+ *   <li>[Trap] 새로 고침마다 lag-window개 행을 다시 읽고 디코드 - 바뀐 게 없어도 가벼운 조회 한 번으로 끝나지 않음
+ *       (lag-window=0이면 최신 번호만 확인)</li>
+ *   <li>[Trap] 출처의 최신 번호가 스냅샷보다 작으면 (DB 복원 등) 증분으로 따라갈 수 없음 → 전체 다시 적재</li>
+ *   <li>[Trap] 새로 고침 실패는 이전 스냅샷 유지 + 로그 - 기동 시 첫 적재 실패만 기동 실패</li>
+ *   <li>[Why 요청 스레드에서 새로 고치지 않음] 변경을 처음 본 요청 하나가 적재 시간을 떠안지 않도록</li>
+ *   <li>[Why 생성자 적재는 발행하지 않음] @EventListener는 모든 Bean 생성 후에 등록됨 - 생성자에서 발행한 이벤트는
+ *       구독자에게 닿지 않으므로 ContextRefreshedEvent에서 전체 숙소를 한 번 발행</li>
+ *   <li>[Trap] 날짜별 요금 출처가 아직 없어 RoomPricesChanged.nightlyRates는 비어 있음 - 견적은 객실 기본 요금(1박 요금)</li>
+ * </ul>
+ */
+@Service
+public class ProductCatalogueService implements AutoCloseable {
+
+    private final ProductCatalogueSource source;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<ProductCatalogue> current = new AtomicReference<>(ProductCatalogue.empty());
+    private final ScheduledExecutorService refresher;
+    private final long lagWindow;
+
+    public ProductCatalogueService(
+            ProductCatalogueSource source,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry registry,
+            @Value("${travel.product.catalogue.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${travel.product.catalogue.lag-window:100}") long lagWindow
+    ) {
+        if (lagWindow < 0) {
+            throw new IllegalArgumentException("lag-window는 0 이상이어야 합니다: " + lagWindow);
+        }
+        this.source = source;
+        this.eventPublisher = eventPublisher;
+        this.lagWindow = lagWindow;
+        refresh(false);
+        registerGauges(registry);
+        if (refreshInterval.isZero()) {
+            this.refresher = null;
+        } else {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("product-catalogue-refresh").daemon().factory());
+            long millis = refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ============================================
+    // [Key Point] 조회 - 잠금 없음
+    // ============================================
+
+    /**
+     * 현재 스냅샷 - 여러 상품을 같은 시점 기준으로 보려면 한 번 읽어 그 스냅샷만 사용
+     */
+    public ProductCatalogue current() {
+        return current.get();
+    }
+
+    public Optional<Room> room(String productId) {
+        return current.get().room(productId);
+    }
+
+    public Optional<Flight> flight(String productId) {
+        return current.get().flight(productId);
+    }
+
+    public Optional<TravelPackage> travelPackage(String productId) {
+        return current.get().travelPackage(productId);
+    }
+
+    // ============================================
+    // 새로 고침
+    // ============================================
+
+    /**
+     * 출처의 변경을 반영한 스냅샷으로 교체 (바뀐 게 없으면 현재 스냅샷 그대로) + 객실이 바뀐 숙소의 요금 변경 발행
+     */
+    public ProductCatalogue refresh() {
+        return refresh(true);
+    }
+
+    private synchronized ProductCatalogue refresh(boolean publish) {
+        ProductCatalogue before = current.get();
+        long latest = source.latestVersion();
+        if (lagWindow == 0 && latest == before.version()) {
+            return before;
+        }
+        boolean reload = latest < before.version();
+        ProductCatalogue base = reload ? ProductCatalogue.empty() : before;
+        List<CatalogueChange> changes = source.changesSince(Math.max(0, base.version() - lagWindow)).stream()
+                .filter(change -> !base.reflects(change))
+                .toList();
+        if (changes.isEmpty() && !reload) {
+            return before;
+        }
+        ProductCatalogue next = base.apply(changes);
+        current.set(next);
+        ProductCatalogue.Footprint footprint = next.footprint();
+        long late = changes.stream().filter(change -> change.version() <= base.version()).count();
+        System.out.println("[IS] 상품 카탈로그 교체: v" + before.version() + " → v" + next.version()
+                + (late > 0 ? " (늦게 커밋된 행 " + late + "건)" : "")
+                + " (객실 " + footprint.rooms() + ", 항공편 " + footprint.flights() + ", 패키지 " + footprint.packages()
+                + ", 약 " + footprint.estimatedBytes() / 1024 + "KiB, " + source.description() + ")");
+        if (publish) {
+            publishRoomPrices(next, reload ? allHotels(before, next) : changedHotels(before, changes));
+        }
+        return next;
+    }
+
+    /**
+     * 기동 완료 시 모든 숙소의 첫 가격표
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void publishAllRoomPrices() {
+        ProductCatalogue catalogue = current.get();
+        publishRoomPrices(catalogue, allHotels(catalogue, catalogue));
+    }
+
+    // ============================================
+    // [Key Point] 요금 변경 발행
+    // ============================================
+
+    /**
+     * [IS] 숙소마다 변경 후 객실 전체를 담아 발행 (객실이 모두 빠진 숙소는 빈 목록 → 판매 중지)
+     */
+    private void publishRoomPrices(ProductCatalogue catalogue, Set<String> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return;
+        }
+        Map<String, List<Room>> roomsByHotel = catalogue.rooms().values().stream()
+                .filter(room -> hotelIds.contains(room.hotelId()))
+                .sorted(Comparator.comparing(Room::id))
+                .collect(Collectors.groupingBy(Room::hotelId));
+        for (String hotelId : hotelIds) {
+            eventPublisher.publishEvent(new RoomPricesChanged(
+                    hotelId, roomsByHotel.getOrDefault(hotelId, List.of()), List.of()));
+        }
+    }
+
+    /**
+     * [FC] 변경이 닿은 숙소 - 추가/수정된 객실의 숙소 + 수정/삭제 전 객실의 숙소 (객실이 다른 숙소로 옮겨진 경우 포함)
+     */
+    private static Set<String> changedHotels(ProductCatalogue before, List<CatalogueChange> changes) {
+        Set<String> hotelIds = new HashSet<>();
+        for (CatalogueChange change : changes) {
+            before.room(change.productId()).ifPresent(room -> hotelIds.add(room.hotelId()));
+            if (change instanceof CatalogueChange.RoomUpserted(var version, var room)) {
+                hotelIds.add(room.hotelId());
+            }
+        }
+        return hotelIds;
+    }
+
+    private static Set<String> allHotels(ProductCatalogue before, ProductCatalogue next) {
+        Set<String> hotelIds = new HashSet<>();
+        before.rooms().values().forEach(room -> hotelIds.add(room.hotelId()));
+        next.rooms().values().forEach(room -> hotelIds.add(room.hotelId()));
+        return hotelIds;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            System.out.println("[IS] 상품 카탈로그 새로 고침 실패 - v" + current.get().version() + " 유지: " + e.getMessage());
+        }
+    }
+
+    private void registerGauges(MeterRegistry registry) {
+        Gauge.builder("product.catalogue.version", current, ref -> ref.get().version())
+                .description("상품 카탈로그 스냅샷 변경 번호")
+                .register(registry);
+        Gauge.builder("product.catalogue.products", current, ref -> ref.get().size())
+                .description("상품 카탈로그 스냅샷 상품 수")
+                .register(registry);
+        Gauge.builder("product.catalogue.estimated.size", current, ref -> ref.get().footprint().estimatedBytes())
+                .description("상품 카탈로그 스냅샷 추정 메모리")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.travel.application.product;
+
+import com.travel.domain.product.accommodation.RoomPriceTable;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 객실 견적 캐시 - (객실, 숙박 기간) → 견적, 크기 제한
+ *
+ * <h2>핵심 개념 (Key Concept): 가격표 단위 무효화</h2>
+ * <pre>
+ * 항목 = (견적, 견적을 계산한 RoomPriceTable)
+ * get(key, currentTable):
+ *   항목의 table == currentTable (참조 비교) → 적중
+ *   다르면 (요금 변경으로 가격표가 교체됨) → 다시 계산해 덮어씀
+ *
+ * [Key Point] 요금이 바뀌어도 캐시를 훑어 지울 필요 없음 - 가격표 교체 자체가 무효화
+ *   남은 이전 항목은 축출되거나 다음 조회 때 교체됨
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 잠금 없는 조회 + 일괄 축출</h2>
+ * <pre>
+ * 조회: ConcurrentHashMap.get - 검색 요청끼리 잠금 경합 없음
+ * 축출: 새 항목 추가 후 maxEntries 초과 시 한 스레드만 10%를 한 번에 제거 (순회 순서 = 해시 순서 ≈ 무작위)
+ *
+ * [Why LRU 아님] LinkedHashMap(accessOrder)은 조회도 순서를 바꿔 읽기마다 잠금이 필요
+ *   → 적중 비용이 견적 계산(누적합 차이)보다 비싸져 캐시의 의미가 없어짐
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 계산(loader)은 잠금 밖 - 같은 키를 동시에 놓치면 두 번 계산될 수 있음 (결과는 같음)</li>
+ *   <li>[Trap] 축출 중 다른 스레드의 추가로 잠시 maxEntries를 넘을 수 있음 (근사 상한)</li>
+ * </ul>
+ */
+public class RoomQuoteCache {
+
+    /**
+     * 캐시 키
+     */
+    public record Key(String roomId, DateRange stay) {}
+
+    private record Entry(Money quote, RoomPriceTable table) {}
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxEntries;
+
+    /**
+     * @param maxEntries 최대 항목 수 (근사)
+     */
+    public RoomQuoteCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("최대 항목 수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 견적, 없거나 다른 가격표로 계산된 것이면 loader로 계산해 저장
+     *
+     * @param table  현재 가격표 (항목 유효성 판단 기준)
+     * @param loader 견적 계산
+     */
+    public Money get(Key key, RoomPriceTable table, Supplier<Money> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.table() == table) {
+            return entry.quote();
+        }
+        Money quote = loader.get();
+        if (entries.put(key, new Entry(quote, table)) == null && entries.size() > maxEntries) {
+            evict();
+        }
+        return quote;
+    }
+
+    /**
+     * 현재 항목 수 (이전 가격표 항목 포함)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxEntries - maxEntries / 10;
+            Iterator<Key> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.travel.application.product;
+
+import com.travel.domain.product.accommodation.NightlyRate;
+import com.travel.domain.product.accommodation.RoomPriceTable;
+import com.travel.domain.product.accommodation.RoomPricesChanged;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실 견적 서비스 - 숙소별 가격표 + 견적 캐시
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 검색 페이지가 같은 기간으로 수천 개 객실을 견적할 때 계산 없이 응답
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * quote(roomId, stay):
+ *   [IS] 객실 → 숙소 가격표 조회
+ *   [IS] 캐시 (roomId, stay) 적중 → 반환
+ *   [FC] 놓치면 RoomPriceTable.quote (누적합 차이, O(1))
+ *
+ * quoteHotel(hotelId, stay): 검색 결과 - 캐시 없이 RoomPriceTable.quoteAll (객실당 뺄셈 한 번이라 캐시 조회와 비슷한 비용)
+ *
+ * on(RoomPricesChanged):
+ *   [FC] 새 가격표 생성 (오늘부터 horizon-days, 더 먼 날짜별 요금이 있으면 그 날까지 / 지난 날짜 요금은 제외)
+ *   [IS] 숙소/객실 인덱스 교체 → 이전 가격표로 계산된 캐시 항목은 자동 무효 (RoomQuoteCache)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] RoomPricesChanged 발행은 ProductCatalogueService 한 곳 (기동 완료 시 전체 숙소, 새로 고침마다 객실이 바뀐 숙소)
+ *       - product_catalogue를 거치지 않고 요금을 바꾸면 견적이 이전 요금으로 남음</li>
+ *   <li>[Trap] 가격표 기간은 교체 시점 기준 - 오래 변경이 없던 숙소는 시작일이 과거 (기간 밖은 기본 요금이므로 값은 정확)</li>
+ *   <li>[Why 교체 후 제거] 빠진 객실을 먼저 지우면 그 사이 조회가 판매 중인 객실도 놓칠 수 있음</li>
+ * </ul>
+ */
+@Service
+public class RoomQuoteService {
+
+    private final Map<String, RoomPriceTable> tablesByHotel = new ConcurrentHashMap<>();
+    private final Map<String, RoomPriceTable> tablesByRoom = new ConcurrentHashMap<>();
+    private final RoomQuoteCache cache;
+    private final int horizonDays;
+    private final ZoneId zoneId;
+
+    public RoomQuoteService(
+            @Value("${travel.product.quote-cache.max-entries:100000}") int maxEntries,
+            @Value("${travel.product.price-table.horizon-days:365}") int horizonDays,
+            @Value("${travel.product.price-table.zone-id:Asia/Seoul}") String zoneId) {
+        this.cache = new RoomQuoteCache(maxEntries);
+        this.horizonDays = horizonDays;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * 숙박 견적
+     *
+     * @return 총 숙박료, 가격표가 없는 객실이면 empty
+     */
+    public Optional<Money> quote(String roomId, DateRange stay) {
+        RoomPriceTable table = tablesByRoom.get(roomId);
+        if (table == null) {
+            return Optional.empty();
+        }
+        return Optional.of(cache.get(new RoomQuoteCache.Key(roomId, stay), table,
+                () -> table.quote(roomId, stay).orElseThrow()));
+    }
+
+    /**
+     * 숙소의 모든 객실 견적 - 검색 결과 경로 (캐시를 거치지 않고 가격표에서 일괄 계산)
+     *
+     * @return 객실 ID → 총 숙박료 (가격표 객실 순서), 가격표가 없는 숙소면 빈 Map
+     */
+    public Map<String, Money> quoteHotel(String hotelId, DateRange stay) {
+        RoomPriceTable table = tablesByHotel.get(hotelId);
+        if (table == null) {
+            return Map.of();
+        }
+        List<Money> quotes = table.quoteAll(stay);
+        Map<String, Money> byRoom = new LinkedHashMap<>();
+        for (int i = 0; i < quotes.size(); i++) {
+            byRoom.put(table.roomIds().get(i), quotes.get(i));
+        }
+        return byRoom;
+    }
+
+    // ============================================
+    // [Key Point] 요금 변경 - 가격표 교체
+    // ============================================
+
+    /**
+     * [Why synchronized] 같은 숙소의 변경 두 건이 교차하면 객실 인덱스가 두 가격표에 섞일 수 있음
+     */
+    @EventListener
+    public synchronized void on(RoomPricesChanged event) {
+        LocalDate today = LocalDate.now(zoneId);
+        List<NightlyRate> upcoming = event.nightlyRates().stream()
+                .filter(rate -> !rate.night().isBefore(today))
+                .toList();
+        int nights = upcoming.stream()
+                .mapToInt(rate -> (int) ChronoUnit.DAYS.between(today, rate.night()) + 1)
+                .reduce(horizonDays, Math::max);
+        RoomPriceTable table = RoomPriceTable.build(event.hotelId(), event.rooms(), upcoming, today, nights);
+
+        RoomPriceTable previous = tablesByHotel.put(event.hotelId(), table);
+        table.roomIds().forEach(roomId -> tablesByRoom.put(roomId, table));
+        if (previous != null) {
+            previous.roomIds().stream()
+                    .filter(roomId -> !table.contains(roomId))
+                    .forEach(roomId -> tablesByRoom.remove(roomId, previous));
+        }
+    }
+
+    /**
+     * 캐시 항목 수 (모니터링용)
+     */
+    public int cachedQuotes() {
+        return cache.size();
+    }
+}
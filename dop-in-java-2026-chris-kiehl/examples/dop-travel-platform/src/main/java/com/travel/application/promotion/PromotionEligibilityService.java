@@ -0,0 +1,44 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.promotion.PromotionRuleEngine;
+import com.travel.domain.promotion.PromotionRuleSet;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 프로모션 적격성 조회 - 현재 배포된 규칙으로 평가
+ *
+ * <pre>
+ * [Key Point] 계측 여부는 생성 시 한 번 결정:
+ *   꺼짐 → PromotionRuleSet.eligiblePromotions (계측 코드를 전혀 거치지 않음)
+ *   켜짐 → PromotionRuleProfiler.eligiblePromotions (샘플링된 평가만 노드별 계측)
+ * [Key Point] 요청마다 current()를 한 번만 읽음 - 평가 도중 배포가 일어나도 한 스냅샷으로 평가
+ * </pre>
+ */
+@Service
+public class PromotionEligibilityService {
+
+    private final PromotionRuleRegistry registry;
+
+    /**
+     * 계측이 꺼져 있으면 null
+     */
+    private final PromotionRuleProfiler profiler;
+
+    public PromotionEligibilityService(PromotionRuleRegistry registry, PromotionRuleMetrics metrics) {
+        this.registry = registry;
+        this.profiler = metrics.profiler().orElse(null);
+    }
+
+    /**
+     * 컨텍스트가 충족하는 프로모션 ID (정의 순서)
+     */
+    public List<String> eligiblePromotions(PromotionRuleEngine.PromotionContext context) {
+        PromotionRuleSet rules = registry.current();
+        if (profiler == null) {
+            return rules.eligiblePromotions(context);
+        }
+        return profiler.eligiblePromotions(rules, context);
+    }
+}
@@ -0,0 +1,92 @@
+package com.travel.application.promotion;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로모션 규칙 메트릭 - 노드별 카운터를 Micrometer 미터로 노출
+ *
+ * <h2>목적 (Purpose)</h2>
+ * PromotionRuleProfiler가 모은 통계를 /actuator/prometheus 에서 보이게 함 (켜져 있을 때만)
+ *
+ * <h2>핵심 개념 (Key Concept): 메트릭 이름과 태그</h2>
+ * <pre>
+ * promotion.rule.node          {promotion, node, rule}   FunctionTimer - 샘플 평가 횟수 + 소요 시간 합계
+ * promotion.rule.node.passes   {promotion, node, rule}   FunctionCounter - 충족 횟수
+ *
+ * node = 트리 위치 (0, 0.1, 0.1.0 ...), rule = 노드 규칙 문법
+ * [Key Point] Function* 미터는 값을 LongAdder에서 스크랩 시점에 읽음 - 평가 경로에는 미터 호출이 없음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 꺼져 있으면(기본값) profiler()가 비어 있음 - 평가 경로는 계측 없는 원래 코드</li>
+ *   <li>[Trap] 시계열 수 = 프로모션 수 × 노드 수 × 2 - 규칙이 많은 환경에서는 샘플링 비율보다 이 수를 먼저 확인</li>
+ *   <li>[Why 규칙이 바뀌면 미터 제거] 사라진 노드의 마지막 값이 계속 스크랩되지 않도록</li>
+ * </ul>
+ */
+@Component
+public class PromotionRuleMetrics implements PromotionRuleProfiler.Listener {
+
+    private final MeterRegistry registry;
+    private final PromotionRuleProfiler profiler;
+    private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    public PromotionRuleMetrics(
+            MeterRegistry registry,
+            @Value("${travel.promotion.metrics.enabled:false}") boolean enabled,
+            @Value("${travel.promotion.metrics.sample-rate:100}") int sampleRate
+    ) {
+        this.registry = registry;
+        this.profiler = enabled ? new PromotionRuleProfiler(sampleRate, this) : null;
+    }
+
+    /**
+     * 계측이 켜져 있으면 프로파일러
+     */
+    public Optional<PromotionRuleProfiler> profiler() {
+        return Optional.ofNullable(profiler);
+    }
+
+    // ============================================
+    // [Key Point] 프로파일 ↔ 미터
+    // ============================================
+
+    @Override
+    public void added(String promotionId, PromotionRuleProfile profile) {
+        List<Meter> registered = new ArrayList<>();
+        for (PromotionRuleProfile.Node node : profile.nodes()) {
+            String[] tags = {"promotion", promotionId, "node", node.path(), "rule", node.label()};
+            registered.add(FunctionTimer.builder("promotion.rule.node", node,
+                            n -> n.evaluations().sum(), n -> n.nanos().sum(), TimeUnit.NANOSECONDS)
+                    .description("프로모션 규칙 노드 평가 (샘플)")
+                    .tags(tags)
+                    .register(registry));
+            registered.add(FunctionCounter.builder("promotion.rule.node.passes", node.passes(), LongAdder::sum)
+                    .description("프로모션 규칙 노드 충족 수 (샘플)")
+                    .tags(tags)
+                    .register(registry));
+        }
+        meters.put(promotionId, registered);
+    }
+
+    @Override
+    public void removed(String promotionId, PromotionRuleProfile profile) {
+        List<Meter> registered = meters.remove(promotionId);
+        if (registered != null) {
+            registered.forEach(registry::remove);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.promotion.PromotionRule;
+import com.travel.domain.promotion.PromotionRuleEngine;
+import com.travel.domain.promotion.PromotionRuleParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로모션 규칙 하나의 노드별 계측 - 평가 횟수, 충족 횟수, 소요 시간
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 어떤 leaf가 비싼지, 어떤 프로모션이 한 번도 충족되지 않는지 노드 단위로 보이게 함
+ *
+ * <h2>핵심 개념 (Key Concept): 트리를 전위 순회 배열로 펼침</h2>
+ * <pre>
+ * and(membership(GOLD), or(first_booking, item_count(2)))
+ *
+ *   index  path   rule              right
+ *   0      0      and               2
+ *   1      0.0    membership(GOLD)
+ *   2      0.1    or                4
+ *   3      0.1.0  first_booking
+ *   4      0.1.1  item_count(2)
+ *
+ * 왼쪽 자식 = index + 1, 오른쪽 자식 = right → 평가 중 Map 조회 없이 배열 인덱스로 카운터 접근
+ * leaf 평가는 PromotionRuleEngine.evaluate 그대로 → 계측 결과와 실제 평가가 어긋나지 않음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 단락 평가로 건너뛴 노드는 평가 횟수가 늘지 않음 - "평가 0"과 "충족 0"은 다른 의미</li>
+ *   <li>[Trap] 소요 시간은 자식 포함 - and/or 노드의 시간에서 자식 시간을 빼야 자기 비용</li>
+ *   <li>[Why LongAdder] 결제 스레드 여러 개가 같은 노드 카운터를 올림 - AtomicLong은 한 캐시 라인에서 경합,
+ *       LongAdder는 경합 시 셀을 나눠(striped) 쓰고 읽을 때 합산</li>
+ * </ul>
+ */
+public final class PromotionRuleProfile {
+
+    /**
+     * 펼쳐진 노드 - 카운터는 같은 규칙의 다음 스냅샷으로 이어짐 (rebind)
+     */
+    record Node(
+            PromotionRule rule,
+            String path,
+            String label,
+            int right,
+            LongAdder evaluations,
+            LongAdder passes,
+            LongAdder nanos
+    ) {}
+
+    /**
+     * 노드 통계 (읽는 시점의 합계)
+     *
+     * @param path        루트 0부터의 자식 위치 (0.1.0 = 루트의 오른쪽 자식의 왼쪽 자식)
+     * @param rule        노드 규칙 (PromotionRuleParser 문법, and/or/not은 이름만)
+     * @param evaluations 평가 횟수 (샘플링된 평가만)
+     * @param passes      충족 횟수
+     * @param totalNanos  소요 시간 합계 (자식 포함)
+     * @param meanNanos   평균 소요 시간 (평가가 없으면 0)
+     */
+    public record NodeStats(String path, String rule, long evaluations, long passes, long totalNanos, long meanNanos) {
+
+        static NodeStats of(String path, String rule, long evaluations, long passes, long totalNanos) {
+            return new NodeStats(path, rule, evaluations, passes, totalNanos,
+                    evaluations == 0 ? 0 : totalNanos / evaluations);
+        }
+    }
+
+    private final PromotionRule rule;
+    private final Node[] nodes;
+
+    private PromotionRuleProfile(PromotionRule rule, Node[] nodes) {
+        this.rule = rule;
+        this.nodes = nodes;
+    }
+
+    public static PromotionRuleProfile of(PromotionRule rule) {
+        List<Node> nodes = new ArrayList<>();
+        flatten(rule, "0", nodes);
+        return new PromotionRuleProfile(rule, nodes.toArray(Node[]::new));
+    }
+
+    /**
+     * 같은 규칙(equals)의 새 인스턴스로 교체 - 카운터는 그대로 이어감
+     */
+    PromotionRuleProfile rebind(PromotionRule equalRule) {
+        if (!rule.equals(equalRule)) {
+            throw new IllegalArgumentException("규칙이 다르면 새 프로파일을 만들어야 합니다");
+        }
+        return new PromotionRuleProfile(equalRule, nodes);
+    }
+
+    public PromotionRule rule() {
+        return rule;
+    }
+
+    // ============================================
+    // [Key Point] 계측 평가
+    // ============================================
+
+    /**
+     * PromotionRuleEngine.evaluate와 같은 결과 - 지나간 노드마다 카운터 갱신
+     */
+    public boolean evaluate(PromotionRuleEngine.PromotionContext context) {
+        return evaluate(0, context);
+    }
+
+    private boolean evaluate(int index, PromotionRuleEngine.PromotionContext context) {
+        Node node = nodes[index];
+        long start = System.nanoTime();
+        boolean passed = switch (node.rule()) {
+            case PromotionRule.And ignored -> evaluate(index + 1, context) && evaluate(node.right(), context);
+            case PromotionRule.Or ignored -> evaluate(index + 1, context) || evaluate(node.right(), context);
+            case PromotionRule.Not ignored -> !evaluate(index + 1, context);
+            default -> PromotionRuleEngine.evaluate(node.rule(), context);
+        };
+        node.nanos().add(System.nanoTime() - start);
+        node.evaluations().increment();
+        if (passed) {
+            node.passes().increment();
+        }
+        return passed;
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public List<NodeStats> stats() {
+        List<NodeStats> stats = new ArrayList<>(nodes.length);
+        for (Node node : nodes) {
+            stats.add(NodeStats.of(node.path(), node.label(),
+                    node.evaluations().sum(), node.passes().sum(), node.nanos().sum()));
+        }
+        return stats;
+    }
+
+    List<Node> nodes() {
+        return List.of(nodes);
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private static void flatten(PromotionRule rule, String path, List<Node> nodes) {
+        int index = nodes.size();
+        nodes.add(null);
+        int right = -1;
+        String label = switch (rule) {
+            case PromotionRule.And(var left, var r) -> {
+                flatten(left, path + ".0", nodes);
+                right = nodes.size();
+                flatten(r, path + ".1", nodes);
+                yield "and";
+            }
+            case PromotionRule.Or(var left, var r) -> {
+                flatten(left, path + ".0", nodes);
+                right = nodes.size();
+                flatten(r, path + ".1", nodes);
+                yield "or";
+            }
+            case PromotionRule.Not(var inner) -> {
+                flatten(inner, path + ".0", nodes);
+                yield "not";
+            }
+            default -> PromotionRuleParser.format(rule);
+        };
+        nodes.set(index, new Node(rule, path, label, right, new LongAdder(), new LongAdder(), new LongAdder()));
+    }
+}
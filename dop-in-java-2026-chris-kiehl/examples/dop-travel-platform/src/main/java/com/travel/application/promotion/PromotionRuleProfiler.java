@@ -0,0 +1,151 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.promotion.PromotionRule;
+import com.travel.domain.promotion.PromotionRuleEngine;
+import com.travel.domain.promotion.PromotionRuleSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 프로모션 규칙 프로파일러 - 샘플링한 평가만 노드별로 계측
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 운영 트래픽에서 규칙별 비용/충족률을 모으되, 결제 경로에 얹는 비용은 샘플링 비율로 제한
+ *
+ * <h2>핵심 개념 (Key Concept): 샘플링</h2>
+ * <pre>
+ * 프로모션 하나를 평가할 때마다 1/sampleRate 확률로:
+ *   샘플   → PromotionRuleProfile.evaluate    (노드마다 nanoTime 2회 + LongAdder 갱신)
+ *   그 외  → PromotionRuleEngine.evaluate     (계측 없는 원래 평가)
+ *
+ * [Key Point] 결과는 어느 쪽이든 같음 - 샘플링은 통계에만 영향
+ * [Key Point] 통계의 횟수는 샘플 기준 → 전체 추정치 = 횟수 × sampleRate, 충족률/평균 시간은 그대로 사용
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 스냅샷이 바뀌면 프로파일 동기화</h2>
+ * <pre>
+ * 평가 시 넘어온 PromotionRuleSet이 마지막으로 본 것과 다르면 (참조 비교):
+ *   규칙이 같은 프로모션   → 카운터 유지 (rebind)
+ *   바뀌거나 새 프로모션   → 새 프로파일 (Listener.added)
+ *   사라진 프로모션        → 버림 (Listener.removed) - Micrometer 미터도 함께 제거
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 샘플 판정에 공유 카운터(AtomicLong) 사용 - 계측을 줄이려다 모든 스레드가 한 변수에서 경합.
+ *       ThreadLocalRandom은 스레드별 상태라 경합 없음</li>
+ *   <li>[Trap] 롤백 후 다시 배포하면 바뀐 규칙의 카운터는 0부터 - 규칙이 다르면 다른 통계</li>
+ * </ul>
+ */
+public final class PromotionRuleProfiler {
+
+    /**
+     * 프로파일 생성/제거 통지 (동기화 중 잠금 안에서 호출)
+     */
+    public interface Listener {
+        void added(String promotionId, PromotionRuleProfile profile);
+
+        void removed(String promotionId, PromotionRuleProfile profile);
+
+        Listener NONE = new Listener() {
+            @Override public void added(String promotionId, PromotionRuleProfile profile) {}
+            @Override public void removed(String promotionId, PromotionRuleProfile profile) {}
+        };
+    }
+
+    private record Profiles(PromotionRuleSet set, Map<String, PromotionRuleProfile> byPromotion) {}
+
+    private final int sampleRate;
+    private final Listener listener;
+    private volatile Profiles profiles = new Profiles(null, Map.of());
+
+    public PromotionRuleProfiler(int sampleRate, Listener listener) {
+        if (sampleRate < 1) throw new IllegalArgumentException("샘플링 비율은 1 이상이어야 합니다: " + sampleRate);
+        this.sampleRate = sampleRate;
+        this.listener = listener;
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    // ============================================
+    // [Key Point] 평가
+    // ============================================
+
+    /**
+     * PromotionRuleSet.eligiblePromotions와 같은 결과 - 샘플된 평가만 계측
+     */
+    public List<String> eligiblePromotions(PromotionRuleSet set, PromotionRuleEngine.PromotionContext context) {
+        Map<String, PromotionRuleProfile> byPromotion = profilesFor(set);
+        List<String> eligible = new ArrayList<>();
+        set.rules().forEach((id, rule) -> {
+            boolean passed = sampled()
+                    ? byPromotion.get(id).evaluate(context)
+                    : PromotionRuleEngine.evaluate(rule, context);
+            if (passed) {
+                eligible.add(id);
+            }
+        });
+        return eligible;
+    }
+
+    /**
+     * 프로모션 ID → 노드별 통계 (마지막으로 평가한 스냅샷의 정의 순서)
+     */
+    public Map<String, List<PromotionRuleProfile.NodeStats>> stats() {
+        Map<String, List<PromotionRuleProfile.NodeStats>> stats = new LinkedHashMap<>();
+        profiles.byPromotion().forEach((id, profile) -> stats.put(id, profile.stats()));
+        return stats;
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private boolean sampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private Map<String, PromotionRuleProfile> profilesFor(PromotionRuleSet set) {
+        Profiles current = profiles;
+        if (current.set() == set) {
+            return current.byPromotion();
+        }
+        return sync(set);
+    }
+
+    private synchronized Map<String, PromotionRuleProfile> sync(PromotionRuleSet set) {
+        Profiles previous = profiles;
+        if (previous.set() == set) {
+            return previous.byPromotion();
+        }
+        Map<String, PromotionRuleProfile> next = new LinkedHashMap<>();
+        for (Map.Entry<String, PromotionRule> entry : set.rules().entrySet()) {
+            String id = entry.getKey();
+            PromotionRule rule = entry.getValue();
+            PromotionRuleProfile old = previous.byPromotion().get(id);
+            if (old != null && old.rule().equals(rule)) {
+                next.put(id, old.rebind(rule));
+            } else {
+                if (old != null) {
+                    listener.removed(id, old);
+                }
+                PromotionRuleProfile created = PromotionRuleProfile.of(rule);
+                listener.added(id, created);
+                next.put(id, created);
+            }
+        }
+        previous.byPromotion().forEach((id, old) -> {
+            if (!next.containsKey(id)) {
+                listener.removed(id, old);
+            }
+        });
+        profiles = new Profiles(set, next);
+        return next;
+    }
+}
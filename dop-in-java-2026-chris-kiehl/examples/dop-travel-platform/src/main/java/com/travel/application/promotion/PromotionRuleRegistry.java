@@ -0,0 +1,170 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleSet;
+import com.travel.domain.promotion.PromotionRuleSource;
+import com.travel.shared.Result;
+import com.travel.shared.Validation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 프로모션 규칙 레지스트리 - 버전별 불변 스냅샷을 참조 교체로 배포
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 마케팅이 규칙을 바꿔도 재기동 없이 반영하고, 결제 스레드는 잠금 없이 계속 평가
+ *
+ * <h2>핵심 개념 (Key Concept): 읽기는 잠금 없음, 쓰기만 직렬화</h2>
+ * <pre>
+ * current()           AtomicReference.get - 읽는 쪽은 절대 대기하지 않음
+ * reload()            [IS] source.load → [FC] PromotionRuleSet.compile (검증 + simplify)
+ *                     → 성공하면 set(새 스냅샷), 실패하면 이전 스냅샷 유지 + 오류 목록 반환
+ * rollback()          직전 버전 스냅샷을 다시 set
+ * rollbackTo(version) 보관 중인 특정 버전으로
+ *
+ * [Key Point] 스냅샷은 불변 → 평가 도중 교체되어도 그 요청은 끝까지 같은 규칙으로 평가
+ *   (요청 시작 시 current()를 한 번 읽어 그 스냅샷만 쓸 것)
+ * [Key Point] 쓰기(reload/rollback)는 synchronized - 관리 작업끼리만 직렬화, 읽기와는 무관
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 롤백은 과거 스냅샷을 그대로 다시 배포 - 버전 번호도 과거 번호 (다음 reload는 최대 버전 + 1)</li>
+ *   <li>[Trap] 보관 개수(history-size)를 넘으면 새 배포 때 가장 오래된 버전부터 버림 - 롤백 중인 과거 버전도 대상</li>
+ *   <li>[Trap] 기동 시 첫 로드가 실패하면 기동 실패 - 규칙 없이 결제를 받는 것보다 안전</li>
+ *   <li>[Why 같은 규칙이면 버전 유지] 규칙을 고치지 않고 reload를 다시 호출해도 (POST /api/admin/promotion-rules/reload)
+ *       같은 내용의 버전이 쌓여 롤백 대상(이전 규칙)을 밀어내지 않도록</li>
+ * </ul>
+ */
+@Service
+public class PromotionRuleRegistry {
+
+    private final PromotionRuleSource source;
+    private final int historySize;
+    private final AtomicReference<PromotionRuleSet> current = new AtomicReference<>();
+
+    /**
+     * 보관 중인 스냅샷 (버전 오름차순, 현재 포함) - synchronized 안에서만 접근
+     */
+    private final List<PromotionRuleSet> retained = new ArrayList<>();
+    private long lastVersion;
+
+    public PromotionRuleRegistry(
+            PromotionRuleSource source,
+            @Value("${travel.promotion.history-size:10}") int historySize
+    ) {
+        if (historySize < 2) throw new IllegalArgumentException("보관 개수는 2 이상이어야 합니다: " + historySize);
+        this.source = source;
+        this.historySize = historySize;
+        reload().getOrThrow();
+    }
+
+    // ============================================
+    // [Key Point] 읽기 - 잠금 없음
+    // ============================================
+
+    /**
+     * 현재 배포 중인 스냅샷
+     */
+    public PromotionRuleSet current() {
+        return current.get();
+    }
+
+    // ============================================
+    // 쓰기 - 배포/롤백
+    // ============================================
+
+    /**
+     * 출처를 다시 읽어 새 버전으로 배포
+     *
+     * @return 배포된(또는 규칙이 같아 유지된) 스냅샷, 실패하면 오류 목록 (현재 스냅샷은 그대로)
+     */
+    public synchronized Result<PromotionRuleSet, List<String>> reload() {
+        List<PromotionRuleDefinition> definitions;
+        try {
+            definitions = source.load();
+        } catch (RuntimeException e) {
+            return Result.failure(List.of("규칙 출처를 읽지 못했습니다 (" + source.description() + "): " + e.getMessage()));
+        }
+
+        Validation<PromotionRuleSet, String> compiled =
+                PromotionRuleSet.compile(lastVersion + 1, definitions, source.description(), Instant.now());
+        if (compiled.isInvalid()) {
+            System.out.println("[IS] 프로모션 규칙 배포 거부: " + compiled.errors());
+            return Result.failure(compiled.errors());
+        }
+
+        PromotionRuleSet next = compiled.getOrThrow();
+        PromotionRuleSet previous = current.get();
+        if (next.sameRulesAs(previous)) {
+            return Result.success(previous);
+        }
+        lastVersion = next.version();
+        retained.add(next);
+        publish(next);
+        trim();
+        return Result.success(next);
+    }
+
+    /**
+     * 현재보다 한 단계 이전 버전으로 롤백
+     */
+    public synchronized Result<PromotionRuleSet, List<String>> rollback() {
+        long currentVersion = current.get().version();
+        return retained.stream()
+                .filter(set -> set.version() < currentVersion)
+                .max(Comparator.comparingLong(PromotionRuleSet::version))
+                .map(this::publishRetained)
+                .orElseGet(() -> Result.failure(List.of("v" + currentVersion + " 이전에 보관된 버전이 없습니다")));
+    }
+
+    /**
+     * 보관 중인 특정 버전으로 롤백 (롤백했던 것을 다시 앞 버전으로 되돌릴 때도 사용)
+     */
+    public synchronized Result<PromotionRuleSet, List<String>> rollbackTo(long version) {
+        return find(version)
+                .map(this::publishRetained)
+                .orElseGet(() -> Result.failure(List.of("보관된 버전이 아닙니다: v" + version)));
+    }
+
+    /**
+     * 보관 중인 버전 (오름차순)
+     */
+    public synchronized List<Long> retainedVersions() {
+        return retained.stream().map(PromotionRuleSet::version).toList();
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private Result<PromotionRuleSet, List<String>> publishRetained(PromotionRuleSet set) {
+        publish(set);
+        return Result.success(set);
+    }
+
+    private void publish(PromotionRuleSet set) {
+        current.set(set);
+        System.out.println("[IS] 프로모션 규칙 배포: v" + set.version() + " (" + set.rules().size() + "개, " + set.source() + ")");
+    }
+
+    private Optional<PromotionRuleSet> find(long version) {
+        return retained.stream().filter(set -> set.version() == version).findFirst();
+    }
+
+    /**
+     * reload 직후에만 호출 - 현재 버전은 항상 최대 버전이라 가장 오래된 것부터 버려도 안전
+     */
+    private void trim() {
+        while (retained.size() > historySize) {
+            retained.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.travel.application.settlement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 정산 생성 명령 - 기동 시 1회 실행
+ *
+ * <pre>
+ * 실행:
+ *   --travel.settlement.generate=2026-09   2026년 9월 정산 생성 (중단 후 같은 인자로 재실행)
+ *
+ * [Key Point] 속성이 없으면 Bean 자체가 생성되지 않음 (평소 기동에 영향 없음)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.settlement.generate")
+public class SettlementGenerationCommand implements CommandLineRunner {
+
+    private final SettlementGenerationJob job;
+    private final YearMonth period;
+
+    public SettlementGenerationCommand(
+            SettlementGenerationJob job,
+            @Value("${travel.settlement.generate}") String period
+    ) {
+        this.job = job;
+        this.period = YearMonth.parse(period);
+    }
+
+    @Override
+    public void run(String... args) {
+        var report = job.run(period);
+        report.failures().forEach((partnerId, error) ->
+                System.out.println("[IS] 정산 실패 " + partnerId + ": " + error));
+        System.out.println("[IS] " + period + " 정산: 파트너 " + report.partners()
+                + "곳 (건너뜀 " + report.skipped() + ", 완료 " + report.completed()
+                + ", 실패 " + report.failures().size() + "), 정산 " + report.settlements() + "건");
+    }
+}
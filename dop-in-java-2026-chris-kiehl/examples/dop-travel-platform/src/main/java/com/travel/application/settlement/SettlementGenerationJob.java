@@ -0,0 +1,196 @@
+package com.travel.application.settlement;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.SettlementCalculations;
+import com.travel.domain.settlement.SettlementCheckpointRepository;
+import com.travel.domain.settlement.SettlementRepository;
+import com.travel.domain.settlement.SettlementSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 정산 생성 Job - 기간 내 완료 예약을 파트너별로 정산
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 월말 정산을 파트너 단위로 나눠 병렬 처리하고, 중간에 멈춰도 끝난 파트너는 다시 하지 않도록 함
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell + Ch 7 결합법칙</h2>
+ * <pre>
+ * [IS] 파트너 목록 조회 → 이미 끝난 파트너 제외
+ *   → 파트너마다 (worker pool, 파트너당 트랜잭션 1개):
+ *        [IS] keyset 페이지로 완료 항목 읽기
+ *        [FC] SettlementCalculations.settleByCurrency (통화별 합계 → 수수료 → 실지급액)
+ *        [IS] 정산 saveAll (JDBC 배치) + 진행 기록 → 커밋
+ *
+ * [Key Point] 파트너끼리 공유하는 상태가 없음 → 파트너 단위로 나누면 락/조정 없이 병렬
+ * [Key Point] worker 수 = DB 커넥션 상한 - 각 worker가 트랜잭션 동안 커넥션 1개 점유
+ *   travel.settlement.workers는 커넥션 풀 크기보다 작게 (요청 처리용 커넥션 남기기)
+ * [Key Point] 재시작 - 정산과 진행 기록이 한 트랜잭션 → 실패한 파트너는 아무것도 남지 않음
+ *   같은 기간으로 다시 실행하면 진행 기록이 없는 파트너만 처리
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 한 파트너의 실패가 Job 전체를 멈추지 않음 - 실패 목록을 보고 재실행</li>
+ *   <li>[Trap] 기간 경계는 travel.settlement.zone-id 기준 월초 00:00 - UTC로 자르면 말일 밤 예약이 다음 달로 감</li>
+ *   <li>[Trap] 한 파트너의 항목은 정산 레코드(items)로 모두 메모리에 올라감 - 페이지 크기는 조회 한 번의 상한일 뿐</li>
+ * </ul>
+ */
+@Service
+public class SettlementGenerationJob {
+
+    private final SettlementSource source;
+    private final SettlementRepository settlementRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int pageSize;
+    private final int feeRate;
+    private final ZoneId zoneId;
+
+    public SettlementGenerationJob(
+            SettlementSource source,
+            SettlementRepository settlementRepository,
+            SettlementCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${travel.settlement.workers:4}") int workers,
+            @Value("${travel.settlement.page-size:1000}") int pageSize,
+            @Value("${travel.settlement.fee-rate:10}") int feeRate,
+            @Value("${travel.settlement.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        if (workers < 1) throw new IllegalArgumentException("worker 수는 1 이상이어야 합니다: " + workers);
+        if (pageSize < 1) throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        if (feeRate < 0 || feeRate > 100) {
+            throw new IllegalArgumentException("수수료율은 0-100 사이여야 합니다: " + feeRate);
+        }
+        this.source = source;
+        this.settlementRepository = settlementRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.pageSize = pageSize;
+        this.feeRate = feeRate;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    /**
+     * 실행 결과
+     *
+     * @param period      정산 기간
+     * @param partners    기간 내 완료 항목이 있는 파트너 수
+     * @param skipped     이전 실행에서 이미 끝나 건너뛴 파트너 수
+     * @param completed   이번 실행에서 정산한 파트너 수
+     * @param settlements 이번 실행에서 만든 정산 수 (파트너 × 통화)
+     * @param failures    실패한 파트너 ID → 오류 메시지
+     */
+    public record Report(
+            YearMonth period,
+            int partners,
+            int skipped,
+            int completed,
+            int settlements,
+            Map<String, String> failures
+    ) {
+        public boolean isComplete() {
+            return failures.isEmpty();
+        }
+    }
+
+    // ============================================
+    // 실행
+    // ============================================
+
+    /**
+     * 기간 정산 생성 (재실행 가능)
+     *
+     * <p>모든 worker가 끝날 때까지 대기 - 호출 스레드는 파트너를 처리하지 않음</p>
+     */
+    public Report run(YearMonth period) {
+        Instant from = period.atDay(1).atStartOfDay(zoneId).toInstant();
+        Instant to = period.plusMonths(1).atDay(1).atStartOfDay(zoneId).toInstant();
+
+        List<String> partnerIds = source.findPartnerIds(from, to);
+        Set<String> done = checkpointRepository.findCompletedPartnerIds(period);
+        List<String> pending = partnerIds.stream()
+                .filter(partnerId -> !done.contains(partnerId))
+                .toList();
+
+        Map<String, Future<Integer>> futures = new LinkedHashMap<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(Math.min(workers, Math.max(1, pending.size())))) {
+            for (String partnerId : pending) {
+                futures.put(partnerId, pool.submit(() -> settlePartner(period, partnerId, from, to)));
+            }
+        }
+
+        int completed = 0;
+        int settlements = 0;
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Integer>> entry : futures.entrySet()) {
+            try {
+                settlements += entry.getValue().get();
+                completed++;
+            } catch (ExecutionException e) {
+                failures.put(entry.getKey(), String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(entry.getKey(), "중단됨");
+            }
+        }
+
+        return new Report(period, partnerIds.size(), partnerIds.size() - pending.size(),
+                completed, settlements, Map.copyOf(failures));
+    }
+
+    // ============================================
+    // 파트너 단위 처리 (worker 스레드)
+    // ============================================
+
+    /**
+     * 한 파트너 정산 - 읽기/계산/저장/진행 기록이 한 트랜잭션
+     *
+     * @return 생성한 정산 수
+     */
+    private int settlePartner(YearMonth period, String partnerId, Instant from, Instant to) {
+        return transactionTemplate.execute(status -> {
+            List<Settlement.SettlementItem> items = readAll(partnerId, from, to);
+            List<Settlement> settlements = SettlementCalculations.settleByCurrency(
+                    partnerId, period.atEndOfMonth(), items, feeRate);
+            settlementRepository.saveAll(settlements);
+            checkpointRepository.markCompleted(period, partnerId, settlements.size());
+            return settlements.size();
+        });
+    }
+
+    /**
+     * [Key Point] keyset 페이지 - 마지막 itemId를 다음 조회의 시작점으로
+     */
+    private List<Settlement.SettlementItem> readAll(String partnerId, Instant from, Instant to) {
+        List<Settlement.SettlementItem> items = new ArrayList<>();
+        String after = null;
+        while (true) {
+            List<SettlementSource.Row> page = source.findCompletedItems(partnerId, from, to, after, pageSize);
+            for (SettlementSource.Row row : page) {
+                items.add(row.item());
+            }
+            if (page.size() < pageSize) {
+                return items;
+            }
+            after = page.getLast().itemId();
+        }
+    }
+}
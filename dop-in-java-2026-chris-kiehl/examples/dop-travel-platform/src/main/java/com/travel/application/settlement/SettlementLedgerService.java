@@ -0,0 +1,310 @@
+package com.travel.application.settlement;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.ledger.Ledger;
+import com.travel.domain.settlement.ledger.LedgerAccount;
+import com.travel.domain.settlement.ledger.LedgerBalance;
+import com.travel.domain.settlement.ledger.LedgerEntry;
+import com.travel.domain.settlement.ledger.LedgerRepository;
+import com.travel.domain.settlement.ledger.LedgerTransaction;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 정산 원장 서비스 - 업무 사건을 복식부기 분개로 기록하고 파트너 잔액 조회
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * recordXxx(...)
+ *   [FC] LedgerTransaction.xxx        사건 → 균형 잡힌 분개 (생성 시 차변 = 대변 검증)
+ *   [IS] 같은 거래 ID가 있으면 무시 (멱등)
+ *   [FC] Ledger.journal               일련번호/기록 시각 부여
+ *   [IS] repository.append            저장 (자체 트랜잭션) → 성공한 뒤에만 메모리 누계 반영
+ *   [IS] checkpointInterval개를 넘으면 바뀐 계정 잔액만 체크포인트로 기록
+ *
+ * partnerPayable(p, c)          메모리 누계 - DB 조회 없음
+ * partnerPayableAt(p, c, T)     체크포인트 1건 + 짧은 재생 (Ledger.replay)
+ * verify()                      전체 분개 재생 (Ledger.verify) - 검증 중에는 기록이 대기
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 원장은 첫 호출 때 엶 (마지막 체크포인트 + 이후 분개 재생) - 생성자에서 저장소를 읽지 않음</li>
+ *   <li>[Trap] 예약/정산 저장 트랜잭션 안에서 호출하지 않음 - 커밋 후 호출 (롤백되면 원장만 앞서감)</li>
+ *   <li>[Trap] 같은 사건을 다시 기록하면 거래 ID로 걸러져 빈 목록 - 재시도는 안전</li>
+ *   <li>[Trap] 단일 writer - 메모리 누계는 이 인스턴스가 기록한 분개만 반영 (여러 인스턴스가 기록하면 일련번호 충돌로 append 실패)</li>
+ *   <li>[Trap] 기록 도중의 balance 조회는 거래의 한쪽만 반영된 값을 볼 수 있음 - 계정 하나의 값은 항상 어떤 분개 시점의 값</li>
+ * </ul>
+ */
+@Service
+public class SettlementLedgerService implements AutoCloseable {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    private final LedgerRepository repository;
+    private final int checkpointInterval;
+    private final Clock clock;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<LedgerBalance.Key, LedgerBalance> balances = new ConcurrentHashMap<>();
+    private final Set<LedgerBalance.Key> changedSinceCheckpoint = new HashSet<>();
+
+    private volatile boolean opened;
+    private volatile long lastSequence;
+    private long lastCheckpoint;
+    private Instant lastPostedAt = Instant.EPOCH;
+
+    @Autowired
+    public SettlementLedgerService(
+            LedgerRepository repository,
+            @Value("${travel.settlement.ledger.checkpoint-interval:1000}") int checkpointInterval
+    ) {
+        this(repository, checkpointInterval, Clock.systemUTC());
+    }
+
+    /**
+     * @param checkpointInterval 체크포인트 사이 최대 분개 수 (과거 시점 조회의 재생 범위 상한)
+     */
+    SettlementLedgerService(LedgerRepository repository, int checkpointInterval, Clock clock) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("체크포인트 간격은 1 이상이어야 합니다: " + checkpointInterval);
+        }
+        this.repository = repository;
+        this.checkpointInterval = checkpointInterval;
+        this.clock = clock;
+    }
+
+    // ============================================
+    // 기록
+    // ============================================
+
+    public List<LedgerEntry> recordBookingRevenue(String bookingId, String partnerId, Money amount) {
+        return post(LedgerTransaction.bookingRevenue(bookingId, partnerId, amount));
+    }
+
+    /**
+     * 정산 수수료 - 수수료 0원 정산은 분개 없음
+     */
+    public List<LedgerEntry> recordCommission(Settlement settlement) {
+        if (settlement.fee().isZero()) {
+            return List.of();
+        }
+        return post(LedgerTransaction.commission(settlement));
+    }
+
+    public List<LedgerEntry> recordPayout(Settlement settlement) {
+        if (!settlement.isPaid()) {
+            throw new IllegalStateException("지급 완료된 정산만 기록할 수 있습니다: " + settlement.id());
+        }
+        if (settlement.netAmount().isZero()) {
+            return List.of();
+        }
+        return post(LedgerTransaction.payout(settlement));
+    }
+
+    public List<LedgerEntry> recordRefund(String refundId, String partnerId, Money amount) {
+        return post(LedgerTransaction.refund(refundId, partnerId, amount));
+    }
+
+    /**
+     * 거래 기록
+     *
+     * @return 기록된 분개 (같은 거래 ID가 이미 있으면 빈 목록)
+     */
+    public List<LedgerEntry> post(LedgerTransaction transaction) {
+        writeLock.lock();
+        try {
+            openIfNeeded();
+            if (repository.containsTransaction(transaction.id())) {
+                return List.of();
+            }
+            List<LedgerEntry> entries = Ledger.journal(transaction, lastSequence, lastPostedAt, clock.instant());
+
+            repository.append(entries);
+            entries.forEach(this::apply);
+            if (lastSequence - lastCheckpoint >= checkpointInterval) {
+                checkpointLocked();
+            }
+            return entries;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 바뀐 계정 잔액을 체크포인트로 기록 (바뀐 것이 없으면 아무것도 하지 않음)
+     */
+    public void checkpoint() {
+        writeLock.lock();
+        try {
+            openIfNeeded();
+            checkpointLocked();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void checkpointLocked() {
+        if (lastSequence == lastCheckpoint) {
+            return;
+        }
+        List<LedgerBalance> changed = changedSinceCheckpoint.stream().map(balances::get).toList();
+        repository.saveCheckpoint(lastSequence, changed);
+        lastCheckpoint = lastSequence;
+        changedSinceCheckpoint.clear();
+    }
+
+    private void apply(LedgerEntry entry) {
+        LedgerBalance.Key key = new LedgerBalance.Key(entry.account(), entry.currency());
+        balances.merge(key, LedgerBalance.zero(entry.account(), entry.currency()).post(entry),
+                (current, ignored) -> current.post(entry));
+        changedSinceCheckpoint.add(key);
+        lastSequence = entry.sequence();
+        lastPostedAt = entry.postedAt();
+    }
+
+    // ============================================
+    // [IS] 원장 열기 - 마지막 체크포인트 잔액을 읽고 그 뒤 분개만 재생
+    // ============================================
+
+    private void open() {
+        if (opened) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            openIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void openIfNeeded() {
+        if (opened) {
+            return;
+        }
+        lastCheckpoint = repository.lastCheckpointSequence();
+        Ledger.Checkpoint checkpoint = Ledger.Checkpoint.of(lastCheckpoint,
+                repository.findCheckpointBalances(lastCheckpoint));
+        balances.putAll(checkpoint.balances());
+        lastSequence = lastCheckpoint;
+        int replayed = 0;
+        for (LedgerEntry entry : journalAfter(lastCheckpoint)) {
+            apply(entry);
+            replayed++;
+        }
+        opened = true;
+
+        System.out.println("[IS] 원장 열기: 체크포인트 #" + lastCheckpoint + " + 분개 " + replayed
+                + "건 재생, 잔액 " + balances.size() + "개");
+    }
+
+    /**
+     * afterSequence 이후 분개를 PAGE_SIZE씩 읽는 지연 Iterable - 순회할 때마다 저장소를 다시 읽음
+     */
+    private Iterable<LedgerEntry> journalAfter(long afterSequence) {
+        return () -> Stream.iterate(
+                        repository.findEntries(afterSequence, PAGE_SIZE),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < PAGE_SIZE
+                                ? List.<LedgerEntry>of()
+                                : repository.findEntries(page.getLast().sequence(), PAGE_SIZE))
+                .flatMap(List::stream)
+                .iterator();
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public long lastSequence() {
+        open();
+        return lastSequence;
+    }
+
+    /**
+     * 파트너 미지급 잔액 - 부채 계정이므로 미지급액 = -net()
+     */
+    public LedgerBalance partnerPayable(String partnerId, Currency currency) {
+        return balance(new LedgerAccount.PartnerPayable(partnerId), currency);
+    }
+
+    public LedgerBalance partnerPayableAt(String partnerId, Currency currency, Instant at) {
+        return balanceAt(new LedgerAccount.PartnerPayable(partnerId), currency, at);
+    }
+
+    /**
+     * 현재 잔액 (분개가 없으면 0)
+     */
+    public LedgerBalance balance(LedgerAccount account, Currency currency) {
+        open();
+        LedgerBalance balance = balances.get(new LedgerBalance.Key(account, currency));
+        return balance == null ? LedgerBalance.zero(account, currency) : balance;
+    }
+
+    /**
+     * 일련번호 sequence까지 반영한 잔액 - 체크포인트 행 1건 + 그 뒤 이 계정의 분개
+     */
+    public LedgerBalance balanceAt(LedgerAccount account, Currency currency, long sequence) {
+        if (sequence < 0) throw new IllegalArgumentException("일련번호는 0 이상이어야 합니다: " + sequence);
+        open();
+        if (sequence >= lastSequence) {
+            return balance(account, currency);
+        }
+        var checkpoint = repository.findCheckpointBalance(account, currency, sequence);
+        LedgerBalance balance = checkpoint.map(LedgerRepository.CheckpointBalance::balance)
+                .orElse(LedgerBalance.zero(account, currency));
+        long from = checkpoint.map(LedgerRepository.CheckpointBalance::sequence).orElse(0L);
+        return Ledger.replay(balance, repository.findEntries(account, currency, from, sequence));
+    }
+
+    /**
+     * 시각 at까지 기록된 분개를 반영한 잔액
+     */
+    public LedgerBalance balanceAt(LedgerAccount account, Currency currency, Instant at) {
+        return balanceAt(account, currency, repository.sequenceAt(at));
+    }
+
+    public Ledger.Verification verify() {
+        Ledger.Verification verification;
+        writeLock.lock();
+        try {
+            openIfNeeded();
+            Ledger.Checkpoint stored = Ledger.Checkpoint.of(lastCheckpoint,
+                    repository.findCheckpointBalances(lastCheckpoint));
+            verification = Ledger.verify(journalAfter(0), stored, balances);
+        } finally {
+            writeLock.unlock();
+        }
+        System.out.println("[IS] 원장 검증: 분개 " + verification.entries() + "건, 거래 " + verification.transactions()
+                + "건, " + (verification.isBalanced() ? "차변 = 대변" : "위반 " + verification.violations()));
+        return verification;
+    }
+
+    /**
+     * 종료 시 마지막 체크포인트 이후 분개를 체크포인트로 남김 - 다음 기동 시 재생 범위 단축 (열지 않았으면 할 일 없음)
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (opened) {
+                checkpointLocked();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
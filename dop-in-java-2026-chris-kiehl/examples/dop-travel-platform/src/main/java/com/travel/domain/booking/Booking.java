@@ -1,6 +1,7 @@
 package com.travel.domain.booking;
 
 import com.travel.domain.member.MemberId;
+import com.travel.shared.PersistentList;
 import com.travel.shared.types.Money;
 
 import java.time.Instant;
@@ -96,10 +97,11 @@ public record Booking(
         if (updatedAt == null) throw new IllegalArgumentException("수정 시간은 필수입니다");
 
         // [Ch 2] 불변 리스트로 방어적 복사
+        // [Key Point] 이미 PersistentList면 복사 없이 공유 (wither 체인에서 O(n) 재복사 방지)
         if (items == null || items.isEmpty()) {
             throw new IllegalArgumentException("예약 항목은 최소 1개 이상 필요합니다");
         }
-        items = List.copyOf(items);
+        items = PersistentList.copyOf(items);
 
         // 할인 금액 기본값
         if (discountAmount == null) {
@@ -194,23 +196,62 @@ public record Booking(
     /**
      * 예약 항목 추가 (새 Booking 반환)
      *
+     * <p>[Key Point] 항목 리스트는 구조 공유, 총 금액은 기존 합계 + 새 항목 가격 → O(1).
+     * 항목을 하나씩 붙여 여정을 만들어도 전체 O(n) (전체 재계산이면 O(n²))</p>
+     *
      * @param item 추가할 항목
      */
     public Booking withAddedItem(BookingItem item) {
-        var newItems = new java.util.ArrayList<>(items);
-        newItems.add(item);
+        return withItems(
+                PersistentList.copyOf(items).append(item),
+                totalAmount.add(item.basePrice()));
+    }
 
-        Money newTotalAmount = BookingCalculations.calculateTotalAmount(newItems);
-        Money newFinalAmount = newTotalAmount.subtract(discountAmount);
+    /**
+     * 여러 예약 항목 추가 (새 Booking 반환) - 추가하는 항목 수에만 비례
+     *
+     * @param added 추가할 항목들
+     */
+    public Booking withAddedItems(List<BookingItem> added) {
+        Money newTotalAmount = totalAmount;
+        for (BookingItem item : added) {
+            newTotalAmount = newTotalAmount.add(item.basePrice());
+        }
+        return withItems(PersistentList.copyOf(items).appendAll(added), newTotalAmount);
+    }
+
+    /**
+     * 예약 항목 제거 (새 Booking 반환) - 같은 항목이 여러 개면 마지막 것을 제거
+     *
+     * <p>[Key Point] 총 금액은 기존 합계 - 제거 항목 가격 → O(1).
+     * 마지막 항목 제거(직전 추가 취소)는 리스트 복사도 없음</p>
+     *
+     * <p>[Trap] 남는 항목이 없거나 총 금액이 할인 금액보다 작아지면 IllegalArgumentException</p>
+     *
+     * @param item 제거할 항목
+     */
+    public Booking withRemovedItem(BookingItem item) {
+        int index = items.lastIndexOf(item);
+        if (index < 0) {
+            throw new IllegalArgumentException("예약에 없는 항목입니다: " + item.productId());
+        }
+        return withItems(
+                PersistentList.copyOf(items).removeAt(index),
+                totalAmount.subtract(item.basePrice()));
+    }
 
+    /**
+     * 항목과 총 금액을 교체하고 최종 금액은 기존 할인 기준으로 다시 계산
+     */
+    private Booking withItems(List<BookingItem> newItems, Money newTotalAmount) {
         return new Booking(
                 id,
                 memberId,
-                List.copyOf(newItems),
+                newItems,
                 status,
                 newTotalAmount,
                 discountAmount,
-                newFinalAmount,
+                BookingCalculations.calculateFinalAmount(newTotalAmount, discountAmount),
                 couponId,
                 createdAt,
                 Instant.now()
@@ -0,0 +1,93 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.member.MemberId;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 예약 보관소 - 오래된 최종 상태 예약을 월별 보관 테이블로 옮기고, 옮긴 예약을 조회
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 몇 년 전에 끝난(취소/완료/노쇼) 예약이 bookings/booking_items에 쌓여
+ * 진행 중인 예약을 찾는 모든 인덱스가 커지는 것을 막음
+ *
+ * <h2>핵심 개념 (Key Concept): 생성 월 기준 범위 분할</h2>
+ * <pre>
+ * bookings (활성 + 최근 종료)            ← 요청 경로의 조회/갱신은 여기만
+ *   │ archiveBatch(cutoff, limit)   최종 상태 AND updatedAt &lt; cutoff
+ *   ▼
+ * bookings_archive_202401, _202402 ...  예약 생성 월별 테이블 (예약 1건 = 스냅샷 1행)
+ * booking_archive_index                 booking_id → 월, member_id → 월 (좁은 라우팅 인덱스)
+ *   + booking_archive_product           booking_id → 상품 ID (항목마다)
+ *
+ * [Key Point] 보관된 예약은 더 이상 바뀌지 않음 → 항목까지 한 행의 스냅샷으로 저장 (조인 없음)
+ * [Key Point] 조회는 라우팅 인덱스로 월 테이블을 골라 기본 키로만 읽음 - 모든 월 테이블을 훑지 않음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] cutoff는 마지막으로 정산한 기간보다 앞이어야 함 - 정산은 bookings의 완료 항목만 읽음</li>
+ *   <li>[Trap] 보관된 예약을 save하면 bookings에 다시 생김 - 최종 상태 예약은 저장하지 않는 것이 전제</li>
+ * </ul>
+ */
+public interface BookingArchive {
+
+    // ============================================
+    // 보관
+    // ============================================
+
+    /**
+     * 보관 대상 예약 최대 limit건을 월별 테이블로 이동 - 한 번 호출 = 트랜잭션 하나 (구현이 관리)
+     *
+     * @param cutoff 이 시각 이전에 마지막으로 변경된 최종 상태 예약만
+     * @param limit  배치 크기
+     * @return 옮긴 건수와 닿은 월 (0건이면 더 옮길 예약 없음)
+     */
+    Batch archiveBatch(Instant cutoff, int limit);
+
+    /**
+     * @param archived 이번 배치에서 옮긴 예약 수
+     * @param months   이번 배치가 기록한 월 테이블
+     */
+    record Batch(int archived, Set<YearMonth> months) {
+        public Batch {
+            months = Set.copyOf(months);
+        }
+    }
+
+    /**
+     * [FC] 보관 대상 여부 - 최종 상태이고 cutoff 이전에 마지막으로 변경됨
+     */
+    static boolean isArchivable(Booking booking, Instant cutoff) {
+        return booking.status().isFinal() && booking.updatedAt().isBefore(cutoff);
+    }
+
+    /**
+     * [FC] 보관 월 = 예약 생성 시각의 zone 기준 월
+     */
+    static YearMonth partitionOf(Instant createdAt, ZoneId zoneId) {
+        return YearMonth.from(createdAt.atZone(zoneId));
+    }
+
+    // ============================================
+    // 조회 - BookingRepository 구현이 활성 테이블에서 못 찾으면 이어서 조회
+    // ============================================
+
+    Optional<Booking> findById(BookingId id);
+
+    List<Booking> findByMemberId(MemberId memberId);
+
+    boolean existsById(BookingId id);
+
+    /**
+     * 회원이 이 상품을 예약한 보관 예약이 있음 - 구현은 스냅샷을 읽지 않고 라우팅 인덱스로만 답함
+     */
+    boolean existsByMemberIdAndProductId(MemberId memberId, String productId);
+
+    List<MemberId> findAllMemberIds();
+}
@@ -0,0 +1,63 @@
+package com.travel.domain.booking;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 예약 상태 전이 감사 기록 한 건
+ *
+ * <pre>
+ * [Key Point] id는 기록 시점에 부여 - 같은 기록이 DB와 spill 파일 양쪽에 남아도 id로 중복 제거
+ * actor:
+ *   생성                 MEMBER
+ *   취소                 Cancelled.cancelledBy (USER / SYSTEM / ADMIN)
+ *   확정/완료/노쇼        SYSTEM (발행하는 유스케이스는 아직 없음 - BookingAuditTrail 감사 범위 참고)
+ * </pre>
+ *
+ * @param id         감사 기록 ID
+ * @param bookingId  예약 ID
+ * @param fromStatus 이전 상태 이름 (생성이면 null)
+ * @param toStatus   이후 상태 이름
+ * @param occurredAt 전이 시각 (예약의 updatedAt)
+ * @param actor      전이 주체
+ */
+public record BookingAuditEntry(
+        String id,
+        BookingId bookingId,
+        String fromStatus,
+        String toStatus,
+        Instant occurredAt,
+        String actor
+) {
+
+    public BookingAuditEntry {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("감사 기록 ID는 필수입니다");
+        if (bookingId == null) throw new IllegalArgumentException("예약 ID는 필수입니다");
+        if (toStatus == null || toStatus.isBlank()) throw new IllegalArgumentException("이후 상태는 필수입니다");
+        if (occurredAt == null) throw new IllegalArgumentException("전이 시각은 필수입니다");
+        if (actor == null || actor.isBlank()) throw new IllegalArgumentException("전이 주체는 필수입니다");
+    }
+
+    /**
+     * [FC] 상태 변경 이벤트 → 감사 기록
+     */
+    public static BookingAuditEntry of(BookingStatusChanged event) {
+        BookingStatus to = event.current().status();
+        String actor = switch (to) {
+            case BookingStatus.Cancelled cancelled -> cancelled.cancelledBy().name();
+            case BookingStatus.Pending pending when event.isCreation() -> "MEMBER";
+            default -> "SYSTEM";
+        };
+        return new BookingAuditEntry(
+                UUID.randomUUID().toString(),
+                event.current().id(),
+                event.isCreation() ? null : statusName(event.previous().status()),
+                statusName(to),
+                event.occurredAt(),
+                actor);
+    }
+
+    private static String statusName(BookingStatus status) {
+        return status.getClass().getSimpleName();
+    }
+}
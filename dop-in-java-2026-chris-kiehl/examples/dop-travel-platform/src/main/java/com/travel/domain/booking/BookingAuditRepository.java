@@ -0,0 +1,20 @@
+package com.travel.domain.booking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 감사 기록 Repository 인터페이스 - 추가 전용
+ *
+ * <p>[IS] insertAll 한 번 = 트랜잭션 하나, INSERT는 JDBC 배치로 묶음</p>
+ */
+public interface BookingAuditRepository {
+
+    void insertAll(List<BookingAuditEntry> entries);
+
+    /**
+     * 이미 저장된 ID - spill 파일 재처리 시 중복 제거용
+     */
+    Set<String> findExistingIds(Collection<String> ids);
+}
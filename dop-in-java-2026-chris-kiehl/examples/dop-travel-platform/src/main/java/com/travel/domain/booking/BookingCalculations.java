@@ -3,7 +3,10 @@ package com.travel.domain.booking;
 import com.travel.shared.types.Currency;
 import com.travel.shared.types.Money;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 예약 계산 - 순수 함수 모음 (Functional Core)
@@ -162,6 +165,26 @@ public final class BookingCalculations {
         return paidAmount.multiplyPercent(refundPercent);
     }
 
+    /**
+     * 예약 취소 시 환불 금액 - 여행 시작일까지 남은 일수로 calculateRefundAmount 적용
+     *
+     * <pre>
+     * Confirmed : finalAmount × 환불율(today → 여행 시작일)
+     * 그 외     : empty (결제 전이라 환불할 금액 없음)
+     * </pre>
+     *
+     * @param booking 취소할 예약
+     * @param today   기준일
+     * @return 환불 금액 (Confirmed가 아니면 empty)
+     */
+    public static Optional<Money> calculateCancellationRefund(Booking booking, LocalDate today) {
+        if (!(booking.status() instanceof BookingStatus.Confirmed)) {
+            return Optional.empty();
+        }
+        long daysBeforeUse = ChronoUnit.DAYS.between(today, calculateTripStartDate(booking.items()));
+        return Optional.of(calculateRefundAmount(booking.finalAmount(), daysBeforeUse));
+    }
+
     /**
      * 노쇼 패널티 금액 계산
      *
@@ -180,6 +203,27 @@ public final class BookingCalculations {
         return calculateNoShowPenalty(paidAmount, 30);
     }
 
+    // ============================================
+    // 일정 계산 - 순수 함수
+    // ============================================
+
+    /**
+     * 여행 시작일 - 항목 중 가장 이른 체크인/출발/패키지 시작일
+     *
+     * @param items 예약 항목 목록 (비어 있지 않아야 함)
+     * @return 여행 시작일
+     */
+    public static LocalDate calculateTripStartDate(List<BookingItem> items) {
+        return items.stream()
+                .map(item -> switch (item) {
+                    case BookingItem.Accommodation a -> a.dateRange().startDate();
+                    case BookingItem.Flight f -> f.departureTime().toLocalDate();
+                    case BookingItem.TravelPackage p -> p.dateRange().startDate();
+                })
+                .min(LocalDate::compareTo)
+                .orElseThrow(() -> new IllegalArgumentException("예약 항목이 없습니다"));
+    }
+
     // ============================================
     // [Key Point] 검증 함수 - 순수 함수
     // ============================================
@@ -327,6 +327,19 @@ public sealed interface BookingItem permits
         };
     }
 
+    /**
+     * 정산 대상 파트너 키 - 숙박은 호텔, 항공은 항공사, 패키지는 패키지 상품
+     *
+     * <p>[Trap] 상품 모델에 파트너 ID가 없어 이름 기반 키 - 이름이 바뀌면 다른 파트너로 정산됨</p>
+     */
+    default String partnerId() {
+        return switch (this) {
+            case Accommodation a -> "HOTEL:" + a.hotelName();
+            case Flight f -> "AIRLINE:" + f.airline();
+            case TravelPackage p -> "PACKAGE:" + p.packageName();
+        };
+    }
+
     /**
      * 간략 설명
      */
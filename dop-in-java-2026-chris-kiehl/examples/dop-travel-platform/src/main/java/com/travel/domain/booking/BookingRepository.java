@@ -3,6 +3,7 @@ package com.travel.domain.booking;
 import com.travel.domain.member.MemberId;
 import com.travel.shared.Result;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,6 +85,25 @@ public interface BookingRepository {
      */
     List<Booking> findExpiredPendingBookings();
 
+    /**
+     * 예약이 한 건 이상 있는 모든 회원 ID
+     *
+     * <p>읽기 모델 전체 재구성/일관성 검사용</p>
+     */
+    List<MemberId> findAllMemberIds();
+
+    /**
+     * 특정 상품을 포함한 활성(Pending/Confirmed) 예약 - 예약 ID 순 keyset 페이지
+     *
+     * <p>상품 단위 일괄 취소용 (항공편 결항, 호텔 폐업 등)</p>
+     *
+     * @param productId 상품 ID
+     * @param after     이전 페이지 마지막 예약 ID (첫 페이지는 null)
+     * @param limit     페이지 크기
+     * @return 예약 ID 문자열 순 (limit보다 적으면 마지막 페이지)
+     */
+    List<Booking> findActiveByProductId(String productId, BookingId after, int limit);
+
     // ============================================
     // 저장/수정
     // ============================================
@@ -96,6 +116,47 @@ public interface BookingRepository {
      */
     Booking save(Booking booking);
 
+    /**
+     * 여러 예약 일괄 저장 (생성 또는 수정)
+     *
+     * <p>기본 구현은 save 반복 - 구현체가 배치 I/O로 대체할 수 있음</p>
+     *
+     * @param bookings 저장할 예약들
+     * @return 저장된 예약 (입력 순서 유지)
+     */
+    default List<Booking> saveAll(List<Booking> bookings) {
+        return bookings.stream().map(this::save).toList();
+    }
+
+    /**
+     * 상태 전이 일괄 반영 - 저장된 예약이 변경 전(previous)과 같을 때만 적용
+     *
+     * <pre>
+     * [Key Point] 조건부 갱신 (낙관적 검사)
+     *   저장된 상태/updatedAt이 previous와 다르면(읽은 뒤 다른 요청이 변경) 건너뜀 → 반환 목록에서 빠짐
+     *   → 호출자는 반환된 예약에 대해서만 환불/이벤트 등 후속 처리
+     * </pre>
+     *
+     * <p>기본 구현은 예약마다 조회 후 save - 구현체가 배치 UPDATE로 대체할 수 있음</p>
+     *
+     * @param changes 상태 전이 (previous는 필수)
+     * @return 실제로 반영된 변경 (입력 순서 유지)
+     */
+    default List<BookingStatusChanged> updateStatuses(List<BookingStatusChanged> changes) {
+        List<BookingStatusChanged> applied = new ArrayList<>(changes.size());
+        for (BookingStatusChanged change : changes) {
+            boolean unchanged = findByIdOptional(change.current().id())
+                    .filter(stored -> stored.status().equals(change.previous().status())
+                            && stored.updatedAt().equals(change.previous().updatedAt()))
+                    .isPresent();
+            if (unchanged) {
+                save(change.current());
+                applied.add(change);
+            }
+        }
+        return List.copyOf(applied);
+    }
+
     // ============================================
     // 존재 여부 확인
     // ============================================
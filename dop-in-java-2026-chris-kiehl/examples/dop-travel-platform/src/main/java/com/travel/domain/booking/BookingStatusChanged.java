@@ -0,0 +1,60 @@
+package com.travel.domain.booking;
+
+import java.time.Instant;
+
+/**
+ * 예약 상태 변경 이벤트
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약이 생성되거나 상태가 바뀌어 저장된 사실을 읽기 모델(projection)에 전달
+ *
+ * <h2>핵심 개념 (Key Concept): 이전/이후 값을 함께 전달</h2>
+ * <pre>
+ * [Key Point] 이벤트가 변경 전후 Booking을 모두 담음
+ *   projection = projection - 기여(previous) + 기여(current)
+ *   → 구독자가 DB를 다시 조회하지 않고 증분 갱신 가능
+ *
+ * previous == null : 새로 생성된 예약
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] previous는 저장 직전 DB에서 읽은 값이어야 함 - 다른 시점 값이면 기여 차감이 틀어짐</li>
+ * </ul>
+ *
+ * @param previous   변경 전 예약 (생성이면 null)
+ * @param current    변경 후 (저장된) 예약
+ * @param occurredAt 발생 시각
+ */
+public record BookingStatusChanged(
+        Booking previous,
+        Booking current,
+        Instant occurredAt
+) {
+
+    public BookingStatusChanged {
+        if (current == null) throw new IllegalArgumentException("변경 후 예약은 필수입니다");
+        if (occurredAt == null) throw new IllegalArgumentException("발생 시각은 필수입니다");
+        if (previous != null && !previous.id().equals(current.id())) {
+            throw new IllegalArgumentException("서로 다른 예약입니다: " + previous.id() + " → " + current.id());
+        }
+    }
+
+    /**
+     * 예약 생성 이벤트
+     */
+    public static BookingStatusChanged created(Booking booking) {
+        return new BookingStatusChanged(null, booking, booking.updatedAt());
+    }
+
+    /**
+     * 상태 전이 이벤트
+     */
+    public static BookingStatusChanged transitioned(Booking previous, Booking current) {
+        return new BookingStatusChanged(previous, current, current.updatedAt());
+    }
+
+    public boolean isCreation() {
+        return previous == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.travel.domain.booking;
+
+import java.util.List;
+
+/**
+ * 견적 후보 일정 - 예약 전 상품 조합 (항공 좌석 등급 + 객실 + 패키지 등)
+ *
+ * <p>[Key Point] 같은 상품을 여러 후보가 공유할 때 같은 BookingItem 인스턴스를 넘기면
+ * ItineraryQuoteEngine이 항목 가격을 한 번만 계산</p>
+ *
+ * @param id    호출자가 정한 후보 식별자 (결과와 요청을 연결)
+ * @param items 예약 항목
+ */
+public record Itinerary(String id, List<BookingItem> items) {
+
+    public Itinerary {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("일정 ID는 필수입니다");
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+}
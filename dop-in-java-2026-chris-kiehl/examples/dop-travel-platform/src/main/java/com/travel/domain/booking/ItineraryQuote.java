@@ -0,0 +1,27 @@
+package com.travel.domain.booking;
+
+import com.travel.shared.types.Money;
+
+import java.util.Optional;
+
+/**
+ * 일정 견적 - 예약 생성 시 계산될 금액을 미리 보여주는 읽기 전용 값
+ *
+ * @param itinerary      견적한 일정
+ * @param totalAmount    항목 합계 (Booking.totalAmount와 같은 값)
+ * @param discountAmount 가장 유리한 쿠폰의 할인 금액 (없으면 0)
+ * @param finalAmount    최종 금액
+ * @param couponId       적용할 쿠폰 ID (없으면 null)
+ */
+public record ItineraryQuote(
+        Itinerary itinerary,
+        Money totalAmount,
+        Money discountAmount,
+        Money finalAmount,
+        String couponId
+) {
+
+    public Optional<String> coupon() {
+        return Optional.ofNullable(couponId);
+    }
+}
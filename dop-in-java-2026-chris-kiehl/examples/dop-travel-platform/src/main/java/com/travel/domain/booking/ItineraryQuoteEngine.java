@@ -0,0 +1,305 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponCalculations;
+import com.travel.domain.coupon.CouponStatus;
+import com.travel.domain.coupon.CouponType;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * 일정 일괄 견적 엔진 - 후보 일정 묶음을 최종 금액 순으로 상위 K개만 견적 (Functional Core)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 패키지 검색이 후보 조합마다 Booking.create → calculateTotalAmount → 쿠폰 선택 → 할인 적용을
+ * 따로 돌리던 작업을 후보 사이에서 공유
+ *
+ * <h2>핵심 개념 (Key Concept): 공유 가능한 계산을 한 번만</h2>
+ * <pre>
+ * forMember(memberId, coupons, today)  ← 회원당 1회
+ *   쿠폰 적격성 (Available + 소유자 + today 유효기간) 판정, 통화별 규칙 배열로 변환 (long 최소 단위)
+ *
+ * quote(itineraries, k)                ← 후보 묶음당 1회
+ *   항목 가격: BookingItem 인스턴스당 1회 basePrice() → long 최소 단위 (IdentityHashMap)
+ *   후보마다: long 덧셈 → 할인 상한으로 가지치기 → 쿠폰 규칙 평가 (long) → 상위 K 힙
+ *   Money 생성은 살아남은 K개만
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 상위 K 가지치기</h2>
+ * <pre>
+ * 힙 = 지금까지 최종 금액이 가장 낮은 K개 (루트 = K개 중 가장 비싼 후보)
+ * 힙이 찼을 때: 합계 - 할인 상한 >= 루트 최종 금액 → 쿠폰 평가 없이 건너뜀
+ *   할인 상한 = max(최대 정액, 합계 × 최대 할인율 올림) - 최대 할인 금액/최소 주문 금액 무시 → 항상 실제 할인 이상
+ *
+ * [Key Point] 같은 최종 금액은 입력 순서가 앞선 후보가 우선 → 결과가 입력 순서에 대해 결정적
+ *   뒤에 오는 후보는 동률이면 지므로 가지치기 조건은 >= (등호 포함)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 기존 계산과 같은 값</h2>
+ * <pre>
+ * 합계  = BookingCalculations.calculateTotalAmount(items)
+ * 할인  = Coupon.calculateDiscount(total) 중 최대 (정률: 합계 × 할인율 / 100, HALF_EVEN - Money.multiplyPercent와 같음)
+ *         할인 > 합계인 쿠폰은 제외 (BookingDomainService.applyDiscount가 거부하는 경우)
+ * 최종  = 합계 - 할인
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 후보마다 새 BookingItem을 만들면 가격 공유가 일어나지 않음 (결과는 같고 느릴 뿐)</li>
+ *   <li>[Trap] 빈 일정, 통화가 섞인 일정, 첫 후보와 통화가 다른 일정은 견적하지 않고 Batch.rejected로 집계
+ *       (최소 단위 long끼리 비교하므로 통화가 다르면 순위가 의미 없음)</li>
+ *   <li>[Trap] 쿠폰 적격성은 today 기준 - 견적 후 예약 시점에 만료될 수 있음 (예약 생성이 다시 검증)</li>
+ * </ul>
+ */
+public final class ItineraryQuoteEngine {
+
+    private static final CouponRule[] NO_COUPONS = new CouponRule[0];
+
+    private final Map<Currency, CouponRule[]> couponsByCurrency;
+
+    private ItineraryQuoteEngine(Map<Currency, CouponRule[]> couponsByCurrency) {
+        this.couponsByCurrency = couponsByCurrency;
+    }
+
+    /**
+     * 견적 결과
+     *
+     * @param best     최종 금액 오름차순 상위 K개
+     * @param quoted   합계를 계산한 후보 수
+     * @param pruned   쿠폰 평가 전에 가지치기된 후보 수
+     * @param rejected 빈 일정/통화 혼합/묶음 통화와 다른 통화로 제외된 후보 수
+     */
+    public record Batch(List<ItineraryQuote> best, int quoted, int pruned, int rejected) {}
+
+    // ============================================
+    // 생성 - 쿠폰 적격성 사전 계산
+    // ============================================
+
+    /**
+     * @param memberId 견적 대상 회원
+     * @param coupons  회원 쿠폰 (적격하지 않은 쿠폰은 여기서 걸러짐)
+     * @param today    유효기간 판단 기준일
+     */
+    public static ItineraryQuoteEngine forMember(MemberId memberId, List<Coupon> coupons, LocalDate today) {
+        Objects.requireNonNull(today, "기준일은 필수입니다");
+        List<Coupon> eligible = coupons.stream()
+                .filter(c -> c.status() instanceof CouponStatus.Available)
+                .filter(c -> c.isOwnedBy(memberId))
+                .filter(c -> !today.isBefore(c.validFrom()) && !today.isAfter(c.validUntil()))
+                .toList();
+
+        Map<Currency, CouponRule[]> byCurrency = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            CouponRule[] rules = eligible.stream()
+                    .filter(c -> CouponCalculations.appliesToCurrency(c, currency))
+                    .map(c -> CouponRule.of(c, currency))
+                    .toArray(CouponRule[]::new);
+            byCurrency.put(currency, rules);
+        }
+        return new ItineraryQuoteEngine(byCurrency);
+    }
+
+    // ============================================
+    // [Key Point] 일괄 견적
+    // ============================================
+
+    /**
+     * @param itineraries 후보 일정
+     * @param k           반환할 최대 견적 수
+     */
+    public Batch quote(List<Itinerary> itineraries, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+        }
+        ItemPrices prices = new ItemPrices();
+        PriorityQueue<Candidate> top = new PriorityQueue<>(k + 1, Candidate.WORST_FIRST);
+        int quoted = 0, pruned = 0, rejected = 0;
+        Currency batchCurrency = null;
+
+        for (int index = 0; index < itineraries.size(); index++) {
+            List<BookingItem> items = itineraries.get(index).items();
+            if (items.isEmpty()) {
+                rejected++;
+                continue;
+            }
+
+            // 합계 (long 최소 단위, 통화 혼합 검사)
+            Currency currency = null;
+            long total = 0;
+            boolean mixed = false;
+            for (BookingItem item : items) {
+                int slot = prices.slotOf(item);
+                if (currency == null) {
+                    currency = prices.currency(slot);
+                } else if (currency != prices.currency(slot)) {
+                    mixed = true;
+                    break;
+                }
+                total = Math.addExact(total, prices.price(slot));
+            }
+            if (mixed || (batchCurrency != null && currency != batchCurrency)) {
+                rejected++;
+                continue;
+            }
+            batchCurrency = currency;
+            quoted++;
+
+            // 가지치기: 가장 큰 할인을 받아도 상위 K에 못 들면 쿠폰 평가 생략
+            CouponRule[] rules = couponsByCurrency.getOrDefault(currency, NO_COUPONS);
+            if (top.size() == k && total - discountUpperBound(rules, total) >= top.peek().finalAmount()) {
+                pruned++;
+                continue;
+            }
+
+            // 가장 유리한 쿠폰 (동률이면 먼저 나온 쿠폰)
+            int bestCoupon = -1;
+            long bestDiscount = 0;
+            for (int c = 0; c < rules.length; c++) {
+                long discount = rules[c].discount(total);
+                if (discount > bestDiscount && discount <= total) {
+                    bestDiscount = discount;
+                    bestCoupon = c;
+                }
+            }
+
+            Candidate candidate = new Candidate(index, currency, total, bestDiscount,
+                    bestCoupon < 0 ? null : rules[bestCoupon].couponId());
+            if (top.size() < k) {
+                top.add(candidate);
+            } else if (Candidate.WORST_FIRST.compare(candidate, top.peek()) > 0) {
+                top.poll();
+                top.add(candidate);
+            }
+        }
+
+        Candidate[] best = top.toArray(new Candidate[0]);
+        Arrays.sort(best, Candidate.WORST_FIRST.reversed());
+        List<ItineraryQuote> quotes = new ArrayList<>(best.length);
+        for (Candidate candidate : best) {
+            quotes.add(candidate.toQuote(itineraries.get(candidate.index())));
+        }
+        return new Batch(List.copyOf(quotes), quoted, pruned, rejected);
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * 힙 후보 - 금액은 통화 최소 단위
+     */
+    private record Candidate(int index, Currency currency, long total, long discount, String couponId) {
+
+        /**
+         * 최종 금액이 크거나, 같으면 입력 순서가 늦은 후보가 "나쁨" (힙 루트)
+         */
+        static final Comparator<Candidate> WORST_FIRST = Comparator
+                .comparingLong(Candidate::finalAmount)
+                .thenComparingInt(Candidate::index)
+                .reversed();
+
+        long finalAmount() {
+            return total - discount;
+        }
+
+        ItineraryQuote toQuote(Itinerary itinerary) {
+            return new ItineraryQuote(itinerary,
+                    money(total, currency), money(discount, currency), money(finalAmount(), currency), couponId);
+        }
+    }
+
+    /**
+     * 쿠폰 규칙 - 한 통화에 대해 최소 단위로 변환해 둔 Coupon.calculateDiscount
+     *
+     * @param minOrder 최소 주문 금액 (없으면 0)
+     * @param fixed    정액 할인 (정률이면 0)
+     * @param percent  할인율 (정액이면 0)
+     * @param cap      최대 할인 금액 (없으면 Long.MAX_VALUE)
+     */
+    private record CouponRule(String couponId, long minOrder, long fixed, int percent, long cap) {
+
+        static CouponRule of(Coupon coupon, Currency currency) {
+            long minOrder = coupon.minOrderAmount() == null ? 0 : CouponCalculations.minorUnits(coupon.minOrderAmount(), currency);
+            long cap = coupon.maxDiscountAmount() == null ? Long.MAX_VALUE : CouponCalculations.minorUnits(coupon.maxDiscountAmount(), currency);
+            return coupon.couponType() == CouponType.FIXED_AMOUNT
+                    ? new CouponRule(coupon.id(), minOrder,
+                            coupon.discountAmount() == null ? 0 : CouponCalculations.minorUnits(coupon.discountAmount(), currency), 0, cap)
+                    : new CouponRule(coupon.id(), minOrder, 0, coupon.discountPercent(), cap);
+        }
+
+        long discount(long total) {
+            if (total < minOrder) {
+                return 0;
+            }
+            if (percent == 0) {
+                return fixed;
+            }
+            return Math.min(CouponCalculations.percentOf(total, percent), cap);
+        }
+    }
+
+    /**
+     * BookingItem 인스턴스별 가격 (같은 인스턴스는 basePrice() 1회)
+     */
+    private static final class ItemPrices {
+
+        private final Map<BookingItem, Integer> slots = new IdentityHashMap<>();
+        private long[] prices = new long[64];
+        private Currency[] currencies = new Currency[64];
+
+        int slotOf(BookingItem item) {
+            Integer slot = slots.get(item);
+            if (slot != null) {
+                return slot;
+            }
+            int next = slots.size();
+            if (next == prices.length) {
+                prices = Arrays.copyOf(prices, next * 2);
+                currencies = Arrays.copyOf(currencies, next * 2);
+            }
+            Money price = item.basePrice();
+            prices[next] = price.amount().unscaledValue().longValueExact();
+            currencies[next] = price.currency();
+            slots.put(item, next);
+            return next;
+        }
+
+        long price(int slot) {
+            return prices[slot];
+        }
+
+        Currency currency(int slot) {
+            return currencies[slot];
+        }
+    }
+
+    private static long discountUpperBound(CouponRule[] rules, long total) {
+        long bound = 0;
+        for (CouponRule rule : rules) {
+            long upper = rule.percent() == 0 ? rule.fixed() : ceilPercentOf(total, rule.percent());
+            bound = Math.max(bound, upper);
+        }
+        return bound;
+    }
+
+    private static long ceilPercentOf(long total, int percent) {
+        return Math.ceilDiv(Math.multiplyExact(total, (long) percent), 100);
+    }
+
+    private static Money money(long minorUnits, Currency currency) {
+        return new Money(BigDecimal.valueOf(minorUnits, currency.decimalPlaces()), currency);
+    }
+}
@@ -0,0 +1,222 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회원별 예약 요약 - CQRS 읽기 모델
+ *
+ * <h2>목적 (Purpose)</h2>
+ * "내 여행" 화면과 멤버십 등급 계산이 예약/항목 테이블을 매번 집계하지 않고
+ * 회원당 한 행만 읽도록 미리 계산해 둔 값
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 7 기여(contribution)의 합</h2>
+ * <pre>
+ * 요약 = Σ 기여(booking)   (회원의 모든 예약에 대해)
+ *
+ * 기여(booking):
+ *   상태별 예약 수  : 현재 상태 칸에 +1
+ *   통화별 지출     : Confirmed/Completed면 finalAmount (calculateTotalRevenue와 같은 규칙)
+ *   예정 여행       : Pending/Confirmed면 (예약 ID, 여행 시작일)
+ *
+ * [Key Point] 상태 변경 이벤트 적용 = 요약 - 기여(previous) + 기여(current)
+ *   → 이벤트를 순서대로 접어도, 예약 목록에서 새로 계산해도(of) 같은 값 (결합법칙 + 역원)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 예정 여행은 오늘 날짜에 따라 달라짐 - 저장은 시작일까지만, 거르기는 조회 시점에 (upcomingTrips(today))</li>
+ *   <li>[Trap] 차감 결과가 음수 → 요약이 이미 어긋난 상태 - IllegalStateException으로 알리고 호출자가 재계산</li>
+ * </ul>
+ *
+ * @param memberId      회원 ID
+ * @param counts        상태별 예약 수
+ * @param spend         통화별 지출 (지출 없는 통화는 없음)
+ * @param upcomingTrips Pending/Confirmed 예약의 시작일 (시작일, 예약 ID 순)
+ */
+public record MemberBookingSummary(
+        MemberId memberId,
+        StatusCounts counts,
+        Map<Currency, Money> spend,
+        List<Trip> upcomingTrips
+) {
+
+    private static final Comparator<Trip> TRIP_ORDER = Comparator
+            .comparing(Trip::startDate)
+            .thenComparing(trip -> trip.bookingId().value());
+
+    public MemberBookingSummary {
+        if (memberId == null) throw new IllegalArgumentException("회원 ID는 필수입니다");
+        if (counts == null) throw new IllegalArgumentException("예약 수는 필수입니다");
+        spend = Map.copyOf(spend);
+        upcomingTrips = upcomingTrips.stream().sorted(TRIP_ORDER).toList();
+    }
+
+    /**
+     * 상태별 예약 수
+     */
+    public record StatusCounts(int pending, int confirmed, int completed, int cancelled, int noShow) {
+
+        public static final StatusCounts ZERO = new StatusCounts(0, 0, 0, 0, 0);
+
+        public StatusCounts {
+            if (pending < 0 || confirmed < 0 || completed < 0 || cancelled < 0 || noShow < 0) {
+                throw new IllegalStateException("예약 수가 음수입니다 - 요약이 원본과 어긋남");
+            }
+        }
+
+        public int total() {
+            return pending + confirmed + completed + cancelled + noShow;
+        }
+
+        StatusCounts plus(BookingStatus status, int delta) {
+            return switch (status) {
+                case BookingStatus.Pending p -> new StatusCounts(pending + delta, confirmed, completed, cancelled, noShow);
+                case BookingStatus.Confirmed c -> new StatusCounts(pending, confirmed + delta, completed, cancelled, noShow);
+                case BookingStatus.Completed c -> new StatusCounts(pending, confirmed, completed + delta, cancelled, noShow);
+                case BookingStatus.Cancelled c -> new StatusCounts(pending, confirmed, completed, cancelled + delta, noShow);
+                case BookingStatus.NoShow n -> new StatusCounts(pending, confirmed, completed, cancelled, noShow + delta);
+            };
+        }
+    }
+
+    /**
+     * 예정 여행
+     *
+     * @param bookingId 예약 ID
+     * @param startDate 여행 시작일
+     */
+    public record Trip(BookingId bookingId, LocalDate startDate) {}
+
+    // ============================================
+    // 정적 팩토리 메서드
+    // ============================================
+
+    public static MemberBookingSummary empty(MemberId memberId) {
+        return new MemberBookingSummary(memberId, StatusCounts.ZERO, Map.of(), List.of());
+    }
+
+    /**
+     * [Key Point] 전체 재계산 - 재구성 명령과 일관성 검사의 기준값
+     */
+    public static MemberBookingSummary of(MemberId memberId, List<Booking> bookings) {
+        MemberBookingSummary summary = empty(memberId);
+        for (Booking booking : bookings) {
+            summary = summary.plus(booking);
+        }
+        return summary;
+    }
+
+    // ============================================
+    // [Key Point] 이벤트 적용 (증분 갱신)
+    // ============================================
+
+    /**
+     * 상태 변경 이벤트 적용
+     *
+     * @throws IllegalStateException 요약이 원본과 어긋나 차감할 기여가 없는 경우
+     */
+    public MemberBookingSummary apply(BookingStatusChanged event) {
+        MemberBookingSummary base = event.isCreation() ? this : minus(event.previous());
+        return base.plus(event.current());
+    }
+
+    MemberBookingSummary plus(Booking booking) {
+        requireSameMember(booking);
+        Map<Currency, Money> newSpend = new EnumMap<>(Currency.class);
+        newSpend.putAll(spend);
+        spentAmount(booking).ifPresent(amount -> newSpend.merge(amount.currency(), amount, Money::add));
+
+        List<Trip> newTrips = new ArrayList<>(upcomingTrips);
+        trip(booking).ifPresent(newTrips::add);
+
+        return new MemberBookingSummary(memberId, counts.plus(booking.status(), 1), newSpend, newTrips);
+    }
+
+    MemberBookingSummary minus(Booking booking) {
+        requireSameMember(booking);
+        Map<Currency, Money> newSpend = new EnumMap<>(Currency.class);
+        newSpend.putAll(spend);
+        spentAmount(booking).ifPresent(amount -> {
+            Money current = newSpend.get(amount.currency());
+            if (current == null || amount.isGreaterThan(current)) {
+                throw new IllegalStateException("차감할 지출이 없습니다 - 요약이 원본과 어긋남: " + booking.id());
+            }
+            Money remaining = current.subtract(amount);
+            if (remaining.isZero()) {
+                newSpend.remove(amount.currency());
+            } else {
+                newSpend.put(amount.currency(), remaining);
+            }
+        });
+
+        List<Trip> newTrips = new ArrayList<>(upcomingTrips);
+        trip(booking).ifPresent(trip -> {
+            if (!newTrips.remove(trip)) {
+                throw new IllegalStateException("차감할 예정 여행이 없습니다 - 요약이 원본과 어긋남: " + booking.id());
+            }
+        });
+
+        return new MemberBookingSummary(memberId, counts.plus(booking.status(), -1), newSpend, newTrips);
+    }
+
+    // ============================================
+    // 조회 헬퍼 메서드
+    // ============================================
+
+    /**
+     * 기준일 이후(당일 포함) 시작하는 예정 여행
+     */
+    public List<Trip> upcomingTrips(LocalDate today) {
+        return upcomingTrips.stream()
+                .filter(trip -> !trip.startDate().isBefore(today))
+                .toList();
+    }
+
+    public Money spendIn(Currency currency) {
+        return spend.getOrDefault(currency, Money.zero(currency));
+    }
+
+    // ============================================
+    // 기여 계산
+    // ============================================
+
+    /**
+     * [Why 0원 제외] spend에 0원 항목이 생겼다 사라졌다 하면 재계산 결과와 Map 동등성이 어긋남
+     */
+    private static Optional<Money> spentAmount(Booking booking) {
+        Optional<Money> amount = switch (booking.status()) {
+            case BookingStatus.Confirmed c -> Optional.of(booking.finalAmount());
+            case BookingStatus.Completed c -> Optional.of(booking.finalAmount());
+            default -> Optional.empty();
+        };
+        return amount.filter(money -> !money.isZero());
+    }
+
+    private static Optional<Trip> trip(Booking booking) {
+        return switch (booking.status()) {
+            case BookingStatus.Pending p -> Optional.of(tripOf(booking));
+            case BookingStatus.Confirmed c -> Optional.of(tripOf(booking));
+            default -> Optional.empty();
+        };
+    }
+
+    private static Trip tripOf(Booking booking) {
+        return new Trip(booking.id(), BookingCalculations.calculateTripStartDate(booking.items()));
+    }
+
+    private void requireSameMember(Booking booking) {
+        if (!booking.memberId().equals(memberId)) {
+            throw new IllegalArgumentException("다른 회원의 예약입니다: " + booking.id());
+        }
+    }
+}
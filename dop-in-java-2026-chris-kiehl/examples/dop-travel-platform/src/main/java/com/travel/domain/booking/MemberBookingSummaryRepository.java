@@ -0,0 +1,25 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.member.MemberId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 예약 요약(읽기 모델) Repository 인터페이스
+ *
+ * <p>[IS] 쓰기는 상태 변경 이벤트 구독자와 재구성 명령만 수행</p>
+ */
+public interface MemberBookingSummaryRepository {
+
+    Optional<MemberBookingSummary> findByMemberId(MemberId memberId);
+
+    MemberBookingSummary save(MemberBookingSummary summary);
+
+    /**
+     * 요약이 저장된 모든 회원 ID (일관성 검사에서 "원본에 없는 요약" 확인용)
+     */
+    List<MemberId> findAllMemberIds();
+
+    void deleteAll();
+}
@@ -32,6 +32,8 @@ public final class CouponCalculations {
     /**
      * 가장 유리한 쿠폰 선택
      *
+     * <p>[Trap] 호출마다 전체 쿠폰을 계산 - 같은 회원을 반복 조회하면 MemberCouponIndex 사용</p>
+     *
      * @param coupons     사용 가능한 쿠폰 목록
      * @param orderAmount 주문 금액
      * @return 가장 할인이 큰 쿠폰 (없으면 null)
@@ -119,4 +121,46 @@ public final class CouponCalculations {
                 .filter(coupon -> meetsMinimumOrderAmount(coupon, orderAmount))
                 .toList();
     }
+
+    // ============================================
+    // [Key Point] 최소 단위(long) 계산 - MemberCouponIndex / ItineraryQuoteEngine 공용
+    // ============================================
+
+    /**
+     * 쿠폰 금액 필드(할인액/최소 주문액/최대 할인액)의 통화가 모두 currency이거나 없으면 적용 가능
+     */
+    public static boolean appliesToCurrency(Coupon coupon, Currency currency) {
+        return sameCurrencyOrNull(coupon.discountAmount(), currency)
+                && sameCurrencyOrNull(coupon.minOrderAmount(), currency)
+                && sameCurrencyOrNull(coupon.maxDiscountAmount(), currency);
+    }
+
+    private static boolean sameCurrencyOrNull(Money money, Currency currency) {
+        return money == null || money.currency() == currency;
+    }
+
+    /**
+     * amount × percent / 100, HALF_EVEN (Money.multiplyPercent와 같은 반올림)
+     *
+     * @param amount  최소 단위 금액
+     * @param percent 할인율 (%)
+     */
+    public static long percentOf(long amount, int percent) {
+        long scaled = Math.multiplyExact(amount, (long) percent);
+        long quotient = scaled / 100;
+        long remainder = scaled % 100;
+        if (remainder > 50 || (remainder == 50 && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    /**
+     * Money → 통화 최소 단위 정수 (KRW 1원, USD 1센트)
+     *
+     * <p>[Trap] 통화의 소수 자릿수보다 정밀한 금액이면 ArithmeticException</p>
+     */
+    public static long minorUnits(Money money, Currency currency) {
+        return money.amount().setScale(currency.decimalPlaces()).unscaledValue().longValueExact();
+    }
 }
@@ -0,0 +1,25 @@
+package com.travel.domain.coupon;
+
+import com.travel.domain.member.MemberId;
+
+/**
+ * 쿠폰 변경 이벤트 - 발급/사용/취소/만료 처리로 회원의 쿠폰 목록이 바뀜
+ *
+ * <p>[Key Point] 구독자(BestCouponService)는 회원의 MemberCouponIndex를 버리고 다음 조회 때 다시 빌드</p>
+ * <p>[Trap] 쿠폰을 저장하는 경로가 이 이벤트를 발행하지 않으면 인덱스에 이전 쿠폰이 남음
+ *   (유효기간 도래/만료는 인덱스가 날짜로 스스로 판단)</p>
+ *
+ * @param ownerId  쿠폰 소유 회원
+ * @param couponId 바뀐 쿠폰 ID
+ */
+public record CouponChanged(MemberId ownerId, String couponId) {
+
+    public CouponChanged {
+        if (ownerId == null) throw new IllegalArgumentException("소유 회원 ID는 필수입니다");
+        if (couponId == null || couponId.isBlank()) throw new IllegalArgumentException("쿠폰 ID는 필수입니다");
+    }
+
+    public static CouponChanged of(Coupon coupon) {
+        return new CouponChanged(coupon.ownerId(), coupon.id());
+    }
+}
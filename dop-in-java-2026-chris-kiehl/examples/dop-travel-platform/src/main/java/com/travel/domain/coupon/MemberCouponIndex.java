@@ -0,0 +1,289 @@
+package com.travel.domain.coupon;
+
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 회원 쿠폰 인덱스 - 주문 금액에 가장 유리한 쿠폰을 전체 순회 없이 찾음 (Functional Core)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * CouponCalculations.selectBestCoupon은 호출마다 보유 쿠폰 전부를 isUsable + calculateDiscount
+ * → 캠페인으로 쿠폰 수백 장을 가진 회원은 결제마다 수백 번 계산
+ *
+ * <h2>핵심 개념 (Key Concept): 최소 주문 금액 정렬 + 지배 쿠폰 제거</h2>
+ * <pre>
+ * build (회원당 1회, asOf 기준):
+ *   사용 가능(Available + 유효기간 + 소유자) 쿠폰만, 통화별로 나눔
+ *   정액: 최소 주문 금액 오름차순, 앞의 쿠폰보다 (할인 큼 / 같으면 먼저 발급) 나은 것만 남김
+ *         → 남은 배열은 뒤로 갈수록 나음
+ *   정률: 최소 주문 금액 오름차순, 앞의 쿠폰이 (할인율 ≥, 최대 할인 ≥, 먼저 발급)이면 제거
+ *         → 같은 캠페인 쿠폰 수백 장은 한 장만 남음
+ *
+ * best(orderAmount):
+ *   이분 탐색으로 "최소 주문 금액 ≤ 주문 금액" 구간 끝 찾기
+ *   정액: 구간의 마지막 쿠폰 (O(log n))
+ *   정률: 구간 안 남은 쿠폰만 할인 계산 (남은 쿠폰 수 = 서로 다른 조건 수로 제한)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): selectBestCoupon과 같은 선택</h2>
+ * <pre>
+ * 할인이 가장 큰 쿠폰, 같으면 목록에서 먼저 나온 쿠폰 (Stream.max와 같음)
+ * 정률 할인 = 주문 금액 × 할인율 / 100 (HALF_EVEN, Money.multiplyPercent와 같음), 최대 할인 금액으로 제한
+ *
+ * [Key Point] 지배 관계는 모든 주문 금액에서 성립해야 제거 - 반올림으로 할인이 같아지는 소액 주문에서도
+ *   먼저 나온 쿠폰이 이기도록 정률은 "먼저 발급"을 조건에 포함
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 할인이 0인 경우 empty - selectBestCoupon은 이때도 아무 쿠폰이나 돌려줌</li>
+ *   <li>[Trap] 주문 통화와 다른 통화의 금액 필드를 가진 쿠폰은 후보가 아님 (금액만 비교하면 KRW 1,000 = USD 1,000)</li>
+ *   <li>[Trap] 인덱스는 asOf 날짜의 스냅샷 - isValidOn이 false면 (쿠폰 만료/사용 시작일 도래) 다시 빌드할 것,
+ *       발급/사용은 날짜로 알 수 없으므로 호출자가 버려야 함 (CouponChanged)</li>
+ * </ul>
+ */
+public final class MemberCouponIndex {
+
+    private final MemberId memberId;
+    private final LocalDate asOf;
+    private final LocalDate validThrough;
+    private final Map<Currency, Shelf> shelves;
+
+    private MemberCouponIndex(MemberId memberId, LocalDate asOf, LocalDate validThrough, Map<Currency, Shelf> shelves) {
+        this.memberId = memberId;
+        this.asOf = asOf;
+        this.validThrough = validThrough;
+        this.shelves = shelves;
+    }
+
+    // ============================================
+    // 생성
+    // ============================================
+
+    /**
+     * @param memberId 회원 (다른 회원 소유 쿠폰은 제외)
+     * @param coupons  회원 쿠폰 - 목록 순서가 동률일 때의 우선순위
+     * @param asOf     유효기간 판단 기준일
+     */
+    public static MemberCouponIndex build(MemberId memberId, List<Coupon> coupons, LocalDate asOf) {
+        Objects.requireNonNull(memberId, "회원 ID는 필수입니다");
+        Objects.requireNonNull(asOf, "기준일은 필수입니다");
+
+        LocalDate validThrough = LocalDate.MAX;
+        Map<Currency, List<Ranked>> byCurrency = new EnumMap<>(Currency.class);
+        for (int order = 0; order < coupons.size(); order++) {
+            Coupon coupon = coupons.get(order);
+            if (!(coupon.status() instanceof CouponStatus.Available) || !coupon.isOwnedBy(memberId)) {
+                continue;
+            }
+            if (asOf.isBefore(coupon.validFrom())) {
+                // 아직 시작 전 - 시작일 전날까지만 인덱스 유효
+                validThrough = min(validThrough, coupon.validFrom().minusDays(1));
+                continue;
+            }
+            if (asOf.isAfter(coupon.validUntil())) {
+                continue;
+            }
+            validThrough = min(validThrough, coupon.validUntil());
+            for (Currency currency : Currency.values()) {
+                if (CouponCalculations.appliesToCurrency(coupon, currency)) {
+                    byCurrency.computeIfAbsent(currency, c -> new ArrayList<>()).add(Ranked.of(coupon, order, currency));
+                }
+            }
+        }
+
+        Map<Currency, Shelf> shelves = new EnumMap<>(Currency.class);
+        byCurrency.forEach((currency, ranked) -> shelves.put(currency, Shelf.of(ranked)));
+        return new MemberCouponIndex(memberId, asOf, validThrough, shelves);
+    }
+
+    // ============================================
+    // [Key Point] 조회
+    // ============================================
+
+    /**
+     * 주문 금액에 가장 유리한 쿠폰
+     *
+     * @return 할인이 가장 큰 쿠폰, 할인을 주는 쿠폰이 없으면 empty
+     */
+    public Optional<Coupon> best(Money orderAmount) {
+        Shelf shelf = shelves.get(orderAmount.currency());
+        if (shelf == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(shelf.best(CouponCalculations.minorUnits(orderAmount, orderAmount.currency())));
+    }
+
+    /**
+     * date에도 이 인덱스를 쓸 수 있는지 (asOf 이후이고 포함된 쿠폰의 만료/시작 전 쿠폰의 시작 전)
+     */
+    public boolean isValidOn(LocalDate date) {
+        return !date.isBefore(asOf) && !date.isAfter(validThrough);
+    }
+
+    public MemberId memberId() {
+        return memberId;
+    }
+
+    /**
+     * 지배 쿠폰 제거 후 남은 후보 수 (모든 통화 합)
+     */
+    public int candidateCount() {
+        return shelves.values().stream().mapToInt(Shelf::size).sum();
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * 통화 하나의 쿠폰 - 금액은 최소 단위
+     *
+     * @param order 원래 목록 위치 (작을수록 동률에서 우선)
+     * @param cap   최대 할인 (없으면 Long.MAX_VALUE)
+     */
+    private record Ranked(Coupon coupon, int order, long minOrder, long fixed, int percent, long cap) {
+
+        static Ranked of(Coupon coupon, int order, Currency currency) {
+            long minOrder = coupon.minOrderAmount() == null ? 0 : CouponCalculations.minorUnits(coupon.minOrderAmount(), currency);
+            if (coupon.couponType() == CouponType.FIXED_AMOUNT) {
+                long fixed = coupon.discountAmount() == null ? 0 : CouponCalculations.minorUnits(coupon.discountAmount(), currency);
+                return new Ranked(coupon, order, minOrder, fixed, 0, 0);
+            }
+            long cap = coupon.maxDiscountAmount() == null ? Long.MAX_VALUE : CouponCalculations.minorUnits(coupon.maxDiscountAmount(), currency);
+            return new Ranked(coupon, order, minOrder, 0, coupon.discountPercent(), cap);
+        }
+
+        boolean isFixed() {
+            return coupon.couponType() == CouponType.FIXED_AMOUNT;
+        }
+
+        long discount(long amount) {
+            return isFixed() ? fixed : Math.min(CouponCalculations.percentOf(amount, percent), cap);
+        }
+
+        /**
+         * 모든 주문 금액에서 other 이상의 할인이고 동률이면 이기는지 (정률끼리)
+         */
+        boolean dominates(Ranked other) {
+            return minOrder <= other.minOrder && order < other.order
+                    && percent >= other.percent && cap >= other.cap;
+        }
+    }
+
+    /**
+     * 통화별 정렬 배열
+     */
+    private static final class Shelf {
+
+        /** 정액 - 최소 주문 금액 오름차순, 뒤로 갈수록 나음 */
+        private final long[] fixedMinOrder;
+        private final Ranked[] fixed;
+        /** 정률 - 최소 주문 금액 오름차순, 서로 지배하지 않음 */
+        private final long[] percentMinOrder;
+        private final Ranked[] percent;
+
+        private Shelf(Ranked[] fixed, Ranked[] percent) {
+            this.fixed = fixed;
+            this.percent = percent;
+            this.fixedMinOrder = minOrders(fixed);
+            this.percentMinOrder = minOrders(percent);
+        }
+
+        static Shelf of(List<Ranked> coupons) {
+            // 정액: 최소 주문 금액 오름차순, 같으면 나은 것 먼저 → 앞의 최선보다 나을 때만 남김
+            List<Ranked> fixed = coupons.stream()
+                    .filter(Ranked::isFixed)
+                    .sorted(Comparator.comparingLong(Ranked::minOrder)
+                            .thenComparing(Comparator.comparingLong(Ranked::fixed).reversed())
+                            .thenComparingInt(Ranked::order))
+                    .toList();
+            List<Ranked> fixedFrontier = new ArrayList<>();
+            for (Ranked coupon : fixed) {
+                if (fixedFrontier.isEmpty() || beats(coupon, coupon.fixed(), fixedFrontier.getLast(), fixedFrontier.getLast().fixed())) {
+                    fixedFrontier.add(coupon);
+                }
+            }
+
+            // 정률: 최소 주문 금액 오름차순, 같으면 목록 순서 → 앞에 남은 쿠폰이 지배하면 제거
+            List<Ranked> percent = coupons.stream()
+                    .filter(c -> !c.isFixed())
+                    .sorted(Comparator.comparingLong(Ranked::minOrder).thenComparingInt(Ranked::order))
+                    .toList();
+            List<Ranked> percentFrontier = new ArrayList<>();
+            for (Ranked coupon : percent) {
+                if (percentFrontier.stream().noneMatch(kept -> kept.dominates(coupon))) {
+                    percentFrontier.add(coupon);
+                }
+            }
+            return new Shelf(fixedFrontier.toArray(Ranked[]::new), percentFrontier.toArray(Ranked[]::new));
+        }
+
+        Coupon best(long amount) {
+            Ranked best = null;
+            long bestDiscount = 0;
+
+            int fixedEnd = upperBound(fixedMinOrder, amount);
+            if (fixedEnd > 0) {
+                best = fixed[fixedEnd - 1];
+                bestDiscount = best.fixed();
+            }
+
+            int percentEnd = upperBound(percentMinOrder, amount);
+            for (int i = 0; i < percentEnd; i++) {
+                long discount = percent[i].discount(amount);
+                if (best == null || beats(percent[i], discount, best, bestDiscount)) {
+                    best = percent[i];
+                    bestDiscount = discount;
+                }
+            }
+            return bestDiscount > 0 ? best.coupon() : null;
+        }
+
+        int size() {
+            return fixed.length + percent.length;
+        }
+
+        private static boolean beats(Ranked a, long discountA, Ranked b, long discountB) {
+            return discountA > discountB || (discountA == discountB && a.order() < b.order());
+        }
+
+        private static long[] minOrders(Ranked[] coupons) {
+            long[] minOrders = new long[coupons.length];
+            for (int i = 0; i < coupons.length; i++) {
+                minOrders[i] = coupons[i].minOrder();
+            }
+            return minOrders;
+        }
+
+        /**
+         * sorted에서 값이 key 이하인 원소 수
+         */
+        private static int upperBound(long[] sorted, long key) {
+            int low = 0, high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
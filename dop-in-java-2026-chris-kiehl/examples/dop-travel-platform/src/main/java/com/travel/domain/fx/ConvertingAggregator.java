@@ -0,0 +1,197 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.Result;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * 환산 합산기 - 여러 통화의 Money를 한 번의 순회로 대상 통화 합계로 집계
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Money.add는 통화가 다르면 예외 → 통화별로 따로 집계하던 보고서를 대상 통화 하나로 합산
+ *
+ * <h2>핵심 개념 (Key Concept): 통화별 누적 → 배치당 환율 1회 조회</h2>
+ * <pre>
+ * add(money[, date]):  (통화, 기준일) 버킷의 원본 통화 합에 더하기만 함 - 환율 조회 없음
+ * total():            버킷마다 환율 1회 조회 → 정확한 곱 → 모두 더한 뒤 대상 통화로 1회 반올림
+ *
+ * 100만 건 (KRW/USD/JPY 섞임, 대상 USD, 기준일 1개) → 환율 조회 2회 (KRW→USD, JPY→USD)
+ *
+ * [Key Point] Σ(amount × rate) = (Σ amount) × rate - 곱셈의 분배법칙 (반올림 전이므로 정확히 성립)
+ *   → 건별 환산과 같은 값을 조회 1회, 반올림 1회로 얻음 (FxCalculations 반올림 규칙)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 7 결합법칙 - 병렬 집계</h2>
+ * <pre>
+ * 버킷별 합은 결합법칙을 만족 → 스레드별 합산기를 combine으로 합쳐도 결과 동일
+ * collector()는 이 성질로 parallelStream에서도 안전
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 스레드 안전하지 않음 - 스레드마다 인스턴스를 만들고 combine</li>
+ *   <li>[Trap] 기준일을 건별로 다르게 주면 버킷이 (통화 × 날짜)만큼 늘어남 - 조회도 날짜 수만큼</li>
+ *   <li>[Why 원본 통화 합] 환산값을 바로 더하면 건마다 곱셈 + 결과 자릿수가 계속 커짐</li>
+ * </ul>
+ */
+public final class ConvertingAggregator {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final Currency target;
+    private final LocalDate date;
+    private final ExchangeRates rates;
+
+    /**
+     * 기본 기준일 버킷 (통화 ordinal 인덱스) - 가장 흔한 경로라 Map 조회 없이 배열로
+     */
+    private final BigDecimal[] sums = zeros();
+
+    /**
+     * 기본 기준일이 아닌 버킷
+     */
+    private final Map<LocalDate, BigDecimal[]> datedSums = new HashMap<>();
+
+    private long count;
+
+    /**
+     * @param target 합계 통화
+     * @param date   add(Money)에 적용할 환산 기준일
+     * @param rates  환율 조회 (배치당 버킷마다 1회 호출)
+     */
+    public ConvertingAggregator(Currency target, LocalDate date, ExchangeRates rates) {
+        this.target = Objects.requireNonNull(target, "대상 통화는 필수입니다");
+        this.date = Objects.requireNonNull(date, "기준일은 필수입니다");
+        this.rates = Objects.requireNonNull(rates, "환율 조회는 필수입니다");
+    }
+
+    /**
+     * Stream 집계용 Collector (병렬 가능)
+     */
+    public static Collector<Money, ConvertingAggregator, Result<Money, FxError>> collector(
+            Currency target, LocalDate date, ExchangeRates rates) {
+        return Collector.of(
+                () -> new ConvertingAggregator(target, date, rates),
+                ConvertingAggregator::add,
+                ConvertingAggregator::combine,
+                ConvertingAggregator::total);
+    }
+
+    // ============================================
+    // 누적 - 환율 조회 없음
+    // ============================================
+
+    public ConvertingAggregator add(Money money) {
+        accumulate(sums, money);
+        return this;
+    }
+
+    /**
+     * 건별 기준일 (예: 결제일 환율) 로 누적
+     */
+    public ConvertingAggregator add(Money money, LocalDate rateDate) {
+        if (rateDate.equals(date)) {
+            return add(money);
+        }
+        accumulate(datedSums.computeIfAbsent(rateDate, d -> zeros()), money);
+        return this;
+    }
+
+    public ConvertingAggregator addAll(Iterable<Money> monies) {
+        for (Money money : monies) {
+            add(money);
+        }
+        return this;
+    }
+
+    /**
+     * 다른 합산기의 누적값을 합침 (other는 이후 사용하지 않음)
+     */
+    public ConvertingAggregator combine(ConvertingAggregator other) {
+        if (other.target != target || !other.date.equals(date)) {
+            throw new IllegalArgumentException(
+                    "대상 통화와 기준일이 같은 합산기만 합칠 수 있습니다: " + target + "/" + date
+                            + " vs " + other.target + "/" + other.date);
+        }
+        merge(sums, other.sums);
+        other.datedSums.forEach((d, s) -> merge(datedSums.computeIfAbsent(d, k -> zeros()), s));
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * 누적 건수
+     */
+    public long count() {
+        return count;
+    }
+
+    // ============================================
+    // [Key Point] 합계 - 버킷마다 환율 1회, 반올림 1회
+    // ============================================
+
+    /**
+     * 대상 통화 합계
+     *
+     * @return 합계, 환율이 없는 버킷이 하나라도 있으면 첫 번째 FxError
+     */
+    public Result<Money, FxError> total() {
+        Result<BigDecimal, FxError> exact = convertBucket(date, sums);
+        for (Map.Entry<LocalDate, BigDecimal[]> entry : datedSums.entrySet()) {
+            exact = exact.flatMap(acc -> convertBucket(entry.getKey(), entry.getValue()).map(acc::add));
+        }
+        return exact.map(sum -> new Money(FxCalculations.round(sum, target), target));
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private void accumulate(BigDecimal[] bucket, Money money) {
+        int i = money.currency().ordinal();
+        bucket[i] = bucket[i].add(money.amount());
+        count++;
+    }
+
+    private static void merge(BigDecimal[] into, BigDecimal[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] = into[i].add(from[i]);
+        }
+    }
+
+    private Result<BigDecimal, FxError> convertBucket(LocalDate rateDate, BigDecimal[] bucket) {
+        BigDecimal exact = BigDecimal.ZERO;
+        for (Currency from : CURRENCIES) {
+            BigDecimal sum = bucket[from.ordinal()];
+            if (sum.signum() == 0) {
+                continue;
+            }
+            if (from == target) {
+                exact = exact.add(sum);
+                continue;
+            }
+            switch (rates.rate(from, target, rateDate)) {
+                case Result.Success<BigDecimal, FxError> rate ->
+                        exact = exact.add(FxCalculations.convertExact(sum, rate.value()));
+                case Result.Failure<BigDecimal, FxError> failure -> {
+                    return failure;
+                }
+            }
+        }
+        return Result.success(exact);
+    }
+
+    private static BigDecimal[] zeros() {
+        BigDecimal[] bucket = new BigDecimal[CURRENCIES.length];
+        Arrays.fill(bucket, BigDecimal.ZERO);
+        return bucket;
+    }
+}
@@ -0,0 +1,112 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.types.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 하루치 환율표 - 고시 목록에서 모든 통화 쌍의 환율을 도출하는 불변 값
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 출처가 일부 방향만 고시해도 (예: USD→KRW, JPY→KRW) 모든 쌍을 환산할 수 있게 함
+ *
+ * <h2>핵심 개념 (Key Concept): 환율 도출 우선순위</h2>
+ * <pre>
+ * rate(from, to):
+ *   1. 직접 고시 from→to
+ *   2. 역 고시 to→from 의 역수
+ *   3. 교차: 다른 통화 via를 거쳐 (1 또는 2로 구한) from→via × via→to
+ *      - via는 Currency 선언 순서로 시도 (KRW 우선) → 결과가 항상 같음
+ *
+ * [Key Point] 같은 날 같은 쌍이 여러 번 고시되면 고시일이 늦은 것 (출처가 직전 영업일 값을 섞어 줄 수 있음)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 직접 고시와 역 고시가 모두 있으면 직접 고시 우선 - 둘이 서로의 정확한 역수라는 보장은 없음</li>
+ * </ul>
+ */
+public final class DailyRates {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final LocalDate date;
+    private final ExchangeRate[][] quotes = new ExchangeRate[CURRENCIES.length][CURRENCIES.length];
+
+    private DailyRates(LocalDate date, List<ExchangeRate> rates) {
+        this.date = Objects.requireNonNull(date, "기준일은 필수입니다");
+        for (ExchangeRate rate : rates) {
+            ExchangeRate current = quotes[rate.from().ordinal()][rate.to().ordinal()];
+            if (current == null || rate.date().isAfter(current.date())) {
+                quotes[rate.from().ordinal()][rate.to().ordinal()] = rate;
+            }
+        }
+    }
+
+    /**
+     * @param date  환산 기준일
+     * @param rates 기준일에 적용할 고시 (ExchangeRateSource.ratesOn 결과)
+     */
+    public static DailyRates of(LocalDate date, List<ExchangeRate> rates) {
+        return new DailyRates(date, rates);
+    }
+
+    public LocalDate date() {
+        return date;
+    }
+
+    /**
+     * 통화 쌍 환율 (직접 → 역 → 교차 순)
+     *
+     * @return 1 from 당 to 금액, 어느 경로로도 구할 수 없으면 empty
+     */
+    public Optional<BigDecimal> rate(Currency from, Currency to) {
+        if (from == to) {
+            return Optional.of(BigDecimal.ONE);
+        }
+        BigDecimal quoted = quotedOrInverse(from, to);
+        if (quoted != null) {
+            return Optional.of(quoted);
+        }
+        for (Currency via : CURRENCIES) {
+            if (via == from || via == to) {
+                continue;
+            }
+            BigDecimal first = quotedOrInverse(from, via);
+            BigDecimal second = quotedOrInverse(via, to);
+            if (first != null && second != null) {
+                return Optional.of(FxCalculations.cross(first, second));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 도출 가능한 모든 쌍 (from != to) - 환율 테이블 적재용
+     */
+    public List<ExchangeRate> resolveAll() {
+        List<ExchangeRate> resolved = new ArrayList<>();
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                if (from != to) {
+                    rate(from, to).ifPresent(r -> resolved.add(new ExchangeRate(from, to, date, r)));
+                }
+            }
+        }
+        return List.copyOf(resolved);
+    }
+
+    private BigDecimal quotedOrInverse(Currency from, Currency to) {
+        ExchangeRate direct = quotes[from.ordinal()][to.ordinal()];
+        if (direct != null) {
+            return direct.rate();
+        }
+        ExchangeRate reverse = quotes[to.ordinal()][from.ordinal()];
+        return reverse == null ? null : FxCalculations.invert(reverse.rate());
+    }
+}
@@ -0,0 +1,44 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.types.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 환율 고시 - 불변 Value Object
+ *
+ * <h2>목적 (Purpose)</h2>
+ * "date 기준 1 from = rate to" 한 건을 표현
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] rate를 double로 받으면 고시값(1385.20)이 이미 오차를 가짐 - 문자열/BigDecimal로만 생성</li>
+ *   <li>[Trap] 방향 혼동 - USD→KRW 1385.20을 KRW→USD로 쓰면 금액이 1385² 배 틀어짐</li>
+ * </ul>
+ *
+ * @param from 기준 통화
+ * @param to   표시 통화
+ * @param date 고시일
+ * @param rate 1 from 당 to 금액 (0 초과)
+ */
+public record ExchangeRate(
+        Currency from,
+        Currency to,
+        LocalDate date,
+        BigDecimal rate
+) {
+    public ExchangeRate {
+        Objects.requireNonNull(from, "기준 통화는 필수입니다");
+        Objects.requireNonNull(to, "표시 통화는 필수입니다");
+        Objects.requireNonNull(date, "고시일은 필수입니다");
+        Objects.requireNonNull(rate, "환율은 필수입니다");
+        if (from == to) {
+            throw new IllegalArgumentException("같은 통화 사이의 환율은 고시할 수 없습니다: " + from);
+        }
+        if (rate.signum() <= 0) {
+            throw new IllegalArgumentException("환율은 0보다 커야 합니다: " + rate);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.travel.domain.fx;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 환율 출처 - 교체 가능한 포트 (Port)
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell 경계</h2>
+ * <pre>
+ * [Key Point] 출처는 "그 날짜에 적용할 고시 목록"만 돌려줌
+ *   - 주말/공휴일처럼 고시가 없는 날의 처리(직전 영업일 사용 등)는 출처가 결정
+ *   - 역환율/교차환율 계산은 출처가 아닌 DailyRates (FC) 책임
+ *
+ * 구현: FileExchangeRateSource (로컬 CSV 스텁) - 외부 API 구현으로 교체 가능
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 고시가 없으면 빈 목록 - 예외 대신 환산 시점에 FxError.RateNotFound로 드러남</li>
+ * </ul>
+ */
+public interface ExchangeRateSource {
+
+    /**
+     * date에 적용할 고시 목록
+     *
+     * @param date 환산 기준일
+     * @return 고시 목록 (없으면 빈 목록, 고시일은 date 이전일 수 있음)
+     */
+    List<ExchangeRate> ratesOn(LocalDate date);
+}
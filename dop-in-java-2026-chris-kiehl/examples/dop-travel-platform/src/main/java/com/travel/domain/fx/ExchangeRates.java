@@ -0,0 +1,21 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.Result;
+import com.travel.shared.types.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 환율 조회 - (from, to, date) → 환율
+ *
+ * <p>[Key Point] from == to이면 구현과 관계없이 1 - ConvertingAggregator는 같은 통화를 조회하지 않음</p>
+ */
+@FunctionalInterface
+public interface ExchangeRates {
+
+    /**
+     * @return 1 from 당 to 금액, 구할 수 없으면 FxError.RateNotFound
+     */
+    Result<BigDecimal, FxError> rate(Currency from, Currency to, LocalDate date);
+}
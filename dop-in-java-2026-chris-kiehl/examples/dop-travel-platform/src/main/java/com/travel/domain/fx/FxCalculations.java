@@ -0,0 +1,93 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * 환산 계산 - 순수 함수 모음 (Functional Core)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 환산 금액과 파생 환율(역/교차)의 반올림 규칙을 한 곳에 고정
+ *
+ * <h2>핵심 개념 (Key Concept): 반올림 규칙</h2>
+ * <pre>
+ * 1. 결과 자릿수 = 대상 통화 소수 자리 (KRW 0, USD 2, JPY 0), HALF_EVEN - Money 생성자와 같은 규칙
+ * 2. 반올림은 마지막 한 번 - amount × rate는 정확한 BigDecimal 곱 (자릿수 제한 없음)
+ * 3. 교차 환율 = 두 환율의 정확한 곱 (반올림 없음)
+ * 4. 역환율 = 1 / rate, DECIMAL128(유효숫자 34자리) - 유일하게 근사가 들어가는 단계
+ *
+ * [Key Point] 환산 후 합산 ≠ 합산 후 환산 (항목마다 반올림하면 오차가 누적)
+ *   ₩7 × 2건, KRW→USD 0.0007: 건별 반올림 → $0.00 + $0.00 = $0.00 ($0.0049 → $0.00)
+ *                             합산 후 반올림 → $0.01 ($0.0098 → $0.01)
+ *   → ConvertingAggregator는 통화별 정확한 합을 환산한 뒤 한 번만 반올림
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 역환율을 대상 통화 자릿수로 미리 반올림 - KRW→USD 1/1385.20을 0.00으로 만들어버림</li>
+ *   <li>[Trap] 왕복 환산(KRW→USD→KRW)이 원금과 같다고 가정 - 중간 반올림 때문에 다를 수 있음</li>
+ * </ul>
+ */
+public final class FxCalculations {
+
+    private FxCalculations() {}
+
+    /**
+     * 역환율 정밀도 - 34자리면 원화 조 단위 금액도 반올림 전 오차가 1원 미만
+     */
+    public static final MathContext INVERSE_PRECISION = MathContext.DECIMAL128;
+
+    // ============================================
+    // 환산
+    // ============================================
+
+    /**
+     * 금액 환산 - 정확한 곱 후 대상 통화 자릿수로 한 번 반올림
+     *
+     * @param money 원본 금액
+     * @param to    대상 통화
+     * @param rate  1 money.currency() 당 to 금액
+     */
+    public static Money convert(Money money, Currency to, BigDecimal rate) {
+        if (money.currency() == to) {
+            return money;
+        }
+        return new Money(round(convertExact(money.amount(), rate), to), to);
+    }
+
+    /**
+     * 반올림 없는 환산 - 합산 중간값용
+     */
+    public static BigDecimal convertExact(BigDecimal amount, BigDecimal rate) {
+        return amount.multiply(rate);
+    }
+
+    /**
+     * 대상 통화 자릿수로 반올림 (HALF_EVEN)
+     */
+    public static BigDecimal round(BigDecimal amount, Currency currency) {
+        return amount.setScale(currency.decimalPlaces(), RoundingMode.HALF_EVEN);
+    }
+
+    // ============================================
+    // 파생 환율
+    // ============================================
+
+    /**
+     * 역환율 - USD→KRW 고시로 KRW→USD 환율 도출
+     */
+    public static BigDecimal invert(BigDecimal rate) {
+        return BigDecimal.ONE.divide(rate, INVERSE_PRECISION);
+    }
+
+    /**
+     * 교차 환율 - from→via, via→to 두 환율의 정확한 곱
+     */
+    public static BigDecimal cross(BigDecimal fromToVia, BigDecimal viaToTo) {
+        return fromToVia.multiply(viaToTo);
+    }
+}
@@ -0,0 +1,30 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.types.Currency;
+
+import java.time.LocalDate;
+
+/**
+ * 환산 오류 - Error as Data
+ */
+public sealed interface FxError permits
+        FxError.RateNotFound {
+
+    String message();
+    String code();
+
+    /**
+     * 직접/역/교차 어느 경로로도 환율을 구할 수 없음
+     */
+    record RateNotFound(Currency from, Currency to, LocalDate date) implements FxError {
+        @Override
+        public String message() {
+            return "환율을 찾을 수 없습니다: " + from + "→" + to + " (" + date + ")";
+        }
+
+        @Override
+        public String code() {
+            return "FX_RATE_NOT_FOUND";
+        }
+    }
+}
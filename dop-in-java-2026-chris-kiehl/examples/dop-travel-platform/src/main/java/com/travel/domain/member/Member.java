@@ -1,6 +1,7 @@
 package com.travel.domain.member;
 
 import com.travel.domain.membership.MembershipTier;
+import com.travel.shared.Validation;
 import com.travel.shared.types.Email;
 import com.travel.shared.types.Money;
 
@@ -83,6 +84,66 @@ public record Member(
         );
     }
 
+    /**
+     * 새 회원 입력 검증 후 생성 - 모든 필드 오류를 누적 (fail-slow)
+     *
+     * <pre>
+     * [Ch 5] Applicative Validation:
+     * validateNew("bad", " ", "010")
+     * → Invalid(["올바른 이메일 형식이 아닙니다: bad", "이름은 필수입니다", "전화번호 형식이 올바르지 않습니다: 010"])
+     * </pre>
+     *
+     * @param emailAddress 이메일
+     * @param name         이름
+     * @param phoneNumber  전화번호 (nullable)
+     */
+    public static Validation<Member, String> validateNew(String emailAddress, String name, String phoneNumber) {
+        return Validation.combine(
+                Email.validateUnverified(emailAddress),
+                validateName(name),
+                validatePhoneNumber(phoneNumber),
+                (email, validName, phone) -> {
+                    Instant now = Instant.now();
+                    return new Member(MemberId.generate(), email, validName, phone.isEmpty() ? null : phone,
+                            MembershipTier.BRONZE, Money.ZERO_KRW, 0, now, now);
+                });
+    }
+
+    private static Validation<String, String> validateName(String name) {
+        if (name == null || name.isBlank()) {
+            return Validation.invalid("이름은 필수입니다");
+        }
+        if (name.length() > 100) {
+            return Validation.invalid("이름은 100자 이하여야 합니다");
+        }
+        return Validation.valid(name.strip());
+    }
+
+    /**
+     * 전화번호 검증 - 선택 입력, 숫자/하이픈/+ 만 허용, 숫자 9~15자리
+     *
+     * <p>[Why 빈 문자열] Valid는 null을 담을 수 없음 - 미입력은 ""로 통과시키고 생성 시 null로 변환</p>
+     */
+    private static Validation<String, String> validatePhoneNumber(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            return Validation.valid("");
+        }
+        String trimmed = phoneNumber.strip();
+        int digits = 0;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c != '-' && !(c == '+' && i == 0)) {
+                return Validation.invalid("전화번호 형식이 올바르지 않습니다: " + phoneNumber);
+            }
+        }
+        if (digits < 9 || digits > 15) {
+            return Validation.invalid("전화번호 형식이 올바르지 않습니다: " + phoneNumber);
+        }
+        return Validation.valid(trimmed);
+    }
+
     // ============================================
     // Wither 패턴
     // ============================================
@@ -1,6 +1,10 @@
 package com.travel.domain.member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 회원 Repository 인터페이스
@@ -13,7 +17,30 @@ public interface MemberRepository {
 
     Member save(Member member);
 
+    /**
+     * 새 회원 일괄 저장 (대량 가져오기)
+     *
+     * <p>기본 구현은 save 반복 - 구현체가 배치 I/O로 대체할 수 있음</p>
+     *
+     * @param members 저장할 회원들 (이메일 중복이 없어야 함)
+     * @return 저장된 회원 (입력 순서 유지)
+     */
+    default List<Member> saveAll(List<Member> members) {
+        return members.stream().map(this::save).toList();
+    }
+
     boolean existsById(MemberId id);
 
     boolean existsByEmail(String email);
+
+    /**
+     * 주어진 이메일 중 이미 가입된 이메일
+     *
+     * <p>기본 구현은 existsByEmail 반복 - 구현체가 IN 조회 한 번으로 대체할 수 있음</p>
+     */
+    default Set<String> findExistingEmails(Collection<String> emails) {
+        return emails.stream()
+                .filter(this::existsByEmail)
+                .collect(Collectors.toSet());
+    }
 }
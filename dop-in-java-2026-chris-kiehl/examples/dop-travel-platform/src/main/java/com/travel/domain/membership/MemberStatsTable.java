@@ -0,0 +1,175 @@
+package com.travel.domain.membership;
+
+import java.util.UUID;
+
+/**
+ * 회원별 누적 실적 테이블 - primitive 배열 기반 Open Addressing 해시맵
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 수십만 회원의 (누적 금액, 누적 횟수, 현재 등급)을 박싱 없이 보관
+ *
+ * <h2>핵심 개념 (Key Concept): 데이터 레이아웃</h2>
+ * <pre>
+ * [Before] HashMap&lt;MemberId, Stats&gt;
+ *   엔트리마다 Node + MemberId + UUID + Stats 객체 → 회원당 ~150 bytes, GC 추적 대상
+ *
+ * [After] 병렬 배열 (Structure of Arrays)
+ *   keyHi[i], keyLo[i]  : UUID 상위/하위 64비트
+ *   amounts[i]          : 누적 금액 (원)
+ *   counts[i]           : 누적 횟수
+ *   tiers[i]            : 등급 ordinal + 1 (0 = 빈 슬롯)
+ *   → 회원당 29 bytes, 객체 수는 배열 5개로 고정
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Why tiers로 빈 슬롯 표시] nil UUID(0, 0)도 유효한 키이므로 키 값으로 빈 슬롯을 표현할 수 없음</li>
+ *   <li>[Trap] 스레드 안전하지 않음 - MembershipTierEngine이 동기화 담당</li>
+ *   <li>[Trap] 삭제 미지원 - 회원 탈퇴는 0 실적으로 남겨도 등급 계산에 영향 없음</li>
+ * </ul>
+ */
+final class MemberStatsTable {
+
+    private static final int EMPTY = 0;
+    private static final float MAX_LOAD = 0.6f;
+    private static final MembershipTier[] TIERS = MembershipTier.values(); // values()는 호출마다 배열 복사
+
+    private long[] keyHi;
+    private long[] keyLo;
+    private long[] amounts;
+    private int[] counts;
+    private byte[] tiers;
+    private int size;
+
+    MemberStatsTable(int expectedMembers) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedMembers / MAX_LOAD)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    // ============================================
+    // 조회 / 삽입
+    // ============================================
+
+    /**
+     * 키의 슬롯 인덱스 (없으면 -1)
+     */
+    int find(UUID key) {
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        int mask = tiers.length - 1;
+        for (int i = slot(hi, lo, mask); ; i = (i + 1) & mask) {
+            if (tiers[i] == EMPTY) {
+                return -1;
+            }
+            if (keyHi[i] == hi && keyLo[i] == lo) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * 키의 슬롯 인덱스 (없으면 초기값으로 삽입)
+     */
+    int findOrInsert(UUID key, MembershipTier initialTier) {
+        if (size + 1 > tiers.length * MAX_LOAD) {
+            resize();
+        }
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        int mask = tiers.length - 1;
+        int i = slot(hi, lo, mask);
+        while (tiers[i] != EMPTY) {
+            if (keyHi[i] == hi && keyLo[i] == lo) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        keyHi[i] = hi;
+        keyLo[i] = lo;
+        tiers[i] = encode(initialTier);
+        size++;
+        return i;
+    }
+
+    // ============================================
+    // 슬롯 접근자
+    // ============================================
+
+    long amount(int slot) {
+        return amounts[slot];
+    }
+
+    int count(int slot) {
+        return counts[slot];
+    }
+
+    MembershipTier tier(int slot) {
+        return TIERS[tiers[slot] - 1];
+    }
+
+    void set(int slot, long amount, int count, MembershipTier tier) {
+        amounts[slot] = amount;
+        counts[slot] = count;
+        tiers[slot] = encode(tier);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * [Why 혼합] UUID v4는 일부 비트가 고정(version/variant)이므로 두 워드를 섞어 분포를 고르게 함
+     */
+    private static int slot(long hi, long lo, int mask) {
+        long h = hi * 0x9E3779B97F4A7C15L ^ lo;
+        h ^= h >>> 32;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 29)) & mask;
+    }
+
+    private static byte encode(MembershipTier tier) {
+        return (byte) (tier.ordinal() + 1);
+    }
+
+    private void allocate(int capacity) {
+        keyHi = new long[capacity];
+        keyLo = new long[capacity];
+        amounts = new long[capacity];
+        counts = new int[capacity];
+        tiers = new byte[capacity];
+    }
+
+    private void resize() {
+        long[] oldHi = keyHi;
+        long[] oldLo = keyLo;
+        long[] oldAmounts = amounts;
+        int[] oldCounts = counts;
+        byte[] oldTiers = tiers;
+
+        allocate(oldTiers.length << 1);
+        int mask = tiers.length - 1;
+        for (int j = 0; j < oldTiers.length; j++) {
+            if (oldTiers[j] == EMPTY) {
+                continue;
+            }
+            int i = slot(oldHi[j], oldLo[j], mask);
+            while (tiers[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            keyHi[i] = oldHi[j];
+            keyLo[i] = oldLo[j];
+            amounts[i] = oldAmounts[j];
+            counts[i] = oldCounts[j];
+            tiers[i] = oldTiers[j];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MemberStatsTable[size=" + size + ", capacity=" + tiers.length + "]";
+    }
+}
@@ -1,6 +1,8 @@
 package com.travel.domain.membership;
 
+import com.travel.domain.booking.BookingStatus;
 import com.travel.domain.member.Member;
+import com.travel.shared.types.Currency;
 import com.travel.shared.types.Money;
 
 /**
@@ -25,8 +27,20 @@ public final class MembershipCalculations {
      * @return 자격 등급
      */
     public static MembershipTier calculateEligibleTier(Money totalAmount, int bookingCount) {
-        long amount = totalAmount.amount().longValue();
+        return calculateEligibleTier(totalAmount.amount().longValue(), bookingCount);
+    }
 
+    /**
+     * 현재 자격에 맞는 등급 계산 (원화 정수 금액)
+     *
+     * <p>[Key Point] MembershipTierEngine처럼 누적값을 primitive로 유지하는 호출자가
+     * 매 이벤트마다 Money를 만들지 않도록 long 버전을 제공</p>
+     *
+     * @param amount 총 예약 금액 (원)
+     * @param bookingCount 예약 횟수
+     * @return 자격 등급
+     */
+    public static MembershipTier calculateEligibleTier(long amount, int bookingCount) {
         // 높은 등급부터 확인
         if (amount >= MembershipTier.DIAMOND.requiredAmount() &&
             bookingCount >= MembershipTier.DIAMOND.requiredBookings()) {
@@ -84,4 +98,47 @@ public final class MembershipCalculations {
     public static Money calculateTierDiscount(MembershipTier tier, Money amount) {
         return tier.calculateDiscount(amount);
     }
+
+    // ============================================
+    // [Key Point] 상태별 실적 기여분
+    // 누적 실적 = 모든 예약의 기여분 합 → 전이 시 (새 기여분 - 이전 기여분)만 반영
+    // ============================================
+
+    /**
+     * 예약 상태가 누적 예약 금액에 기여하는 금액 (원)
+     *
+     * <pre>
+     * Completed → 최종 결제 금액
+     * NoShow    → 패널티 금액 (실제 청구된 금액만 실적으로 인정)
+     * 그 외      → 0 (확정 전이거나 취소된 예약은 실적 아님)
+     * </pre>
+     *
+     * <p>[Trap] 통화가 다른 금액을 합산하면 안 됨 - 등급 기준이 원화이므로 KRW 외 금액은 0으로 처리</p>
+     *
+     * @param status      예약 상태
+     * @param finalAmount 예약의 최종 결제 금액
+     * @return 기여 금액 (원)
+     */
+    public static long creditedAmount(BookingStatus status, Money finalAmount) {
+        return switch (status) {
+            case BookingStatus.Completed c -> krwValue(finalAmount);
+            case BookingStatus.NoShow n -> n.hasPenalty() ? krwValue(n.penaltyAmount()) : 0L;
+            case BookingStatus.Pending p -> 0L;
+            case BookingStatus.Confirmed c -> 0L;
+            case BookingStatus.Cancelled c -> 0L;
+        };
+    }
+
+    /**
+     * 예약 상태가 누적 예약 횟수에 기여하는 횟수
+     *
+     * <p>이용 완료된 예약만 1회로 인정</p>
+     */
+    public static int creditedBookings(BookingStatus status) {
+        return status instanceof BookingStatus.Completed ? 1 : 0;
+    }
+
+    private static long krwValue(Money money) {
+        return money.currency() == Currency.KRW ? money.amount().longValue() : 0L;
+    }
 }
@@ -0,0 +1,206 @@
+package com.travel.domain.membership;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Money;
+
+import java.util.Optional;
+
+/**
+ * 증분 멤버십 등급 엔진 - 예약 상태 전이마다 누적 실적 갱신
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 야간 배치로 전 회원의 예약을 재집계하지 않고,
+ * 예약 완료/취소/노쇼 전이가 일어날 때 해당 회원의 누적값만 갱신하여 등급 변경 감지
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 7 결합법칙 - 증분 집계</h2>
+ * <pre>
+ * 누적 실적 = Σ credit(booking.status)
+ *
+ * [Before] 야간 배치: 회원마다 전체 예약 재스캔 → O(전체 예약 수)
+ * [After]  전이 이벤트: total += credit(to) - credit(from) → O(1)
+ *
+ * credit 규칙은 MembershipCalculations.creditedAmount / creditedBookings (순수 함수)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 임계값 교차 시에만 이벤트</h2>
+ * <pre>
+ * 전이 전/후 누적값으로 calculateEligibleTier를 각각 계산하여
+ * 결과가 달라질 때(requiredAmount 또는 requiredBookings 경계를 넘었을 때)만 TierChange 반환
+ *
+ * 대부분의 전이는 경계를 넘지 않으므로 Optional.empty() - 호출자는 아무것도 하지 않음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 기동 시 seed() 누락 → 기존 실적이 0에서 시작하여 잘못된 강등/승급 이벤트 발생</li>
+ *   <li>[Trap] 같은 전이를 두 번 반영 → 누적값 이중 계산 (호출자가 저장 성공 후 1회만 호출)</li>
+ *   <li>[Why synchronized] 회원별 갱신은 읽기-계산-쓰기이고 테이블 리사이즈와 경합하므로 단일 락으로 보호.
+ *       임계 구역이 배열 접근 몇 번뿐이라 경합 비용이 작음</li>
+ * </ul>
+ */
+public final class MembershipTierEngine {
+
+    private static final int DEFAULT_EXPECTED_MEMBERS = 1_024;
+
+    private final MemberStatsTable table;
+
+    public MembershipTierEngine() {
+        this(DEFAULT_EXPECTED_MEMBERS);
+    }
+
+    /**
+     * @param expectedMembers 예상 회원 수 (초기 테이블 크기 결정, 초과 시 자동 확장)
+     */
+    public MembershipTierEngine(int expectedMembers) {
+        if (expectedMembers < 0) {
+            throw new IllegalArgumentException("예상 회원 수는 0 이상이어야 합니다: " + expectedMembers);
+        }
+        this.table = new MemberStatsTable(expectedMembers);
+    }
+
+    // ============================================
+    // 이벤트 결과
+    // ============================================
+
+    /**
+     * 등급 변경 이벤트
+     *
+     * @param memberId     회원 ID
+     * @param previousTier 변경 전 등급
+     * @param newTier      변경 후 등급
+     * @param totalAmount  변경 시점 누적 금액 (원)
+     * @param bookingCount 변경 시점 누적 횟수
+     */
+    public record TierChange(
+            MemberId memberId,
+            MembershipTier previousTier,
+            MembershipTier newTier,
+            long totalAmount,
+            int bookingCount
+    ) {
+        public boolean isUpgrade() {
+            return newTier.ordinal() > previousTier.ordinal();
+        }
+
+        public boolean isDowngrade() {
+            return newTier.ordinal() < previousTier.ordinal();
+        }
+    }
+
+    // ============================================
+    // 초기 적재
+    // ============================================
+
+    /**
+     * 저장된 회원 실적으로 초기값 설정 (기동 시 1회)
+     *
+     * <p>[Key Point] 등급은 재계산하지 않고 저장된 등급을 그대로 사용 -
+     * 이후 임계값을 넘는 전이가 있을 때만 변경</p>
+     */
+    public synchronized void seed(Member member) {
+        int slot = table.findOrInsert(member.id().value(), member.membershipTier());
+        table.set(slot,
+                member.totalBookingAmount().amount().longValue(),
+                member.bookingCount(),
+                member.membershipTier());
+    }
+
+    // ============================================
+    // [Key Point] 증분 갱신
+    // ============================================
+
+    /**
+     * 예약 상태 전이 반영
+     *
+     * @param before 전이 전 예약
+     * @param after  전이 후 예약 (같은 예약 ID)
+     * @return 등급 경계를 넘은 경우에만 TierChange
+     */
+    public Optional<TierChange> onStatusChanged(Booking before, Booking after) {
+        if (!before.id().equals(after.id())) {
+            throw new IllegalArgumentException("서로 다른 예약입니다: " + before.id() + " vs " + after.id());
+        }
+        return onTransition(after.memberId(), before.status(), after.status(), after.finalAmount());
+    }
+
+    /**
+     * 예약 상태 전이 반영
+     *
+     * @param memberId    회원 ID
+     * @param from        전이 전 상태
+     * @param to          전이 후 상태
+     * @param finalAmount 예약의 최종 결제 금액
+     * @return 등급 경계를 넘은 경우에만 TierChange
+     */
+    public Optional<TierChange> onTransition(MemberId memberId, BookingStatus from, BookingStatus to, Money finalAmount) {
+        // [FC] 락 밖에서 순수 계산
+        long amountDelta = MembershipCalculations.creditedAmount(to, finalAmount)
+                - MembershipCalculations.creditedAmount(from, finalAmount);
+        int countDelta = MembershipCalculations.creditedBookings(to)
+                - MembershipCalculations.creditedBookings(from);
+
+        // Pending → Confirmed, Confirmed → Cancelled 등은 실적 변화 없음
+        if (amountDelta == 0 && countDelta == 0) {
+            return Optional.empty();
+        }
+        return apply(memberId, amountDelta, countDelta);
+    }
+
+    private synchronized Optional<TierChange> apply(MemberId memberId, long amountDelta, int countDelta) {
+        int slot = table.findOrInsert(memberId.value(), MembershipTier.BRONZE);
+        long oldAmount = table.amount(slot);
+        int oldCount = table.count(slot);
+        long newAmount = Math.max(0L, oldAmount + amountDelta);
+        int newCount = Math.max(0, oldCount + countDelta);
+
+        MembershipTier eligibleBefore = MembershipCalculations.calculateEligibleTier(oldAmount, oldCount);
+        MembershipTier eligibleAfter = MembershipCalculations.calculateEligibleTier(newAmount, newCount);
+        MembershipTier current = table.tier(slot);
+
+        if (eligibleBefore == eligibleAfter || eligibleAfter == current) {
+            table.set(slot, newAmount, newCount, current);
+            return Optional.empty();
+        }
+
+        table.set(slot, newAmount, newCount, eligibleAfter);
+        return Optional.of(new TierChange(memberId, current, eligibleAfter, newAmount, newCount));
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    /**
+     * 현재 등급 (추적되지 않는 회원은 BRONZE)
+     */
+    public synchronized MembershipTier tierOf(MemberId memberId) {
+        int slot = table.find(memberId.value());
+        return slot < 0 ? MembershipTier.BRONZE : table.tier(slot);
+    }
+
+    /**
+     * 누적 금액 (원)
+     */
+    public synchronized long totalAmountOf(MemberId memberId) {
+        int slot = table.find(memberId.value());
+        return slot < 0 ? 0L : table.amount(slot);
+    }
+
+    /**
+     * 누적 횟수
+     */
+    public synchronized int bookingCountOf(MemberId memberId) {
+        int slot = table.find(memberId.value());
+        return slot < 0 ? 0 : table.count(slot);
+    }
+
+    /**
+     * 추적 중인 회원 수
+     */
+    public synchronized int trackedMembers() {
+        return table.size();
+    }
+}
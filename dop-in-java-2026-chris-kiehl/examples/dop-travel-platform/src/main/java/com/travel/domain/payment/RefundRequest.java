@@ -0,0 +1,98 @@
+package com.travel.domain.payment;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.shared.types.Money;
+
+import java.time.Instant;
+
+/**
+ * 환불 요청 - 예약 취소와 PG 환불 호출 사이의 outbox 레코드
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 취소 트랜잭션 안에서는 "환불해야 한다"는 사실만 기록하고,
+ * 실제 PG 호출은 트랜잭션 밖에서 동시성을 제한해 처리
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 7 멱등성 - 예약당 환불 1건</h2>
+ * <pre>
+ * PENDING ──성공──→ COMPLETED
+ *    │
+ *    └──실패──→ PENDING (attempts + 1) ──maxAttempts 도달──→ FAILED
+ *
+ * [Key Point] 멱등성 키 = "refund-" + 예약 ID
+ *   재시도/재실행으로 같은 요청을 다시 보내도 PG가 한 번만 환불
+ * </pre>
+ *
+ * @param bookingId 취소된 예약 ID (요청 ID 겸용 - 예약당 한 건)
+ * @param paymentId 결제 ID (BookingStatus.Confirmed.paymentId)
+ * @param amount    환불 금액
+ * @param status    처리 상태
+ * @param attempts  PG 호출 실패 횟수
+ * @param lastError 마지막 실패 사유 (없으면 null)
+ * @param refundId  PG 환불 ID (COMPLETED일 때만)
+ * @param createdAt 생성 시각
+ * @param updatedAt 마지막 변경 시각
+ */
+public record RefundRequest(
+        BookingId bookingId,
+        String paymentId,
+        Money amount,
+        Status status,
+        int attempts,
+        String lastError,
+        String refundId,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public enum Status { PENDING, COMPLETED, FAILED }
+
+    public RefundRequest {
+        if (bookingId == null) throw new IllegalArgumentException("예약 ID는 필수입니다");
+        if (paymentId == null || paymentId.isBlank()) throw new IllegalArgumentException("결제 ID는 필수입니다");
+        if (amount == null) throw new IllegalArgumentException("환불 금액은 필수입니다");
+        if (status == null) throw new IllegalArgumentException("상태는 필수입니다");
+    }
+
+    // ============================================
+    // 정적 팩토리 메서드
+    // ============================================
+
+    public static RefundRequest pending(BookingId bookingId, String paymentId, Money amount, Instant now) {
+        return new RefundRequest(bookingId, paymentId, amount, Status.PENDING, 0, null, null, now, now);
+    }
+
+    // ============================================
+    // 상태 전이
+    // ============================================
+
+    public RefundRequest complete(String refundId, Instant now) {
+        requirePending();
+        return new RefundRequest(bookingId, paymentId, amount, Status.COMPLETED,
+                attempts, lastError, refundId, createdAt, now);
+    }
+
+    /**
+     * 실패 기록 - maxAttempts에 도달하면 FAILED (수동 처리 대상)
+     */
+    public RefundRequest fail(String error, int maxAttempts, Instant now) {
+        requirePending();
+        int failed = attempts + 1;
+        Status next = failed >= maxAttempts ? Status.FAILED : Status.PENDING;
+        return new RefundRequest(bookingId, paymentId, amount, next,
+                failed, error, null, createdAt, now);
+    }
+
+    public IdempotencyKey idempotencyKey() {
+        return IdempotencyKey.from("refund-" + bookingId.value());
+    }
+
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+
+    private void requirePending() {
+        if (!isPending()) {
+            throw new IllegalStateException("PENDING 상태에서만 변경할 수 있습니다: " + bookingId + " " + status);
+        }
+    }
+}
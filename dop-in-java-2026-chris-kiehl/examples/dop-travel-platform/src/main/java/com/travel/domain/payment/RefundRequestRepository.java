@@ -0,0 +1,31 @@
+package com.travel.domain.payment;
+
+import com.travel.domain.booking.BookingId;
+
+import java.util.List;
+
+/**
+ * 환불 요청 Repository 인터페이스
+ *
+ * <p>[Key Point] 예약 ID가 키 - 같은 예약의 환불 요청을 두 번 저장하면 실패 (중복 환불 방지)</p>
+ */
+public interface RefundRequestRepository {
+
+    /**
+     * 새 환불 요청 일괄 저장 (JDBC 배치)
+     */
+    void saveAll(List<RefundRequest> requests);
+
+    /**
+     * 처리 결과 반영 (상태/시도 횟수/오류/환불 ID)
+     */
+    RefundRequest update(RefundRequest request);
+
+    /**
+     * PENDING 요청 keyset 페이지 (예약 ID 순)
+     *
+     * @param after 이전 페이지의 마지막 예약 ID (첫 페이지는 null)
+     * @param limit 최대 건수
+     */
+    List<RefundRequest> findPending(BookingId after, int limit);
+}
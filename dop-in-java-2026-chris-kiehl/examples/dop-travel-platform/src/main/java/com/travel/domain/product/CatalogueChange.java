@@ -0,0 +1,41 @@
+package com.travel.domain.product;
+
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.travelpackage.TravelPackage;
+
+/**
+ * 상품 카탈로그 변경 - 변경 번호(version)가 붙은 한 건
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 3 Sum Type</h2>
+ * <pre>
+ * CatalogueChange (sealed)
+ *   ├── RoomUpserted(version, room)
+ *   ├── FlightUpserted(version, flight)
+ *   ├── PackageUpserted(version, travelPackage)
+ *   └── Removed(version, productId)
+ *
+ * [Key Point] version은 카탈로그 전체에서 단조 증가 - 상품별 번호가 아님
+ *   "version n 이후 변경"만 읽으면 마지막 스냅샷 이후 바뀐 상품만 가져옴
+ * </pre>
+ */
+public sealed interface CatalogueChange {
+
+    long version();
+
+    String productId();
+
+    record RoomUpserted(long version, Room room) implements CatalogueChange {
+        @Override public String productId() { return room.id(); }
+    }
+
+    record FlightUpserted(long version, Flight flight) implements CatalogueChange {
+        @Override public String productId() { return flight.id(); }
+    }
+
+    record PackageUpserted(long version, TravelPackage travelPackage) implements CatalogueChange {
+        @Override public String productId() { return travelPackage.id(); }
+    }
+
+    record Removed(long version, String productId) implements CatalogueChange {}
+}
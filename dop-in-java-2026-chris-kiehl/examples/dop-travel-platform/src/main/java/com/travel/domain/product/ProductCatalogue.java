@@ -0,0 +1,302 @@
+package com.travel.domain.product;
+
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.travelpackage.TravelPackage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 카탈로그 스냅샷 - 객실/항공편/패키지를 상품 ID로 찾는 불변 Map 묶음
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 카탈로그는 한 시간에 몇 번만 바뀌는데 예약/검색마다 상품을 다시 읽지 않도록 메모리에 둠
+ *
+ * <h2>핵심 개념 (Key Concept): 증분 적용</h2>
+ * <pre>
+ * apply(changes):                           변경 번호 순서대로
+ *   RoomUpserted / FlightUpserted / ...     해당 Map에 넣음 (다른 종류 Map에 같은 ID가 있으면 제거)
+ *   Removed                                 어느 Map에 있든 제거
+ *   → 새 스냅샷 (version = 지금 version과 마지막 변경 번호 중 큰 값)
+ *
+ * reflects(change)                          스냅샷이 이미 그 변경의 상태를 담고 있음 - 다시 읽은 행 걸러 내기
+ *   version 이하 번호의 변경 = 늦게 커밋된 행 → 상품당 마지막 상태이므로 그대로 적용
+ *
+ * [Key Point] 변경이 닿지 않은 종류의 Map은 새 스냅샷이 그대로 공유 (복사 없음)
+ * [Key Point] 닿은 Map만 복사 후 Map.copyOf - 조회는 O(1), 스냅샷 자체는 불변이라 읽는 쪽 잠금 없음
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 메모리 추정 (Footprint)</h2>
+ * <pre>
+ * 스냅샷이 담은 객체를 필드 단위로 더한 근사치 (64bit JVM, compressed oops 기준):
+ *   객체 헤더 12B + 참조 4B, 8B 정렬 / String = 24B + byte[] (Latin-1 1B, 그 외 2B/문자)
+ *   Money ≈ 64B (record + BigDecimal) / LocalDateTime ≈ 72B / Map.copyOf 슬롯 ≈ 16B/항목
+ *
+ * [Key Point] apply가 이전 추정치에서 빠진 상품을 빼고 들어온 상품을 더함 - 변경 수에 비례 (전체 상품을 다시 세지 않음)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 추정치는 스냅샷이 참조하는 전체 - 연속된 스냅샷은 바뀌지 않은 상품 객체를 공유하므로
+ *       두 스냅샷의 추정치를 더하면 실제보다 큼</li>
+ *   <li>[Trap] version 이하 번호를 받아들이는 건 출처가 상품당 마지막 상태만 주기 때문 - 변경 이력을 그대로 주는 출처면
+ *       늦게 다시 읽은 예전 변경이 새 상태를 덮어씀</li>
+ *   <li>[Trap] Removed는 흔적(tombstone) - 출처가 삭제된 상품을 지워 버리면 증분 조회로는 삭제를 알 수 없음</li>
+ *   <li>[Why Map.copyOf] HashMap보다 작고(노드 객체 없음) 수정 불가가 타입이 아닌 구현으로 보장됨</li>
+ * </ul>
+ */
+public final class ProductCatalogue {
+
+    private static final ProductCatalogue EMPTY = new ProductCatalogue(0, Map.of(), Map.of(), Map.of(), 0);
+
+    private final long version;
+    private final Map<String, Room> rooms;
+    private final Map<String, Flight> flights;
+    private final Map<String, TravelPackage> packages;
+    private final Footprint footprint;
+
+    private ProductCatalogue(long version, Map<String, Room> rooms, Map<String, Flight> flights,
+                             Map<String, TravelPackage> packages, long estimatedBytes) {
+        this.version = version;
+        this.rooms = rooms;
+        this.flights = flights;
+        this.packages = packages;
+        this.footprint = new Footprint(rooms.size(), flights.size(), packages.size(), estimatedBytes);
+    }
+
+    /**
+     * 빈 카탈로그 (version 0)
+     */
+    public static ProductCatalogue empty() {
+        return EMPTY;
+    }
+
+    // ============================================
+    // [Key Point] 증분 적용
+    // ============================================
+
+    /**
+     * 변경을 적용한 새 스냅샷 - 적용할 변경이 없으면 this
+     *
+     * @param changes 상품마다 마지막 상태인 변경 (번호 오름차순) - 이 스냅샷 version 이하 번호는 늦게 커밋된 행
+     */
+    public ProductCatalogue apply(List<CatalogueChange> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        var rooms = new Copy<>(this.rooms);
+        var flights = new Copy<>(this.flights);
+        var packages = new Copy<>(this.packages);
+        long bytes = footprint.estimatedBytes();
+        long previous = 0;
+        for (CatalogueChange change : changes) {
+            if (change.version() <= previous) {
+                throw new IllegalArgumentException(
+                        "변경 번호는 1 이상이고 오름차순이어야 합니다: v" + previous + " 다음 v" + change.version());
+            }
+            previous = change.version();
+            String id = change.productId();
+            bytes -= Footprint.room(rooms.remove(id)) + Footprint.flight(flights.remove(id))
+                    + Footprint.travelPackage(packages.remove(id));
+            switch (change) {
+                case CatalogueChange.RoomUpserted(var v, var room) -> {
+                    rooms.put(id, room);
+                    bytes += Footprint.room(room);
+                }
+                case CatalogueChange.FlightUpserted(var v, var flight) -> {
+                    flights.put(id, flight);
+                    bytes += Footprint.flight(flight);
+                }
+                case CatalogueChange.PackageUpserted(var v, var travelPackage) -> {
+                    packages.put(id, travelPackage);
+                    bytes += Footprint.travelPackage(travelPackage);
+                }
+                case CatalogueChange.Removed removed -> { }
+            }
+        }
+        return new ProductCatalogue(Math.max(version, previous), rooms.result(), flights.result(), packages.result(),
+                bytes);
+    }
+
+    /**
+     * 스냅샷이 이미 이 변경의 상태를 담고 있음 (같은 상품 값 / 삭제면 어디에도 없음)
+     */
+    public boolean reflects(CatalogueChange change) {
+        return switch (change) {
+            case CatalogueChange.RoomUpserted(var v, var room) -> room.equals(rooms.get(room.id()));
+            case CatalogueChange.FlightUpserted(var v, var flight) -> flight.equals(flights.get(flight.id()));
+            case CatalogueChange.PackageUpserted(var v, var travelPackage) ->
+                    travelPackage.equals(packages.get(travelPackage.id()));
+            case CatalogueChange.Removed(var v, var id) ->
+                    !rooms.containsKey(id) && !flights.containsKey(id) && !packages.containsKey(id);
+        };
+    }
+
+    // ============================================
+    // 조회 (O(1))
+    // ============================================
+
+    public Optional<Room> room(String productId) {
+        return Optional.ofNullable(rooms.get(productId));
+    }
+
+    public Optional<Flight> flight(String productId) {
+        return Optional.ofNullable(flights.get(productId));
+    }
+
+    public Optional<TravelPackage> travelPackage(String productId) {
+        return Optional.ofNullable(packages.get(productId));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Map<String, Room> rooms() {
+        return rooms;
+    }
+
+    public Map<String, Flight> flights() {
+        return flights;
+    }
+
+    public Map<String, TravelPackage> packages() {
+        return packages;
+    }
+
+    public int size() {
+        return rooms.size() + flights.size() + packages.size();
+    }
+
+    public Footprint footprint() {
+        return footprint;
+    }
+
+    // ============================================
+    // 메모리 추정
+    // ============================================
+
+    /**
+     * 스냅샷 크기
+     *
+     * @param rooms          객실 수
+     * @param flights        항공편 수
+     * @param packages       패키지 수
+     * @param estimatedBytes 스냅샷이 참조하는 객체의 추정 크기 (근사)
+     */
+    public record Footprint(int rooms, int flights, int packages, long estimatedBytes) {
+
+        private static final int HEADER = 12;
+        private static final int REF = 4;
+        private static final int MAP_SLOT = 16;
+        private static final int MONEY = 64;
+        private static final int DATE = 24;
+        private static final int DATE_TIME = 72;
+
+        /** 객실 하나의 추정 크기 (null이면 0) */
+        static long room(Room room) {
+            if (room == null) {
+                return 0;
+            }
+            return MAP_SLOT + object(8 * REF)
+                    + string(room.id()) + string(room.hotelId()) + string(room.hotelName())
+                    + string(room.description()) + object(REF) + MONEY + strings(room.amenities());
+        }
+
+        /** 항공편 하나의 추정 크기 (null이면 0) */
+        static long flight(Flight flight) {
+            if (flight == null) {
+                return 0;
+            }
+            return MAP_SLOT + object(9 * REF)
+                    + string(flight.id()) + string(flight.airline()) + string(flight.flightNumber())
+                    + string(flight.departure()) + string(flight.arrival()) + 2L * DATE_TIME
+                    + (long) flight.seatPrices().size() * (MAP_SLOT + MONEY)
+                    + (long) flight.availableSeats().size() * (MAP_SLOT + object(4));
+        }
+
+        /** 패키지 하나의 추정 크기 (null이면 0) */
+        static long travelPackage(TravelPackage travelPackage) {
+            if (travelPackage == null) {
+                return 0;
+            }
+            long bytes = MAP_SLOT + object(11 * REF)
+                    + string(travelPackage.id()) + string(travelPackage.name())
+                    + string(travelPackage.description()) + string(travelPackage.destination())
+                    + object(2 * REF) + 2L * DATE + MONEY
+                    + strings(travelPackage.includes()) + strings(travelPackage.excludes());
+            for (TravelPackage.DayItinerary day : travelPackage.itinerary()) {
+                bytes += REF + object(4 * REF) + string(day.title()) + string(day.description())
+                        + strings(day.activities());
+            }
+            return bytes;
+        }
+
+        private static long object(int fieldBytes) {
+            return align(HEADER + fieldBytes);
+        }
+
+        private static long string(String value) {
+            if (value == null) {
+                return 0;
+            }
+            boolean latin1 = value.chars().allMatch(c -> c < 256);
+            return object(2 * REF + 8) + align(16 + (long) value.length() * (latin1 ? 1 : 2));
+        }
+
+        private static long strings(List<String> values) {
+            long bytes = align(16 + (long) values.size() * REF);
+            for (String value : values) {
+                bytes += string(value);
+            }
+            return bytes;
+        }
+
+        private static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * 처음 수정할 때만 복사하는 Map - 닿지 않으면 원본을 그대로 돌려줌
+     */
+    private static final class Copy<V> {
+
+        private final Map<String, V> original;
+        private Map<String, V> copy;
+
+        Copy(Map<String, V> original) {
+            this.original = original;
+        }
+
+        void put(String id, V value) {
+            writable().put(id, value);
+        }
+
+        /** 지운 값 (없었으면 null) */
+        V remove(String id) {
+            if (copy != null) {
+                return copy.remove(id);
+            }
+            return original.containsKey(id) ? writable().remove(id) : null;
+        }
+
+        Map<String, V> result() {
+            return copy == null ? original : Map.copyOf(copy);
+        }
+
+        private Map<String, V> writable() {
+            if (copy == null) {
+                copy = new HashMap<>(original);
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.travel.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 카탈로그 출처 - 변경 번호 기반 증분 조회 (구현은 infrastructure)
+ */
+public interface ProductCatalogueSource {
+
+    /**
+     * 가장 최근 변경 번호 (변경이 없으면 0) - 새로 고칠 필요가 있는지 확인하는 가벼운 조회
+     */
+    long latestVersion();
+
+    /**
+     * version보다 큰 변경 번호의 변경 (번호 오름차순) - version 0이면 전체
+     *
+     * <p>[Trap] 상품마다 마지막 상태 한 건만 - 같은 상품의 예전 변경을 함께 주면
+     * lag window로 다시 읽을 때 새 상태를 덮어씀 (ProductCatalogue.apply)</p>
+     */
+    List<CatalogueChange> changesSince(long version);
+
+    /**
+     * 로그/모니터링용 설명
+     */
+    String description();
+}
@@ -0,0 +1,24 @@
+package com.travel.domain.product.accommodation;
+
+import com.travel.shared.types.Money;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 특정 날짜 1박 요금 - 객실 기본 요금(Room.nightlyRate)을 그 날짜에만 대체
+ *
+ * <p>[Key Point] 성수기/이벤트 요금처럼 날짜별로 다른 요금을 표현 - 없는 날짜는 기본 요금</p>
+ *
+ * @param roomId 객실 ID
+ * @param night  숙박일 (체크인 날짜 기준 그 날 밤)
+ * @param rate   1박 요금
+ */
+public record NightlyRate(String roomId, LocalDate night, Money rate) {
+
+    public NightlyRate {
+        if (roomId == null || roomId.isBlank()) throw new IllegalArgumentException("객실 ID는 필수입니다");
+        Objects.requireNonNull(night, "숙박일은 필수입니다");
+        Objects.requireNonNull(rate, "1박 요금은 필수입니다");
+    }
+}
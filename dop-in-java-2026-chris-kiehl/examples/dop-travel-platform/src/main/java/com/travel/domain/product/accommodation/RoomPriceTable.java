@@ -0,0 +1,223 @@
+package com.travel.domain.product.accommodation;
+
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 숙소 가격표 - 객실 × 숙박일 요금을 미리 계산해 둔 불변 값
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 검색 결과마다 객실 수천 개를 같은 기간으로 견적할 때 밤마다 요금을 찾아 BigDecimal로 더하지 않음
+ *
+ * <h2>핵심 개념 (Key Concept): 누적합 (Prefix Sum)</h2>
+ * <pre>
+ * 객실 r의 n번째 밤(horizonStart + n) 요금을 통화 최소 단위 long으로 저장:
+ *   prefix[r][0] = 0
+ *   prefix[r][n + 1] = prefix[r][n] + 요금(n)
+ *
+ * quote(r, [체크인, 체크아웃)) = prefix[r][체크아웃] - prefix[r][체크인]   ← 박 수와 무관하게 O(1)
+ *
+ * 예: 1박 100,000원, 10/3만 150,000원
+ *   night     10/1     10/2     10/3     10/4
+ *   prefix  0  100,000  200,000  350,000  450,000
+ *   10/2~10/4 (2박) = 350,000 - 100,000 = 250,000
+ *
+ * [Key Point] 날짜별 요금이 없으면 Room.calculatePrice(nights)와 같은 값
+ * [Key Point] 기간(horizon) 밖의 밤은 기본 요금 × 박 수 - 어떤 숙박 기간이든 견적 가능 (Total)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 기간 밖의 날짜별 요금은 build에서 거부 - 조용히 버리면 기본 요금으로 견적됨</li>
+ *   <li>[Trap] 메모리 = 객실 수 × (horizon + 1) × 8바이트 - 100객실 × 365일 ≈ 290KB</li>
+ *   <li>[Why long] Money는 통화 자릿수로 정규화되어 있어 unscaled 값이 정확한 정수 - 합산에 BigDecimal 불필요</li>
+ * </ul>
+ */
+public final class RoomPriceTable {
+
+    private final String hotelId;
+    private final LocalDate horizonStart;
+    private final long horizonStartDay;
+    private final int horizonNights;
+    private final List<String> roomIds;
+    private final Map<String, Integer> rowByRoomId;
+    private final Currency[] currencies;
+    private final long[] baseRates;
+    private final long[][] prefix;
+
+    private RoomPriceTable(String hotelId, LocalDate horizonStart, int horizonNights, List<String> roomIds,
+                           Map<String, Integer> rowByRoomId, Currency[] currencies, long[] baseRates,
+                           long[][] prefix) {
+        this.hotelId = hotelId;
+        this.horizonStart = horizonStart;
+        this.horizonStartDay = horizonStart.toEpochDay();
+        this.horizonNights = horizonNights;
+        this.roomIds = roomIds;
+        this.rowByRoomId = rowByRoomId;
+        this.currencies = currencies;
+        this.baseRates = baseRates;
+        this.prefix = prefix;
+    }
+
+    // ============================================
+    // 생성
+    // ============================================
+
+    /**
+     * 가격표 생성
+     *
+     * @param hotelId       숙소 ID (모든 객실의 hotelId와 같아야 함)
+     * @param rooms         객실 목록
+     * @param nightlyRates  날짜별 요금 (horizon 안, 객실 통화와 같은 통화)
+     * @param horizonStart  첫 숙박일
+     * @param horizonNights 미리 계산할 박 수
+     */
+    public static RoomPriceTable build(String hotelId, List<Room> rooms, List<NightlyRate> nightlyRates,
+                                       LocalDate horizonStart, int horizonNights) {
+        Objects.requireNonNull(horizonStart, "시작일은 필수입니다");
+        if (horizonNights < 0) {
+            throw new IllegalArgumentException("박 수는 0 이상이어야 합니다: " + horizonNights);
+        }
+
+        List<String> roomIds = new ArrayList<>();
+        Map<String, Integer> rowByRoomId = new HashMap<>();
+        Currency[] currencies = new Currency[rooms.size()];
+        long[] baseRates = new long[rooms.size()];
+        long[][] nightly = new long[rooms.size()][horizonNights];
+        for (int r = 0; r < rooms.size(); r++) {
+            Room room = rooms.get(r);
+            if (!room.hotelId().equals(hotelId)) {
+                throw new IllegalArgumentException("다른 숙소의 객실입니다: " + room.id() + " (" + room.hotelId() + ")");
+            }
+            if (rowByRoomId.putIfAbsent(room.id(), r) != null) {
+                throw new IllegalArgumentException("객실 ID가 중복됩니다: " + room.id());
+            }
+            roomIds.add(room.id());
+            currencies[r] = room.nightlyRate().currency();
+            baseRates[r] = minorUnits(room.nightlyRate());
+            Arrays.fill(nightly[r], baseRates[r]);
+        }
+
+        for (NightlyRate rate : nightlyRates) {
+            Integer row = rowByRoomId.get(rate.roomId());
+            if (row == null) {
+                throw new IllegalArgumentException("가격표에 없는 객실의 요금입니다: " + rate.roomId());
+            }
+            if (rate.rate().currency() != currencies[row]) {
+                throw new IllegalArgumentException("객실 통화와 다른 요금입니다: " + rate);
+            }
+            long night = ChronoUnit.DAYS.between(horizonStart, rate.night());
+            if (night < 0 || night >= horizonNights) {
+                throw new IllegalArgumentException("가격표 기간 밖의 요금입니다: " + rate);
+            }
+            nightly[row][(int) night] = minorUnits(rate.rate());
+        }
+
+        long[][] prefix = new long[rooms.size()][horizonNights + 1];
+        for (int r = 0; r < rooms.size(); r++) {
+            for (int n = 0; n < horizonNights; n++) {
+                prefix[r][n + 1] = Math.addExact(prefix[r][n], nightly[r][n]);
+            }
+        }
+        return new RoomPriceTable(hotelId, horizonStart, horizonNights, List.copyOf(roomIds),
+                Map.copyOf(rowByRoomId), currencies, baseRates, prefix);
+    }
+
+    // ============================================
+    // [Key Point] 견적 - O(1)
+    // ============================================
+
+    /**
+     * 숙박 견적
+     *
+     * @param roomId 객실 ID
+     * @param stay   체크인(startDate) ~ 체크아웃(endDate), 박 수 = stay.nights()
+     * @return 총 숙박료, 가격표에 없는 객실이면 empty
+     */
+    public Optional<Money> quote(String roomId, DateRange stay) {
+        Integer row = rowByRoomId.get(roomId);
+        if (row == null) {
+            return Optional.empty();
+        }
+        long from = stay.startDate().toEpochDay() - horizonStartDay;
+        return Optional.of(quoteRow(row, from, from + stay.nights()));
+    }
+
+    /**
+     * 숙소의 모든 객실 견적 (roomIds() 순서) - 검색 결과의 숙소 한 곳
+     *
+     * <p>[Key Point] 기간 → 누적합 위치 변환은 한 번, 객실마다 뺄셈 + Money 생성만</p>
+     */
+    public List<Money> quoteAll(DateRange stay) {
+        long from = stay.startDate().toEpochDay() - horizonStartDay;
+        long to = from + stay.nights();
+        Money[] quotes = new Money[prefix.length];
+        for (int row = 0; row < quotes.length; row++) {
+            quotes[row] = quoteRow(row, from, to);
+        }
+        return Arrays.asList(quotes);
+    }
+
+    public String hotelId() {
+        return hotelId;
+    }
+
+    public LocalDate horizonStart() {
+        return horizonStart;
+    }
+
+    public int horizonNights() {
+        return horizonNights;
+    }
+
+    /**
+     * 객실 ID (build에 넘긴 순서 = quoteAll 결과 순서)
+     */
+    public List<String> roomIds() {
+        return roomIds;
+    }
+
+    public boolean contains(String roomId) {
+        return rowByRoomId.containsKey(roomId);
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * 기간 안: 누적합 차이, 기간 밖: 기본 요금 × 박 수
+     *
+     * @param from 체크인 - horizonStart (일)
+     * @param to   체크아웃 - horizonStart (일)
+     */
+    private Money quoteRow(int row, long from, long to) {
+        long inFrom = Math.clamp(from, 0, horizonNights);
+        long inTo = Math.clamp(to, 0, horizonNights);
+        long outsideNights = (to - from) - (inTo - inFrom);
+        long total = Math.addExact(
+                prefix[row][(int) inTo] - prefix[row][(int) inFrom],
+                Math.multiplyExact(baseRates[row], outsideNights));
+        return money(total, currencies[row]);
+    }
+
+    private static long minorUnits(Money money) {
+        return money.amount().unscaledValue().longValueExact();
+    }
+
+    private static Money money(long minorUnits, Currency currency) {
+        return new Money(BigDecimal.valueOf(minorUnits, currency.decimalPlaces()), currency);
+    }
+}
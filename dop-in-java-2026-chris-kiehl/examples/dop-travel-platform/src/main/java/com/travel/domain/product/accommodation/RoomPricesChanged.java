@@ -0,0 +1,21 @@
+package com.travel.domain.product.accommodation;
+
+import java.util.List;
+
+/**
+ * 숙소 요금 변경 이벤트 - 숙소의 객실/날짜별 요금 전체를 담음
+ *
+ * <p>[Key Point] 변경분이 아닌 전체 - 구독자는 가격표를 통째로 다시 만들고 이전 견적을 무효화</p>
+ *
+ * @param hotelId      숙소 ID
+ * @param rooms        변경 후 객실 목록 (빠진 객실은 판매 중지)
+ * @param nightlyRates 날짜별 요금
+ */
+public record RoomPricesChanged(String hotelId, List<Room> rooms, List<NightlyRate> nightlyRates) {
+
+    public RoomPricesChanged {
+        if (hotelId == null || hotelId.isBlank()) throw new IllegalArgumentException("호텔 ID는 필수입니다");
+        rooms = rooms == null ? List.of() : List.copyOf(rooms);
+        nightlyRates = nightlyRates == null ? List.of() : List.copyOf(nightlyRates);
+    }
+}
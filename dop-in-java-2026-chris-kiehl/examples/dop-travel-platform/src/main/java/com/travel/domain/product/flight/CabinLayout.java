@@ -0,0 +1,48 @@
+package com.travel.domain.product.flight;
+
+/**
+ * 객실 좌석 배치 - 행 범위 + 한 행의 좌석 문자 (공백 = 통로)
+ *
+ * <pre>
+ * new CabinLayout(new SeatClass.Economy(), 20, 40, "ABC DEFG HJK")
+ *   → 20~40행, 한 행 10석, 통로로 나뉜 묶음 3-4-3
+ *   "나란히" = 같은 행, 같은 묶음 안에서 연속 (통로 건너편은 붙은 좌석이 아님)
+ * </pre>
+ *
+ * @param seatClass 좌석 등급
+ * @param firstRow  첫 행 번호
+ * @param lastRow   마지막 행 번호 (포함)
+ * @param letters   한 행의 좌석 문자, 공백은 통로 (최대 64석)
+ */
+public record CabinLayout(SeatClass seatClass, int firstRow, int lastRow, String letters) {
+
+    public CabinLayout {
+        if (seatClass == null) throw new IllegalArgumentException("좌석 등급은 필수입니다");
+        if (firstRow <= 0 || lastRow < firstRow) {
+            throw new IllegalArgumentException("행 범위가 올바르지 않습니다: " + firstRow + "~" + lastRow);
+        }
+        if (letters == null || letters.isBlank()) throw new IllegalArgumentException("좌석 문자는 필수입니다");
+        String seats = letters.replace(" ", "");
+        if (seats.length() > Long.SIZE) {
+            throw new IllegalArgumentException("한 행은 최대 " + Long.SIZE + "석입니다: " + seats.length());
+        }
+        if (!seats.chars().allMatch(Character::isLetter) || seats.chars().distinct().count() != seats.length()) {
+            throw new IllegalArgumentException("좌석 문자는 중복 없는 알파벳이어야 합니다: " + letters);
+        }
+    }
+
+    public int rows() {
+        return lastRow - firstRow + 1;
+    }
+
+    /**
+     * 한 행의 좌석 수 (통로 제외)
+     */
+    public int seatsPerRow() {
+        return letters.replace(" ", "").length();
+    }
+
+    public int capacity() {
+        return rows() * seatsPerRow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.travel.domain.product.flight;
+
+/**
+ * 좌석 - 행 번호 + 좌석 문자 (예: 12C)
+ *
+ * @param seatClass 좌석 등급 (객실)
+ * @param row       행 번호 (기내 표기 그대로, 1부터)
+ * @param letter    좌석 문자
+ */
+public record Seat(SeatClass seatClass, int row, char letter) {
+
+    public Seat {
+        if (seatClass == null) throw new IllegalArgumentException("좌석 등급은 필수입니다");
+        if (row <= 0) throw new IllegalArgumentException("행 번호는 1 이상이어야 합니다: " + row);
+        if (!Character.isLetter(letter)) throw new IllegalArgumentException("좌석 문자가 아닙니다: " + letter);
+    }
+
+    public String label() {
+        return row + String.valueOf(letter);
+    }
+}
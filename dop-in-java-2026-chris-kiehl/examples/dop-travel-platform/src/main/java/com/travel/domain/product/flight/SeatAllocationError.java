@@ -0,0 +1,53 @@
+package com.travel.domain.product.flight;
+
+/**
+ * 좌석 배정 오류 - Error as Data
+ *
+ * <pre>
+ * NoSuchCabin        항공편에 해당 등급 객실이 없음
+ * NoSuchSeat         좌석 배치도에 없는 좌석 (12Z, 객실 범위 밖 행)
+ * SeatTaken          지정 좌석이 이미 배정됨 (동시 배정 경쟁에서 진 경우 포함)
+ * GroupTooLarge      인원이 통로 사이 가장 긴 좌석 묶음보다 많음 - 나눠서 배정해야 함
+ * NoAdjacentSeats    붙은 빈 좌석이 없음 (빈 좌석은 있을 수 있음)
+ * </pre>
+ */
+public sealed interface SeatAllocationError permits
+        SeatAllocationError.NoSuchCabin,
+        SeatAllocationError.NoSuchSeat,
+        SeatAllocationError.SeatTaken,
+        SeatAllocationError.GroupTooLarge,
+        SeatAllocationError.NoAdjacentSeats {
+
+    String message();
+
+    String code();
+
+    record NoSuchCabin(SeatClass seatClass) implements SeatAllocationError {
+        @Override public String message() { return seatClass.displayName() + " 객실이 없습니다"; }
+        @Override public String code() { return "NO_SUCH_CABIN"; }
+    }
+
+    record NoSuchSeat(String label) implements SeatAllocationError {
+        @Override public String message() { return "좌석 배치도에 없는 좌석입니다: " + label; }
+        @Override public String code() { return "NO_SUCH_SEAT"; }
+    }
+
+    record SeatTaken(Seat seat) implements SeatAllocationError {
+        @Override public String message() { return "이미 배정된 좌석입니다: " + seat.label(); }
+        @Override public String code() { return "SEAT_TAKEN"; }
+    }
+
+    record GroupTooLarge(int count, int maxAdjacent) implements SeatAllocationError {
+        @Override public String message() {
+            return count + "명은 나란히 앉을 수 없습니다 (최대 " + maxAdjacent + "석)";
+        }
+        @Override public String code() { return "GROUP_TOO_LARGE"; }
+    }
+
+    record NoAdjacentSeats(SeatClass seatClass, int count, int available) implements SeatAllocationError {
+        @Override public String message() {
+            return seatClass.displayName() + "에 나란히 붙은 빈 좌석 " + count + "석이 없습니다 (빈 좌석 " + available + "석)";
+        }
+        @Override public String code() { return "NO_ADJACENT_SEATS"; }
+    }
+}
@@ -0,0 +1,352 @@
+package com.travel.domain.product.flight;
+
+import com.travel.shared.Result;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 항공편 좌석 배치도 - 객실별 점유 비트셋 + CAS 배정
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Flight.availableSeats(등급별 남은 수)로는 특정 좌석을 배정할 수 없고, 동시 예약이 같은 수를 두고 경쟁함
+ * → 좌석 하나 = 비트 하나, 배정 = 비트를 compareAndSet으로 세움 → 같은 좌석이 두 번 배정되지 않음
+ *
+ * <h2>핵심 개념 (Key Concept): 행을 long 단어에 채워 넣기</h2>
+ * <pre>
+ * 한 행 = seatsPerRow 비트, 한 단어(long)에 64 / seatsPerRow 행 (행이 단어 경계를 넘지 않음)
+ *
+ *   3-3 배치 (6석): 단어 하나에 10행, 비트 = 행 안 순번 × 6 + 좌석 순번
+ *   word 0: [행1 ABCDEF][행2 ABCDEF] ... [행10 ABCDEF][미사용 4비트]
+ *
+ * [Key Point] 붙은 좌석 n개는 항상 한 단어 안 → 단어 하나에 대한 CAS 한 번으로 n석을 원자적으로 배정
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 단어 단위로 붙은 빈 좌석 찾기</h2>
+ * <pre>
+ * free   = ~word                       빈 좌석 비트
+ * starts = free & (free >>> 1) & ... & (free >>> n-1)   (길이를 두 배씩 늘려 log n번)
+ *          → 비트 p가 1 = p부터 n석이 모두 빈 좌석
+ * starts &= startMask[n]               같은 행, 같은 통로 묶음 안에서 끝나는 시작 위치만
+ * 첫 후보 = numberOfTrailingZeros(starts)   → 한 번에 최대 64석(여러 행)을 검사, 좌석마다 분기 없음
+ *
+ * 배정: compareAndSet(word, 읽은 값, 읽은 값 | run)
+ *   실패 = 그 사이 누가 같은 단어의 좌석을 가져감 → 같은 단어를 다시 읽어 다시 찾음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 이 클래스는 값이 아닌 공유 상태 - 여러 스레드가 같은 인스턴스를 바꿈 (나머지 상품 모델과 다름)</li>
+ *   <li>[Trap] 통로 건너편은 붙은 좌석이 아님 - 묶음보다 큰 그룹은 GroupTooLarge (호출자가 나눠 배정)</li>
+ *   <li>[Trap] 앞 행부터 채우므로 만석에 가까우면 앞쪽 단어에서 CAS 경합이 몰림 - 실패해도 정확성은 그대로</li>
+ *   <li>[Why AtomicLongArray] 단어마다 독립 CAS - 배치도 전체 잠금이면 다른 행을 고르는 예약끼리도 대기</li>
+ * </ul>
+ */
+public final class SeatMap {
+
+    private final String flightId;
+    private final Map<SeatClass, Cabin> cabins;
+
+    private SeatMap(String flightId, Map<SeatClass, Cabin> cabins) {
+        this.flightId = flightId;
+        this.cabins = cabins;
+    }
+
+    /**
+     * 빈 배치도
+     *
+     * @param layouts 객실 배치 (등급 중복, 행 범위 겹침 불가)
+     */
+    public static SeatMap of(String flightId, List<CabinLayout> layouts) {
+        if (flightId == null || flightId.isBlank()) throw new IllegalArgumentException("항공편 ID는 필수입니다");
+        Map<SeatClass, Cabin> cabins = new LinkedHashMap<>();
+        for (CabinLayout layout : layouts) {
+            for (Cabin other : cabins.values()) {
+                if (layout.firstRow() <= other.layout.lastRow() && other.layout.firstRow() <= layout.lastRow()) {
+                    throw new IllegalArgumentException("객실 행 범위가 겹칩니다: " + layout + ", " + other.layout);
+                }
+            }
+            if (cabins.putIfAbsent(layout.seatClass(), new Cabin(layout)) != null) {
+                throw new IllegalArgumentException("같은 등급 객실이 두 번 있습니다: " + layout.seatClass().displayName());
+            }
+        }
+        return new SeatMap(flightId, cabins);
+    }
+
+    public String flightId() {
+        return flightId;
+    }
+
+    // ============================================
+    // [Key Point] 배정
+    // ============================================
+
+    /**
+     * 같은 행, 같은 통로 묶음에서 나란히 붙은 count석 배정 (앞 행, 왼쪽 좌석 우선)
+     */
+    public Result<List<Seat>, SeatAllocationError> allocateAdjacent(SeatClass seatClass, int count) {
+        return adjacent(seatClass, count, true);
+    }
+
+    /**
+     * allocateAdjacent가 배정할 좌석 (배정하지 않음) - 좌석 추천 화면용, 실제 배정 시 이미 나갔을 수 있음
+     */
+    public Result<List<Seat>, SeatAllocationError> findAdjacent(SeatClass seatClass, int count) {
+        return adjacent(seatClass, count, false);
+    }
+
+    /**
+     * 지정 좌석 배정
+     */
+    public Result<Seat, SeatAllocationError> claim(Seat seat) {
+        Cabin cabin = cabins.get(seat.seatClass());
+        if (cabin == null) {
+            return Result.failure(new SeatAllocationError.NoSuchCabin(seat.seatClass()));
+        }
+        int position = cabin.position(seat);
+        if (position < 0) {
+            return Result.failure(new SeatAllocationError.NoSuchSeat(seat.label()));
+        }
+        return cabin.claim(position) ? Result.success(seat) : Result.failure(new SeatAllocationError.SeatTaken(seat));
+    }
+
+    /**
+     * 지정 좌석 배정 - "12C" 형식, 행 번호로 객실을 찾음
+     */
+    public Result<Seat, SeatAllocationError> claim(String label) {
+        return seat(label)
+                .<Result<Seat, SeatAllocationError>>map(this::claim)
+                .orElseGet(() -> Result.failure(new SeatAllocationError.NoSuchSeat(label)));
+    }
+
+    /**
+     * 배정 해제 (예약 취소/만료) - 비어 있는 좌석이 섞여 있어도 무시
+     */
+    public void release(List<Seat> seats) {
+        for (Seat seat : seats) {
+            Cabin cabin = cabins.get(seat.seatClass());
+            int position = cabin == null ? -1 : cabin.position(seat);
+            if (position < 0) {
+                throw new IllegalArgumentException("좌석 배치도에 없는 좌석입니다: " + seat.label());
+            }
+            cabin.release(position);
+        }
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    /**
+     * "12C" → 좌석 (배치도에 없으면 empty)
+     */
+    public Optional<Seat> seat(String label) {
+        if (label == null || label.length() < 2 || !Character.isLetter(label.charAt(label.length() - 1))) {
+            return Optional.empty();
+        }
+        int row;
+        try {
+            row = Integer.parseInt(label.substring(0, label.length() - 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        char letter = label.charAt(label.length() - 1);
+        return cabins.values().stream()
+                .filter(cabin -> row >= cabin.layout.firstRow() && row <= cabin.layout.lastRow())
+                .findFirst()
+                .map(cabin -> new Seat(cabin.layout.seatClass(), row, letter))
+                .filter(seat -> cabins.get(seat.seatClass()).position(seat) >= 0);
+    }
+
+    public boolean isOccupied(Seat seat) {
+        Cabin cabin = cabins.get(seat.seatClass());
+        int position = cabin == null ? -1 : cabin.position(seat);
+        return position >= 0 && cabin.isSet(position);
+    }
+
+    public int available(SeatClass seatClass) {
+        Cabin cabin = cabins.get(seatClass);
+        return cabin == null ? 0 : cabin.available();
+    }
+
+    /**
+     * 등급별 빈 좌석 수 - Flight.availableSeats와 같은 모양
+     */
+    public Map<SeatClass, Integer> availableSeats() {
+        Map<SeatClass, Integer> available = new HashMap<>();
+        cabins.forEach((seatClass, cabin) -> available.put(seatClass, cabin.available()));
+        return Map.copyOf(available);
+    }
+
+    private Result<List<Seat>, SeatAllocationError> adjacent(SeatClass seatClass, int count, boolean claim) {
+        if (count <= 0) throw new IllegalArgumentException("인원은 1명 이상이어야 합니다: " + count);
+        Cabin cabin = cabins.get(seatClass);
+        if (cabin == null) {
+            return Result.failure(new SeatAllocationError.NoSuchCabin(seatClass));
+        }
+        if (count > cabin.maxBlock) {
+            return Result.failure(new SeatAllocationError.GroupTooLarge(count, cabin.maxBlock));
+        }
+        int start = cabin.adjacent(count, claim);
+        if (start < 0) {
+            return Result.failure(new SeatAllocationError.NoAdjacentSeats(seatClass, count, cabin.available()));
+        }
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            seats.add(cabin.seat(start + i));
+        }
+        return Result.success(seats);
+    }
+
+    // ============================================
+    // 내부 구현 - 객실 하나의 비트셋
+    // ============================================
+
+    private static final class Cabin {
+
+        final CabinLayout layout;
+        final int seatsPerRow;
+        final int rowsPerWord;
+        final int maxBlock;
+        final String letters;
+        final long[] validMasks;
+        final long[] startMasks;
+        final AtomicLongArray words;
+
+        Cabin(CabinLayout layout) {
+            this.layout = layout;
+            this.seatsPerRow = layout.seatsPerRow();
+            this.rowsPerWord = Long.SIZE / seatsPerRow;
+            this.letters = layout.letters().replace(" ", "");
+
+            // 한 행 안에서 통로로 나뉜 묶음 → n석 run의 시작 가능 위치
+            long rowMask = seatsPerRow == Long.SIZE ? -1L : (1L << seatsPerRow) - 1;
+            List<int[]> blocks = new ArrayList<>();
+            int seat = 0;
+            for (String block : layout.letters().trim().split(" +")) {
+                blocks.add(new int[]{seat, block.length()});
+                seat += block.length();
+            }
+            this.maxBlock = blocks.stream().mapToInt(block -> block[1]).max().orElseThrow();
+            this.startMasks = new long[maxBlock + 1];
+            for (int n = 1; n <= maxBlock; n++) {
+                long rowStarts = 0;
+                for (int[] block : blocks) {
+                    for (int s = block[0]; s + n <= block[0] + block[1]; s++) {
+                        rowStarts |= 1L << s;
+                    }
+                }
+                startMasks[n] = replicate(rowStarts, rowsPerWord);
+            }
+
+            int wordCount = (layout.rows() + rowsPerWord - 1) / rowsPerWord;
+            this.words = new AtomicLongArray(wordCount);
+            this.validMasks = new long[wordCount];
+            for (int w = 0; w < wordCount; w++) {
+                int rows = Math.min(rowsPerWord, layout.rows() - w * rowsPerWord);
+                validMasks[w] = replicate(rowMask, rows);
+            }
+        }
+
+        private long replicate(long rowBits, int rows) {
+            long mask = 0;
+            for (int r = 0; r < rows; r++) {
+                mask |= rowBits << (r * seatsPerRow);
+            }
+            return mask;
+        }
+
+        /**
+         * @return 첫 좌석 위치 (word × 64 + bit), 없으면 -1
+         */
+        int adjacent(int count, boolean claim) {
+            long run = count == Long.SIZE ? -1L : (1L << count) - 1;
+            for (int w = 0; w < validMasks.length; w++) {
+                long allowed = startMasks[count] & validMasks[w];
+                while (true) {
+                    long word = words.get(w);
+                    long starts = runStarts(~word, count) & allowed;
+                    if (starts == 0) {
+                        break;
+                    }
+                    int bit = Long.numberOfTrailingZeros(starts);
+                    if (!claim || words.compareAndSet(w, word, word | (run << bit))) {
+                        return w * Long.SIZE + bit;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 비트 p가 1 = p부터 count비트가 모두 1 (길이를 두 배씩 늘려 shift-and)
+         */
+        private static long runStarts(long free, int count) {
+            long starts = free;
+            int length = 1;
+            while (length < count) {
+                int shift = Math.min(length, count - length);
+                starts &= starts >>> shift;
+                length += shift;
+            }
+            return starts;
+        }
+
+        boolean claim(int position) {
+            int w = position / Long.SIZE;
+            long bit = 1L << (position % Long.SIZE);
+            while (true) {
+                long word = words.get(w);
+                if ((word & bit) != 0) {
+                    return false;
+                }
+                if (words.compareAndSet(w, word, word | bit)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(int position) {
+            long bit = 1L << (position % Long.SIZE);
+            words.getAndUpdate(position / Long.SIZE, word -> word & ~bit);
+        }
+
+        boolean isSet(int position) {
+            return (words.get(position / Long.SIZE) & (1L << (position % Long.SIZE))) != 0;
+        }
+
+        int available() {
+            int occupied = 0;
+            for (int w = 0; w < validMasks.length; w++) {
+                occupied += Long.bitCount(words.get(w) & validMasks[w]);
+            }
+            return layout.capacity() - occupied;
+        }
+
+        /**
+         * 좌석 → 위치, 배치도에 없으면 -1
+         */
+        int position(Seat seat) {
+            if (seat.row() < layout.firstRow() || seat.row() > layout.lastRow()) {
+                return -1;
+            }
+            int column = letters.indexOf(seat.letter());
+            if (column < 0) {
+                return -1;
+            }
+            int row = seat.row() - layout.firstRow();
+            return (row / rowsPerWord) * Long.SIZE + (row % rowsPerWord) * seatsPerRow + column;
+        }
+
+        Seat seat(int position) {
+            int bit = position % Long.SIZE;
+            int row = (position / Long.SIZE) * rowsPerWord + bit / seatsPerRow;
+            return new Seat(layout.seatClass(), layout.firstRow() + row, letters.charAt(bit % seatsPerRow));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.travel.domain.promotion;
+
+/**
+ * 프로모션 규칙 정의 - 파일 한 줄 / promotion_rules 한 행 (파싱 전 텍스트)
+ *
+ * @param id         프로모션 ID
+ * @param expression 규칙 (PromotionRuleParser 문법)
+ */
+public record PromotionRuleDefinition(String id, String expression) {}
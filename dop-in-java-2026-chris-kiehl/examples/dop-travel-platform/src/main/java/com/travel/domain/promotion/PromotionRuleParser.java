@@ -0,0 +1,296 @@
+package com.travel.domain.promotion;
+
+import com.travel.domain.membership.MembershipTier;
+import com.travel.shared.Result;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 프로모션 규칙 파서 - 텍스트 정의 ↔ PromotionRule AST (순수 함수)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 규칙을 파일/DB 행으로 배포할 수 있게 함 (PromotionRule 문서의 "규칙을 DB에서 로드")
+ *
+ * <h2>핵심 개념 (Key Concept): 문법</h2>
+ * <pre>
+ * rule := always | never | first_booking
+ *       | membership(GOLD)                 MembershipIs
+ *       | min_amount(100000 KRW)           MinimumAmount (금액 + 공백 + 통화)
+ *       | date(2026-07-01, 2026-08-31)     DateInRange (양끝 포함)
+ *       | item_type(FLIGHT)                ItemTypeIs
+ *       | item_count(2)                    ItemCountAtLeast
+ *       | not(rule)
+ *       | and(rule, rule, ...)             2개 이상 - 왼쪽부터 묶음: and(a, b, c) = And(And(a, b), c)
+ *       | or(rule, rule, ...)
+ *
+ * 예: and(or(membership(GOLD), membership(PLATINUM)), min_amount(300000 KRW), not(item_type(FLIGHT)))
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 오류는 예외가 아닌 Result.failure("위치 n: ...") - 잘못된 규칙 하나가 배포 전체를 멈추지 않게
+ *       호출자가 모아서 보고 (PromotionRuleSet.compile)</li>
+ *   <li>[Trap] 중첩 깊이 MAX_DEPTH 제한 - 깊은 입력으로 평가/파싱 중 StackOverflowError 방지</li>
+ *   <li>[Key Point] format(parse(text))는 같은 규칙 - 관리 API가 현재 규칙을 이 문법으로 보여줌</li>
+ * </ul>
+ */
+public final class PromotionRuleParser {
+
+    /**
+     * 최대 중첩 깊이
+     */
+    public static final int MAX_DEPTH = 32;
+
+    private PromotionRuleParser() {}
+
+    // ============================================
+    // [Key Point] 파싱
+    // ============================================
+
+    /**
+     * @param text 규칙 정의
+     * @return 규칙, 문법 오류면 "위치 n: 사유"
+     */
+    public static Result<PromotionRule, String> parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Result.failure("규칙이 비어 있습니다");
+        }
+        Cursor cursor = new Cursor(text);
+        try {
+            PromotionRule rule = cursor.rule(1);
+            cursor.skipSpaces();
+            if (!cursor.atEnd()) {
+                throw cursor.error("규칙 뒤에 남은 문자가 있습니다");
+            }
+            return Result.success(rule);
+        } catch (SyntaxError e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    // ============================================
+    // 출력 (parse의 역)
+    // ============================================
+
+    public static String format(PromotionRule rule) {
+        return switch (rule) {
+            case PromotionRule.And(var left, var right) -> "and(" + format(left) + ", " + format(right) + ")";
+            case PromotionRule.Or(var left, var right) -> "or(" + format(left) + ", " + format(right) + ")";
+            case PromotionRule.Not(var inner) -> "not(" + format(inner) + ")";
+            case PromotionRule.MembershipIs(var tier) -> "membership(" + tier.name() + ")";
+            case PromotionRule.MinimumAmount(var amount) ->
+                    "min_amount(" + amount.amount().toPlainString() + " " + amount.currency().name() + ")";
+            case PromotionRule.DateInRange(var start, var end) -> "date(" + start + ", " + end + ")";
+            case PromotionRule.ItemTypeIs(var itemType) -> "item_type(" + itemType.name() + ")";
+            case PromotionRule.ItemCountAtLeast(var count) -> "item_count(" + count + ")";
+            case PromotionRule.FirstBooking() -> "first_booking";
+            case PromotionRule.Always() -> "always";
+            case PromotionRule.Never() -> "never";
+        };
+    }
+
+    // ============================================
+    // 내부 구현 - 재귀 하강
+    // ============================================
+
+    private static final class SyntaxError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SyntaxError(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static final class Cursor {
+
+        private final String text;
+        private int pos;
+
+        Cursor(String text) {
+            this.text = text;
+        }
+
+        PromotionRule rule(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw error("중첩이 " + MAX_DEPTH + "단계를 넘습니다");
+            }
+            skipSpaces();
+            int start = pos;
+            String name = name();
+            skipSpaces();
+            boolean hasArgs = !atEnd() && text.charAt(pos) == '(';
+
+            return switch (name) {
+                case "always" -> noArgs(name, hasArgs, new PromotionRule.Always());
+                case "never" -> noArgs(name, hasArgs, new PromotionRule.Never());
+                case "first_booking" -> noArgs(name, hasArgs, new PromotionRule.FirstBooking());
+                case "not" -> {
+                    List<PromotionRule> rules = rules(name, hasArgs, depth);
+                    if (rules.size() != 1) throw error("not은 규칙 1개를 받습니다");
+                    yield new PromotionRule.Not(rules.getFirst());
+                }
+                case "and", "or" -> {
+                    List<PromotionRule> rules = rules(name, hasArgs, depth);
+                    if (rules.size() < 2) throw error(name + "는 규칙 2개 이상을 받습니다");
+                    PromotionRule combined = rules.getFirst();
+                    for (PromotionRule next : rules.subList(1, rules.size())) {
+                        combined = name.equals("and")
+                                ? new PromotionRule.And(combined, next)
+                                : new PromotionRule.Or(combined, next);
+                    }
+                    yield combined;
+                }
+                case "membership" -> new PromotionRule.MembershipIs(
+                        enumValue(MembershipTier.class, single(atoms(name, hasArgs))));
+                case "min_amount" -> new PromotionRule.MinimumAmount(money(single(atoms(name, hasArgs))));
+                case "date" -> {
+                    List<String> args = atoms(name, hasArgs);
+                    if (args.size() != 2) throw error("date는 시작일, 종료일 2개를 받습니다");
+                    LocalDate from = date(args.get(0));
+                    LocalDate to = date(args.get(1));
+                    if (from.isAfter(to)) throw error("시작일이 종료일보다 늦습니다: " + from + " > " + to);
+                    yield new PromotionRule.DateInRange(from, to);
+                }
+                case "item_type" -> new PromotionRule.ItemTypeIs(
+                        enumValue(PromotionRule.ItemTypeIs.ItemType.class, single(atoms(name, hasArgs))));
+                case "item_count" -> {
+                    int count = integer(single(atoms(name, hasArgs)));
+                    if (count <= 0) throw error("item_count는 1 이상이어야 합니다: " + count);
+                    yield new PromotionRule.ItemCountAtLeast(count);
+                }
+                default -> {
+                    pos = start;
+                    throw error("알 수 없는 규칙: " + name);
+                }
+            };
+        }
+
+        private PromotionRule noArgs(String name, boolean hasArgs, PromotionRule rule) {
+            if (hasArgs) {
+                pos++;
+                skipSpaces();
+                expect(')', name + "은 인자를 받지 않습니다");
+            }
+            return rule;
+        }
+
+        private List<PromotionRule> rules(String name, boolean hasArgs, int depth) {
+            if (!hasArgs) throw error(name + " 뒤에 '('가 필요합니다");
+            pos++;
+            List<PromotionRule> rules = new ArrayList<>();
+            do {
+                rules.add(rule(depth + 1));
+                skipSpaces();
+            } while (consume(','));
+            expect(')', "',' 또는 ')'가 필요합니다");
+            return rules;
+        }
+
+        private List<String> atoms(String name, boolean hasArgs) {
+            if (!hasArgs) throw error(name + " 뒤에 '('가 필요합니다");
+            pos++;
+            List<String> atoms = new ArrayList<>();
+            do {
+                int start = pos;
+                while (!atEnd() && text.charAt(pos) != ',' && text.charAt(pos) != ')' && text.charAt(pos) != '(') {
+                    pos++;
+                }
+                String atom = text.substring(start, pos).trim();
+                if (atom.isEmpty()) throw error(name + "의 인자가 비어 있습니다");
+                atoms.add(atom);
+            } while (consume(','));
+            expect(')', "',' 또는 ')'가 필요합니다");
+            return atoms;
+        }
+
+        private String single(List<String> atoms) {
+            if (atoms.size() != 1) throw error("인자 1개가 필요합니다: " + atoms.size() + "개");
+            return atoms.getFirst();
+        }
+
+        private String name() {
+            int start = pos;
+            while (!atEnd() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                pos++;
+            }
+            if (start == pos) throw error("규칙 이름이 필요합니다");
+            return text.substring(start, pos);
+        }
+
+        private <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+            try {
+                return Enum.valueOf(type, value);
+            } catch (IllegalArgumentException e) {
+                throw error(type.getSimpleName() + " 값이 아닙니다: " + value + " (가능: "
+                        + Arrays.stream(type.getEnumConstants()).map(Enum::name).collect(Collectors.joining(", ")) + ")");
+            }
+        }
+
+        private Money money(String value) {
+            String[] parts = value.split("\\s+");
+            if (parts.length != 2) throw error("금액은 '100000 KRW' 형식이어야 합니다: " + value);
+            Currency currency = enumValue(Currency.class, parts[1]);
+            try {
+                BigDecimal amount = new BigDecimal(parts[0]);
+                if (amount.signum() < 0) throw error("금액은 0 이상이어야 합니다: " + value);
+                if (amount.stripTrailingZeros().scale() > currency.decimalPlaces()) {
+                    throw error(currency.name() + " 소수 자릿수를 넘습니다: " + value);
+                }
+                return new Money(amount, currency);
+            } catch (NumberFormatException e) {
+                throw error("금액이 숫자가 아닙니다: " + parts[0]);
+            }
+        }
+
+        private LocalDate date(String value) {
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw error("날짜는 yyyy-MM-dd 형식이어야 합니다: " + value);
+            }
+        }
+
+        private int integer(String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw error("정수가 아닙니다: " + value);
+            }
+        }
+
+        void skipSpaces() {
+            while (!atEnd() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        boolean atEnd() {
+            return pos >= text.length();
+        }
+
+        private boolean consume(char c) {
+            skipSpaces();
+            if (!atEnd() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c, String message) {
+            if (!consume(c)) throw error(message);
+        }
+
+        SyntaxError error(String message) {
+            return new SyntaxError("위치 " + (pos + 1) + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.travel.domain.promotion;
+
+import com.travel.shared.Result;
+import com.travel.shared.Validation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 프로모션 규칙 스냅샷 - 한 번 배포된 규칙 묶음 (불변)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 결제 스레드가 읽는 단위 - 레지스트리가 참조 하나를 바꿔 통째로 교체하므로 부분 갱신된 규칙을 보는 일이 없음
+ *
+ * <h2>핵심 개념 (Key Concept): 컴파일 = 검증 + 단순화</h2>
+ * <pre>
+ * compile(version, definitions, ...):
+ *   정의마다 PromotionRuleParser.parse → PromotionRuleEngine.simplify
+ *   ID 누락/중복, 문법 오류를 모두 모아서 Invalid ([Ch 5] fail-slow - 배포 한 번에 전부 보고)
+ *   하나라도 오류면 스냅샷을 만들지 않음 → 일부 규칙만 배포되는 일 없음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] rules는 단순화된 규칙 - never로 줄어든 규칙도 남겨 둠 (어떤 프로모션이 꺼졌는지 보이도록)</li>
+ *   <li>[Key Point] sameRulesAs - 출처가 바뀌지 않았으면 레지스트리가 새 버전을 만들지 않음</li>
+ * </ul>
+ *
+ * @param version  배포 버전 (레지스트리가 1부터 증가)
+ * @param rules    프로모션 ID → 단순화된 규칙 (정의 순서)
+ * @param source   출처 설명
+ * @param loadedAt 컴파일 시각
+ */
+public record PromotionRuleSet(long version, Map<String, PromotionRule> rules, String source, Instant loadedAt) {
+
+    public PromotionRuleSet {
+        if (version < 1) throw new IllegalArgumentException("버전은 1 이상이어야 합니다: " + version);
+        rules = Collections.unmodifiableMap(new LinkedHashMap<>(rules));
+    }
+
+    // ============================================
+    // [Key Point] 컴파일
+    // ============================================
+
+    public static Validation<PromotionRuleSet, String> compile(
+            long version, List<PromotionRuleDefinition> definitions, String source, Instant loadedAt) {
+        Map<String, PromotionRule> rules = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < definitions.size(); i++) {
+            PromotionRuleDefinition definition = definitions.get(i);
+            String id = definition.id() == null ? "" : definition.id().trim();
+            if (id.isEmpty()) {
+                errors.add((i + 1) + "번째 정의: 프로모션 ID가 없습니다");
+                continue;
+            }
+            if (rules.containsKey(id)) {
+                errors.add("[" + id + "] 중복된 프로모션 ID");
+                continue;
+            }
+            switch (PromotionRuleParser.parse(definition.expression())) {
+                case Result.Success<PromotionRule, String> parsed ->
+                        rules.put(id, PromotionRuleEngine.simplify(parsed.value()));
+                case Result.Failure<PromotionRule, String> failed ->
+                        errors.add("[" + id + "] " + failed.error());
+            }
+        }
+        if (!errors.isEmpty()) {
+            return Validation.invalid(errors);
+        }
+        return Validation.valid(new PromotionRuleSet(version, rules, source, loadedAt));
+    }
+
+    // ============================================
+    // 조회 / 평가
+    // ============================================
+
+    public Optional<PromotionRule> rule(String promotionId) {
+        return Optional.ofNullable(rules.get(promotionId));
+    }
+
+    /**
+     * 컨텍스트가 충족하는 프로모션 ID (정의 순서)
+     */
+    public List<String> eligiblePromotions(PromotionRuleEngine.PromotionContext context) {
+        List<String> eligible = new ArrayList<>();
+        rules.forEach((id, rule) -> {
+            if (PromotionRuleEngine.evaluate(rule, context)) {
+                eligible.add(id);
+            }
+        });
+        return eligible;
+    }
+
+    public boolean sameRulesAs(PromotionRuleSet other) {
+        return other != null && List.copyOf(rules.entrySet()).equals(List.copyOf(other.rules.entrySet()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.travel.domain.promotion;
+
+import java.util.List;
+
+/**
+ * 프로모션 규칙 출처 - 로컬 파일 또는 promotion_rules 테이블
+ *
+ * <p>[Key Point] load()는 호출마다 출처를 다시 읽음 - 재기동 없이 규칙을 바꾸는 경로 (PromotionRuleRegistry.reload)</p>
+ * <p>[Trap] 출처를 읽지 못하면 예외 - 레지스트리는 이전 스냅샷을 그대로 유지</p>
+ */
+public interface PromotionRuleSource {
+
+    List<PromotionRuleDefinition> load();
+
+    /**
+     * 로그/관리 API에 표시할 출처 설명 (예: 파일 경로)
+     */
+    String description();
+}
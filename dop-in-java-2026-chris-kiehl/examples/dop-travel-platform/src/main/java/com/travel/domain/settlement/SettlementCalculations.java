@@ -3,7 +3,11 @@ package com.travel.domain.settlement;
 import com.travel.shared.types.Currency;
 import com.travel.shared.types.Money;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 정산 계산 - 순수 함수 모음 (Functional Core)
@@ -116,6 +120,48 @@ public final class SettlementCalculations {
                 .reduce(Money.zero(currency), Money::add);
     }
 
+    // ============================================
+    // [Key Point] 파트너 정산 생성 - 통화별 분리
+    // ============================================
+
+    /**
+     * 한 파트너의 기간 정산 생성 - 통화마다 정산 1건
+     *
+     * <pre>
+     * [FC] 순수 계산 (ID/생성 시각 외에는 입력만으로 결정)
+     *
+     * items (KRW, USD 혼합)
+     *   → 통화별 그룹 → Settlement.create(partnerId, date, group, feeRate)
+     *
+     * [Why 통화별] Money.add는 통화가 다르면 예외 - 한 정산에 섞을 수 없음
+     * [Why 합계에 수수료] 항목마다 수수료를 반올림하면 합계 수수료와 최대 (항목 수 × 최소 단위)만큼 차이
+     *   → 총액에 한 번만 multiplyPercent (BigDecimal, 통화 소수 자릿수로 반올림)
+     * </pre>
+     *
+     * @param partnerId      파트너 ID
+     * @param settlementDate 정산 기준일
+     * @param items          파트너의 정산 항목 (통화 혼합 가능)
+     * @param feeRate        수수료율 (예: 10 = 10%)
+     * @return Currency 선언 순 정산 목록 (항목이 없으면 빈 목록)
+     */
+    public static List<Settlement> settleByCurrency(
+            String partnerId,
+            LocalDate settlementDate,
+            List<Settlement.SettlementItem> items,
+            int feeRate
+    ) {
+        Map<Currency, List<Settlement.SettlementItem>> byCurrency = new EnumMap<>(Currency.class);
+        for (Settlement.SettlementItem item : items) {
+            byCurrency.computeIfAbsent(item.amount().currency(), c -> new ArrayList<>()).add(item);
+        }
+
+        List<Settlement> settlements = new ArrayList<>(byCurrency.size());
+        for (List<Settlement.SettlementItem> group : byCurrency.values()) {
+            settlements.add(Settlement.create(partnerId, settlementDate, group, feeRate));
+        }
+        return List.copyOf(settlements);
+    }
+
     // ============================================
     // [Key Point] 수수료 계산
     // ============================================
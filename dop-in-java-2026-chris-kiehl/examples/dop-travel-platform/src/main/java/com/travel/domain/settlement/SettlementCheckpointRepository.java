@@ -0,0 +1,29 @@
+package com.travel.domain.settlement;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 정산 생성 진행 기록 - 파트너 단위 재시작 지점
+ *
+ * <pre>
+ * [Key Point] 파트너의 정산 저장과 markCompleted를 같은 트랜잭션에서 실행
+ *   → 기록이 있으면 정산도 있음, 기록이 없으면 정산도 없음 (중간 상태 없음)
+ *   → 재실행 시 기록된 파트너만 건너뛰면 중복 정산이 생기지 않음
+ * </pre>
+ */
+public interface SettlementCheckpointRepository {
+
+    /**
+     * 정산 기간에 완료된 파트너 ID
+     */
+    Set<String> findCompletedPartnerIds(YearMonth period);
+
+    void markCompleted(YearMonth period, String partnerId, int settlementCount);
+
+    /**
+     * 완료 기록이 하나라도 있는 가장 최근 정산 기간 (기록이 없으면 빈 값)
+     */
+    Optional<YearMonth> findLastSettledPeriod();
+}
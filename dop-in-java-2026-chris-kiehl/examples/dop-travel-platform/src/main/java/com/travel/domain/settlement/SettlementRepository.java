@@ -0,0 +1,19 @@
+package com.travel.domain.settlement;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 정산 Repository 인터페이스
+ *
+ * <p>[IS] 정산 생성 Job은 파트너 단위로 saveAll - 정산/항목 INSERT를 JDBC 배치로 묶음</p>
+ */
+public interface SettlementRepository {
+
+    /**
+     * 새 정산 일괄 저장 (항목 포함)
+     */
+    List<Settlement> saveAll(List<Settlement> settlements);
+
+    List<Settlement> findByPartnerIdAndSettlementDate(String partnerId, LocalDate settlementDate);
+}
@@ -0,0 +1,40 @@
+package com.travel.domain.settlement;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 정산 원천 데이터 - 기간 내 이용 완료된 예약 항목
+ *
+ * <h2>핵심 개념 (Key Concept): keyset 페이지 조회</h2>
+ * <pre>
+ * [Key Point] OFFSET 대신 마지막으로 읽은 항목 ID 다음부터 조회
+ *   WHERE partner_id = ? AND id &gt; :afterItemId ORDER BY id LIMIT :limit
+ *   → 페이지가 뒤로 갈수록 느려지지 않음 (OFFSET은 앞 페이지를 모두 건너뛰며 읽음)
+ *   → 조회 도중 행이 추가되어도 중복/누락 없음
+ * </pre>
+ */
+public interface SettlementSource {
+
+    /**
+     * 정산 항목 한 행
+     *
+     * @param itemId 예약 항목 ID (keyset 커서)
+     * @param item   정산 항목
+     */
+    record Row(String itemId, Settlement.SettlementItem item) {}
+
+    /**
+     * 기간 [from, to) 안에 완료된 항목이 있는 파트너 ID (정렬됨)
+     */
+    List<String> findPartnerIds(Instant from, Instant to);
+
+    /**
+     * 파트너의 완료 항목 한 페이지
+     *
+     * @param afterItemId 이전 페이지 마지막 itemId (첫 페이지는 null)
+     * @param limit       페이지 크기
+     * @return itemId 순 (limit보다 적으면 마지막 페이지)
+     */
+    List<Row> findCompletedItems(String partnerId, Instant from, Instant to, String afterItemId, int limit);
+}
@@ -0,0 +1,229 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.shared.types.Currency;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정산 복식부기 원장 계산 - 분개 생성, 잔액 fold, 검증 (순수 함수)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Settlement에는 총액/수수료/실지급액만 있어 "파트너에게 지금(또는 3월 31일에) 얼마를 줘야 하나"에 답하려면
+ * 정산과 예약을 전부 다시 읽어야 했음 → 사건마다 분개를 남기고 잔액을 누계로 유지
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Functional Core</h2>
+ * <pre>
+ * journal(tx, lastSequence, lastPostedAt, now)   거래 → 일련번호가 붙은 분개 (금액은 통화 최소 단위)
+ * replay(checkpoint, journal)                    체크포인트 잔액 + 그 뒤 분개 → 새 체크포인트 값
+ * replay(balance, journal)                       계정 하나의 잔액 + 그 뒤 분개 → 잔액
+ * verify(journal, stored, current)               전체 분개 재생 - 거래별/통화별 차변 = 대변, 체크포인트/누계 일치
+ * </pre>
+ * 잠금, 저장소 읽기/쓰기, 메모리 누계는 Imperative Shell(SettlementLedgerService)이 담당
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] journal의 postedAt은 일련번호 순으로 감소하지 않아야 시점 → 일련번호 변환이 성립 - 시계가 뒤로 가면 lastPostedAt 사용</li>
+ *   <li>[Trap] replay에 넘기는 분개는 checkpoint.sequence() 이후 것만 - 앞선 분개가 섞이면 두 번 반영</li>
+ *   <li>[Why 체크포인트에 바뀐 계정만] 파트너 수만큼 행을 매번 쓰지 않음 - 거래가 없는 파트너는 예전 행이 그대로 유효</li>
+ * </ul>
+ */
+public final class Ledger {
+
+    private Ledger() {
+    }
+
+    // ============================================
+    // [Key Point] 분개 생성
+    // ============================================
+
+    /**
+     * 거래를 일련번호가 붙은 분개로 변환
+     *
+     * @param lastSequence 마지막으로 기록된 일련번호 (첫 분개는 lastSequence + 1)
+     * @param lastPostedAt 마지막 분개의 기록 시각 - now가 이보다 이르면 이 값을 사용
+     */
+    public static List<LedgerEntry> journal(LedgerTransaction transaction, long lastSequence,
+                                            Instant lastPostedAt, Instant now) {
+        if (lastSequence < 0) throw new IllegalArgumentException("일련번호는 0 이상이어야 합니다: " + lastSequence);
+        Instant postedAt = now.isBefore(lastPostedAt) ? lastPostedAt : now;
+        List<LedgerEntry> entries = new ArrayList<>(transaction.postings().size());
+        long sequence = lastSequence;
+        for (LedgerTransaction.Posting posting : transaction.postings()) {
+            entries.add(new LedgerEntry(++sequence, transaction.id(), posting.account(), posting.side(),
+                    posting.amount().amount().unscaledValue().longValueExact(),
+                    posting.amount().currency(), postedAt));
+        }
+        return List.copyOf(entries);
+    }
+
+    // ============================================
+    // [Key Point] 잔액 fold
+    // ============================================
+
+    /**
+     * 체크포인트 - 일련번호 sequence까지 반영한 계정별 잔액
+     *
+     * @param sequence 마지막으로 반영한 일련번호 (0이면 빈 원장)
+     * @param balances 계정/통화별 잔액 (분개가 없는 계정은 없음)
+     */
+    public record Checkpoint(long sequence, Map<LedgerBalance.Key, LedgerBalance> balances) {
+
+        public Checkpoint {
+            if (sequence < 0) throw new IllegalArgumentException("일련번호는 0 이상이어야 합니다: " + sequence);
+            balances = Map.copyOf(balances);
+        }
+
+        public static Checkpoint empty() {
+            return new Checkpoint(0, Map.of());
+        }
+
+        /**
+         * 저장된 체크포인트 행 → 체크포인트 (계정마다 sequence 이하의 마지막 행)
+         */
+        public static Checkpoint of(long sequence, List<LedgerRepository.CheckpointBalance> rows) {
+            Map<LedgerBalance.Key, LedgerBalance> balances = new HashMap<>();
+            for (LedgerRepository.CheckpointBalance row : rows) {
+                balances.put(row.balance().key(), row.balance());
+            }
+            return new Checkpoint(sequence, balances);
+        }
+
+        public LedgerBalance balance(LedgerAccount account, Currency currency) {
+            return balances.getOrDefault(new LedgerBalance.Key(account, currency), LedgerBalance.zero(account, currency));
+        }
+    }
+
+    /**
+     * 체크포인트 + 그 뒤 분개 → 마지막 분개까지 반영한 체크포인트
+     */
+    public static Checkpoint replay(Checkpoint checkpoint, Iterable<LedgerEntry> journal) {
+        Map<LedgerBalance.Key, LedgerBalance> balances = new HashMap<>(checkpoint.balances());
+        long sequence = checkpoint.sequence();
+        for (LedgerEntry entry : journal) {
+            post(balances, entry);
+            sequence = entry.sequence();
+        }
+        return new Checkpoint(sequence, balances);
+    }
+
+    /**
+     * 계정 하나의 잔액 + 그 뒤 분개 → 잔액 (다른 계정/통화의 분개는 거부)
+     */
+    public static LedgerBalance replay(LedgerBalance balance, Iterable<LedgerEntry> journal) {
+        for (LedgerEntry entry : journal) {
+            if (!entry.account().equals(balance.account()) || entry.currency() != balance.currency()) {
+                throw new IllegalArgumentException("다른 계정의 분개입니다: #" + entry.sequence() + " "
+                        + entry.account().key() + " " + entry.currency().code());
+            }
+            balance = balance.post(entry);
+        }
+        return balance;
+    }
+
+    private static void post(Map<LedgerBalance.Key, LedgerBalance> balances, LedgerEntry entry) {
+        LedgerBalance.Key key = new LedgerBalance.Key(entry.account(), entry.currency());
+        balances.put(key, balances.getOrDefault(key, LedgerBalance.zero(entry.account(), entry.currency())).post(entry));
+    }
+
+    // ============================================
+    // [Key Point] 검증
+    // ============================================
+
+    /**
+     * 검증 결과
+     *
+     * @param entries      검사한 분개 수
+     * @param transactions 검사한 거래 수
+     * @param debits       통화별 차변 합계
+     * @param credits      통화별 대변 합계
+     * @param violations   위반 내용 (비어 있으면 통과)
+     */
+    public record Verification(
+            long entries,
+            long transactions,
+            Map<Currency, Long> debits,
+            Map<Currency, Long> credits,
+            List<String> violations
+    ) {
+        public boolean isBalanced() {
+            return violations.isEmpty();
+        }
+    }
+
+    /**
+     * 전체 분개 재생 검증
+     *
+     * <pre>
+     * 1. 일련번호가 1부터 빈 번호 없이 이어짐
+     * 2. 거래마다 통화별 차변 = 대변
+     * 3. 원장 전체 통화별 차변 합계 = 대변 합계
+     * 4. 재생 결과 = 저장된 체크포인트 잔액 (그 시점 기준)
+     * 5. 재생 결과 = 메모리 누계
+     * </pre>
+     *
+     * @param journal 1번부터의 전체 분개 (일련번호 순)
+     * @param stored  저장된 마지막 체크포인트
+     * @param current 메모리 누계
+     */
+    public static Verification verify(Iterable<LedgerEntry> journal, Checkpoint stored,
+                                      Map<LedgerBalance.Key, LedgerBalance> current) {
+        List<String> violations = new ArrayList<>();
+        Map<Currency, Long> debits = new EnumMap<>(Currency.class);
+        Map<Currency, Long> credits = new EnumMap<>(Currency.class);
+        Map<LedgerBalance.Key, LedgerBalance> replayed = new HashMap<>();
+        Map<Currency, Long> transactionNet = new EnumMap<>(Currency.class);
+        String transactionId = null;
+        long transactions = 0;
+        long expected = 1;
+
+        for (LedgerEntry entry : journal) {
+            if (entry.sequence() != expected) {
+                violations.add("일련번호 누락: #" + expected + " 대신 #" + entry.sequence());
+            }
+            expected = entry.sequence() + 1;
+
+            if (!entry.transactionId().equals(transactionId)) {
+                checkTransaction(transactionId, transactionNet, violations);
+                transactionId = entry.transactionId();
+                transactions++;
+            }
+            transactionNet.merge(entry.currency(), entry.signedAmount(), Math::addExact);
+            (entry.side() == LedgerEntry.Side.DEBIT ? debits : credits)
+                    .merge(entry.currency(), entry.amount(), Math::addExact);
+            post(replayed, entry);
+
+            if (entry.sequence() == stored.sequence() && !stored.balances().equals(replayed)) {
+                violations.add("체크포인트 #" + stored.sequence() + " 잔액이 분개 재생 결과와 다릅니다");
+            }
+        }
+        checkTransaction(transactionId, transactionNet, violations);
+
+        for (Currency currency : Currency.values()) {
+            long debit = debits.getOrDefault(currency, 0L);
+            long credit = credits.getOrDefault(currency, 0L);
+            if (debit != credit) {
+                violations.add(currency.code() + " 차변 합계 " + debit + " != 대변 합계 " + credit);
+            }
+        }
+        if (!replayed.equals(current)) {
+            violations.add("메모리 누계가 분개 재생 결과와 다릅니다 (재생 " + replayed.size()
+                    + "개, 누계 " + current.size() + "개)");
+        }
+        return new Verification(expected - 1, transactions, Map.copyOf(debits), Map.copyOf(credits),
+                List.copyOf(violations));
+    }
+
+    private static void checkTransaction(String transactionId, Map<Currency, Long> net, List<String> violations) {
+        net.forEach((currency, difference) -> {
+            if (difference != 0) {
+                violations.add("거래 " + transactionId + " " + currency.code() + " 차변/대변 차이 " + difference);
+            }
+        });
+        net.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package com.travel.domain.settlement.ledger;
+
+/**
+ * 원장 계정 - Sum Type
+ *
+ * <pre>
+ * Cash               플랫폼 보유 현금 (자산 - 차변 잔액)
+ * PartnerPayable     파트너에게 줄 돈 (부채 - 대변 잔액, 파트너마다 하나)
+ * CommissionRevenue  플랫폼 수수료 수익 (수익 - 대변 잔액)
+ * </pre>
+ *
+ * <p>[Key Point] key()는 저장/조회용 문자열 - parse(key())로 같은 계정이 돌아옴</p>
+ */
+public sealed interface LedgerAccount permits
+        LedgerAccount.Cash,
+        LedgerAccount.PartnerPayable,
+        LedgerAccount.CommissionRevenue {
+
+    String key();
+
+    record Cash() implements LedgerAccount {
+        @Override public String key() { return "cash"; }
+    }
+
+    record PartnerPayable(String partnerId) implements LedgerAccount {
+        public PartnerPayable {
+            if (partnerId == null || partnerId.isBlank()) throw new IllegalArgumentException("파트너 ID는 필수입니다");
+        }
+        @Override public String key() { return "partner:" + partnerId; }
+    }
+
+    record CommissionRevenue() implements LedgerAccount {
+        @Override public String key() { return "commission"; }
+    }
+
+    static LedgerAccount parse(String key) {
+        return switch (key) {
+            case "cash" -> new Cash();
+            case "commission" -> new CommissionRevenue();
+            default -> {
+                if (!key.startsWith("partner:")) throw new IllegalArgumentException("알 수 없는 원장 계정: " + key);
+                yield new PartnerPayable(key.substring("partner:".length()));
+            }
+        };
+    }
+}
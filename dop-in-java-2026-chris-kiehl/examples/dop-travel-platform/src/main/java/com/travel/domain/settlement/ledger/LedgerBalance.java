@@ -0,0 +1,59 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.shared.types.Currency;
+
+import java.math.BigDecimal;
+
+/**
+ * 계정 × 통화 잔액 - 차변/대변 누계 (통화 최소 단위)
+ *
+ * <pre>
+ * net() = debits - credits
+ *   Cash               net &gt; 0 (자산)
+ *   PartnerPayable     net &lt; 0 (부채 - 파트너에게 줄 돈 = -net)
+ *   CommissionRevenue  net &lt; 0 (수익)
+ *
+ * [Why 누계 두 개] 순잔액만 두면 "이번 달 차변 합계" 같은 질문에 다시 분개를 읽어야 함
+ * </pre>
+ */
+public record LedgerBalance(LedgerAccount account, Currency currency, long debits, long credits) {
+
+    /**
+     * 잔액 조회 키
+     */
+    public record Key(LedgerAccount account, Currency currency) {}
+
+    public LedgerBalance {
+        if (account == null) throw new IllegalArgumentException("계정은 필수입니다");
+        if (currency == null) throw new IllegalArgumentException("통화는 필수입니다");
+        if (debits < 0 || credits < 0) throw new IllegalArgumentException("누계는 음수일 수 없습니다");
+    }
+
+    public static LedgerBalance zero(LedgerAccount account, Currency currency) {
+        return new LedgerBalance(account, currency, 0, 0);
+    }
+
+    public Key key() {
+        return new Key(account, currency);
+    }
+
+    public LedgerBalance post(LedgerEntry entry) {
+        return entry.side() == LedgerEntry.Side.DEBIT
+                ? new LedgerBalance(account, currency, Math.addExact(debits, entry.amount()), credits)
+                : new LedgerBalance(account, currency, debits, Math.addExact(credits, entry.amount()));
+    }
+
+    /**
+     * 차변 기준 순잔액 (최소 단위)
+     */
+    public long net() {
+        return debits - credits;
+    }
+
+    /**
+     * 차변 기준 순잔액 (통화 단위, 음수 가능 - Money는 음수를 허용하지 않음)
+     */
+    public BigDecimal netAmount() {
+        return BigDecimal.valueOf(net(), currency.decimalPlaces());
+    }
+}
@@ -0,0 +1,52 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 원장 분개 한 줄 - 기록 후 바뀌지 않음
+ *
+ * @param sequence      원장 전체 일련번호 (1부터, 빈 번호 없음)
+ * @param transactionId 거래 ID (같은 거래의 차변/대변이 공유)
+ * @param account       계정
+ * @param side          차변/대변
+ * @param amount        금액 (통화 최소 단위, 0보다 큼)
+ * @param currency      통화
+ * @param postedAt      기록 시각 (sequence 순으로 감소하지 않음)
+ */
+public record LedgerEntry(
+        long sequence,
+        String transactionId,
+        LedgerAccount account,
+        Side side,
+        long amount,
+        Currency currency,
+        Instant postedAt
+) {
+
+    public enum Side { DEBIT, CREDIT }
+
+    public LedgerEntry {
+        if (sequence <= 0) throw new IllegalArgumentException("일련번호는 1 이상이어야 합니다: " + sequence);
+        if (transactionId == null || transactionId.isBlank()) throw new IllegalArgumentException("거래 ID는 필수입니다");
+        if (account == null) throw new IllegalArgumentException("계정은 필수입니다");
+        if (side == null) throw new IllegalArgumentException("차변/대변은 필수입니다");
+        if (amount <= 0) throw new IllegalArgumentException("분개 금액은 0보다 커야 합니다: " + amount);
+        if (currency == null) throw new IllegalArgumentException("통화는 필수입니다");
+        if (postedAt == null) throw new IllegalArgumentException("기록 시각은 필수입니다");
+    }
+
+    /**
+     * 차변 기준 부호 금액 (차변 +, 대변 -)
+     */
+    public long signedAmount() {
+        return side == Side.DEBIT ? amount : -amount;
+    }
+
+    public Money money() {
+        return new Money(BigDecimal.valueOf(amount, currency.decimalPlaces()), currency);
+    }
+}
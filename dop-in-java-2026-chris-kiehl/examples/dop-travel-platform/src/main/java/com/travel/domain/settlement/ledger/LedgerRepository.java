@@ -0,0 +1,78 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.shared.types.Currency;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 저장소 - 추가 전용 분개 + 체크포인트 잔액
+ *
+ * <h2>핵심 개념 (Key Concept): 바뀐 계정만 기록하는 체크포인트</h2>
+ * <pre>
+ * 체크포인트 S = "일련번호 S까지 반영한 잔액" - 직전 체크포인트 이후 바뀐 계정만 한 행씩
+ *
+ * 계정 A의 시점 T 잔액:
+ *   1. findCheckpointBalance(A, T)   S ≤ T인 A의 마지막 체크포인트 행 (인덱스 한 건)
+ *   2. findEntries(A, S, T)          S &lt; sequence ≤ T인 A의 분개
+ *   → 그 사이 체크포인트에 A 행이 없다 = A가 안 바뀜 → 2의 분개는 마지막 체크포인트 이후 것뿐 (짧음)
+ * </pre>
+ */
+public interface LedgerRepository {
+
+    /**
+     * 체크포인트 행
+     *
+     * @param sequence 체크포인트 일련번호 (이 번호까지 반영)
+     * @param balance  잔액
+     */
+    record CheckpointBalance(long sequence, LedgerBalance balance) {}
+
+    /**
+     * 분개 추가 - 일련번호가 이미 있으면 실패 (다른 writer와 경합)
+     */
+    void append(List<LedgerEntry> entries);
+
+    boolean containsTransaction(String transactionId);
+
+    /**
+     * 마지막 일련번호 (비어 있으면 0)
+     */
+    long lastSequence();
+
+    /**
+     * postedAt ≤ at인 마지막 일련번호 (없으면 0)
+     */
+    long sequenceAt(Instant at);
+
+    /**
+     * 일련번호 순 분개 한 페이지 - sequence &gt; afterSequence
+     */
+    List<LedgerEntry> findEntries(long afterSequence, int limit);
+
+    /**
+     * 한 계정의 분개 - afterSequence &lt; sequence ≤ upToSequence, 일련번호 순
+     */
+    List<LedgerEntry> findEntries(LedgerAccount account, Currency currency, long afterSequence, long upToSequence);
+
+    /**
+     * 체크포인트 기록 - 직전 체크포인트 이후 바뀐 잔액만
+     */
+    void saveCheckpoint(long sequence, List<LedgerBalance> changed);
+
+    /**
+     * 체크포인트 일련번호 ≤ atOrBefore인 계정의 마지막 체크포인트 행
+     */
+    Optional<CheckpointBalance> findCheckpointBalance(LedgerAccount account, Currency currency, long atOrBefore);
+
+    /**
+     * 체크포인트 일련번호 ≤ atOrBefore 기준 전체 잔액 (계정마다 마지막 행)
+     */
+    List<CheckpointBalance> findCheckpointBalances(long atOrBefore);
+
+    /**
+     * 마지막 체크포인트 일련번호 (없으면 0)
+     */
+    long lastCheckpointSequence();
+}
@@ -0,0 +1,103 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원장 거래 - 차변 합계 = 대변 합계인 분개 묶음
+ *
+ * <h2>핵심 개념 (Key Concept): 복식부기</h2>
+ * <pre>
+ * 예약 매출   bookingRevenue   차) Cash              / 대) PartnerPayable(p)   결제 금액
+ * 수수료      commission       차) PartnerPayable(p) / 대) CommissionRevenue    Settlement.fee
+ * 지급        payout           차) PartnerPayable(p) / 대) Cash                 Settlement.netAmount
+ * 환불        refund           차) PartnerPayable(p) / 대) Cash                 환불 금액
+ *
+ * → PartnerPayable(p) 대변 잔액 = 매출 - 수수료 - 지급 - 환불 = 아직 주지 않은 돈
+ *
+ * [Key Point] 생성 시점에 통화별로 차변 = 대변 검증 → 균형이 깨진 거래는 원장에 들어갈 수 없음
+ * </pre>
+ *
+ * @param id          거래 ID (예약/정산 ID 기반 - 같은 사건을 두 번 기록하지 않도록 멱등 키로 사용)
+ * @param description 설명
+ * @param postings    분개 (2개 이상)
+ */
+public record LedgerTransaction(String id, String description, List<Posting> postings) {
+
+    /**
+     * 분개 한 줄 (기록 전 - 일련번호/시각은 원장이 붙임)
+     */
+    public record Posting(LedgerAccount account, LedgerEntry.Side side, Money amount) {
+        public Posting {
+            if (account == null) throw new IllegalArgumentException("계정은 필수입니다");
+            if (side == null) throw new IllegalArgumentException("차변/대변은 필수입니다");
+            if (amount == null || amount.isZero()) throw new IllegalArgumentException("분개 금액은 0보다 커야 합니다");
+        }
+
+        public static Posting debit(LedgerAccount account, Money amount) {
+            return new Posting(account, LedgerEntry.Side.DEBIT, amount);
+        }
+
+        public static Posting credit(LedgerAccount account, Money amount) {
+            return new Posting(account, LedgerEntry.Side.CREDIT, amount);
+        }
+    }
+
+    public LedgerTransaction {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("거래 ID는 필수입니다");
+        if (description == null) description = "";
+        if (postings == null || postings.size() < 2) {
+            throw new IllegalArgumentException("거래에는 분개가 2개 이상 필요합니다: " + id);
+        }
+        postings = List.copyOf(postings);
+
+        Map<Currency, Long> net = new EnumMap<>(Currency.class);
+        for (Posting posting : postings) {
+            long amount = posting.amount().amount().unscaledValue().longValueExact();
+            net.merge(posting.amount().currency(),
+                    posting.side() == LedgerEntry.Side.DEBIT ? amount : -amount, Math::addExact);
+        }
+        net.forEach((currency, difference) -> {
+            if (difference != 0) {
+                throw new IllegalArgumentException(
+                        "차변/대변 불일치 (" + currency.code() + " " + difference + "): " + id);
+            }
+        });
+    }
+
+    // ============================================
+    // 정적 팩토리 메서드 - 업무 사건별 분개
+    // ============================================
+
+    public static LedgerTransaction bookingRevenue(String bookingId, String partnerId, Money amount) {
+        return new LedgerTransaction("booking:" + bookingId, "예약 매출 " + bookingId, List.of(
+                Posting.debit(new LedgerAccount.Cash(), amount),
+                Posting.credit(new LedgerAccount.PartnerPayable(partnerId), amount)));
+    }
+
+    /**
+     * 정산 수수료 - 수수료가 0이면 분개할 것이 없으므로 호출하지 않음
+     */
+    public static LedgerTransaction commission(Settlement settlement) {
+        return new LedgerTransaction("commission:" + settlement.id(), "정산 수수료 " + settlement.id(), List.of(
+                Posting.debit(new LedgerAccount.PartnerPayable(settlement.partnerId()), settlement.fee()),
+                Posting.credit(new LedgerAccount.CommissionRevenue(), settlement.fee())));
+    }
+
+    public static LedgerTransaction payout(Settlement settlement) {
+        return new LedgerTransaction("payout:" + settlement.id(), "정산 지급 " + settlement.id(), List.of(
+                Posting.debit(new LedgerAccount.PartnerPayable(settlement.partnerId()), settlement.netAmount()),
+                Posting.credit(new LedgerAccount.Cash(), settlement.netAmount())));
+    }
+
+    public static LedgerTransaction refund(String refundId, String partnerId, Money amount) {
+        return new LedgerTransaction("refund:" + refundId, "환불 " + refundId, List.of(
+                Posting.debit(new LedgerAccount.PartnerPayable(partnerId), amount),
+                Posting.credit(new LedgerAccount.Cash(), amount)));
+    }
+}
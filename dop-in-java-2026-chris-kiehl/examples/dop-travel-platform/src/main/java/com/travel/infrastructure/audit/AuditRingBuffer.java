@@ -0,0 +1,118 @@
+package com.travel.infrastructure.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 잠금 없는 링 버퍼 - 여러 생산자, 소비자 하나
+ *
+ * <h2>핵심 개념 (Key Concept): 칸마다 일련번호 (Vyukov bounded queue)</h2>
+ * <pre>
+ * sequences[i] = 칸 i가 다음에 받아들일 위치
+ *   생산자: pos = tail, sequences[pos &amp; mask] == pos 이면 비어 있음 → CAS(tail, pos, pos + 1)로 칸 예약
+ *           → 값 기록 → sequences = pos + 1 (소비자에게 공개)
+ *   소비자: pos = head, sequences[pos &amp; mask] == pos + 1 이면 값이 있음
+ *           → 값 꺼냄 → sequences = pos + capacity (한 바퀴 뒤 생산자에게 반납)
+ *
+ * [Key Point] 가득 차면 offer가 false - 기다리지 않음 (호출자가 spill 등으로 처리)
+ * [Key Point] 생산자끼리는 tail CAS만 경쟁, 소비자와는 칸 단위로만 만남
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] poll/drainTo는 한 번에 한 스레드만 - 소비자 교체는 이전 소비자 종료(join) 후</li>
+ *   <li>[Trap] 생산자가 칸을 예약하고 값을 쓰기 전이면 그 칸부터 비어 보임 - 뒤 칸은 다음 drain에서</li>
+ * </ul>
+ */
+final class AuditRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity 칸 수 (2의 거듭제곱)
+     */
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.items = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 넣었으면 true, 가득 찼으면 false
+     */
+    boolean offer(T item) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long difference = sequences.get(index) - pos;
+            if (difference == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    items.lazySet(index, item);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return 가장 오래된 값, 없으면 null
+     */
+    T poll() {
+        long pos = head.get();
+        int index = (int) (pos & mask);
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        T item = items.get(index);
+        items.lazySet(index, null);
+        sequences.set(index, pos + capacity);
+        head.lazySet(pos + 1);
+        return item;
+    }
+
+    /**
+     * 최대 max개를 sink에 옮김
+     *
+     * @return 옮긴 수
+     */
+    int drainTo(List<T> sink, int max) {
+        int drained = 0;
+        T item;
+        while (drained < max && (item = poll()) != null) {
+            sink.add(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 대략적인 크기 (동시 변경 중에는 근사값)
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
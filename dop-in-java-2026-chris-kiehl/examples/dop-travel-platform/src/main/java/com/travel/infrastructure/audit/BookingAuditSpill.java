@@ -0,0 +1,243 @@
+package com.travel.infrastructure.audit;
+
+import com.travel.domain.booking.BookingAuditEntry;
+import com.travel.domain.booking.BookingId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 기록 spill 파일 - 링 버퍼가 가득 찼거나 DB 기록이 실패한 기록을 디스크에 보관
+ *
+ * <h2>핵심 개념 (Key Concept): active → pending 교체</h2>
+ * <pre>
+ * 디렉토리/
+ *   active.log                       append가 기록하는 파일 (기록마다 force)
+ *   pending-0000000000000000001.log  rotate()로 떼어 낸 파일 - 재처리 후 삭제
+ *
+ * 레코드: [length 4B][crc32c 4B][payload] (payload = DataOutputStream 필드 순서)
+ *
+ * [Key Point] 재처리는 떼어 낸 pending 파일만 읽음 → 재처리 중에도 append는 새 active에 계속 기록
+ * [Key Point] crc가 맞지 않는 꼬리(기록 중 중단) 이후는 읽지 않음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] DB 기록 후 파일 삭제 전에 중단되면 같은 기록을 다시 읽음 - 호출자가 id로 중복 제거</li>
+ *   <li>[Trap] close() 뒤 append는 IllegalStateException - 파일을 다시 열면 닫을 사람이 없음</li>
+ *   <li>[Why 기록마다 force] spill은 평소에는 쓰이지 않는 경로 - 느려도 유실 없는 쪽을 택함</li>
+ * </ul>
+ */
+final class BookingAuditSpill implements AutoCloseable {
+
+    private static final String ACTIVE = "active.log";
+    private static final String PENDING_PREFIX = "pending-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private FileChannel active;
+    private long nextPending;
+    private volatile boolean hasData;
+    private boolean closed;
+
+    private BookingAuditSpill(Path directory) {
+        this.directory = directory;
+    }
+
+    static BookingAuditSpill open(Path directory) {
+        BookingAuditSpill spill = new BookingAuditSpill(directory);
+        try {
+            Files.createDirectories(directory);
+            List<Path> pending = spill.pendingFiles();
+            spill.nextPending = pending.isEmpty() ? 1 : pendingNumber(pending.getLast()) + 1;
+            Path activePath = directory.resolve(ACTIVE);
+            spill.hasData = !pending.isEmpty() || (Files.exists(activePath) && Files.size(activePath) > 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 spill 디렉토리를 열 수 없습니다: " + directory, e);
+        }
+        return spill;
+    }
+
+    // ============================================
+    // 기록
+    // ============================================
+
+    synchronized void append(List<BookingAuditEntry> entries) {
+        if (closed) {
+            throw new IllegalStateException("감사 spill이 닫혔습니다: " + directory);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(entries.size() * 128);
+        for (BookingAuditEntry entry : entries) {
+            byte[] payload = encode(entry);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            bytes.writeBytes(ByteBuffer.allocate(8).putInt(payload.length).putInt((int) crc.getValue()).array());
+            bytes.writeBytes(payload);
+        }
+        try {
+            if (active == null) {
+                active = FileChannel.open(directory.resolve(ACTIVE),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                active.write(buffer);
+            }
+            active.force(false);
+            hasData = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 spill 기록 실패: " + directory, e);
+        }
+    }
+
+    boolean hasData() {
+        return hasData;
+    }
+
+    // ============================================
+    // 재처리
+    // ============================================
+
+    /**
+     * active를 pending으로 떼어 내고, 재처리할 pending 파일 목록 반환 (오래된 순)
+     */
+    synchronized List<Path> rotate() {
+        try {
+            Path activePath = directory.resolve(ACTIVE);
+            if (active != null) {
+                active.close();
+                active = null;
+            }
+            if (Files.exists(activePath) && Files.size(activePath) > 0) {
+                Files.move(activePath, directory.resolve(PENDING_PREFIX + "%019d".formatted(nextPending++) + SUFFIX),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            hasData = false;
+            return pendingFiles();
+        } catch (IOException e) {
+            hasData = true;
+            throw new UncheckedIOException("감사 spill 파일 교체 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 재처리를 마치지 못함 - 다음 주기에 다시 시도하도록 표시
+     */
+    void markPending() {
+        hasData = true;
+    }
+
+    /**
+     * 파일의 유효한 기록 전부 (손상된 꼬리 이후는 버림)
+     */
+    static List<BookingAuditEntry> read(Path file) {
+        List<BookingAuditEntry> entries = new ArrayList<>();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            while (buffer.remaining() >= 8) {
+                int length = buffer.getInt();
+                int expected = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != expected) {
+                    break;
+                }
+                entries.add(decode(payload));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 spill 파일을 읽을 수 없습니다: " + file, e);
+        }
+        return entries;
+    }
+
+    static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 spill 파일 삭제 실패: " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (active != null) {
+            try {
+                active.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("감사 spill 파일 닫기 실패: " + directory, e);
+            } finally {
+                active = null;
+            }
+        }
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private List<Path> pendingFiles() throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.filter(p -> p.getFileName().toString().startsWith(PENDING_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long pendingNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PENDING_PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static byte[] encode(BookingAuditEntry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(entry.id());
+            out.writeUTF(entry.bookingId().toString());
+            out.writeBoolean(entry.fromStatus() != null);
+            if (entry.fromStatus() != null) {
+                out.writeUTF(entry.fromStatus());
+            }
+            out.writeUTF(entry.toStatus());
+            out.writeLong(entry.occurredAt().getEpochSecond());
+            out.writeInt(entry.occurredAt().getNano());
+            out.writeUTF(entry.actor());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BookingAuditEntry decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new java.io.ByteArrayInputStream(payload))) {
+            String id = in.readUTF();
+            BookingId bookingId = BookingId.from(in.readUTF());
+            String from = in.readBoolean() ? in.readUTF() : null;
+            String to = in.readUTF();
+            Instant occurredAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            return new BookingAuditEntry(id, bookingId, from, to, occurredAt, in.readUTF());
+        }
+    }
+}
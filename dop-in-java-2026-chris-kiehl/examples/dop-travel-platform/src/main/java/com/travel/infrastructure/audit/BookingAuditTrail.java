@@ -0,0 +1,285 @@
+package com.travel.infrastructure.audit;
+
+import com.travel.domain.booking.BookingAuditEntry;
+import com.travel.domain.booking.BookingAuditRepository;
+import com.travel.domain.booking.BookingStatusChanged;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예약 상태 전이 감사 기록 - write-behind (요청 스레드는 링 버퍼에 넣기만)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약 생성/취소 요청이 감사 테이블 INSERT를 기다리지 않도록,
+ * 전이 기록을 모아 배경 스레드가 배치로 저장
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * 감사 범위 = BookingStatusChanged를 발행하는 경로
+ *   CreateBookingUseCase         생성          (null → Pending, MEMBER)
+ *   CancelBookingUseCase         취소          (→ Cancelled, USER / SYSTEM / ADMIN)
+ *   BulkCancelByProductUseCase   상품 일괄 취소 (→ Cancelled, ADMIN)
+ *   확정/완료/노쇼                기록 안 됨    (BookingDomainService에 전이만 있고 저장 + 발행하는 유스케이스가 없음)
+ *
+ * on(BookingStatusChanged)           커밋 후 (롤백된 전이는 기록하지 않음)
+ *   [FC] BookingAuditEntry.of        이벤트 → 기록
+ *   [IS] ring.offer                  잠금 없음, 가득 차면 spill 파일에 append
+ *
+ * 배경 스레드 (booking-audit-writer)
+ *   ring.drainTo(batch-size)  → [IS] repository.insertAll (트랜잭션 하나, JDBC 배치)
+ *     실패하면 그 배치를 spill 파일로 → retry-interval 뒤 재처리
+ *   할 일이 없으면 spill 재처리 (id로 이미 저장된 기록 제외) 후 flush-interval만큼 대기
+ *
+ * close()  (애플리케이션 종료)
+ *   새 기록은 spill로 → 넣는 중인 기록 대기 (최대 close-timeout) → 배경 스레드 종료
+ *   → 링 버퍼 남은 기록 저장 (실패 시 spill) → spill 닫음
+ *   spill을 닫은 뒤 도착한 기록은 유실로 집계 (파일을 다시 열지 않음)
+ *   spill에 남은 기록은 다음 기동 때 재처리
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 저장소 save()가 아니라 이벤트로 수집 - 확정/완료/노쇼를 저장하는 유스케이스를 추가하면
+ *       저장 뒤 BookingStatusChanged.transitioned(이전, 저장 결과)도 발행해야 감사/회원 요약에 반영됨</li>
+ *   <li>[Trap] 최소 한 번 전달 - 저장 후 응답 전에 실패하면 다시 보낼 수 있음 → 재처리는 id로 중복 제거</li>
+ *   <li>[Trap] spill을 거친 기록은 늦게 저장됨 - 순서는 INSERT 순서가 아니라 occurred_at으로 조회</li>
+ *   <li>[Trap] 강제 종료(kill -9)면 링 버퍼 안의 기록은 잃음 - 잃으면 안 되는 기록은 이벤트 로그 기준</li>
+ *   <li>[Why 커밋 후] 롤백된 전이가 감사 테이블에 남지 않도록 - 트랜잭션 밖 호출도 fallbackExecution으로 기록</li>
+ * </ul>
+ */
+@Component
+public class BookingAuditTrail implements AutoCloseable {
+
+    private final BookingAuditRepository repository;
+    private final AuditRingBuffer<BookingAuditEntry> ring;
+    private final BookingAuditSpill spill;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryIntervalNanos;
+    private final Duration closeTimeout;
+    private final Thread writer;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+    private volatile boolean closed;
+    private volatile boolean running = true;
+    private long nextReplayAt;
+
+    public BookingAuditTrail(
+            BookingAuditRepository repository,
+            @Value("${travel.booking.audit.buffer-size:8192}") int bufferSize,
+            @Value("${travel.booking.audit.batch-size:500}") int batchSize,
+            @Value("${travel.booking.audit.flush-interval:200ms}") Duration flushInterval,
+            @Value("${travel.booking.audit.retry-interval:5s}") Duration retryInterval,
+            @Value("${travel.booking.audit.spill-directory:./data/booking-audit-spill}") String spillDirectory,
+            @Value("${travel.booking.audit.close-timeout:2s}") Duration closeTimeout
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("감사 기록 배치 크기는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.repository = repository;
+        this.ring = new AuditRingBuffer<>(bufferSize);
+        this.spill = BookingAuditSpill.open(Path.of(spillDirectory));
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.closeTimeout = closeTimeout;
+        this.nextReplayAt = System.nanoTime();
+        this.writer = Thread.ofPlatform().name("booking-audit-writer").daemon().start(this::runWriter);
+    }
+
+    // ============================================
+    // [Key Point] 기록 - 요청 스레드, 잠금 없음
+    // ============================================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(BookingStatusChanged event) {
+        record(BookingAuditEntry.of(event));
+    }
+
+    public void record(BookingAuditEntry entry) {
+        inFlight.incrementAndGet();
+        try {
+            if (!closed && ring.offer(entry)) {
+                if (ring.size() >= batchSize) {
+                    LockSupport.unpark(writer);
+                }
+                return;
+            }
+            spill.append(List.of(entry));
+            spilled.incrementAndGet();
+        } catch (RuntimeException e) {
+            lost.incrementAndGet();
+            System.out.println("[IS] 감사 기록 유실: " + entry.bookingId() + " " + entry.fromStatus()
+                    + " → " + entry.toStatus() + " (" + e.getMessage() + ")");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(written.get(), spilled.get(), replayed.get(), failures.get(), lost.get(), ring.size());
+    }
+
+    /**
+     * @param written  배경 스레드/종료 시 저장한 기록 수
+     * @param spilled  spill 파일로 보낸 기록 수 (버퍼 가득 참 + 저장 실패 + 종료 후 기록)
+     * @param replayed spill 파일에서 다시 저장한 기록 수 (중복 제외)
+     * @param failures 저장 실패 횟수
+     * @param lost     spill 기록까지 실패했거나 종료 뒤 도착해 잃은 기록 수
+     * @param buffered 링 버퍼에 남은 기록 수 (근사값)
+     */
+    public record Stats(long written, long spilled, long replayed, long failures, long lost, int buffered) {}
+
+    // ============================================
+    // 배경 스레드
+    // ============================================
+
+    private void runWriter() {
+        List<BookingAuditEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.clear();
+                if (ring.drainTo(batch, batchSize) > 0) {
+                    write(batch);
+                }
+                if (batch.size() == batchSize) {
+                    continue;
+                }
+                replayIfDue();
+            } catch (RuntimeException e) {
+                System.out.println("[IS] 감사 기록 스레드 오류: " + e.getMessage());
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    private void write(List<BookingAuditEntry> batch) {
+        try {
+            repository.insertAll(batch);
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            nextReplayAt = System.nanoTime() + retryIntervalNanos;
+            System.out.println("[IS] 감사 기록 저장 실패 - " + batch.size() + "건 spill: " + e.getMessage());
+            spillBatch(batch);
+        }
+    }
+
+    private void spillBatch(List<BookingAuditEntry> batch) {
+        try {
+            spill.append(batch);
+            spilled.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            lost.addAndGet(batch.size());
+            System.out.println("[IS] 감사 기록 " + batch.size() + "건 유실: " + e.getMessage());
+        }
+    }
+
+    /**
+     * spill 파일 재처리 - 실패하면 파일을 남겨 두고 retry-interval 뒤 다시
+     */
+    private void replayIfDue() {
+        if (!spill.hasData() || System.nanoTime() - nextReplayAt < 0) {
+            return;
+        }
+        try {
+            for (Path file : spill.rotate()) {
+                List<BookingAuditEntry> entries = BookingAuditSpill.read(file);
+                for (int from = 0; from < entries.size(); from += batchSize) {
+                    replay(entries.subList(from, Math.min(entries.size(), from + batchSize)));
+                }
+                BookingAuditSpill.delete(file);
+            }
+        } catch (RuntimeException e) {
+            spill.markPending();
+            failures.incrementAndGet();
+            nextReplayAt = System.nanoTime() + retryIntervalNanos;
+            System.out.println("[IS] 감사 spill 재처리 실패 - " + Duration.ofNanos(retryIntervalNanos) + " 뒤 재시도: " + e.getMessage());
+        }
+    }
+
+    private void replay(List<BookingAuditEntry> chunk) {
+        Set<String> existing = repository.findExistingIds(chunk.stream().map(BookingAuditEntry::id).toList());
+        List<BookingAuditEntry> missing = existing.isEmpty()
+                ? chunk
+                : chunk.stream().filter(entry -> !existing.contains(entry.id())).toList();
+        if (!missing.isEmpty()) {
+            repository.insertAll(missing);
+            replayed.addAndGet(missing.size());
+        }
+    }
+
+    // ============================================
+    // 종료 - 링 버퍼를 비우고 끝냄
+    // ============================================
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        awaitInFlight();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<BookingAuditEntry> batch = new ArrayList<>(batchSize);
+        while (ring.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        spill.close();
+        discardLate();
+        Stats stats = stats();
+        System.out.println("[IS] 감사 기록 종료: 저장 " + stats.written() + ", spill " + stats.spilled()
+                + ", 재처리 " + stats.replayed() + ", 실패 " + stats.failures() + ", 유실 " + stats.lost());
+    }
+
+    /**
+     * 링 버퍼에 넣는 중인 기록 대기 - close-timeout이 지나면 기다리지 않고 종료 진행
+     */
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + closeTimeout.toNanos();
+        while (inFlight.get() != 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                System.out.println("[IS] 감사 기록 " + inFlight.get() + "건이 " + closeTimeout
+                        + " 안에 끝나지 않음 - 종료 후 도착하면 유실로 집계");
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 대기 시간을 넘겨 마지막 저장 뒤 링 버퍼에 들어온 기록 - spill도 닫혔으므로 유실로 집계
+     */
+    private void discardLate() {
+        List<BookingAuditEntry> late = new ArrayList<>();
+        while (ring.drainTo(late, batchSize) > 0) {
+            lost.addAndGet(late.size());
+            System.out.println("[IS] 종료 후 도착한 감사 기록 " + late.size() + "건 유실");
+            late.clear();
+        }
+    }
+}
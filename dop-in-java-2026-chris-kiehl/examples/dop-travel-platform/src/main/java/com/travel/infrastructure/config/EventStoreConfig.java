@@ -0,0 +1,45 @@
+package com.travel.infrastructure.config;
+
+import com.travel.domain.booking.BookingRepository;
+import com.travel.infrastructure.persistence.eventstore.BookingEventLog;
+import com.travel.infrastructure.persistence.eventstore.EventSourcedBookingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 이벤트 저장소 설정
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 9 인프라 설정</h2>
+ * <pre>
+ * [Key Point] travel.booking.repository=event-store 일 때만 활성화
+ * - 기본값(jpa)에서는 JpaBookingRepository가 BookingRepository 구현
+ * - 도메인/애플리케이션 코드는 어느 구현이 주입되는지 모름
+ *
+ * [Trap] 로그는 mmap 파일 - destroyMethod="close"로 종료 시 force + unmap 보장
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(name = "travel.booking.repository", havingValue = "event-store")
+public class EventStoreConfig {
+
+    private static final int MB = 1024 * 1024;
+
+    @Bean(destroyMethod = "close")
+    public BookingEventLog bookingEventLog(
+            @Value("${travel.booking.event-store.directory:./data/booking-events}") String directory,
+            @Value("${travel.booking.event-store.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${travel.booking.event-store.fsync-on-append:false}") boolean fsyncOnAppend) {
+        return BookingEventLog.open(Path.of(directory), segmentSizeMb * MB, fsyncOnAppend);
+    }
+
+    @Bean
+    public BookingRepository eventSourcedBookingRepository(
+            BookingEventLog bookingEventLog,
+            @Value("${travel.booking.event-store.snapshot-interval:16}") int snapshotInterval) {
+        return new EventSourcedBookingRepository(bookingEventLog, snapshotInterval);
+    }
+}
@@ -0,0 +1,147 @@
+package com.travel.infrastructure.fx;
+
+import com.travel.domain.fx.ExchangeRate;
+import com.travel.domain.fx.ExchangeRateSource;
+import com.travel.shared.types.Currency;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 파일 환율 출처 - 로컬 CSV 스텁 (외부 환율 API 연동 전까지 사용)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 운영/개발 환경에서 고시 파일 하나로 환산을 돌려볼 수 있게 함
+ *
+ * <h2>핵심 개념 (Key Concept): 파일 형식</h2>
+ * <pre>
+ * # 주석, 빈 줄 무시
+ * date,from,to,rate
+ * 2026-10-01,USD,KRW,1385.20      ← 1 USD = 1385.20 KRW
+ * 2026-10-01,JPY,KRW,9.2815
+ *
+ * [Key Point] ratesOn(date) = 통화 쌍마다 date 이전(포함) 가장 최근 고시
+ *   - 주말/공휴일은 직전 영업일 고시 사용
+ *   - max-staleness-days보다 오래된 고시는 제외 → 파일 갱신이 멈추면 RateNotFound로 드러남
+ *
+ * 경로: travel.fx.rates-file (classpath: 접두사면 클래스패스 리소스)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 기동 시 1회 읽음 - 파일을 고쳐도 재기동 전까지 반영되지 않음</li>
+ *   <li>[Trap] 형식 오류는 기동 실패 (줄 번호 포함) - 잘못된 환율로 조용히 환산하는 것보다 안전</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.fx.source", havingValue = "file", matchIfMissing = true)
+public class FileExchangeRateSource implements ExchangeRateSource {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * from → to → 고시일 → 고시 (기동 후 읽기 전용)
+     */
+    private final Map<Currency, Map<Currency, NavigableMap<LocalDate, ExchangeRate>>> quotes;
+    private final int maxStalenessDays;
+
+    public FileExchangeRateSource(
+            @Value("${travel.fx.rates-file:classpath:fx-rates.csv}") String ratesFile,
+            @Value("${travel.fx.max-staleness-days:7}") int maxStalenessDays) {
+        this.quotes = index(read(ratesFile));
+        this.maxStalenessDays = maxStalenessDays;
+        System.out.println("[IS] 환율 파일 로드: " + ratesFile);
+    }
+
+    @Override
+    public List<ExchangeRate> ratesOn(LocalDate date) {
+        LocalDate oldest = date.minusDays(maxStalenessDays);
+        List<ExchangeRate> rates = new ArrayList<>();
+        quotes.values().forEach(byTo -> byTo.values().forEach(byDate -> {
+            Map.Entry<LocalDate, ExchangeRate> latest = byDate.floorEntry(date);
+            if (latest != null && !latest.getKey().isBefore(oldest)) {
+                rates.add(latest.getValue());
+            }
+        }));
+        return rates;
+    }
+
+    // ============================================
+    // 파일 읽기 / 파싱
+    // ============================================
+
+    private static List<ExchangeRate> read(String ratesFile) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(ratesFile), StandardCharsets.UTF_8))) {
+            List<ExchangeRate> rates = new ArrayList<>();
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("date,")) {
+                    continue;
+                }
+                rates.add(parse(ratesFile, lineNumber, trimmed));
+            }
+            return rates;
+        } catch (IOException e) {
+            throw new UncheckedIOException("환율 파일을 읽을 수 없습니다: " + ratesFile, e);
+        }
+    }
+
+    private static InputStream open(String ratesFile) throws IOException {
+        if (!ratesFile.startsWith(CLASSPATH_PREFIX)) {
+            return Files.newInputStream(Path.of(ratesFile));
+        }
+        String resource = ratesFile.substring(CLASSPATH_PREFIX.length());
+        InputStream in = FileExchangeRateSource.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("클래스패스에 환율 파일이 없습니다: " + resource);
+        }
+        return in;
+    }
+
+    private static ExchangeRate parse(String ratesFile, long lineNumber, String line) {
+        String[] columns = line.split(",");
+        try {
+            if (columns.length != 4) {
+                throw new IllegalArgumentException("컬럼은 date,from,to,rate 4개여야 합니다");
+            }
+            return new ExchangeRate(
+                    Currency.valueOf(columns[1].strip()),
+                    Currency.valueOf(columns[2].strip()),
+                    LocalDate.parse(columns[0].strip()),
+                    new BigDecimal(columns[3].strip()));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(
+                    "환율 파일 형식 오류 " + ratesFile + ":" + lineNumber + " - " + e.getMessage() + ": " + line, e);
+        }
+    }
+
+    private static Map<Currency, Map<Currency, NavigableMap<LocalDate, ExchangeRate>>> index(List<ExchangeRate> rates) {
+        Map<Currency, Map<Currency, NavigableMap<LocalDate, ExchangeRate>>> index = new EnumMap<>(Currency.class);
+        for (ExchangeRate rate : rates) {
+            index.computeIfAbsent(rate.from(), k -> new EnumMap<>(Currency.class))
+                    .computeIfAbsent(rate.to(), k -> new TreeMap<>())
+                    .put(rate.date(), rate);
+        }
+        return index;
+    }
+}
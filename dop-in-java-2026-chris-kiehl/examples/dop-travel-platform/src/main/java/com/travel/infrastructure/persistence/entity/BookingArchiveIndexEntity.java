@@ -0,0 +1,52 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Set;
+
+/**
+ * 보관 예약 라우팅 인덱스 - 예약 ID/회원 ID → 보관 월 테이블
+ *
+ * <pre>
+ * [Key Point] 월 테이블은 이름이 동적이라 Entity로 매핑하지 않음 (네이티브 SQL)
+ *   → 어느 월 테이블을 읽을지는 이 좁은 테이블 하나로 결정
+ * archive_month = yyyymm (예: 202401 → bookings_archive_202401)
+ * booking_archive_product = 예약 항목의 상품 ID - "이 회원이 이 상품을 예약한 적 있나"를 스냅샷 디코드 없이 답함
+ * </pre>
+ */
+@Entity
+@Table(name = "booking_archive_index", indexes = {
+        @Index(name = "idx_booking_archive_member", columnList = "member_id, archive_month")
+})
+public class BookingArchiveIndexEntity {
+
+    @Id
+    @Column(name = "booking_id", columnDefinition = "CHAR(36)")
+    private String bookingId;
+
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    @Column(name = "archive_month", nullable = false)
+    private int archiveMonth;
+
+    @ElementCollection
+    @CollectionTable(name = "booking_archive_product", joinColumns = @JoinColumn(name = "booking_id"),
+            indexes = @Index(name = "idx_booking_archive_product", columnList = "product_id"))
+    @Column(name = "product_id", nullable = false)
+    private Set<String> productIds;
+
+    protected BookingArchiveIndexEntity() {}
+
+    public BookingArchiveIndexEntity(String bookingId, String memberId, int archiveMonth, Set<String> productIds) {
+        this.bookingId = bookingId;
+        this.memberId = memberId;
+        this.archiveMonth = archiveMonth;
+        this.productIds = productIds;
+    }
+
+    public String getBookingId() { return bookingId; }
+    public String getMemberId() { return memberId; }
+    public int getArchiveMonth() { return archiveMonth; }
+    public Set<String> getProductIds() { return productIds; }
+}
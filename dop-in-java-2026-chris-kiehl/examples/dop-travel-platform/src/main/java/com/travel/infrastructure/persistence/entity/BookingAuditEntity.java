@@ -0,0 +1,56 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 예약 감사 기록 JPA Entity - 추가 전용 (UPDATE/DELETE 없음)
+ *
+ * <pre>
+ * [Key Point] id는 애플리케이션이 부여 (UUID) - IDENTITY 생성이면 Hibernate가 INSERT 배치를 끔
+ * </pre>
+ */
+@Entity
+@Table(name = "booking_audit", indexes = {
+        @Index(name = "idx_booking_audit_booking", columnList = "booking_id, occurred_at")
+})
+public class BookingAuditEntity {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "booking_id", nullable = false, length = 36)
+    private String bookingId;
+
+    @Column(name = "from_status", length = 20)
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false, length = 20)
+    private String toStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "actor", nullable = false, length = 20)
+    private String actor;
+
+    protected BookingAuditEntity() {}
+
+    public BookingAuditEntity(String id, String bookingId, String fromStatus, String toStatus,
+                              Instant occurredAt, String actor) {
+        this.id = id;
+        this.bookingId = bookingId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+        this.actor = actor;
+    }
+
+    public String getId() { return id; }
+    public String getBookingId() { return bookingId; }
+    public String getFromStatus() { return fromStatus; }
+    public String getToStatus() { return toStatus; }
+    public Instant getOccurredAt() { return occurredAt; }
+    public String getActor() { return actor; }
+}
@@ -22,7 +22,12 @@ import java.util.UUID;
  * </pre>
  */
 @Entity
-@Table(name = "booking_items")
+@Table(name = "booking_items", indexes = {
+        // [Key Point] 정산 keyset 조회 (partner_id = ? AND id > ? ORDER BY id)
+        @Index(name = "idx_booking_items_partner_id", columnList = "partner_id, id"),
+        // [Key Point] 상품 단위 일괄 취소 (product_id = ? → booking_id 목록, 테이블 접근 없이 인덱스만으로)
+        @Index(name = "idx_booking_items_product_id", columnList = "product_id, booking_id")
+})
 public class BookingItemEntity {
 
     @Id
@@ -45,6 +50,12 @@ public class BookingItemEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    /**
+     * 정산 파트너 키 (BookingItem.partnerId)
+     */
+    @Column(name = "partner_id", nullable = false)
+    private String partnerId;
+
     @Column(name = "base_price", nullable = false)
     private BigDecimal basePrice;
 
@@ -154,6 +165,9 @@ public class BookingItemEntity {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
+    public String getPartnerId() { return partnerId; }
+    public void setPartnerId(String partnerId) { this.partnerId = partnerId; }
+
     public BigDecimal getBasePrice() { return basePrice; }
     public void setBasePrice(BigDecimal basePrice) { this.basePrice = basePrice; }
 
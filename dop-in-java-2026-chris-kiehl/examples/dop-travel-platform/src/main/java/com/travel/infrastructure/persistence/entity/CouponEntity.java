@@ -0,0 +1,118 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 쿠폰 JPA Entity
+ *
+ * <p>[Ch 9] CouponStatus(sealed) ↔ status + status_at + status_detail (취소 사유)</p>
+ */
+@Entity
+@Table(name = "coupons", indexes = {
+        @Index(name = "idx_coupons_owner_id", columnList = "owner_id")
+})
+public class CouponEntity {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "code", nullable = false, unique = true)
+    private String code;
+
+    @Column(name = "coupon_type", nullable = false, length = 20)
+    private String couponType;
+
+    /**
+     * 금액 컬럼 공통 통화 (금액이 모두 없으면 KRW)
+     */
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    @Column(name = "discount_amount")
+    private BigDecimal discountAmount;
+
+    @Column(name = "discount_percent", nullable = false)
+    private int discountPercent;
+
+    @Column(name = "min_order_amount")
+    private BigDecimal minOrderAmount;
+
+    @Column(name = "max_discount_amount")
+    private BigDecimal maxDiscountAmount;
+
+    @Column(name = "owner_id", columnDefinition = "CHAR(36)")
+    private String ownerId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "status_at")
+    private Instant statusAt;
+
+    @Column(name = "status_detail")
+    private String statusDetail;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "valid_until", nullable = false)
+    private LocalDate validUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public CouponEntity() {}
+
+    // ============================================
+    // Getter / Setter
+    // ============================================
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getCouponType() { return couponType; }
+    public void setCouponType(String couponType) { this.couponType = couponType; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public BigDecimal getDiscountAmount() { return discountAmount; }
+    public void setDiscountAmount(BigDecimal discountAmount) { this.discountAmount = discountAmount; }
+
+    public int getDiscountPercent() { return discountPercent; }
+    public void setDiscountPercent(int discountPercent) { this.discountPercent = discountPercent; }
+
+    public BigDecimal getMinOrderAmount() { return minOrderAmount; }
+    public void setMinOrderAmount(BigDecimal minOrderAmount) { this.minOrderAmount = minOrderAmount; }
+
+    public BigDecimal getMaxDiscountAmount() { return maxDiscountAmount; }
+    public void setMaxDiscountAmount(BigDecimal maxDiscountAmount) { this.maxDiscountAmount = maxDiscountAmount; }
+
+    public String getOwnerId() { return ownerId; }
+    public void setOwnerId(String ownerId) { this.ownerId = ownerId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Instant getStatusAt() { return statusAt; }
+    public void setStatusAt(Instant statusAt) { this.statusAt = statusAt; }
+
+    public String getStatusDetail() { return statusDetail; }
+    public void setStatusDetail(String statusDetail) { this.statusDetail = statusDetail; }
+
+    public LocalDate getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+
+    public LocalDate getValidUntil() { return validUntil; }
+    public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,57 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 원장 체크포인트 잔액 JPA Entity - (체크포인트, 계정, 통화)당 한 행, 그 체크포인트에서 바뀐 계정만
+ *
+ * <pre>
+ * [Key Point] 계정의 시점 잔액 = (account_key, currency) 인덱스에서 checkpoint_sequence ≤ 시점인 마지막 행 1건
+ *   id = "체크포인트|계정|통화" → 같은 체크포인트를 두 번 기록하면 PK 충돌
+ * </pre>
+ */
+@Entity
+@Table(name = "ledger_checkpoints", indexes = {
+        @Index(name = "idx_ledger_checkpoints_account", columnList = "account_key, currency, checkpoint_sequence"),
+        @Index(name = "idx_ledger_checkpoints_sequence", columnList = "checkpoint_sequence")
+})
+public class LedgerCheckpointEntity {
+
+    @Id
+    @Column(name = "id", length = 160)
+    private String id;
+
+    @Column(name = "checkpoint_sequence", nullable = false)
+    private long checkpointSequence;
+
+    @Column(name = "account_key", nullable = false, length = 120)
+    private String accountKey;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "debits", nullable = false)
+    private long debits;
+
+    @Column(name = "credits", nullable = false)
+    private long credits;
+
+    protected LedgerCheckpointEntity() {}
+
+    public LedgerCheckpointEntity(long checkpointSequence, String accountKey, String currency,
+                                  long debits, long credits) {
+        this.id = checkpointSequence + "|" + accountKey + "|" + currency;
+        this.checkpointSequence = checkpointSequence;
+        this.accountKey = accountKey;
+        this.currency = currency;
+        this.debits = debits;
+        this.credits = credits;
+    }
+
+    public String getId() { return id; }
+    public long getCheckpointSequence() { return checkpointSequence; }
+    public String getAccountKey() { return accountKey; }
+    public String getCurrency() { return currency; }
+    public long getDebits() { return debits; }
+    public long getCredits() { return credits; }
+}
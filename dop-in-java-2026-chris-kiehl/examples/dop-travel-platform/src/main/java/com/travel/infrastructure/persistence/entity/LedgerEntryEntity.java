@@ -0,0 +1,67 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 원장 분개 JPA Entity - 추가 전용 (UPDATE/DELETE 없음)
+ *
+ * <pre>
+ * [Key Point] PK = 일련번호 → 두 writer가 같은 번호를 쓰면 INSERT가 실패 (분개가 덮어써지지 않음)
+ * idx_ledger_entries_account   (account_key, currency, sequence)  계정 하나의 체크포인트 이후 분개
+ * idx_ledger_entries_posted_at (posted_at, sequence)              시각 → 일련번호
+ * idx_ledger_entries_tx        (transaction_id)                  멱등 확인
+ * amount = 통화 최소 단위
+ * </pre>
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_account", columnList = "account_key, currency, sequence"),
+        @Index(name = "idx_ledger_entries_posted_at", columnList = "posted_at, sequence"),
+        @Index(name = "idx_ledger_entries_tx", columnList = "transaction_id")
+})
+public class LedgerEntryEntity {
+
+    @Id
+    @Column(name = "sequence")
+    private long sequence;
+
+    @Column(name = "transaction_id", nullable = false, length = 100)
+    private String transactionId;
+
+    @Column(name = "account_key", nullable = false, length = 120)
+    private String accountKey;
+
+    @Column(name = "side", nullable = false, length = 6)
+    private String side;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "posted_at", nullable = false)
+    private Instant postedAt;
+
+    protected LedgerEntryEntity() {}
+
+    public LedgerEntryEntity(long sequence, String transactionId, String accountKey, String side,
+                             long amount, String currency, Instant postedAt) {
+        this.sequence = sequence;
+        this.transactionId = transactionId;
+        this.accountKey = accountKey;
+        this.side = side;
+        this.amount = amount;
+        this.currency = currency;
+        this.postedAt = postedAt;
+    }
+
+    public long getSequence() { return sequence; }
+    public String getTransactionId() { return transactionId; }
+    public String getAccountKey() { return accountKey; }
+    public String getSide() { return side; }
+    public long getAmount() { return amount; }
+    public String getCurrency() { return currency; }
+    public Instant getPostedAt() { return postedAt; }
+}
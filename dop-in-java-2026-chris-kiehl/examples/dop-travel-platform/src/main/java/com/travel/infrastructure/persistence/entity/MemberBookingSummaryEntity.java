@@ -0,0 +1,89 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 회원별 예약 요약 JPA Entity (읽기 모델)
+ *
+ * <h2>핵심 개념 (Key Concept): CQRS 비정규화 테이블</h2>
+ * <pre>
+ * [Key Point] 회원당 한 행 - 조회 화면은 JOIN/집계 없이 PK 조회 한 번
+ *
+ * spend_data     : "KRW:350000;USD:120.50"            (통화별 지출)
+ * upcoming_trips : "예약ID@2026-07-10;예약ID@2026-08-01" (시작일 순)
+ *
+ * [Why @Version] 같은 회원의 예약 두 건이 동시에 바뀌면 한쪽 갱신이 덮어써질 수 있음
+ *   → 낙관적 락으로 늦은 쪽 트랜잭션 실패 (재시도 시 최신 요약에서 다시 계산)
+ * [Why Long] version이 null이면 Spring Data가 새 행으로 판단 → merge 전 SELECT 생략
+ * </pre>
+ */
+@Entity
+@Table(name = "member_booking_summary")
+public class MemberBookingSummaryEntity {
+
+    @Id
+    @Column(name = "member_id", columnDefinition = "CHAR(36)")
+    private String memberId;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "confirmed_count", nullable = false)
+    private int confirmedCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private int cancelledCount;
+
+    @Column(name = "no_show_count", nullable = false)
+    private int noShowCount;
+
+    @Column(name = "spend_data", columnDefinition = "TEXT")
+    private String spendData;
+
+    @Column(name = "upcoming_trips", columnDefinition = "TEXT")
+    private String upcomingTrips;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public MemberBookingSummaryEntity() {}
+
+    // Getter / Setter
+
+    public String getMemberId() { return memberId; }
+    public void setMemberId(String memberId) { this.memberId = memberId; }
+
+    public int getPendingCount() { return pendingCount; }
+    public void setPendingCount(int pendingCount) { this.pendingCount = pendingCount; }
+
+    public int getConfirmedCount() { return confirmedCount; }
+    public void setConfirmedCount(int confirmedCount) { this.confirmedCount = confirmedCount; }
+
+    public int getCompletedCount() { return completedCount; }
+    public void setCompletedCount(int completedCount) { this.completedCount = completedCount; }
+
+    public int getCancelledCount() { return cancelledCount; }
+    public void setCancelledCount(int cancelledCount) { this.cancelledCount = cancelledCount; }
+
+    public int getNoShowCount() { return noShowCount; }
+    public void setNoShowCount(int noShowCount) { this.noShowCount = noShowCount; }
+
+    public String getSpendData() { return spendData; }
+    public void setSpendData(String spendData) { this.spendData = spendData; }
+
+    public String getUpcomingTrips() { return upcomingTrips; }
+    public void setUpcomingTrips(String upcomingTrips) { this.upcomingTrips = upcomingTrips; }
+
+    public Long getVersion() { return version; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
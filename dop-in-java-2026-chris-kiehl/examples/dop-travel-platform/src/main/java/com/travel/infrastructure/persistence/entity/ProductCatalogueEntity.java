@@ -0,0 +1,64 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 상품 카탈로그 JPA Entity - 상품당 한 행 (객실/항공편/패키지 공통)
+ *
+ * <pre>
+ * [Key Point] change_version = 카탈로그 전체에서 단조 증가하는 변경 번호
+ *   상품을 추가/수정/삭제하는 쪽은 현재 최대 번호보다 큰 새 번호를 기록 (유니크 인덱스가 중복을 막음)
+ *   → 읽는 쪽은 "WHERE change_version > 마지막으로 본 번호" 로 바뀐 행만 가져옴
+ * [Trap] 삭제는 행을 지우지 않고 deleted = true + 새 번호 (지우면 증분 조회가 삭제를 볼 수 없음)
+ * [Trap] 쓰는 쪽은 번호 순서대로 커밋해야 함 (카탈로그 쓰기 직렬화) - 번호 12가 11보다 먼저 커밋되면
+ *   그 사이 12까지 읽은 스냅샷은 11을 놓침
+ *   → 읽는 쪽이 lag-window만큼 아래부터 다시 읽어 보완 (ProductCatalogueService) - 그보다 더 늦은 커밋은 여전히 놓침
+ * payload = ProductCodec 바이너리 (deleted 행은 null)
+ * </pre>
+ */
+@Entity
+@Table(name = "product_catalogue", indexes = {
+        @Index(name = "idx_product_catalogue_version", columnList = "change_version", unique = true)
+})
+public class ProductCatalogueEntity {
+
+    @Id
+    @Column(name = "product_id", length = 100)
+    private String productId;
+
+    @Column(name = "product_type", nullable = false, length = 20)
+    private String productType;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Lob
+    @Column(name = "payload")
+    private byte[] payload;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected ProductCatalogueEntity() {}
+
+    public ProductCatalogueEntity(String productId, String productType, long changeVersion,
+                                  boolean deleted, byte[] payload, Instant updatedAt) {
+        this.productId = productId;
+        this.productType = productType;
+        this.changeVersion = changeVersion;
+        this.deleted = deleted;
+        this.payload = payload;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getProductId() { return productId; }
+    public String getProductType() { return productType; }
+    public long getChangeVersion() { return changeVersion; }
+    public boolean isDeleted() { return deleted; }
+    public byte[] getPayload() { return payload; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
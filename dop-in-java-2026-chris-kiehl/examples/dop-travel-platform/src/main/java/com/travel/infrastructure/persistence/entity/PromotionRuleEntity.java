@@ -0,0 +1,44 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 프로모션 규칙 JPA Entity - 프로모션당 한 행 (travel.promotion.source=jpa)
+ *
+ * <pre>
+ * [Key Point] expression은 PromotionRuleParser 문법 텍스트 - 검증은 배포(reload) 시점에 레지스트리가 수행
+ *   active = false 행은 배포 대상에서 제외 (삭제 없이 끄기)
+ * </pre>
+ */
+@Entity
+@Table(name = "promotion_rules")
+public class PromotionRuleEntity {
+
+    @Id
+    @Column(name = "id", length = 100)
+    private String id;
+
+    @Column(name = "expression", nullable = false, length = 4000)
+    private String expression;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected PromotionRuleEntity() {}
+
+    public PromotionRuleEntity(String id, String expression, boolean active, Instant updatedAt) {
+        this.id = id;
+        this.expression = expression;
+        this.active = active;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getId() { return id; }
+    public String getExpression() { return expression; }
+    public boolean isActive() { return active; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
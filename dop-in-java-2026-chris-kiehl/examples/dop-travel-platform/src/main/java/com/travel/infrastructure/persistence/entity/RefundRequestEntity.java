@@ -0,0 +1,90 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 환불 요청(outbox) JPA Entity - 취소된 예약당 한 행
+ *
+ * <pre>
+ * [Key Point] PK = 예약 ID → 같은 예약의 환불을 두 번 넣으면 PK 충돌 (취소 트랜잭션째 롤백)
+ * [Key Point] (status, booking_id) 인덱스 - PENDING keyset 조회가 인덱스 범위 스캔
+ * </pre>
+ */
+@Entity
+@Table(name = "refund_requests", indexes = {
+        @Index(name = "idx_refund_requests_status", columnList = "status, booking_id")
+})
+public class RefundRequestEntity {
+
+    @Id
+    @Column(name = "booking_id", columnDefinition = "CHAR(36)")
+    private String bookingId;
+
+    @Column(name = "payment_id", nullable = false)
+    private String paymentId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "refund_id")
+    private String refundId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected RefundRequestEntity() {}
+
+    public RefundRequestEntity(String bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    // ============================================
+    // Getter / Setter
+    // ============================================
+
+    public String getBookingId() { return bookingId; }
+
+    public String getPaymentId() { return paymentId; }
+    public void setPaymentId(String paymentId) { this.paymentId = paymentId; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public String getRefundId() { return refundId; }
+    public void setRefundId(String refundId) { this.refundId = refundId; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,54 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 정산 생성 진행 기록 JPA Entity - (정산 기간, 파트너)당 한 행
+ *
+ * <pre>
+ * [Key Point] 행이 있다 = 그 파트너의 그 기간 정산이 커밋됨
+ *   id = "기간|파트너" → 같은 파트너를 두 번 기록하면 PK 충돌로 트랜잭션 실패 (중복 정산도 롤백)
+ * </pre>
+ */
+@Entity
+@Table(name = "settlement_checkpoints", indexes = {
+        @Index(name = "idx_settlement_checkpoints_period", columnList = "period")
+})
+public class SettlementCheckpointEntity {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    /**
+     * 정산 기간 (YearMonth 문자열, 예: 2026-09)
+     */
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "partner_id", nullable = false)
+    private String partnerId;
+
+    @Column(name = "settlement_count", nullable = false)
+    private int settlementCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private Instant completedAt;
+
+    protected SettlementCheckpointEntity() {}
+
+    public SettlementCheckpointEntity(String period, String partnerId, int settlementCount, Instant completedAt) {
+        this.id = period + "|" + partnerId;
+        this.period = period;
+        this.partnerId = partnerId;
+        this.settlementCount = settlementCount;
+        this.completedAt = completedAt;
+    }
+
+    public String getId() { return id; }
+    public String getPeriod() { return period; }
+    public String getPartnerId() { return partnerId; }
+    public int getSettlementCount() { return settlementCount; }
+    public Instant getCompletedAt() { return completedAt; }
+}
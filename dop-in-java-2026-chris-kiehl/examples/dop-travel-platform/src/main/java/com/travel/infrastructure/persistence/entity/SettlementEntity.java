@@ -0,0 +1,115 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산 JPA Entity
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 9 SettlementStatus → 상태 + 시각 + 부가 정보</h2>
+ * <pre>
+ * Pending(createdAt)             → PENDING,  status_at
+ * Approved(approvedAt)           → APPROVED, status_at
+ * Paid(paidAt, transactionId)    → PAID,     status_at, status_detail = transactionId
+ * Rejected(rejectedAt, reason)   → REJECTED, status_at, status_detail = reason
+ *
+ * [Key Point] 한 정산 = 한 통화 (currency 컬럼 하나로 세 금액을 모두 해석)
+ * </pre>
+ */
+@Entity
+@Table(name = "settlements", indexes = {
+        @Index(name = "idx_settlements_partner_date", columnList = "partner_id, settlement_date")
+})
+public class SettlementEntity {
+
+    @Id
+    @Column(name = "id", columnDefinition = "CHAR(36)")
+    private String id;
+
+    @Column(name = "partner_id", nullable = false)
+    private String partnerId;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "currency", nullable = false)
+    private String currency;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "fee", nullable = false)
+    private BigDecimal fee;
+
+    @Column(name = "net_amount", nullable = false)
+    private BigDecimal netAmount;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "status_at", nullable = false)
+    private Instant statusAt;
+
+    @Column(name = "status_detail")
+    private String statusDetail;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @OneToMany(mappedBy = "settlement", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderColumn(name = "item_order")
+    private List<SettlementItemEntity> items = new ArrayList<>();
+
+    public SettlementEntity() {}
+
+    // ============================================
+    // Getter / Setter
+    // ============================================
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getPartnerId() { return partnerId; }
+    public void setPartnerId(String partnerId) { this.partnerId = partnerId; }
+
+    public LocalDate getSettlementDate() { return settlementDate; }
+    public void setSettlementDate(LocalDate settlementDate) { this.settlementDate = settlementDate; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public BigDecimal getFee() { return fee; }
+    public void setFee(BigDecimal fee) { this.fee = fee; }
+
+    public BigDecimal getNetAmount() { return netAmount; }
+    public void setNetAmount(BigDecimal netAmount) { this.netAmount = netAmount; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Instant getStatusAt() { return statusAt; }
+    public void setStatusAt(Instant statusAt) { this.statusAt = statusAt; }
+
+    public String getStatusDetail() { return statusDetail; }
+    public void setStatusDetail(String statusDetail) { this.statusDetail = statusDetail; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public List<SettlementItemEntity> getItems() { return items; }
+
+    /**
+     * 양방향 연관관계 설정
+     */
+    public void addItem(SettlementItemEntity item) {
+        items.add(item);
+        item.setSettlement(this);
+    }
+}
@@ -0,0 +1,65 @@
+package com.travel.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 정산 항목 JPA Entity
+ *
+ * <p>[Why UUID] ID를 애플리케이션에서 생성해야 INSERT가 JDBC 배치로 묶임 (IDENTITY는 배치 불가)</p>
+ */
+@Entity
+@Table(name = "settlement_items")
+public class SettlementItemEntity {
+
+    @Id
+    @Column(name = "id", columnDefinition = "CHAR(36)")
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "settlement_id", nullable = false)
+    private SettlementEntity settlement;
+
+    @Column(name = "booking_id", nullable = false, columnDefinition = "CHAR(36)")
+    private String bookingId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "completed_at", nullable = false)
+    private Instant completedAt;
+
+    protected SettlementItemEntity() {}
+
+    public static SettlementItemEntity create() {
+        SettlementItemEntity entity = new SettlementItemEntity();
+        entity.id = UUID.randomUUID().toString();
+        return entity;
+    }
+
+    // ============================================
+    // Getter / Setter
+    // ============================================
+
+    public String getId() { return id; }
+
+    public SettlementEntity getSettlement() { return settlement; }
+    public void setSettlement(SettlementEntity settlement) { this.settlement = settlement; }
+
+    public String getBookingId() { return bookingId; }
+    public void setBookingId(String bookingId) { this.bookingId = bookingId; }
+
+    public String getProductName() { return productName; }
+    public void setProductName(String productName) { this.productName = productName; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public Instant getCompletedAt() { return completedAt; }
+    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+}
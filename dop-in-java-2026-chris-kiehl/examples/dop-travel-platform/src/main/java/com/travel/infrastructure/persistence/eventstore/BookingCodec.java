@@ -0,0 +1,361 @@
+package com.travel.infrastructure.persistence.eventstore;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 이벤트 바이너리 코덱 - Booking 스냅샷과 상태 전이 이벤트 직렬화
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 이벤트 로그에 기록할 페이로드를 고정 순서의 바이너리로 변환
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 9 Sum Type 직렬화</h2>
+ * <pre>
+ * [Key Point] sealed variant마다 1바이트 태그 + 해당 variant의 필드만 기록
+ *
+ *   BookingStatus  : 0=Pending 1=Confirmed 2=Cancelled 3=Completed 4=NoShow
+ *   BookingItem    : 0=Accommodation 1=Flight 2=TravelPackage
+ *
+ * 스냅샷   : id, memberId, status, total, discount, final, couponId, createdAt, updatedAt, items
+ * 상태 전이 : bookingId, status, updatedAt
+ *
+ * Money   : 통화 ordinal(1B, -1=null) + unscaled long (scale은 통화가 결정)
+ * String  : 길이(4B, -1=null) + UTF-8
+ * Instant : epochSecond(8B) + nano(4B)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 태그/enum ordinal은 로그에 영구 기록됨 - 기존 값의 순서 변경 금지, 새 값은 끝에만 추가</li>
+ *   <li>[Why JSON 아님] BookingMapper의 상태 JSON은 문자열 파싱이 필요 - 로그 재생은 기동 시 전체를 읽으므로 고정 레이아웃이 유리</li>
+ *   <li>[Key Point] 디코딩 결과는 Booking 정규 생성자를 거치므로 금액 일관성 검증이 그대로 적용됨</li>
+ * </ul>
+ */
+public final class BookingCodec {
+
+    private static final byte PENDING = 0;
+    private static final byte CONFIRMED = 1;
+    private static final byte CANCELLED = 2;
+    private static final byte COMPLETED = 3;
+    private static final byte NO_SHOW = 4;
+
+    private static final byte ACCOMMODATION = 0;
+    private static final byte FLIGHT = 1;
+    private static final byte TRAVEL_PACKAGE = 2;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final BookingStatus.Cancelled.CancelledBy[] CANCELLED_BY = BookingStatus.Cancelled.CancelledBy.values();
+    private static final BookingItem.Flight.SeatClass[] SEAT_CLASSES = BookingItem.Flight.SeatClass.values();
+
+    private BookingCodec() {}
+
+    /**
+     * 상태 전이 이벤트
+     *
+     * @param bookingId 예약 ID
+     * @param status    전이 후 상태
+     * @param updatedAt 전이 시각 (Booking.updatedAt)
+     */
+    public record StatusChange(BookingId bookingId, BookingStatus status, Instant updatedAt) {}
+
+    // ============================================
+    // [Key Point] 인코딩
+    // ============================================
+
+    public static byte[] encodeSnapshot(Booking booking) {
+        Writer w = new Writer(128 + booking.itemCount() * 96);
+        w.uuid(booking.id().value());
+        w.uuid(booking.memberId().value());
+        writeStatus(w, booking.status());
+        w.money(booking.totalAmount());
+        w.money(booking.discountAmount());
+        w.money(booking.finalAmount());
+        w.string(booking.couponId());
+        w.instant(booking.createdAt());
+        w.instant(booking.updatedAt());
+        w.putInt(booking.itemCount());
+        for (BookingItem item : booking.items()) {
+            writeItem(w, item);
+        }
+        return w.toByteArray();
+    }
+
+    public static byte[] encodeStatusChange(BookingId bookingId, BookingStatus status, Instant updatedAt) {
+        Writer w = new Writer(96);
+        w.uuid(bookingId.value());
+        writeStatus(w, status);
+        w.instant(updatedAt);
+        return w.toByteArray();
+    }
+
+    private static void writeStatus(Writer w, BookingStatus status) {
+        switch (status) {
+            case BookingStatus.Pending(var createdAt, var expiresAt) -> {
+                w.putByte(PENDING);
+                w.instant(createdAt);
+                w.instant(expiresAt);
+            }
+            case BookingStatus.Confirmed(var paymentId, var confirmedAt) -> {
+                w.putByte(CONFIRMED);
+                w.string(paymentId);
+                w.instant(confirmedAt);
+            }
+            case BookingStatus.Cancelled(var reason, var cancelledAt, var refundAmount, var cancelledBy) -> {
+                w.putByte(CANCELLED);
+                w.string(reason);
+                w.instant(cancelledAt);
+                w.money(refundAmount);
+                w.putByte((byte) cancelledBy.ordinal());
+            }
+            case BookingStatus.Completed(var completedAt) -> {
+                w.putByte(COMPLETED);
+                w.instant(completedAt);
+            }
+            case BookingStatus.NoShow(var occurredAt, var penaltyAmount) -> {
+                w.putByte(NO_SHOW);
+                w.instant(occurredAt);
+                w.money(penaltyAmount);
+            }
+        }
+    }
+
+    private static void writeItem(Writer w, BookingItem item) {
+        switch (item) {
+            case BookingItem.Accommodation a -> {
+                w.putByte(ACCOMMODATION);
+                w.string(a.roomId());
+                w.string(a.hotelName());
+                w.string(a.roomType());
+                w.dateRange(a.dateRange());
+                w.money(a.nightlyRate());
+                w.putInt(a.guestCount());
+            }
+            case BookingItem.Flight f -> {
+                w.putByte(FLIGHT);
+                w.string(f.flightId());
+                w.string(f.airline());
+                w.string(f.flightNumber());
+                w.string(f.departure());
+                w.string(f.arrival());
+                w.dateTime(f.departureTime());
+                w.dateTime(f.arrivalTime());
+                w.putByte((byte) f.seatClass().ordinal());
+                w.money(f.price());
+                w.putInt(f.passengerCount());
+            }
+            case BookingItem.TravelPackage p -> {
+                w.putByte(TRAVEL_PACKAGE);
+                w.string(p.packageId());
+                w.string(p.packageName());
+                w.string(p.description());
+                w.dateRange(p.dateRange());
+                w.money(p.price());
+                w.putInt(p.includes().size());
+                for (String include : p.includes()) {
+                    w.string(include);
+                }
+                w.putInt(p.participantCount());
+            }
+        }
+    }
+
+    // ============================================
+    // [Key Point] 디코딩
+    // ============================================
+
+    public static Booking decodeSnapshot(ByteBuffer in) {
+        BookingId id = new BookingId(readUuid(in));
+        MemberId memberId = new MemberId(readUuid(in));
+        BookingStatus status = readStatus(in);
+        Money total = readMoney(in);
+        Money discount = readMoney(in);
+        Money finalAmount = readMoney(in);
+        String couponId = readString(in);
+        Instant createdAt = readInstant(in);
+        Instant updatedAt = readInstant(in);
+        int itemCount = in.getInt();
+        List<BookingItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(readItem(in));
+        }
+        return new Booking(id, memberId, items, status, total, discount, finalAmount, couponId, createdAt, updatedAt);
+    }
+
+    public static StatusChange decodeStatusChange(ByteBuffer in) {
+        return new StatusChange(new BookingId(readUuid(in)), readStatus(in), readInstant(in));
+    }
+
+    private static BookingStatus readStatus(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case PENDING -> new BookingStatus.Pending(readInstant(in), readInstant(in));
+            case CONFIRMED -> new BookingStatus.Confirmed(readString(in), readInstant(in));
+            case CANCELLED -> new BookingStatus.Cancelled(
+                    readString(in), readInstant(in), readMoney(in), CANCELLED_BY[in.get()]);
+            case COMPLETED -> new BookingStatus.Completed(readInstant(in));
+            case NO_SHOW -> new BookingStatus.NoShow(readInstant(in), readMoney(in));
+            default -> throw new IllegalStateException("알 수 없는 상태 태그: " + tag);
+        };
+    }
+
+    private static BookingItem readItem(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case ACCOMMODATION -> new BookingItem.Accommodation(
+                    readString(in), readString(in), readString(in),
+                    readDateRange(in), readMoney(in), in.getInt());
+            case FLIGHT -> new BookingItem.Flight(
+                    readString(in), readString(in), readString(in), readString(in), readString(in),
+                    readDateTime(in), readDateTime(in), SEAT_CLASSES[in.get()],
+                    readMoney(in), in.getInt());
+            case TRAVEL_PACKAGE -> {
+                String packageId = readString(in);
+                String packageName = readString(in);
+                String description = readString(in);
+                DateRange dateRange = readDateRange(in);
+                Money price = readMoney(in);
+                String[] includes = new String[in.getInt()];
+                for (int i = 0; i < includes.length; i++) {
+                    includes[i] = readString(in);
+                }
+                yield new BookingItem.TravelPackage(
+                        packageId, packageName, description, dateRange, price,
+                        List.of(includes), in.getInt());
+            }
+            default -> throw new IllegalStateException("알 수 없는 항목 태그: " + tag);
+        };
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Money readMoney(ByteBuffer in) {
+        byte currency = in.get();
+        long unscaled = in.getLong();
+        if (currency < 0) {
+            return null;
+        }
+        Currency c = CURRENCIES[currency];
+        return new Money(BigDecimal.valueOf(unscaled, c.decimalPlaces()), c);
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        return Instant.ofEpochSecond(in.getLong(), in.getInt());
+    }
+
+    private static DateRange readDateRange(ByteBuffer in) {
+        return new DateRange(LocalDate.ofEpochDay(in.getLong()), LocalDate.ofEpochDay(in.getLong()));
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.getLong()), LocalTime.ofNanoOfDay(in.getLong()));
+    }
+
+    // ============================================
+    // 내부 구현 - 확장 가능한 쓰기 버퍼
+    // ============================================
+
+    private static final class Writer {
+        ByteBuffer buffer;
+
+        Writer(int initialCapacity) {
+            this.buffer = ByteBuffer.allocate(initialCapacity);
+        }
+
+        /**
+         * [Why 매번 확인] 문자열 길이를 미리 알 수 없으므로 필드마다 여유 공간 확보 후 기록
+         */
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() << 1, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        void putByte(byte value) {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void uuid(UUID value) {
+            ensure(16);
+            buffer.putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits());
+        }
+
+        void string(String value) {
+            if (value == null) {
+                ensure(4);
+                buffer.putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(4 + bytes.length);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        void money(Money value) {
+            ensure(9);
+            if (value == null) {
+                buffer.put((byte) -1).putLong(0L);
+                return;
+            }
+            buffer.put((byte) value.currency().ordinal())
+                    .putLong(value.amount().unscaledValue().longValueExact());
+        }
+
+        void instant(Instant value) {
+            ensure(12);
+            buffer.putLong(value.getEpochSecond()).putInt(value.getNano());
+        }
+
+        void dateRange(DateRange value) {
+            ensure(16);
+            buffer.putLong(value.startDate().toEpochDay()).putLong(value.endDate().toEpochDay());
+        }
+
+        void dateTime(LocalDateTime value) {
+            ensure(16);
+            buffer.putLong(value.toLocalDate().toEpochDay()).putLong(value.toLocalTime().toNanoOfDay());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.travel.infrastructure.persistence.eventstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 세그먼트 단위 메모리 매핑 추가 전용(append-only) 로그
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 예약 스냅샷과 상태 전이 이벤트를 파일 끝에 순차 기록하고, 위치(position)로 즉시 재조회
+ *
+ * <h2>핵심 개념 (Key Concept): 레코드 / 세그먼트 레이아웃</h2>
+ * <pre>
+ * 디렉토리/
+ *   booking-events-00000000.log   (고정 크기, 가득 차면 다음 세그먼트)
+ *   booking-events-00000001.log
+ *
+ * 레코드: [length 4B][type 1B][crc32c 4B][payload length B]
+ *   - length == 0  → 세그먼트의 기록 끝 (매핑된 파일은 0으로 채워져 있음)
+ *   - crc 불일치   → 기록 도중 중단된 레코드 (복구 시 여기서 절단)
+ *
+ * position = (세그먼트 번호 &lt;&lt; 32) | 세그먼트 내 오프셋
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 왜 메모리 매핑인가</h2>
+ * <pre>
+ * [Before] JPA save: UPDATE bookings + booking_items 정합 (cascade/orphanRemoval)
+ * [After]  append: 메모리 복사 한 번 - 시스템 콜 없음, 페이지 캐시가 디스크 기록 담당
+ *
+ * [Why Arena.ofShared] MappedByteBuffer는 GC 전까지 매핑이 해제되지 않음
+ *   → close() 시점에 결정적으로 unmap 가능한 MemorySegment 사용
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] fsyncOnAppend=false면 프로세스 장애에는 안전하지만 OS/전원 장애 시 마지막 기록이 유실될 수 있음</li>
+ *   <li>[Trap] 레코드 하나가 세그먼트 크기를 넘으면 기록 불가 - 세그먼트 크기는 최대 스냅샷보다 충분히 크게</li>
+ *   <li>[Why ReadWriteLock] 기록(단일 writer)과 close는 배타적, 조회끼리는 동시 실행</li>
+ * </ul>
+ */
+public final class BookingEventLog implements AutoCloseable {
+
+    /** 스냅샷 레코드 - BookingCodec.encodeSnapshot */
+    public static final byte SNAPSHOT = 1;
+    /** 상태 전이 레코드 - BookingCodec.encodeStatusChange */
+    public static final byte STATUS_CHANGED = 2;
+
+    static final int HEADER_SIZE = 9;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final String FILE_PREFIX = "booking-events-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsyncOnAppend;
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> segments = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int writeOffset;
+    private boolean closed;
+
+    /**
+     * 레코드 방문자 - 로그 재생 시 호출
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /**
+         * @param position 레코드 위치 (read()에 그대로 사용 가능)
+         * @param type     레코드 타입
+         * @param payload  페이로드 뷰 (콜백 안에서만 유효)
+         */
+        void visit(long position, byte type, ByteBuffer payload);
+    }
+
+    /**
+     * 페이로드 디코더 - 읽기 락 안에서 호출
+     */
+    @FunctionalInterface
+    public interface PayloadDecoder<T> {
+        T decode(byte type, ByteBuffer payload);
+    }
+
+    private BookingEventLog(Path directory, int segmentSize, boolean fsyncOnAppend) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncOnAppend = fsyncOnAppend;
+    }
+
+    /**
+     * 로그 열기 - 기존 세그먼트가 있으면 매핑 후 마지막 유효 레코드 뒤부터 이어서 기록
+     *
+     * @param directory     세그먼트 파일 디렉토리 (없으면 생성)
+     * @param segmentSize   세그먼트 크기 (바이트)
+     * @param fsyncOnAppend 기록마다 디스크 동기화 여부
+     */
+    public static BookingEventLog open(Path directory, int segmentSize, boolean fsyncOnAppend) {
+        if (segmentSize < 4_096) {
+            throw new IllegalArgumentException("세그먼트 크기는 4KB 이상이어야 합니다: " + segmentSize);
+        }
+        BookingEventLog log = new BookingEventLog(directory, segmentSize, fsyncOnAppend);
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(p -> p.getFileName().toString().startsWith(FILE_PREFIX))
+                        .sorted()
+                        .toList();
+            }
+            for (Path file : files) {
+                log.segments.add(log.map(file));
+            }
+            if (log.segments.isEmpty()) {
+                log.segments.add(log.map(log.segmentPath(0)));
+            }
+            log.writeOffset = log.recoverEnd(log.segments.getLast());
+        } catch (IOException e) {
+            log.arena.close();
+            throw new UncheckedIOException("이벤트 로그를 열 수 없습니다: " + directory, e);
+        }
+        return log;
+    }
+
+    // ============================================
+    // [Key Point] 기록
+    // ============================================
+
+    /**
+     * 레코드 추가
+     *
+     * @return 기록된 위치
+     */
+    public long append(byte type, byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException(
+                    "레코드가 세그먼트보다 큽니다: " + recordSize + " > " + segmentSize);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            // 남은 공간 + 다음 레코드의 length 종료 표시(4B)가 부족하면 새 세그먼트
+            if (writeOffset + recordSize + 4 > segmentSize) {
+                segments.getLast().force(); // 다 찬 세그먼트는 더 이상 바뀌지 않으므로 이 시점에 동기화
+                segments.add(map(segmentPath(segments.size())));
+                writeOffset = 0;
+            }
+            MemorySegment segment = segments.getLast();
+            int offset = writeOffset;
+
+            // [Key Point] 페이로드 → type → crc → length 순서로 기록
+            // length가 마지막이므로 중간에 중단되면 length == 0 으로 남아 "기록 끝"으로 인식됨
+            MemorySegment.copy(payload, 0, segment, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE, payload.length);
+            segment.set(ValueLayout.JAVA_BYTE, offset + 4, type);
+            segment.set(INT, offset + 5, (int) crc.getValue());
+            segment.set(INT, offset, payload.length);
+            if (fsyncOnAppend) {
+                segment.asSlice(offset, recordSize).force();
+            }
+
+            writeOffset = offset + recordSize;
+            return position(segments.size() - 1, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그 기록 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기록 중인 세그먼트를 디스크에 동기화 (다 찬 세그먼트는 교체 시점에 이미 동기화됨)
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            segments.getLast().force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ============================================
+    // [Key Point] 조회
+    // ============================================
+
+    /**
+     * 위치의 레코드를 읽기 락 안에서 디코딩
+     */
+    public <T> T read(long position, PayloadDecoder<T> decoder) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            MemorySegment segment = segments.get(segmentIndex(position));
+            int offset = offset(position);
+            int length = segment.get(INT, offset);
+            byte type = segment.get(ValueLayout.JAVA_BYTE, offset + 4);
+            return decoder.decode(type, segment.asSlice(offset + HEADER_SIZE, length).asByteBuffer());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 처음부터 모든 레코드를 기록 순서대로 방문 (기동 시 인덱스 재구성용)
+     */
+    public void replay(RecordVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (int s = 0; s < segments.size(); s++) {
+                MemorySegment segment = segments.get(s);
+                int end = s == segments.size() - 1 ? writeOffset : segmentSize;
+                int offset = 0;
+                while (offset + HEADER_SIZE <= end) {
+                    int length = segment.get(INT, offset);
+                    if (length <= 0) {
+                        break;
+                    }
+                    byte type = segment.get(ValueLayout.JAVA_BYTE, offset + 4);
+                    visitor.visit(position(s, offset), type,
+                            segment.asSlice(offset + HEADER_SIZE, length).asByteBuffer());
+                    offset += HEADER_SIZE + length;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            segments.getLast().force();
+            segments.clear();
+            arena.close(); // [Key Point] 모든 세그먼트 즉시 unmap
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    private MemorySegment map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 arena가 닫힐 때까지 유효
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize, arena);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(FILE_PREFIX + "%08d".formatted(index) + FILE_SUFFIX);
+    }
+
+    /**
+     * 마지막 세그먼트의 유효한 기록 끝 찾기 - crc가 맞지 않는 꼬리는 0으로 지움
+     */
+    private int recoverEnd(MemorySegment segment) {
+        int offset = 0;
+        while (offset + HEADER_SIZE <= segmentSize) {
+            int length = segment.get(INT, offset);
+            if (length <= 0 || offset + HEADER_SIZE + length > segmentSize
+                    || !crcMatches(segment, offset, length)) {
+                break;
+            }
+            offset += HEADER_SIZE + length;
+        }
+        if (offset + 4 <= segmentSize && segment.get(INT, offset) != 0) {
+            segment.asSlice(offset).fill((byte) 0);
+        }
+        return offset;
+    }
+
+    private static boolean crcMatches(MemorySegment segment, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(segment.get(ValueLayout.JAVA_BYTE, offset + 4));
+        // [Trap] shared arena에서 파생된 ByteBuffer는 CRC32C.update(ByteBuffer)에 넘길 수 없음 → 복사 후 계산
+        crc.update(segment.asSlice(offset + HEADER_SIZE, length).toArray(ValueLayout.JAVA_BYTE));
+        return (int) crc.getValue() == segment.get(INT, offset + 5);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이벤트 로그가 닫혔습니다: " + directory);
+        }
+    }
+
+    private static long position(int segmentIndex, int offset) {
+        return ((long) segmentIndex << 32) | (offset & 0xFFFF_FFFFL);
+    }
+
+    private static int segmentIndex(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offset(long position) {
+        return (int) position;
+    }
+}
@@ -0,0 +1,300 @@
+package com.travel.infrastructure.persistence.eventstore;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingError;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.Result;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 소싱 예약 Repository - 상태 전이를 로그에 추가만 하는 BookingRepository 구현
+ *
+ * <h2>목적 (Purpose)</h2>
+ * confirm/cancel/complete/markNoShow 저장 시 예약 행과 항목 행을 다시 쓰지 않고
+ * 상태 전이 이벤트 하나만 로그 끝에 기록
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell - 스냅샷 + 이벤트 재생</h2>
+ * <pre>
+ * save(booking):
+ *   처음 보는 예약              → SNAPSHOT (예약 전체)
+ *   상태/수정시각 외 변경 (할인 등) → SNAPSHOT
+ *   상태만 변경                 → STATUS_CHANGED (id, 새 상태, updatedAt)
+ *   마지막 스냅샷 이후 이벤트가 snapshotInterval개 → 이벤트 대신 SNAPSHOT (재생 길이 상한)
+ *
+ * findById(id):
+ *   스냅샷 디코딩 → 이후 이벤트를 순서대로 적용 → Booking
+ *   [Key Point] 이벤트는 상태 전체를 담고 있으므로 적용 = 마지막 이벤트의 상태로 교체
+ *              (중간 이벤트는 감사 이력으로 남음)
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 메모리 인덱스</h2>
+ * <pre>
+ * 예약 ID → (스냅샷 위치, 이후 이벤트 위치들, 회원 ID, 현재 상태 타입, 만료 시각, 상품 ID들)
+ * 회원 ID → 예약 ID 집합
+ *
+ * 목록 조회 조건(회원/상태/만료/상품)은 인덱스로 거르고, 결과 예약만 로그에서 재구성
+ * 기동 시 로그를 처음부터 재생하여 인덱스 재구성
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 트랜잭션 없음 - @Transactional 롤백이 로그 기록을 되돌리지 않음</li>
+ *   <li>[Trap] 단일 프로세스 전용 - 여러 인스턴스가 같은 디렉토리를 쓰면 로그가 깨짐</li>
+ *   <li>[Why save 직렬화] 스냅샷/이벤트 판단(읽기)과 기록이 원자적이어야 같은 예약의 동시 저장이 섞이지 않음</li>
+ * </ul>
+ */
+public class EventSourcedBookingRepository implements BookingRepository {
+
+    private final BookingEventLog log;
+    private final int snapshotInterval;
+    private final Map<BookingId, IndexEntry> index = new ConcurrentHashMap<>();
+    private final Map<MemberId, Set<BookingId>> byMember = new ConcurrentHashMap<>();
+
+    /**
+     * 예약별 인덱스 항목 (불변 - 변경 시 교체)
+     *
+     * @param snapshotPosition 마지막 스냅샷 위치
+     * @param eventPositions   스냅샷 이후 상태 전이 이벤트 위치 (기록 순)
+     * @param memberId         회원 ID
+     * @param statusType       현재 상태 타입
+     * @param pendingExpiresAt Pending이면 만료 시각, 아니면 null
+     * @param productIds       예약 항목의 상품 ID
+     */
+    record IndexEntry(
+            long snapshotPosition,
+            long[] eventPositions,
+            MemberId memberId,
+            Class<? extends BookingStatus> statusType,
+            Instant pendingExpiresAt,
+            List<String> productIds
+    ) {
+        static IndexEntry ofSnapshot(long position, Booking booking) {
+            return new IndexEntry(position, new long[0], booking.memberId(),
+                    booking.status().getClass(), expiresAt(booking.status()),
+                    booking.items().stream().map(BookingItem::productId).toList());
+        }
+
+        IndexEntry withEvent(long position, BookingStatus status) {
+            long[] events = Arrays.copyOf(eventPositions, eventPositions.length + 1);
+            events[eventPositions.length] = position;
+            return new IndexEntry(snapshotPosition, events, memberId,
+                    status.getClass(), expiresAt(status), productIds);
+        }
+
+        private static Instant expiresAt(BookingStatus status) {
+            return status instanceof BookingStatus.Pending p ? p.expiresAt() : null;
+        }
+    }
+
+    /**
+     * @param log              이벤트 로그 (소유권 이전 - 로그 close는 호출자 책임)
+     * @param snapshotInterval 스냅샷 사이 최대 이벤트 수
+     */
+    public EventSourcedBookingRepository(BookingEventLog log, int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("스냅샷 간격은 1 이상이어야 합니다: " + snapshotInterval);
+        }
+        this.log = Objects.requireNonNull(log, "log는 필수입니다");
+        this.snapshotInterval = snapshotInterval;
+        rebuildIndex();
+    }
+
+    // ============================================
+    // 단건 조회
+    // ============================================
+
+    @Override
+    public Result<Booking, BookingError> findById(BookingId id) {
+        return findByIdOptional(id)
+                .map(Result::<Booking, BookingError>success)
+                .orElseGet(() -> Result.failure(new BookingError.NotFound(id)));
+    }
+
+    @Override
+    public Optional<Booking> findByIdOptional(BookingId id) {
+        IndexEntry entry = index.get(id);
+        return entry == null ? Optional.empty() : Optional.of(load(entry));
+    }
+
+    // ============================================
+    // 목록 조회 - 인덱스로 거른 뒤 재구성
+    // ============================================
+
+    @Override
+    public List<Booking> findByMemberId(MemberId memberId) {
+        return byMember.getOrDefault(memberId, Set.of()).stream()
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .map(this::load)
+                .toList();
+    }
+
+    @Override
+    public List<Booking> findByMemberIdAndStatus(MemberId memberId, Class<? extends BookingStatus> statusClass) {
+        return byMember.getOrDefault(memberId, Set.of()).stream()
+                .map(index::get)
+                .filter(e -> e != null && e.statusType() == statusClass)
+                .map(this::load)
+                .toList();
+    }
+
+    @Override
+    public List<Booking> findExpiredPendingBookings() {
+        Instant now = Instant.now();
+        return index.values().stream()
+                .filter(e -> e.pendingExpiresAt() != null && e.pendingExpiresAt().isBefore(now))
+                .map(this::load)
+                .toList();
+    }
+
+    /**
+     * [Trap] 상품 → 예약 인덱스가 없어 전체 인덱스 순회 - 로그 읽기는 걸러진 페이지만
+     */
+    @Override
+    public List<Booking> findActiveByProductId(String productId, BookingId after, int limit) {
+        String afterKey = after == null ? null : after.value().toString();
+        return index.entrySet().stream()
+                .filter(e -> isActive(e.getValue()) && e.getValue().productIds().contains(productId))
+                .map(e -> Map.entry(e.getKey().value().toString(), e.getValue()))
+                .filter(e -> afterKey == null || e.getKey().compareTo(afterKey) > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .limit(limit)
+                .map(e -> load(e.getValue()))
+                .toList();
+    }
+
+    private static boolean isActive(IndexEntry entry) {
+        return entry.statusType() == BookingStatus.Pending.class
+                || entry.statusType() == BookingStatus.Confirmed.class;
+    }
+
+    @Override
+    public List<MemberId> findAllMemberIds() {
+        return List.copyOf(byMember.keySet());
+    }
+
+    // ============================================
+    // [Key Point] 저장 - 스냅샷 또는 상태 전이 이벤트 추가
+    // ============================================
+
+    @Override
+    public synchronized Booking save(Booking booking) {
+        IndexEntry current = index.get(booking.id());
+
+        if (current != null
+                && current.eventPositions().length < snapshotInterval
+                && onlyStatusChanged(current, booking)) {
+            long position = log.append(BookingEventLog.STATUS_CHANGED,
+                    BookingCodec.encodeStatusChange(booking.id(), booking.status(), booking.updatedAt()));
+            index.put(booking.id(), current.withEvent(position, booking.status()));
+            return booking;
+        }
+
+        long position = log.append(BookingEventLog.SNAPSHOT, BookingCodec.encodeSnapshot(booking));
+        index.put(booking.id(), IndexEntry.ofSnapshot(position, booking));
+        byMember.computeIfAbsent(booking.memberId(), k -> ConcurrentHashMap.newKeySet()).add(booking.id());
+        return booking;
+    }
+
+    /**
+     * [Why synchronized] 상태 확인과 기록 사이에 다른 save가 끼어들지 않도록 save와 같은 락
+     */
+    @Override
+    public synchronized List<BookingStatusChanged> updateStatuses(List<BookingStatusChanged> changes) {
+        return BookingRepository.super.updateStatuses(changes);
+    }
+
+    @Override
+    public boolean existsById(BookingId id) {
+        return index.containsKey(id);
+    }
+
+    @Override
+    public boolean existsByMemberIdAndProductId(MemberId memberId, String productId) {
+        return byMember.getOrDefault(memberId, Set.of()).stream()
+                .map(index::get)
+                .anyMatch(e -> e != null && e.productIds().contains(productId));
+    }
+
+    /**
+     * 추적 중인 예약 수
+     */
+    public int size() {
+        return index.size();
+    }
+
+    // ============================================
+    // 내부 구현
+    // ============================================
+
+    /**
+     * 스냅샷 + 이후 이벤트 재생
+     */
+    private Booking load(IndexEntry entry) {
+        Booking booking = log.read(entry.snapshotPosition(), (type, payload) -> BookingCodec.decodeSnapshot(payload));
+        for (long position : entry.eventPositions()) {
+            BookingCodec.StatusChange change =
+                    log.read(position, (type, payload) -> BookingCodec.decodeStatusChange(payload));
+            booking = apply(booking, change);
+        }
+        return booking;
+    }
+
+    private static Booking apply(Booking booking, BookingCodec.StatusChange change) {
+        return new Booking(
+                booking.id(), booking.memberId(), booking.items(), change.status(),
+                booking.totalAmount(), booking.discountAmount(), booking.finalAmount(),
+                booking.couponId(), booking.createdAt(), change.updatedAt());
+    }
+
+    /**
+     * 상태와 updatedAt 외의 필드가 마지막 스냅샷과 같은지 확인
+     *
+     * <p>[Why 스냅샷과 비교] 이벤트는 상태만 바꾸므로 나머지 필드의 기준은 항상 마지막 스냅샷</p>
+     */
+    private boolean onlyStatusChanged(IndexEntry entry, Booking booking) {
+        Booking snapshot = log.read(entry.snapshotPosition(), (type, payload) -> BookingCodec.decodeSnapshot(payload));
+        return snapshot.memberId().equals(booking.memberId())
+                && snapshot.items().equals(booking.items())
+                && snapshot.totalAmount().equals(booking.totalAmount())
+                && snapshot.discountAmount().equals(booking.discountAmount())
+                && snapshot.finalAmount().equals(booking.finalAmount())
+                && Objects.equals(snapshot.couponId(), booking.couponId())
+                && snapshot.createdAt().equals(booking.createdAt());
+    }
+
+    /**
+     * 로그 전체 재생으로 인덱스 재구성 (생성 시 1회)
+     */
+    private void rebuildIndex() {
+        log.replay((position, type, payload) -> {
+            switch (type) {
+                case BookingEventLog.SNAPSHOT -> {
+                    Booking booking = BookingCodec.decodeSnapshot(payload);
+                    index.put(booking.id(), IndexEntry.ofSnapshot(position, booking));
+                    byMember.computeIfAbsent(booking.memberId(), k -> ConcurrentHashMap.newKeySet())
+                            .add(booking.id());
+                }
+                case BookingEventLog.STATUS_CHANGED -> {
+                    BookingCodec.StatusChange change = BookingCodec.decodeStatusChange(payload);
+                    index.computeIfPresent(change.bookingId(),
+                            (id, entry) -> entry.withEvent(position, change.status()));
+                }
+                default -> throw new IllegalStateException("알 수 없는 레코드 타입: " + type);
+            }
+        });
+    }
+}
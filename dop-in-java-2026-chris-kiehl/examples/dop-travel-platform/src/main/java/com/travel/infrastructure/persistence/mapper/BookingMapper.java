@@ -90,6 +90,7 @@ public class BookingMapper {
 
         entity.setProductId(item.productId());
         entity.setName(item.name());
+        entity.setPartnerId(item.partnerId());
         entity.setBasePrice(item.basePrice().amount());
         entity.setCurrency(item.basePrice().currency().code());
 
@@ -206,7 +207,7 @@ public class BookingMapper {
     /**
      * BookingStatus → 상태 문자열
      */
-    private String toStatusString(BookingStatus status) {
+    public String toStatusString(BookingStatus status) {
         return switch (status) {
             case BookingStatus.Pending p -> "PENDING";
             case BookingStatus.Confirmed c -> "CONFIRMED";
@@ -221,7 +222,7 @@ public class BookingMapper {
      *
      * <p>[Key Point] 각 상태별 추가 데이터를 JSON으로 저장</p>
      */
-    private String toStatusData(BookingStatus status) {
+    public String toStatusData(BookingStatus status) {
         // 실제로는 JSON 라이브러리 사용 권장
         return switch (status) {
             case BookingStatus.Pending p ->
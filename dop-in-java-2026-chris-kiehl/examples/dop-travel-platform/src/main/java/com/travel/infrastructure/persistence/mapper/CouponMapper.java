@@ -0,0 +1,110 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponStatus;
+import com.travel.domain.coupon.CouponType;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.entity.CouponEntity;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 쿠폰 Mapper - Domain Record ↔ JPA Entity 변환
+ *
+ * <pre>
+ * [Key Point] 주요 변환 포인트:
+ * - CouponStatus (sealed) ↔ status + status_at + status_detail
+ * - 세 Money (모두 null 가능) ↔ BigDecimal 세 개 + currency 하나
+ * </pre>
+ */
+@Component
+public class CouponMapper {
+
+    // ============================================
+    // Domain → Entity
+    // ============================================
+
+    public CouponEntity toEntity(Coupon coupon) {
+        CouponEntity entity = new CouponEntity();
+        entity.setId(coupon.id());
+        entity.setCode(coupon.code());
+        entity.setCouponType(coupon.couponType().name());
+        entity.setCurrency(currencyOf(coupon).code());
+        entity.setDiscountAmount(amountOf(coupon.discountAmount()));
+        entity.setDiscountPercent(coupon.discountPercent());
+        entity.setMinOrderAmount(amountOf(coupon.minOrderAmount()));
+        entity.setMaxDiscountAmount(amountOf(coupon.maxDiscountAmount()));
+        entity.setOwnerId(coupon.ownerId() == null ? null : coupon.ownerId().value().toString());
+        entity.setValidFrom(coupon.validFrom());
+        entity.setValidUntil(coupon.validUntil());
+        entity.setCreatedAt(coupon.createdAt());
+
+        switch (coupon.status()) {
+            case CouponStatus.Available a -> setStatus(entity, "AVAILABLE", null, null);
+            case CouponStatus.Used u -> setStatus(entity, "USED", u.usedAt(), null);
+            case CouponStatus.Expired e -> setStatus(entity, "EXPIRED", e.expiredAt(), null);
+            case CouponStatus.Cancelled c -> setStatus(entity, "CANCELLED", c.cancelledAt(), c.reason());
+        }
+        return entity;
+    }
+
+    private static void setStatus(CouponEntity entity, String status, Instant at, String detail) {
+        entity.setStatus(status);
+        entity.setStatusAt(at);
+        entity.setStatusDetail(detail);
+    }
+
+    private static Currency currencyOf(Coupon coupon) {
+        return Stream.of(coupon.discountAmount(), coupon.minOrderAmount(), coupon.maxDiscountAmount())
+                .filter(Objects::nonNull)
+                .map(Money::currency)
+                .findFirst()
+                .orElse(Currency.KRW);
+    }
+
+    private static BigDecimal amountOf(Money money) {
+        return money == null ? null : money.amount();
+    }
+
+    // ============================================
+    // Entity → Domain
+    // ============================================
+
+    public Coupon toDomain(CouponEntity entity) {
+        Currency currency = Currency.valueOf(entity.getCurrency());
+        return new Coupon(
+                entity.getId(),
+                entity.getCode(),
+                CouponType.valueOf(entity.getCouponType()),
+                moneyOf(entity.getDiscountAmount(), currency),
+                entity.getDiscountPercent(),
+                moneyOf(entity.getMinOrderAmount(), currency),
+                moneyOf(entity.getMaxDiscountAmount(), currency),
+                entity.getOwnerId() == null ? null : MemberId.from(entity.getOwnerId()),
+                toStatus(entity),
+                entity.getValidFrom(),
+                entity.getValidUntil(),
+                entity.getCreatedAt()
+        );
+    }
+
+    private static CouponStatus toStatus(CouponEntity entity) {
+        return switch (entity.getStatus()) {
+            case "AVAILABLE" -> new CouponStatus.Available();
+            case "USED" -> new CouponStatus.Used(entity.getStatusAt());
+            case "EXPIRED" -> new CouponStatus.Expired(entity.getStatusAt());
+            case "CANCELLED" -> new CouponStatus.Cancelled(entity.getStatusAt(), entity.getStatusDetail());
+            default -> throw new IllegalStateException("알 수 없는 쿠폰 상태: " + entity.getStatus());
+        };
+    }
+
+    private static Money moneyOf(BigDecimal amount, Currency currency) {
+        return amount == null ? null : new Money(amount, currency);
+    }
+}
@@ -0,0 +1,94 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.MemberBookingSummary;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.entity.MemberBookingSummaryEntity;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 예약 요약 Mapper - Domain Record ↔ JPA Entity 변환
+ *
+ * <pre>
+ * [Key Point] 통화별 지출/예정 여행은 구분자 문자열로 저장 (BookingMapper의 statusData와 같은 방식)
+ *   spend_data     : "KRW:350000;USD:120.50"
+ *   upcoming_trips : "예약ID@2026-07-10;..."
+ * </pre>
+ */
+@Component
+public class MemberBookingSummaryMapper {
+
+    /**
+     * Domain → 기존 Entity에 덮어쓰기 (@Version 유지를 위해 새 Entity를 만들지 않음)
+     */
+    public MemberBookingSummaryEntity copyToEntity(MemberBookingSummary summary, MemberBookingSummaryEntity entity) {
+        entity.setMemberId(summary.memberId().value().toString());
+        entity.setPendingCount(summary.counts().pending());
+        entity.setConfirmedCount(summary.counts().confirmed());
+        entity.setCompletedCount(summary.counts().completed());
+        entity.setCancelledCount(summary.counts().cancelled());
+        entity.setNoShowCount(summary.counts().noShow());
+        entity.setSpendData(summary.spend().values().stream()
+                .sorted((a, b) -> a.currency().compareTo(b.currency()))
+                .map(money -> money.currency().code() + ":" + money.amount().toPlainString())
+                .collect(Collectors.joining(";")));
+        entity.setUpcomingTrips(summary.upcomingTrips().stream()
+                .map(trip -> trip.bookingId().value() + "@" + trip.startDate())
+                .collect(Collectors.joining(";")));
+        entity.setUpdatedAt(Instant.now());
+        return entity;
+    }
+
+    /**
+     * Entity → Domain
+     */
+    public MemberBookingSummary toDomain(MemberBookingSummaryEntity entity) {
+        return new MemberBookingSummary(
+                MemberId.from(entity.getMemberId()),
+                new MemberBookingSummary.StatusCounts(
+                        entity.getPendingCount(),
+                        entity.getConfirmedCount(),
+                        entity.getCompletedCount(),
+                        entity.getCancelledCount(),
+                        entity.getNoShowCount()),
+                parseSpend(entity.getSpendData()),
+                parseTrips(entity.getUpcomingTrips()));
+    }
+
+    private Map<Currency, Money> parseSpend(String data) {
+        Map<Currency, Money> spend = new EnumMap<>(Currency.class);
+        for (String entry : split(data)) {
+            int colon = entry.indexOf(':');
+            Currency currency = Currency.valueOf(entry.substring(0, colon));
+            spend.put(currency, new Money(new BigDecimal(entry.substring(colon + 1)), currency));
+        }
+        return spend;
+    }
+
+    private List<MemberBookingSummary.Trip> parseTrips(String data) {
+        return split(data).stream()
+                .map(entry -> {
+                    int at = entry.indexOf('@');
+                    return new MemberBookingSummary.Trip(
+                            new BookingId(UUID.fromString(entry.substring(0, at))),
+                            LocalDate.parse(entry.substring(at + 1)));
+                })
+                .toList();
+    }
+
+    private static List<String> split(String data) {
+        return data == null || data.isBlank() ? List.of() : Arrays.asList(data.split(";"));
+    }
+}
@@ -0,0 +1,302 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomType;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.flight.SeatClass;
+import com.travel.domain.product.travelpackage.TravelPackage;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 바이너리 코덱 - Room / Flight / TravelPackage ↔ product_catalogue.payload
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 9 Sum Type 직렬화</h2>
+ * <pre>
+ * [Key Point] BookingCodec과 같은 방식 - sealed variant마다 1바이트 태그 + 해당 variant의 필드만
+ *
+ *   RoomType  : 0=Standard 1=Deluxe 2=Suite 3=Family(maxChildren) 4=Penthouse(floorNumber)
+ *   SeatClass : 0=Economy 1=PremiumEconomy 2=Business 3=First
+ *
+ * Money  : 통화 ordinal(1B) + unscaled long (scale은 통화가 결정)
+ * String : 길이(4B, -1=null) + UTF-8
+ * List   : 개수(4B) + 원소
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 태그는 DB에 영구 기록됨 - 기존 값의 순서 변경 금지, 새 값은 끝에만 추가</li>
+ *   <li>[Key Point] 디코딩 결과는 각 레코드의 정규 생성자를 거치므로 필수값 검증이 그대로 적용됨</li>
+ * </ul>
+ */
+public final class ProductCodec {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private ProductCodec() {}
+
+    // ============================================
+    // [Key Point] 인코딩
+    // ============================================
+
+    public static byte[] encode(Room room) {
+        return write(out -> {
+            string(out, room.id());
+            string(out, room.hotelId());
+            string(out, room.hotelName());
+            roomType(out, room.roomType());
+            money(out, room.nightlyRate());
+            out.writeInt(room.maxGuests());
+            strings(out, room.amenities());
+            string(out, room.description());
+        });
+    }
+
+    public static byte[] encode(Flight flight) {
+        return write(out -> {
+            string(out, flight.id());
+            string(out, flight.airline());
+            string(out, flight.flightNumber());
+            string(out, flight.departure());
+            string(out, flight.arrival());
+            dateTime(out, flight.departureTime());
+            dateTime(out, flight.arrivalTime());
+            out.writeInt(flight.seatPrices().size());
+            for (Map.Entry<SeatClass, Money> price : flight.seatPrices().entrySet()) {
+                out.writeByte(seatClassTag(price.getKey()));
+                money(out, price.getValue());
+            }
+            out.writeInt(flight.availableSeats().size());
+            for (Map.Entry<SeatClass, Integer> seats : flight.availableSeats().entrySet()) {
+                out.writeByte(seatClassTag(seats.getKey()));
+                out.writeInt(seats.getValue());
+            }
+        });
+    }
+
+    public static byte[] encode(TravelPackage travelPackage) {
+        return write(out -> {
+            string(out, travelPackage.id());
+            string(out, travelPackage.name());
+            string(out, travelPackage.description());
+            string(out, travelPackage.destination());
+            out.writeLong(travelPackage.dateRange().startDate().toEpochDay());
+            out.writeLong(travelPackage.dateRange().endDate().toEpochDay());
+            money(out, travelPackage.pricePerPerson());
+            out.writeInt(travelPackage.minParticipants());
+            out.writeInt(travelPackage.maxParticipants());
+            strings(out, travelPackage.includes());
+            strings(out, travelPackage.excludes());
+            out.writeInt(travelPackage.itinerary().size());
+            for (TravelPackage.DayItinerary day : travelPackage.itinerary()) {
+                out.writeInt(day.day());
+                string(out, day.title());
+                string(out, day.description());
+                strings(out, day.activities());
+            }
+        });
+    }
+
+    private static void roomType(DataOutputStream out, RoomType roomType) throws IOException {
+        switch (roomType) {
+            case RoomType.Standard() -> out.writeByte(0);
+            case RoomType.Deluxe() -> out.writeByte(1);
+            case RoomType.Suite() -> out.writeByte(2);
+            case RoomType.Family(var maxChildren) -> {
+                out.writeByte(3);
+                out.writeInt(maxChildren);
+            }
+            case RoomType.Penthouse(var floorNumber) -> {
+                out.writeByte(4);
+                out.writeInt(floorNumber);
+            }
+        }
+    }
+
+    private static int seatClassTag(SeatClass seatClass) {
+        return switch (seatClass) {
+            case SeatClass.Economy() -> 0;
+            case SeatClass.PremiumEconomy() -> 1;
+            case SeatClass.Business() -> 2;
+            case SeatClass.First() -> 3;
+        };
+    }
+
+    // ============================================
+    // [Key Point] 디코딩
+    // ============================================
+
+    public static Room decodeRoom(byte[] payload) {
+        return read(payload, in -> new Room(
+                string(in), string(in), string(in), roomType(in), money(in), in.readInt(), strings(in), string(in)));
+    }
+
+    public static Flight decodeFlight(byte[] payload) {
+        return read(payload, in -> {
+            String id = string(in);
+            String airline = string(in);
+            String flightNumber = string(in);
+            String departure = string(in);
+            String arrival = string(in);
+            LocalDateTime departureTime = dateTime(in);
+            LocalDateTime arrivalTime = dateTime(in);
+            Map<SeatClass, Money> prices = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                prices.put(seatClass(in.readByte()), money(in));
+            }
+            Map<SeatClass, Integer> seats = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                seats.put(seatClass(in.readByte()), in.readInt());
+            }
+            return new Flight(id, airline, flightNumber, departure, arrival, departureTime, arrivalTime, prices, seats);
+        });
+    }
+
+    public static TravelPackage decodeTravelPackage(byte[] payload) {
+        return read(payload, in -> {
+            String id = string(in);
+            String name = string(in);
+            String description = string(in);
+            String destination = string(in);
+            DateRange dateRange = new DateRange(LocalDate.ofEpochDay(in.readLong()), LocalDate.ofEpochDay(in.readLong()));
+            Money pricePerPerson = money(in);
+            int minParticipants = in.readInt();
+            int maxParticipants = in.readInt();
+            List<String> includes = strings(in);
+            List<String> excludes = strings(in);
+            List<TravelPackage.DayItinerary> itinerary = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                itinerary.add(new TravelPackage.DayItinerary(in.readInt(), string(in), string(in), strings(in)));
+            }
+            return new TravelPackage(id, name, description, destination, dateRange, pricePerPerson,
+                    minParticipants, maxParticipants, includes, excludes, itinerary);
+        });
+    }
+
+    private static RoomType roomType(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case 0 -> new RoomType.Standard();
+            case 1 -> new RoomType.Deluxe();
+            case 2 -> new RoomType.Suite();
+            case 3 -> new RoomType.Family(in.readInt());
+            case 4 -> new RoomType.Penthouse(in.readInt());
+            default -> throw new IllegalStateException("알 수 없는 객실 유형 태그: " + tag);
+        };
+    }
+
+    private static SeatClass seatClass(byte tag) {
+        return switch (tag) {
+            case 0 -> new SeatClass.Economy();
+            case 1 -> new SeatClass.PremiumEconomy();
+            case 2 -> new SeatClass.Business();
+            case 3 -> new SeatClass.First();
+            default -> throw new IllegalStateException("알 수 없는 좌석 등급 태그: " + tag);
+        };
+    }
+
+    // ============================================
+    // 내부 구현 - 필드 단위 읽기/쓰기
+    // ============================================
+
+    @FunctionalInterface
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * [Why UncheckedIOException] 메모리 스트림이라 실제 I/O 오류는 없음 - 잘린 페이로드(EOF)만 발생 가능
+     */
+    private static byte[] write(Body body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] payload, Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 페이로드를 읽을 수 없습니다", e);
+        }
+    }
+
+    private static void string(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String string(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void strings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            string(out, value);
+        }
+    }
+
+    private static List<String> strings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(string(in));
+        }
+        return values;
+    }
+
+    private static void money(DataOutputStream out, Money value) throws IOException {
+        out.writeByte(value.currency().ordinal());
+        out.writeLong(value.amount().unscaledValue().longValueExact());
+    }
+
+    private static Money money(DataInputStream in) throws IOException {
+        Currency currency = CURRENCIES[in.readByte()];
+        return new Money(BigDecimal.valueOf(in.readLong(), currency.decimalPlaces()), currency);
+    }
+
+    private static void dateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toLocalDate().toEpochDay());
+        out.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime dateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+}
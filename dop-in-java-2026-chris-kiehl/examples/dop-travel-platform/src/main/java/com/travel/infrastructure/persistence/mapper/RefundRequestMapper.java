@@ -0,0 +1,50 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.infrastructure.persistence.entity.RefundRequestEntity;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환불 요청 Mapper - Domain Record ↔ JPA Entity 변환
+ */
+@Component
+public class RefundRequestMapper {
+
+    public RefundRequestEntity toEntity(RefundRequest request) {
+        RefundRequestEntity entity = new RefundRequestEntity(request.bookingId().toString());
+        updateEntity(entity, request);
+        return entity;
+    }
+
+    /**
+     * 기존 Entity에 상태 반영 (dirty checking으로 UPDATE)
+     */
+    public void updateEntity(RefundRequestEntity entity, RefundRequest request) {
+        entity.setPaymentId(request.paymentId());
+        entity.setAmount(request.amount().amount());
+        entity.setCurrency(request.amount().currency().code());
+        entity.setStatus(request.status().name());
+        entity.setAttempts(request.attempts());
+        entity.setLastError(request.lastError());
+        entity.setRefundId(request.refundId());
+        entity.setCreatedAt(request.createdAt());
+        entity.setUpdatedAt(request.updatedAt());
+    }
+
+    public RefundRequest toDomain(RefundRequestEntity entity) {
+        return new RefundRequest(
+                BookingId.from(entity.getBookingId()),
+                entity.getPaymentId(),
+                new Money(entity.getAmount(), Currency.valueOf(entity.getCurrency())),
+                RefundRequest.Status.valueOf(entity.getStatus()),
+                entity.getAttempts(),
+                entity.getLastError(),
+                entity.getRefundId(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.SettlementStatus;
+import com.travel.infrastructure.persistence.entity.SettlementEntity;
+import com.travel.infrastructure.persistence.entity.SettlementItemEntity;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 정산 Mapper - Domain Record ↔ JPA Entity 변환
+ *
+ * <p>[Ch 9] SettlementStatus(sealed) ↔ status + status_at + status_detail</p>
+ */
+@Component
+public class SettlementMapper {
+
+    // ============================================
+    // Domain → Entity
+    // ============================================
+
+    public SettlementEntity toEntity(Settlement settlement) {
+        SettlementEntity entity = new SettlementEntity();
+        entity.setId(settlement.id().toString());
+        entity.setPartnerId(settlement.partnerId());
+        entity.setSettlementDate(settlement.settlementDate());
+        entity.setCurrency(settlement.totalAmount().currency().code());
+        entity.setTotalAmount(settlement.totalAmount().amount());
+        entity.setFee(settlement.fee().amount());
+        entity.setNetAmount(settlement.netAmount().amount());
+        entity.setCreatedAt(settlement.createdAt());
+
+        switch (settlement.status()) {
+            case SettlementStatus.Pending p -> setStatus(entity, "PENDING", p.createdAt(), null);
+            case SettlementStatus.Approved a -> setStatus(entity, "APPROVED", a.approvedAt(), null);
+            case SettlementStatus.Paid p -> setStatus(entity, "PAID", p.paidAt(), p.transactionId());
+            case SettlementStatus.Rejected r -> setStatus(entity, "REJECTED", r.rejectedAt(), r.reason());
+        }
+
+        for (Settlement.SettlementItem item : settlement.items()) {
+            SettlementItemEntity itemEntity = SettlementItemEntity.create();
+            itemEntity.setBookingId(item.bookingId());
+            itemEntity.setProductName(item.productName());
+            itemEntity.setAmount(item.amount().amount());
+            itemEntity.setCompletedAt(item.completedAt());
+            entity.addItem(itemEntity);
+        }
+        return entity;
+    }
+
+    // ============================================
+    // Entity → Domain
+    // ============================================
+
+    public Settlement toDomain(SettlementEntity entity) {
+        Currency currency = Currency.valueOf(entity.getCurrency());
+        return new Settlement(
+                Settlement.SettlementId.from(entity.getId()),
+                entity.getPartnerId(),
+                entity.getSettlementDate(),
+                entity.getItems().stream()
+                        .map(item -> new Settlement.SettlementItem(
+                                item.getBookingId(),
+                                item.getProductName(),
+                                new Money(item.getAmount(), currency),
+                                item.getCompletedAt()))
+                        .toList(),
+                new Money(entity.getTotalAmount(), currency),
+                new Money(entity.getFee(), currency),
+                new Money(entity.getNetAmount(), currency),
+                toStatusDomain(entity.getStatus(), entity.getStatusAt(), entity.getStatusDetail()),
+                entity.getCreatedAt()
+        );
+    }
+
+    // ============================================
+    // SettlementStatus ↔ 컬럼 변환
+    // ============================================
+
+    private static void setStatus(SettlementEntity entity, String status, Instant at, String detail) {
+        entity.setStatus(status);
+        entity.setStatusAt(at);
+        entity.setStatusDetail(detail);
+    }
+
+    private static SettlementStatus toStatusDomain(String status, Instant at, String detail) {
+        return switch (status) {
+            case "PENDING" -> new SettlementStatus.Pending(at);
+            case "APPROVED" -> new SettlementStatus.Approved(at);
+            case "PAID" -> new SettlementStatus.Paid(at, detail);
+            case "REJECTED" -> new SettlementStatus.Rejected(at, detail);
+            default -> throw new IllegalArgumentException("Unknown settlement status: " + status);
+        };
+    }
+}
@@ -0,0 +1,297 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingArchive;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.entity.BookingArchiveIndexEntity;
+import com.travel.infrastructure.persistence.entity.BookingEntity;
+import com.travel.infrastructure.persistence.eventstore.BookingCodec;
+import com.travel.infrastructure.persistence.mapper.BookingMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPA 기반 예약 보관소 - 월별 보관 테이블(네이티브 SQL) + 라우팅 인덱스(Entity)
+ *
+ * <h2>핵심 개념 (Key Concept): 배치 하나 = 트랜잭션 하나</h2>
+ * <pre>
+ * archiveBatch(cutoff, limit)
+ *   1. 대상 ID/생성 시각 limit건 (잠금 없음)      → 필요한 월 테이블 확인
+ *   2. 처음 보는 월이면 CREATE TABLE IF NOT EXISTS  (트랜잭션 밖 - DDL은 DB에 따라 암묵적 커밋)
+ *   3. 트랜잭션:
+ *        SELECT ... WHERE id IN (1의 ID) AND 보관 조건 FOR UPDATE   (그 사이 바뀐 예약은 빠짐)
+ *        + 항목 fetch join (같은 영속성 컨텍스트의 Entity에 채움)
+ *        월마다 INSERT INTO bookings_archive_yyyymm VALUES (...), (...), ...   (월당 왕복 1회)
+ *        booking_archive_index + booking_archive_product persist         (JDBC 배치)
+ *        DELETE booking_items / bookings WHERE id IN (...)               (벌크 2회)
+ *
+ * [Key Point] 스냅샷 = BookingCodec 바이너리 (이벤트 저장소와 같은 형식) - 항목 테이블 없이 1행
+ * [Key Point] 중간에 실패하면 그 배치는 통째로 롤백 → 보관과 삭제가 어긋나지 않음, 다시 실행하면 이어서
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 월 테이블 이름은 YearMonth에서만 만듦 - 외부 문자열을 테이블 이름에 넣지 않음</li>
+ *   <li>[Trap] 스냅샷 컬럼은 드라이버에 따라 byte[] 또는 Blob으로 돌아옴 - 둘 다 처리</li>
+ *   <li>[Why 생성 월] 분할 키가 바뀌지 않는 값이어야 같은 예약이 한 테이블에만 있음</li>
+ * </ul>
+ */
+@Repository
+public class JpaBookingArchive implements BookingArchive {
+
+    private static final String TABLE_PREFIX = "bookings_archive_";
+    private static final String ARCHIVABLE =
+            "b.status IN ('CANCELLED', 'COMPLETED', 'NO_SHOW') AND b.updatedAt < :cutoff";
+
+    private final BookingMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zoneId;
+    private final Set<YearMonth> createdTables = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaBookingArchive(
+            BookingMapper mapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${travel.booking.archive.zone-id:Asia/Seoul}") String zoneId
+    ) {
+        this.mapper = mapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    // ============================================
+    // 보관
+    // ============================================
+
+    @Override
+    public Batch archiveBatch(Instant cutoff, int limit) {
+        List<Object[]> candidates = transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT b.id, b.createdAt FROM BookingEntity b WHERE " + ARCHIVABLE + " ORDER BY b.id",
+                        Object[].class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(limit)
+                .getResultList());
+        if (candidates.isEmpty()) {
+            return new Batch(0, Set.of());
+        }
+        List<String> ids = new ArrayList<>(candidates.size());
+        for (Object[] row : candidates) {
+            ids.add((String) row[0]);
+            ensureTable(BookingArchive.partitionOf((Instant) row[1], zoneId));
+        }
+        return transactionTemplate.execute(status -> move(ids, cutoff));
+    }
+
+    private Batch move(List<String> ids, Instant cutoff) {
+        List<BookingEntity> locked = entityManager.createQuery(
+                        "SELECT b FROM BookingEntity b WHERE b.id IN :ids AND " + ARCHIVABLE, BookingEntity.class)
+                .setParameter("ids", ids)
+                .setParameter("cutoff", cutoff)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (locked.isEmpty()) {
+            return new Batch(0, Set.of());
+        }
+        List<String> lockedIds = locked.stream().map(BookingEntity::getId).toList();
+        entityManager.createQuery(
+                        "SELECT DISTINCT b FROM BookingEntity b LEFT JOIN FETCH b.items WHERE b.id IN :ids",
+                        BookingEntity.class)
+                .setParameter("ids", lockedIds)
+                .getResultList();
+
+        Map<YearMonth, List<Booking>> byMonth = new TreeMap<>();
+        for (BookingEntity entity : locked) {
+            Booking booking = mapper.toDomain(entity);
+            byMonth.computeIfAbsent(BookingArchive.partitionOf(booking.createdAt(), zoneId), m -> new ArrayList<>())
+                    .add(booking);
+        }
+        for (Map.Entry<YearMonth, List<Booking>> entry : byMonth.entrySet()) {
+            insertSnapshots(entry.getKey(), entry.getValue());
+            for (Booking booking : entry.getValue()) {
+                Set<String> productIds = new HashSet<>();
+                booking.items().forEach(item -> productIds.add(item.productId()));
+                entityManager.persist(new BookingArchiveIndexEntity(booking.id().value().toString(),
+                        booking.memberId().value().toString(), monthKey(entry.getKey()), productIds));
+            }
+        }
+        entityManager.flush();
+
+        entityManager.createQuery("DELETE FROM BookingItemEntity i WHERE i.booking.id IN :ids")
+                .setParameter("ids", lockedIds)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM BookingEntity b WHERE b.id IN :ids")
+                .setParameter("ids", lockedIds)
+                .executeUpdate();
+        entityManager.clear();
+        return new Batch(lockedIds.size(), byMonth.keySet());
+    }
+
+    /**
+     * 여러 행 INSERT 한 문장 - 월 테이블은 Entity가 아니라 Hibernate JDBC 배치를 쓸 수 없음
+     */
+    private void insertSnapshots(YearMonth month, List<Booking> bookings) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName(month))
+                .append(" (id, member_id, status, created_at, updated_at, snapshot) VALUES ");
+        for (int i = 0; i < bookings.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?)");
+        }
+        Query insert = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Booking booking : bookings) {
+            insert.setParameter(position++, booking.id().value().toString());
+            insert.setParameter(position++, booking.memberId().value().toString());
+            insert.setParameter(position++, mapper.toStatusString(booking.status()));
+            insert.setParameter(position++, booking.createdAt());
+            insert.setParameter(position++, booking.updatedAt());
+            insert.setParameter(position++, BookingCodec.encodeSnapshot(booking));
+        }
+        insert.executeUpdate();
+    }
+
+    private void ensureTable(YearMonth month) {
+        if (createdTables.contains(month)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "CREATE TABLE IF NOT EXISTS " + tableName(month) + " (" +
+                "id CHAR(36) NOT NULL PRIMARY KEY, " +
+                "member_id VARCHAR(36) NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, " +
+                "created_at TIMESTAMP(6) NOT NULL, " +
+                "updated_at TIMESTAMP(6) NOT NULL, " +
+                "snapshot BLOB NOT NULL)").executeUpdate());
+        createdTables.add(month);
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Booking> findById(BookingId id) {
+        BookingArchiveIndexEntity index = entityManager.find(BookingArchiveIndexEntity.class, id.value().toString());
+        if (index == null) {
+            return Optional.empty();
+        }
+        return readSnapshots(index.getArchiveMonth(), List.of(index.getBookingId())).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Booking> findByMemberId(MemberId memberId) {
+        List<BookingArchiveIndexEntity> indexes = entityManager.createQuery(
+                        "SELECT a FROM BookingArchiveIndexEntity a WHERE a.memberId = :memberId",
+                        BookingArchiveIndexEntity.class)
+                .setParameter("memberId", memberId.value().toString())
+                .getResultList();
+        if (indexes.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<String>> idsByMonth = new TreeMap<>();
+        for (BookingArchiveIndexEntity index : indexes) {
+            idsByMonth.computeIfAbsent(index.getArchiveMonth(), m -> new ArrayList<>()).add(index.getBookingId());
+        }
+        List<Booking> bookings = new ArrayList<>(indexes.size());
+        idsByMonth.forEach((month, ids) -> bookings.addAll(readSnapshots(month, ids)));
+        return List.copyOf(bookings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(BookingId id) {
+        return entityManager.find(BookingArchiveIndexEntity.class, id.value().toString()) != null;
+    }
+
+    /**
+     * 라우팅 인덱스만 조회 - 월 테이블의 스냅샷은 읽지 않음
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByMemberIdAndProductId(MemberId memberId, String productId) {
+        return !entityManager.createQuery(
+                        "SELECT a.bookingId FROM BookingArchiveIndexEntity a JOIN a.productIds p " +
+                        "WHERE a.memberId = :memberId AND p = :productId", String.class)
+                .setParameter("memberId", memberId.value().toString())
+                .setParameter("productId", productId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberId> findAllMemberIds() {
+        return entityManager.createQuery(
+                        "SELECT DISTINCT a.memberId FROM BookingArchiveIndexEntity a", String.class)
+                .getResultList()
+                .stream()
+                .map(MemberId::from)
+                .toList();
+    }
+
+    // ============================================
+    // 헬퍼 메서드
+    // ============================================
+
+    private List<Booking> readSnapshots(int monthKey, List<String> ids) {
+        YearMonth month = YearMonth.of(monthKey / 100, monthKey % 100);
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT snapshot FROM " + tableName(month) + " WHERE id IN (:ids)")
+                .setParameter("ids", new LinkedHashSet<>(ids))
+                .getResultList();
+        List<Booking> bookings = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            bookings.add(BookingCodec.decodeSnapshot(ByteBuffer.wrap(bytes(row))));
+        }
+        return bookings;
+    }
+
+    private static byte[] bytes(Object column) {
+        if (column instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (column instanceof Blob blob) {
+            try {
+                return blob.getBytes(1, Math.toIntExact(blob.length()));
+            } catch (SQLException e) {
+                throw new IllegalStateException("보관 스냅샷을 읽을 수 없습니다", e);
+            }
+        }
+        throw new IllegalStateException("알 수 없는 스냅샷 컬럼 타입: " + column.getClass().getName());
+    }
+
+    private static String tableName(YearMonth month) {
+        return TABLE_PREFIX + monthKey(month);
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
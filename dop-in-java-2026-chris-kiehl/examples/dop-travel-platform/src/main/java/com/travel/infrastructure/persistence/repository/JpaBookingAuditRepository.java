@@ -0,0 +1,52 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.booking.BookingAuditEntry;
+import com.travel.domain.booking.BookingAuditRepository;
+import com.travel.infrastructure.persistence.entity.BookingAuditEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JPA 기반 예약 감사 기록 Repository 구현
+ *
+ * <pre>
+ * [IS] 감사 기록은 항상 새로 생성 → persist만 (merge/SELECT 없음)
+ * [Key Point] flush 한 번에 booking_audit INSERT가 hibernate.jdbc.batch_size개씩 묶여 전송
+ * </pre>
+ */
+@Repository
+public class JpaBookingAuditRepository implements BookingAuditRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertAll(List<BookingAuditEntry> entries) {
+        for (BookingAuditEntry entry : entries) {
+            entityManager.persist(new BookingAuditEntity(entry.id(), entry.bookingId().toString(),
+                    entry.fromStatus(), entry.toStatus(), entry.occurredAt(), entry.actor()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(entityManager.createQuery(
+                        "SELECT a.id FROM BookingAuditEntity a WHERE a.id IN :ids", String.class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+}
@@ -1,17 +1,33 @@
 package com.travel.infrastructure.persistence.repository;
 
+import com.travel.application.booking.BookingMetrics;
 import com.travel.domain.booking.*;
 import com.travel.domain.member.MemberId;
 import com.travel.infrastructure.persistence.entity.BookingEntity;
 import com.travel.infrastructure.persistence.mapper.BookingMapper;
 import com.travel.shared.Result;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JPA 기반 예약 Repository 구현
@@ -31,46 +47,119 @@ import java.util.Optional;
  * 2. BookingMapper - Entity ↔ Domain 변환
  * 3. BookingRepository 인터페이스 구현 - 도메인 타입으로 노출
  * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): saveAll - JDBC 배치 저장</h2>
+ * <pre>
+ * [Before] saveAll = save 반복
+ *   jpaRepository.save(entity) → ID가 미리 정해진 Entity는 merge → 예약마다 SELECT 1회
+ *   + INSERT bookings 1회 + INSERT booking_items 항목 수만큼 → 모두 개별 왕복
+ *
+ * [After] chunk 단위:
+ *   1. SELECT id ... WHERE id IN (chunk)  → 기존 예약 판별 (chunk당 1회)
+ *   2. 새 예약은 persist, 기존 예약은 merge
+ *   3. flush → Hibernate가 같은 INSERT를 hibernate.jdbc.batch_size개씩 묶어 실행
+ *   4. clear → 영속성 컨텍스트 비우기 (수만 건 적재 시 메모리/dirty checking 비용 상한)
+ *
+ * [Key Point] ID가 애플리케이션에서 미리 생성되는 UUID라서 배치 가능
+ *   IDENTITY 전략이었다면 INSERT마다 생성 키를 받아야 하므로 Hibernate가 배치를 끔
+ * </pre>
+ *
+ * <h2>핵심 개념 (Key Concept): 보관된 예약으로 이어서 조회</h2>
+ * <pre>
+ * 오래된 최종 상태 예약은 BookingArchive가 월별 보관 테이블로 옮김 (BookingArchiveJob)
+ *   findById / existsById          bookings에 없을 때만 보관소 조회 (라우팅 인덱스 PK 조회 1회)
+ *   findByMemberId / AndStatus     bookings → 보관소 (최종 상태를 찾을 때만 보관소), 읽기 전용 트랜잭션 하나
+ *   existsByMemberIdAndProductId   bookings에 없을 때만 라우팅 인덱스의 상품 ID 조회 (스냅샷 디코드 없음)
+ *   findActiveByProductId / findExpiredPendingBookings   활성 예약만 → bookings만 (보관으로 작아진 인덱스)
+ *
+ * [Trap] READ COMMITTED에서는 트랜잭션 하나여도 문장마다 다른 커밋을 봄 - 두 조회 사이에 보관 배치가 커밋되면
+ *   같은 예약이 양쪽에서 나옴 → 예약 ID로 중복 제거
+ * [Why bookings 먼저] 보관소를 먼저 읽으면 그 사이 옮겨진 예약이 양쪽 모두에서 빠짐 - 중복은 지울 수 있지만 누락은 모름
+ * </pre>
+ *
+ * <p>[Key Point] 조회/저장 메서드마다 booking.repository Timer (operation 태그) - BookingMetrics 참고</p>
+ *
+ * <p>travel.booking.repository=event-store 이면 EventSourcedBookingRepository로 대체 (기본값 jpa)</p>
  */
 @Repository
+@ConditionalOnProperty(name = "travel.booking.repository", havingValue = "jpa", matchIfMissing = true)
 public class JpaBookingRepository implements BookingRepository {
 
     private final BookingJpaRepository jpaRepository;
     private final BookingMapper mapper;
+    private final BookingArchive archive;
+    private final int chunkSize;
+    private final Timer findByIdTimer;
+    private final Timer findByMemberIdTimer;
+    private final Timer findActiveByProductIdTimer;
+    private final Timer saveTimer;
+    private final Timer saveAllTimer;
+    private final Timer updateStatusesTimer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public JpaBookingRepository(BookingJpaRepository jpaRepository, BookingMapper mapper) {
+    public JpaBookingRepository(
+            BookingJpaRepository jpaRepository,
+            BookingMapper mapper,
+            BookingArchive archive,
+            BookingMetrics metrics,
+            @Value("${travel.booking.batch.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다: " + chunkSize);
+        }
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.archive = archive;
+        this.chunkSize = chunkSize;
+        this.findByIdTimer = metrics.repositoryTimer("find_by_id");
+        this.findByMemberIdTimer = metrics.repositoryTimer("find_by_member_id");
+        this.findActiveByProductIdTimer = metrics.repositoryTimer("find_active_by_product_id");
+        this.saveTimer = metrics.repositoryTimer("save");
+        this.saveAllTimer = metrics.repositoryTimer("save_all");
+        this.updateStatusesTimer = metrics.repositoryTimer("update_statuses");
     }
 
     @Override
     public Result<Booking, BookingError> findById(BookingId id) {
-        return jpaRepository.findById(id.value().toString())
-                .map(entity -> Result.<Booking, BookingError>success(mapper.toDomain(entity)))
+        return findByIdOptional(id)
+                .map(Result::<Booking, BookingError>success)
                 .orElseGet(() -> Result.failure(new BookingError.NotFound(id)));
     }
 
     @Override
     public Optional<Booking> findByIdOptional(BookingId id) {
-        return jpaRepository.findById(id.value().toString())
-                .map(mapper::toDomain);
+        return findByIdTimer.record(() -> jpaRepository.findById(id.value().toString())
+                .map(mapper::toDomain)
+                .or(() -> archive.findById(id)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Booking> findByMemberId(MemberId memberId) {
-        return jpaRepository.findByMemberId(memberId.value().toString())
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        return findByMemberIdTimer.record(() -> {
+            List<Booking> active = jpaRepository.findByMemberId(memberId.value().toString())
+                    .stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            return withArchived(active, archive.findByMemberId(memberId));
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Booking> findByMemberIdAndStatus(MemberId memberId, Class<? extends BookingStatus> statusClass) {
         String status = toStatusString(statusClass);
-        return jpaRepository.findByMemberIdAndStatus(memberId.value().toString(), status)
+        List<Booking> active = jpaRepository.findByMemberIdAndStatus(memberId.value().toString(), status)
                 .stream()
                 .map(mapper::toDomain)
                 .toList();
+        if (statusClass == BookingStatus.Pending.class || statusClass == BookingStatus.Confirmed.class) {
+            return active;
+        }
+        return withArchived(active, archive.findByMemberId(memberId).stream()
+                .filter(booking -> statusClass.isInstance(booking.status()))
+                .toList());
     }
 
     @Override
@@ -81,27 +170,187 @@ public class JpaBookingRepository implements BookingRepository {
                 .toList();
     }
 
+    /**
+     * 두 단계 조회 - ID 페이지(상품 인덱스) → 항목 fetch join
+     *
+     * <p>[Why 두 단계] fetch join에 setMaxResults를 걸면 Hibernate가 전체 결과를 메모리에서 자름</p>
+     */
+    @Override
+    public List<Booking> findActiveByProductId(String productId, BookingId after, int limit) {
+        return findActiveByProductIdTimer.record(() -> queryActiveByProductId(productId, after, limit));
+    }
+
+    private List<Booking> queryActiveByProductId(String productId, BookingId after, int limit) {
+        TypedQuery<String> idQuery = entityManager.createQuery(
+                        "SELECT DISTINCT b.id FROM BookingEntity b JOIN b.items i " +
+                        "WHERE i.productId = :productId AND b.status IN ('PENDING', 'CONFIRMED') " +
+                        (after == null ? "" : "AND b.id > :after ") +
+                        "ORDER BY b.id", String.class)
+                .setParameter("productId", productId)
+                .setMaxResults(limit);
+        if (after != null) {
+            idQuery.setParameter("after", after.value().toString());
+        }
+        List<String> ids = idQuery.getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        "SELECT DISTINCT b FROM BookingEntity b LEFT JOIN FETCH b.items " +
+                        "WHERE b.id IN :ids ORDER BY b.id", BookingEntity.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Booking save(Booking booking) {
-        BookingEntity entity = mapper.toEntity(booking);
-        BookingEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        return saveTimer.record(() -> mapper.toDomain(jpaRepository.save(mapper.toEntity(booking))));
+    }
+
+    @Override
+    public List<MemberId> findAllMemberIds() {
+        Set<MemberId> memberIds = new LinkedHashSet<>();
+        for (String memberId : jpaRepository.findAllMemberIds()) {
+            memberIds.add(MemberId.from(memberId));
+        }
+        memberIds.addAll(archive.findAllMemberIds());
+        return List.copyOf(memberIds);
+    }
+
+    /**
+     * 일괄 저장 - chunk마다 flush/clear, INSERT/UPDATE는 JDBC 배치로 실행
+     *
+     * <p>[Trap] 호출 전에 같은 트랜잭션에서 읽은 Entity도 clear로 분리됨 - 이후 변경은 반영되지 않음</p>
+     */
+    @Override
+    @Transactional
+    public List<Booking> saveAll(List<Booking> bookings) {
+        return saveAllTimer.record(() -> saveInChunks(bookings));
+    }
+
+    private List<Booking> saveInChunks(List<Booking> bookings) {
+        for (int from = 0; from < bookings.size(); from += chunkSize) {
+            List<Booking> chunk = bookings.subList(from, Math.min(from + chunkSize, bookings.size()));
+            Set<String> existing = findExistingIds(chunk);
+            for (Booking booking : chunk) {
+                BookingEntity entity = mapper.toEntity(booking);
+                if (existing.contains(entity.getId())) {
+                    entityManager.merge(entity);
+                } else {
+                    entityManager.persist(entity);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return List.copyOf(bookings);
+    }
+
+    /**
+     * 상태 전이 일괄 반영 - 잠금 조회 1회 + 배치 UPDATE
+     *
+     * <pre>
+     * 1. flush/clear → SELECT ... WHERE id IN (...) FOR UPDATE  (최신 상태로 다시 읽고 잠금)
+     * 2. 저장된 status/status_data/updated_at이 previous와 같은 예약만 새 상태로 변경
+     *    (BookingRepository 기본 구현과 같은 조건 - 상태가 같아도 그 사이 항목/할인이 바뀌었으면 건너뜀)
+     * 3. flush → UPDATE bookings가 hibernate.jdbc.batch_size개씩 묶여 실행
+     *
+     * [Why clear] 같은 트랜잭션에서 먼저 읽은 Entity가 남아 있으면 잠금 조회가 DB 값으로 덮어쓰지 않음
+     *   → 그 사이 커밋된 다른 변경을 놓치지 않도록 영속성 컨텍스트를 비우고 다시 읽음
+     * </pre>
+     */
+    @Override
+    @Transactional
+    public List<BookingStatusChanged> updateStatuses(List<BookingStatusChanged> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        return updateStatusesTimer.record(() -> updateLocked(changes));
+    }
+
+    private List<BookingStatusChanged> updateLocked(List<BookingStatusChanged> changes) {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> ids = changes.stream()
+                .map(change -> change.current().id().value().toString())
+                .toList();
+        Map<String, BookingEntity> locked = new HashMap<>();
+        for (BookingEntity entity : entityManager
+                .createQuery("SELECT b FROM BookingEntity b WHERE b.id IN :ids", BookingEntity.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()) {
+            locked.put(entity.getId(), entity);
+        }
+
+        List<BookingStatusChanged> applied = new ArrayList<>(changes.size());
+        for (BookingStatusChanged change : changes) {
+            BookingEntity entity = locked.get(change.current().id().value().toString());
+            BookingStatus expected = change.previous().status();
+            if (entity == null
+                    || !entity.getStatus().equals(mapper.toStatusString(expected))
+                    || !Objects.equals(entity.getStatusData(), mapper.toStatusData(expected))
+                    || !entity.getUpdatedAt().equals(change.previous().updatedAt())) {
+                continue;
+            }
+            entity.setStatus(mapper.toStatusString(change.current().status()));
+            entity.setStatusData(mapper.toStatusData(change.current().status()));
+            entity.setUpdatedAt(change.current().updatedAt());
+            applied.add(change);
+        }
+        entityManager.flush();
+        return List.copyOf(applied);
     }
 
     @Override
     public boolean existsById(BookingId id) {
-        return jpaRepository.existsById(id.value().toString());
+        return jpaRepository.existsById(id.value().toString()) || archive.existsById(id);
     }
 
     @Override
     public boolean existsByMemberIdAndProductId(MemberId memberId, String productId) {
-        return jpaRepository.existsByMemberIdAndProductId(memberId.value().toString(), productId);
+        return jpaRepository.existsByMemberIdAndProductId(memberId.value().toString(), productId)
+                || archive.existsByMemberIdAndProductId(memberId, productId);
     }
 
     // ============================================
     // 헬퍼 메서드
     // ============================================
 
+    /**
+     * 활성 예약 + 보관 예약 - 두 조회 사이에 보관된 예약은 활성 쪽 것만 남김
+     */
+    private static List<Booking> withArchived(List<Booking> active, List<Booking> archived) {
+        if (archived.isEmpty()) {
+            return active;
+        }
+        Set<BookingId> activeIds = new HashSet<>();
+        active.forEach(booking -> activeIds.add(booking.id()));
+        List<Booking> all = new ArrayList<>(active.size() + archived.size());
+        all.addAll(active);
+        for (Booking booking : archived) {
+            if (!activeIds.contains(booking.id())) {
+                all.add(booking);
+            }
+        }
+        return List.copyOf(all);
+    }
+
+    private Set<String> findExistingIds(List<Booking> chunk) {
+        List<String> ids = new ArrayList<>(chunk.size());
+        for (Booking booking : chunk) {
+            ids.add(booking.id().value().toString());
+        }
+        return new HashSet<>(entityManager
+                .createQuery("SELECT b.id FROM BookingEntity b WHERE b.id IN :ids", String.class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
     private String toStatusString(Class<? extends BookingStatus> statusClass) {
         if (statusClass == BookingStatus.Pending.class) return "PENDING";
         if (statusClass == BookingStatus.Confirmed.class) return "CONFIRMED";
@@ -126,6 +375,9 @@ interface BookingJpaRepository extends JpaRepository<BookingEntity, String> {
            "AND FUNCTION('JSON_EXTRACT', b.statusData, '$.expiresAt') < :now")
     List<BookingEntity> findExpiredPendingBookings(Instant now);
 
+    @Query("SELECT DISTINCT b.memberId FROM BookingEntity b")
+    List<String> findAllMemberIds();
+
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM BookingEntity b " +
            "JOIN b.items i WHERE b.memberId = :memberId AND i.productId = :productId")
     boolean existsByMemberIdAndProductId(String memberId, String productId);
@@ -0,0 +1,86 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponRepository;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.entity.CouponEntity;
+import com.travel.infrastructure.persistence.mapper.CouponMapper;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 쿠폰 Repository 구현
+ *
+ * <p>[IS] DB I/O + Entity ↔ Domain 변환 (CouponMapper)</p>
+ */
+@Repository
+public class JpaCouponRepository implements CouponRepository {
+
+    private final CouponJpaRepository jpaRepository;
+    private final CouponMapper mapper;
+
+    public JpaCouponRepository(CouponJpaRepository jpaRepository, CouponMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<Coupon> findById(String id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        return jpaRepository.findByCode(code).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Coupon> findByOwnerId(MemberId ownerId) {
+        return jpaRepository.findByOwnerId(ownerId.value().toString()).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * [Why 메모리 필터] 사용 가능 = AVAILABLE + 오늘이 유효기간 안 → 판단은 도메인(Coupon.isUsable)에 맡김
+     */
+    @Override
+    public List<Coupon> findUsableCouponsByOwnerId(MemberId ownerId) {
+        return jpaRepository.findByOwnerIdAndStatus(ownerId.value().toString(), "AVAILABLE").stream()
+                .map(mapper::toDomain)
+                .filter(Coupon::isUsable)
+                .toList();
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(coupon)));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return jpaRepository.existsById(id);
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return jpaRepository.existsByCode(code);
+    }
+}
+
+/**
+ * Spring Data JPA Repository 인터페이스
+ */
+interface CouponJpaRepository extends JpaRepository<CouponEntity, String> {
+
+    Optional<CouponEntity> findByCode(String code);
+
+    List<CouponEntity> findByOwnerId(String ownerId);
+
+    List<CouponEntity> findByOwnerIdAndStatus(String ownerId, String status);
+
+    boolean existsByCode(String code);
+}
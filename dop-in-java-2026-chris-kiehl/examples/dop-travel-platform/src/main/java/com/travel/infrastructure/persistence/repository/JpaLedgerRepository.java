@@ -0,0 +1,164 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.settlement.ledger.LedgerAccount;
+import com.travel.domain.settlement.ledger.LedgerBalance;
+import com.travel.domain.settlement.ledger.LedgerEntry;
+import com.travel.domain.settlement.ledger.LedgerRepository;
+import com.travel.infrastructure.persistence.entity.LedgerCheckpointEntity;
+import com.travel.infrastructure.persistence.entity.LedgerEntryEntity;
+import com.travel.shared.types.Currency;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 원장 저장소 - ledger_entries (추가 전용) + ledger_checkpoints
+ *
+ * <pre>
+ * 계정 시점 잔액 조회 = 아래 두 쿼리, 둘 다 (account_key, currency, 일련번호) 인덱스 범위 조회
+ *   SELECT ... FROM ledger_checkpoints WHERE account_key = ? AND currency = ? AND checkpoint_sequence &lt;= ?
+ *     ORDER BY checkpoint_sequence DESC LIMIT 1
+ *   SELECT ... FROM ledger_entries WHERE account_key = ? AND currency = ? AND sequence &gt; ? AND sequence &lt;= ?
+ * </pre>
+ */
+@Repository
+public class JpaLedgerRepository implements LedgerRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void append(List<LedgerEntry> entries) {
+        for (LedgerEntry entry : entries) {
+            entityManager.persist(new LedgerEntryEntity(entry.sequence(), entry.transactionId(),
+                    entry.account().key(), entry.side().name(), entry.amount(), entry.currency().code(),
+                    entry.postedAt()));
+        }
+        entityManager.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean containsTransaction(String transactionId) {
+        return !entityManager.createQuery(
+                        "SELECT e.sequence FROM LedgerEntryEntity e WHERE e.transactionId = :transactionId", Long.class)
+                .setParameter("transactionId", transactionId)
+                .setMaxResults(1)
+                .getResultList().isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long lastSequence() {
+        Long last = entityManager.createQuery("SELECT MAX(e.sequence) FROM LedgerEntryEntity e", Long.class)
+                .getSingleResult();
+        return last == null ? 0 : last;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long sequenceAt(Instant at) {
+        Long sequence = entityManager.createQuery(
+                        "SELECT MAX(e.sequence) FROM LedgerEntryEntity e WHERE e.postedAt <= :at", Long.class)
+                .setParameter("at", at)
+                .getSingleResult();
+        return sequence == null ? 0 : sequence;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerEntry> findEntries(long afterSequence, int limit) {
+        return entityManager.createQuery(
+                        "SELECT e FROM LedgerEntryEntity e WHERE e.sequence > :after ORDER BY e.sequence",
+                        LedgerEntryEntity.class)
+                .setParameter("after", afterSequence)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(JpaLedgerRepository::toEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerEntry> findEntries(LedgerAccount account, Currency currency, long afterSequence, long upToSequence) {
+        return entityManager.createQuery(
+                        "SELECT e FROM LedgerEntryEntity e WHERE e.accountKey = :account AND e.currency = :currency " +
+                                "AND e.sequence > :after AND e.sequence <= :upTo ORDER BY e.sequence",
+                        LedgerEntryEntity.class)
+                .setParameter("account", account.key())
+                .setParameter("currency", currency.code())
+                .setParameter("after", afterSequence)
+                .setParameter("upTo", upToSequence)
+                .getResultList().stream()
+                .map(JpaLedgerRepository::toEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveCheckpoint(long sequence, List<LedgerBalance> changed) {
+        for (LedgerBalance balance : changed) {
+            entityManager.persist(new LedgerCheckpointEntity(sequence, balance.account().key(),
+                    balance.currency().code(), balance.debits(), balance.credits()));
+        }
+        entityManager.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CheckpointBalance> findCheckpointBalance(LedgerAccount account, Currency currency, long atOrBefore) {
+        return entityManager.createQuery(
+                        "SELECT c FROM LedgerCheckpointEntity c WHERE c.accountKey = :account AND c.currency = :currency " +
+                                "AND c.checkpointSequence <= :seq ORDER BY c.checkpointSequence DESC",
+                        LedgerCheckpointEntity.class)
+                .setParameter("account", account.key())
+                .setParameter("currency", currency.code())
+                .setParameter("seq", atOrBefore)
+                .setMaxResults(1)
+                .getResultList().stream()
+                .findFirst()
+                .map(JpaLedgerRepository::toCheckpointBalance);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CheckpointBalance> findCheckpointBalances(long atOrBefore) {
+        return entityManager.createQuery(
+                        "SELECT c FROM LedgerCheckpointEntity c WHERE c.checkpointSequence = (" +
+                                "SELECT MAX(c2.checkpointSequence) FROM LedgerCheckpointEntity c2 " +
+                                "WHERE c2.accountKey = c.accountKey AND c2.currency = c.currency " +
+                                "AND c2.checkpointSequence <= :seq)",
+                        LedgerCheckpointEntity.class)
+                .setParameter("seq", atOrBefore)
+                .getResultList().stream()
+                .map(JpaLedgerRepository::toCheckpointBalance)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long lastCheckpointSequence() {
+        Long last = entityManager.createQuery(
+                        "SELECT MAX(c.checkpointSequence) FROM LedgerCheckpointEntity c", Long.class)
+                .getSingleResult();
+        return last == null ? 0 : last;
+    }
+
+    private static LedgerEntry toEntry(LedgerEntryEntity entity) {
+        return new LedgerEntry(entity.getSequence(), entity.getTransactionId(),
+                LedgerAccount.parse(entity.getAccountKey()), LedgerEntry.Side.valueOf(entity.getSide()),
+                entity.getAmount(), Currency.valueOf(entity.getCurrency()), entity.getPostedAt());
+    }
+
+    private static CheckpointBalance toCheckpointBalance(LedgerCheckpointEntity entity) {
+        return new CheckpointBalance(entity.getCheckpointSequence(), new LedgerBalance(
+                LedgerAccount.parse(entity.getAccountKey()), Currency.valueOf(entity.getCurrency()),
+                entity.getDebits(), entity.getCredits()));
+    }
+}
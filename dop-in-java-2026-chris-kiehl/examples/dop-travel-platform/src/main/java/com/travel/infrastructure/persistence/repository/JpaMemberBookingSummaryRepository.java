@@ -0,0 +1,70 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.booking.MemberBookingSummary;
+import com.travel.domain.booking.MemberBookingSummaryRepository;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.entity.MemberBookingSummaryEntity;
+import com.travel.infrastructure.persistence.mapper.MemberBookingSummaryMapper;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 회원별 예약 요약 Repository 구현
+ *
+ * <pre>
+ * [IS] member_booking_summary 테이블 읽기/쓰기
+ * [Key Point] save는 기존 행을 읽어 덮어씀 → @Version이 유지되어 동시 갱신 충돌 감지
+ * </pre>
+ */
+@Repository
+public class JpaMemberBookingSummaryRepository implements MemberBookingSummaryRepository {
+
+    private final MemberBookingSummaryJpaRepository jpaRepository;
+    private final MemberBookingSummaryMapper mapper;
+
+    public JpaMemberBookingSummaryRepository(
+            MemberBookingSummaryJpaRepository jpaRepository,
+            MemberBookingSummaryMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<MemberBookingSummary> findByMemberId(MemberId memberId) {
+        return jpaRepository.findById(memberId.value().toString())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public MemberBookingSummary save(MemberBookingSummary summary) {
+        MemberBookingSummaryEntity entity = jpaRepository.findById(summary.memberId().value().toString())
+                .orElseGet(MemberBookingSummaryEntity::new);
+        jpaRepository.save(mapper.copyToEntity(summary, entity));
+        return summary;
+    }
+
+    @Override
+    public List<MemberId> findAllMemberIds() {
+        return jpaRepository.findAllMemberIds().stream()
+                .map(MemberId::from)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAllInBatch();
+    }
+}
+
+/**
+ * Spring Data JPA Repository 인터페이스
+ */
+interface MemberBookingSummaryJpaRepository extends JpaRepository<MemberBookingSummaryEntity, String> {
+
+    @Query("SELECT s.memberId FROM MemberBookingSummaryEntity s")
+    List<String> findAllMemberIds();
+}
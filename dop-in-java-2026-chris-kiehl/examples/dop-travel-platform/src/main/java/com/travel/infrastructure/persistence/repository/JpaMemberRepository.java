@@ -0,0 +1,110 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.member.MemberRepository;
+import com.travel.infrastructure.persistence.entity.MemberEntity;
+import com.travel.infrastructure.persistence.mapper.MemberMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPA 기반 회원 Repository 구현
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * [IS] DB I/O + Entity ↔ Domain 변환 (MemberMapper)
+ *
+ * [Key Point] 대량 가져오기 경로
+ *   findExistingEmails : SELECT email ... WHERE email IN (...)  → 배치당 1회
+ *   saveAll            : persist + flush/clear                  → INSERT가 JDBC 배치로 묶임
+ * </pre>
+ */
+@Repository
+public class JpaMemberRepository implements MemberRepository {
+
+    private final MemberJpaRepository jpaRepository;
+    private final MemberMapper mapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaMemberRepository(MemberJpaRepository jpaRepository, MemberMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<Member> findById(MemberId id) {
+        return jpaRepository.findById(id.value().toString())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Member> findByEmail(String email) {
+        return jpaRepository.findByEmail(email)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Member save(Member member) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(member)));
+    }
+
+    /**
+     * 새 회원 일괄 저장 - 존재 확인 SELECT 없이 persist
+     *
+     * <p>[Trap] 이미 있는 ID/이메일이 섞이면 flush 시 제약 위반으로 전체 롤백 - 호출자가 먼저 걸러야 함</p>
+     */
+    @Override
+    @Transactional
+    public List<Member> saveAll(List<Member> members) {
+        for (Member member : members) {
+            entityManager.persist(mapper.toEntity(member));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return List.copyOf(members);
+    }
+
+    @Override
+    public boolean existsById(MemberId id) {
+        return jpaRepository.existsById(id.value().toString());
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return jpaRepository.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingEmails(emails));
+    }
+}
+
+/**
+ * Spring Data JPA Repository 인터페이스
+ */
+interface MemberJpaRepository extends JpaRepository<MemberEntity, String> {
+
+    Optional<MemberEntity> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    @Query("SELECT m.email FROM MemberEntity m WHERE m.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+}
@@ -0,0 +1,71 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.product.CatalogueChange;
+import com.travel.domain.product.ProductCatalogueSource;
+import com.travel.infrastructure.persistence.entity.ProductCatalogueEntity;
+import com.travel.infrastructure.persistence.mapper.ProductCodec;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA 기반 상품 카탈로그 출처 - product_catalogue 테이블의 변경 번호 증분 조회
+ *
+ * <pre>
+ * latestVersion()      SELECT MAX(change_version)                     (유니크 인덱스 끝 한 건)
+ * changesSince(v)      SELECT ... WHERE change_version > v ORDER BY change_version
+ *
+ * [Key Point] 상품당 한 행을 덮어쓰므로 같은 상품이 여러 번 바뀌어도 마지막 상태 한 건만 읽음
+ *   → 스냅샷 version보다 아래부터 다시 읽어도(lag window) 예전 상태로 되돌아가지 않음
+ * </pre>
+ */
+@Repository
+public class JpaProductCatalogueSource implements ProductCatalogueSource {
+
+    private static final String ROOM = "ROOM";
+    private static final String FLIGHT = "FLIGHT";
+    private static final String PACKAGE = "PACKAGE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long latestVersion() {
+        Long latest = entityManager.createQuery(
+                        "SELECT MAX(p.changeVersion) FROM ProductCatalogueEntity p", Long.class)
+                .getSingleResult();
+        return latest == null ? 0 : latest;
+    }
+
+    @Override
+    public List<CatalogueChange> changesSince(long version) {
+        return entityManager.createQuery(
+                        "SELECT p FROM ProductCatalogueEntity p WHERE p.changeVersion > :version ORDER BY p.changeVersion",
+                        ProductCatalogueEntity.class)
+                .setParameter("version", version)
+                .getResultList().stream()
+                .map(JpaProductCatalogueSource::toChange)
+                .toList();
+    }
+
+    @Override
+    public String description() {
+        return "table:product_catalogue";
+    }
+
+    private static CatalogueChange toChange(ProductCatalogueEntity entity) {
+        long version = entity.getChangeVersion();
+        if (entity.isDeleted()) {
+            return new CatalogueChange.Removed(version, entity.getProductId());
+        }
+        return switch (entity.getProductType()) {
+            case ROOM -> new CatalogueChange.RoomUpserted(version, ProductCodec.decodeRoom(entity.getPayload()));
+            case FLIGHT -> new CatalogueChange.FlightUpserted(version, ProductCodec.decodeFlight(entity.getPayload()));
+            case PACKAGE -> new CatalogueChange.PackageUpserted(version, ProductCodec.decodeTravelPackage(entity.getPayload()));
+            default -> throw new IllegalStateException(
+                    "알 수 없는 상품 유형: " + entity.getProductType() + " (" + entity.getProductId() + ")");
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleSource;
+import com.travel.infrastructure.persistence.entity.PromotionRuleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA 기반 프로모션 규칙 출처 - promotion_rules 테이블의 활성 행
+ *
+ * <p>[Key Point] ID 순으로 읽음 - 같은 테이블 내용이면 같은 스냅샷 (레지스트리가 새 버전을 만들지 않음)</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "travel.promotion.source", havingValue = "jpa")
+public class JpaPromotionRuleSource implements PromotionRuleSource {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PromotionRuleDefinition> load() {
+        return entityManager.createQuery(
+                        "SELECT r FROM PromotionRuleEntity r WHERE r.active = true ORDER BY r.id", PromotionRuleEntity.class)
+                .getResultList().stream()
+                .map(entity -> new PromotionRuleDefinition(entity.getId(), entity.getExpression()))
+                .toList();
+    }
+
+    @Override
+    public String description() {
+        return "table:promotion_rules";
+    }
+}
@@ -0,0 +1,71 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.domain.payment.RefundRequestRepository;
+import com.travel.infrastructure.persistence.entity.RefundRequestEntity;
+import com.travel.infrastructure.persistence.mapper.RefundRequestMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * JPA 기반 환불 요청 Repository 구현
+ *
+ * <pre>
+ * [IS] saveAll은 persist + flush - 새 행만 받으므로 merge의 존재 확인 SELECT 생략,
+ *   INSERT는 hibernate.jdbc.batch_size개씩 묶여 전송
+ * </pre>
+ */
+@Repository
+public class JpaRefundRequestRepository implements RefundRequestRepository {
+
+    private final RefundRequestMapper mapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaRefundRequestRepository(RefundRequestMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<RefundRequest> requests) {
+        for (RefundRequest request : requests) {
+            entityManager.persist(mapper.toEntity(request));
+        }
+        entityManager.flush();
+    }
+
+    @Override
+    @Transactional
+    public RefundRequest update(RefundRequest request) {
+        RefundRequestEntity entity = entityManager.find(RefundRequestEntity.class, request.bookingId().toString());
+        if (entity == null) {
+            throw new IllegalStateException("환불 요청이 없습니다: " + request.bookingId());
+        }
+        mapper.updateEntity(entity, request);
+        return request;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RefundRequest> findPending(BookingId after, int limit) {
+        TypedQuery<RefundRequestEntity> query = entityManager.createQuery(
+                        "SELECT r FROM RefundRequestEntity r WHERE r.status = 'PENDING' " +
+                        (after == null ? "" : "AND r.bookingId > :after ") +
+                        "ORDER BY r.bookingId", RefundRequestEntity.class)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("after", after.toString());
+        }
+        return query.getResultList().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
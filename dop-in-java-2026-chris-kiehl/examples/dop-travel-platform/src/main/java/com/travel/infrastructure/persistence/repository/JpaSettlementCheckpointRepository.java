@@ -0,0 +1,49 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.settlement.SettlementCheckpointRepository;
+import com.travel.infrastructure.persistence.entity.SettlementCheckpointEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPA 기반 정산 진행 기록 Repository 구현
+ *
+ * <p>[Key Point] markCompleted는 persist - 이미 기록된 파트너면 flush 시 PK 충돌로 트랜잭션 실패</p>
+ * <p>[Key Point] period는 "yyyy-MM" 문자열 - 사전순 MAX가 곧 가장 최근 기간</p>
+ */
+@Repository
+public class JpaSettlementCheckpointRepository implements SettlementCheckpointRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<String> findCompletedPartnerIds(YearMonth period) {
+        return new HashSet<>(entityManager.createQuery(
+                        "SELECT c.partnerId FROM SettlementCheckpointEntity c WHERE c.period = :period", String.class)
+                .setParameter("period", period.toString())
+                .getResultList());
+    }
+
+    @Override
+    public void markCompleted(YearMonth period, String partnerId, int settlementCount) {
+        entityManager.persist(new SettlementCheckpointEntity(
+                period.toString(), partnerId, settlementCount, Instant.now()));
+        entityManager.flush();
+    }
+
+    @Override
+    public Optional<YearMonth> findLastSettledPeriod() {
+        String period = entityManager.createQuery(
+                        "SELECT MAX(c.period) FROM SettlementCheckpointEntity c", String.class)
+                .getSingleResult();
+        return Optional.ofNullable(period).map(YearMonth::parse);
+    }
+}
@@ -0,0 +1,70 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.SettlementRepository;
+import com.travel.infrastructure.persistence.entity.SettlementEntity;
+import com.travel.infrastructure.persistence.mapper.SettlementMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JPA 기반 정산 Repository 구현
+ *
+ * <pre>
+ * [IS] 정산은 항상 새로 생성 → merge 없이 persist (ID 존재 확인 SELECT 생략)
+ * [Key Point] flush 한 번에 settlements/settlement_items INSERT가
+ *   hibernate.jdbc.batch_size개씩 묶여 전송 (order_inserts로 테이블별 정렬)
+ * </pre>
+ */
+@Repository
+public class JpaSettlementRepository implements SettlementRepository {
+
+    private final SettlementJpaRepository jpaRepository;
+    private final SettlementMapper mapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaSettlementRepository(SettlementJpaRepository jpaRepository, SettlementMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * [Trap] 같은 트랜잭션에서 읽은 Entity도 clear로 분리됨 - 정산 생성 Job 전용 경로
+     */
+    @Override
+    @Transactional
+    public List<Settlement> saveAll(List<Settlement> settlements) {
+        for (Settlement settlement : settlements) {
+            entityManager.persist(mapper.toEntity(settlement));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return List.copyOf(settlements);
+    }
+
+    @Override
+    public List<Settlement> findByPartnerIdAndSettlementDate(String partnerId, LocalDate settlementDate) {
+        return jpaRepository.findByPartnerIdAndSettlementDate(partnerId, settlementDate).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
+
+/**
+ * Spring Data JPA Repository 인터페이스
+ */
+interface SettlementJpaRepository extends JpaRepository<SettlementEntity, String> {
+
+    @Query("SELECT DISTINCT s FROM SettlementEntity s LEFT JOIN FETCH s.items " +
+           "WHERE s.partnerId = :partnerId AND s.settlementDate = :settlementDate")
+    List<SettlementEntity> findByPartnerIdAndSettlementDate(String partnerId, LocalDate settlementDate);
+}
@@ -0,0 +1,80 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.SettlementSource;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JPA 기반 정산 원천 조회 - 완료된 예약 항목을 파트너별 keyset 페이지로 읽기
+ *
+ * <h2>핵심 개념 (Key Concept): Entity 대신 필요한 컬럼만 조회</h2>
+ * <pre>
+ * [Key Point] SELECT i.id, b.id, i.name, i.basePrice, i.currency, b.updatedAt
+ *   → BookingEntity/BookingItemEntity를 영속성 컨텍스트에 올리지 않음
+ *     (수십만 행을 읽어도 dirty checking/1차 캐시 비용 없음)
+ *
+ * [Key Point] idx_booking_items_partner_id (partner_id, id) 인덱스로
+ *   "partner_id = ? AND id &gt; ? ORDER BY id" 가 인덱스 범위 스캔 + 정렬 생략
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 완료 시각 = bookings.updated_at - Completed는 최종 상태라 이후 갱신되지 않음</li>
+ *   <li>[Trap] 정산 금액은 항목 정가(basePrice) - 쿠폰 할인은 플랫폼 부담이라 파트너 정산에서 빼지 않음</li>
+ * </ul>
+ */
+@Repository
+public class JpaSettlementSource implements SettlementSource {
+
+    private static final String COMPLETED_IN_PERIOD =
+            "b.status = 'COMPLETED' AND b.updatedAt >= :from AND b.updatedAt < :to";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<String> findPartnerIds(Instant from, Instant to) {
+        return entityManager.createQuery(
+                        "SELECT DISTINCT i.partnerId FROM BookingItemEntity i JOIN i.booking b " +
+                        "WHERE " + COMPLETED_IN_PERIOD + " ORDER BY i.partnerId", String.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    @Override
+    public List<Row> findCompletedItems(String partnerId, Instant from, Instant to, String afterItemId, int limit) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                        "SELECT i.id, b.id, i.name, i.basePrice, i.currency, b.updatedAt " +
+                        "FROM BookingItemEntity i JOIN i.booking b " +
+                        "WHERE i.partnerId = :partnerId AND " + COMPLETED_IN_PERIOD +
+                        (afterItemId == null ? "" : " AND i.id > :after") +
+                        " ORDER BY i.id", Object[].class)
+                .setParameter("partnerId", partnerId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setMaxResults(limit);
+        if (afterItemId != null) {
+            query.setParameter("after", afterItemId);
+        }
+        return query.getResultList().stream()
+                .map(JpaSettlementSource::toRow)
+                .toList();
+    }
+
+    private static Row toRow(Object[] columns) {
+        Money amount = new Money((BigDecimal) columns[3], Currency.valueOf((String) columns[4]));
+        return new Row(
+                (String) columns[0],
+                new Settlement.SettlementItem((String) columns[1], (String) columns[2], amount, (Instant) columns[5]));
+    }
+}
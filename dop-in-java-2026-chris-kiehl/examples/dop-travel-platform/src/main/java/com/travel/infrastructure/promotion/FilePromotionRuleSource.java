@@ -0,0 +1,94 @@
+package com.travel.infrastructure.promotion;
+
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일 프로모션 규칙 출처 - 한 줄에 규칙 하나
+ *
+ * <h2>핵심 개념 (Key Concept): 파일 형식</h2>
+ * <pre>
+ * # 주석, 빈 줄 무시
+ * SUMMER-VIP = and(membership(GOLD), date(2026-07-01, 2026-08-31))
+ * FIRST-TRIP = and(first_booking, min_amount(100000 KRW))
+ *
+ * 경로: travel.promotion.rules-file (classpath: 접두사면 클래스패스 리소스)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Key Point] load()마다 파일을 다시 읽음 - 파일을 고친 뒤 PromotionRuleRegistry.reload로 반영</li>
+ *   <li>[Trap] classpath: 리소스는 패키징된 jar 안이라 운영 중에 바꿀 수 없음 - 운영은 파일 경로 지정</li>
+ *   <li>[Trap] '='가 없는 줄은 줄 번호와 함께 예외 - 레지스트리가 배포를 거부하고 이전 규칙 유지</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "travel.promotion.source", havingValue = "file", matchIfMissing = true)
+public class FilePromotionRuleSource implements PromotionRuleSource {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final String rulesFile;
+
+    public FilePromotionRuleSource(
+            @Value("${travel.promotion.rules-file:classpath:promotion-rules.txt}") String rulesFile) {
+        this.rulesFile = rulesFile;
+    }
+
+    @Override
+    public List<PromotionRuleDefinition> load() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(), StandardCharsets.UTF_8))) {
+            List<PromotionRuleDefinition> definitions = new ArrayList<>();
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int separator = trimmed.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalStateException(
+                            "규칙 파일 형식 오류 " + rulesFile + ":" + lineNumber + " - 'ID = 규칙' 형식이어야 합니다: " + line);
+                }
+                definitions.add(new PromotionRuleDefinition(
+                        trimmed.substring(0, separator).strip(), trimmed.substring(separator + 1).strip()));
+            }
+            return definitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("규칙 파일을 읽을 수 없습니다: " + rulesFile, e);
+        }
+    }
+
+    @Override
+    public String description() {
+        return "file:" + rulesFile;
+    }
+
+    private InputStream open() throws IOException {
+        if (!rulesFile.startsWith(CLASSPATH_PREFIX)) {
+            return Files.newInputStream(Path.of(rulesFile));
+        }
+        String resource = rulesFile.substring(CLASSPATH_PREFIX.length());
+        InputStream in = FilePromotionRuleSource.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("클래스패스에 규칙 파일이 없습니다: " + resource);
+        }
+        return in;
+    }
+}
@@ -0,0 +1,217 @@
+package com.travel.infrastructure.web;
+
+import com.travel.application.booking.CreateBookingCommand;
+import com.travel.application.booking.CreateBookingUseCase;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingError;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.Validation;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 HTTP API - Imperative Shell의 가장 바깥 (JSON ↔ 도메인 타입)
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 6 Imperative Shell</h2>
+ * <pre>
+ * POST /api/bookings      JSON → [Ch 5] CreateBookingCommand.validate → 회원별 요청 제한 → CreateBookingUseCase
+ * GET  /api/bookings/{id} BookingRepository.findById
+ *
+ * [Key Point] BookingError → HTTP 상태 (sealed switch - 새 오류가 생기면 컴파일 오류로 알려줌)
+ * [Key Point] IP별 제한은 BookingRateLimitFilter, 회원별 제한은 본문을 읽은 여기서 (BookingRateLimiter)
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 요청 DTO를 도메인 레코드로 직접 받지 않음 - 검증 실패가 역직렬화 예외(500)로 새어 나감</li>
+ *   <li>[Trap] 항목 type은 ACCOMMODATION / FLIGHT만 지원 (패키지 상품은 아직 API 없음)</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/bookings")
+public class BookingController {
+
+    private final CreateBookingUseCase createBookingUseCase;
+    private final BookingRepository bookingRepository;
+    private final BookingRateLimiter rateLimiter;
+
+    public BookingController(CreateBookingUseCase createBookingUseCase, BookingRepository bookingRepository,
+                             BookingRateLimiter rateLimiter) {
+        this.createBookingUseCase = createBookingUseCase;
+        this.bookingRepository = bookingRepository;
+        this.rateLimiter = rateLimiter;
+    }
+
+    // ============================================
+    // 요청/응답 DTO
+    // ============================================
+
+    /**
+     * 예약 생성 요청
+     */
+    public record CreateBookingRequest(String memberId, List<ItemRequest> items, String couponId) {}
+
+    /**
+     * 예약 항목 요청 - type에 따라 쓰는 필드가 다름
+     *
+     * <pre>
+     * ACCOMMODATION: productId, name(호텔), option(객실 타입), startDate, endDate, price(1박), quantity(인원)
+     * FLIGHT       : productId, name(항공사), option(편명), from, to, departureTime, arrivalTime, price, quantity(승객)
+     * </pre>
+     */
+    public record ItemRequest(
+            String type,
+            String productId,
+            String name,
+            String option,
+            LocalDate startDate,
+            LocalDate endDate,
+            String from,
+            String to,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalTime,
+            BigDecimal price,
+            String currency,
+            int quantity
+    ) {
+        /**
+         * [Trap] type이 null이면 switch가 NPE(500) - 누락/공백은 IllegalArgumentException으로 400 InvalidRequest
+         */
+        BookingItem toDomain() {
+            if (type == null || type.isBlank()) {
+                throw new IllegalArgumentException("항목 유형(type)은 필수입니다: ACCOMMODATION, FLIGHT");
+            }
+            Money money = new Money(price, currency == null ? Currency.KRW : Currency.valueOf(currency));
+            return switch (type) {
+                case "ACCOMMODATION" -> new BookingItem.Accommodation(
+                        productId, name, option, new DateRange(startDate, endDate), money, quantity);
+                case "FLIGHT" -> new BookingItem.Flight(
+                        productId, name, option, from, to, departureTime, arrivalTime,
+                        BookingItem.Flight.SeatClass.ECONOMY, money, quantity);
+                default -> throw new IllegalArgumentException("지원하지 않는 항목 유형: " + type);
+            };
+        }
+    }
+
+    private static BookingItem toDomain(ItemRequest item) {
+        if (item == null) {
+            throw new IllegalArgumentException("예약 항목이 비어 있습니다");
+        }
+        return item.toDomain();
+    }
+
+    /**
+     * 예약 응답
+     */
+    public record BookingResponse(
+            String id,
+            String memberId,
+            String status,
+            BigDecimal totalAmount,
+            BigDecimal discountAmount,
+            BigDecimal finalAmount,
+            String currency,
+            int itemCount,
+            Instant createdAt
+    ) {
+        static BookingResponse of(Booking booking) {
+            return new BookingResponse(
+                    booking.id().toString(),
+                    booking.memberId().value().toString(),
+                    booking.status().getClass().getSimpleName(),
+                    booking.totalAmount().amount(),
+                    booking.discountAmount().amount(),
+                    booking.finalAmount().amount(),
+                    booking.finalAmount().currency().code(),
+                    booking.items().size(),
+                    booking.createdAt());
+        }
+    }
+
+    /**
+     * 오류 응답
+     */
+    public record ErrorResponse(String error, List<String> messages) {}
+
+    // ============================================
+    // 엔드포인트
+    // ============================================
+
+    @PostMapping
+    public ResponseEntity<?> create(@RequestBody CreateBookingRequest request) {
+        Validation<CreateBookingCommand, String> command;
+        try {
+            command = CreateBookingCommand.validate(
+                    request.memberId() == null ? null : MemberId.from(request.memberId()),
+                    request.items() == null ? null : request.items().stream().map(BookingController::toDomain).toList(),
+                    request.couponId());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("InvalidRequest", List.of(e.getMessage())));
+        }
+        if (!command.isValid()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("ValidationFailed", command.errors()));
+        }
+        MemberId memberId = command.getOrThrow().memberId();
+        if (!rateLimiter.allowMember(memberId)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", BookingRateLimiter.retryAfterSeconds(rateLimiter.memberRetryAfter(memberId)))
+                    .body(new ErrorResponse("TooManyRequests", List.of("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요")));
+        }
+
+        return createBookingUseCase.execute(command.getOrThrow()).fold(
+                booking -> ResponseEntity.created(URI.create("/api/bookings/" + booking.id()))
+                        .body(BookingResponse.of(booking)),
+                BookingController::toResponse);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@PathVariable String id) {
+        BookingId bookingId;
+        try {
+            bookingId = BookingId.from(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("InvalidRequest", List.of(e.getMessage())));
+        }
+        return bookingRepository.findById(bookingId).fold(
+                booking -> ResponseEntity.ok(BookingResponse.of(booking)),
+                BookingController::toResponse);
+    }
+
+    // ============================================
+    // [Key Point] BookingError → HTTP 상태
+    // ============================================
+
+    private static ResponseEntity<?> toResponse(BookingError error) {
+        HttpStatus status = switch (error) {
+            case BookingError.NotFound e -> HttpStatus.NOT_FOUND;
+            case BookingError.ValidationFailed e -> HttpStatus.BAD_REQUEST;
+            case BookingError.CouponNotApplicable e -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case BookingError.PaymentRequired e -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case BookingError.InvalidStatus e -> HttpStatus.CONFLICT;
+            case BookingError.CancellationNotAllowed e -> HttpStatus.CONFLICT;
+            case BookingError.ItemUnavailable e -> HttpStatus.CONFLICT;
+            case BookingError.InsufficientStock e -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(error.getClass().getSimpleName(), List.of(error.message())));
+    }
+}
@@ -0,0 +1,52 @@
+package com.travel.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 예약 API IP별 요청 제한 필터 - /api/bookings/** 만
+ *
+ * <pre>
+ * [Key Point] DispatcherServlet/JSON 역직렬화 전에 거절 → 거절 비용 = 맵 조회 + CAS 한 번
+ * 거절: 429 + Retry-After(초) + BookingController.ErrorResponse와 같은 JSON 모양
+ * </pre>
+ */
+@Component
+public class BookingRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BOOKING_PATH = "/api/bookings";
+
+    private final BookingRateLimiter rateLimiter;
+
+    public BookingRateLimitFilter(BookingRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals(BOOKING_PATH) || path.startsWith(BOOKING_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientIp = rateLimiter.clientIp(request.getRemoteAddr(), request.getHeader("X-Forwarded-For"));
+        if (rateLimiter.allowIp(clientIp)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", BookingRateLimiter.retryAfterSeconds(rateLimiter.ipRetryAfter(clientIp)));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"TooManyRequests\",\"messages\":[\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요\"]}");
+    }
+}
@@ -0,0 +1,147 @@
+package com.travel.infrastructure.web;
+
+import com.travel.domain.member.MemberId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 API 요청 제한 - 클라이언트 IP별 + 회원별 토큰 버킷
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 봇이 예약 API를 반복 호출하면 CreateBookingUseCase가 실패하기 전까지 DB를 여러 번 왕복함
+ * → 같은 IP/회원의 과도한 요청을 UseCase에 들어가기 전에 429로 거절
+ *
+ * <h2>핵심 개념 (Key Concept): 두 단계 검사</h2>
+ * <pre>
+ * BookingRateLimitFilter   /api/bookings/** 전체   allowIp(원격 주소)          본문을 읽기 전
+ * BookingController.create POST /api/bookings    allowMember(요청의 memberId)  본문 검증 후, UseCase 전
+ *
+ * [Why 회원 검사는 Controller] 회원 ID는 JSON 본문에만 있음 - 필터에서 본문을 읽으면 Controller가 다시 읽을 수 없음
+ * [Key Point] sweep-interval마다 가득 찬 버킷 제거 → 추적하는 키 수 ≈ 최근 버킷이 다 차기 전까지 요청한 키 수
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 인스턴스마다 따로 셈 - N대면 실제 허용량은 최대 N배 (로드밸런서 고정 세션이 없으면 특히)</li>
+ *   <li>[Trap] trust-forwarded-for는 앞단 프록시가 X-Forwarded-For를 덮어쓸 때만 켬 - 아니면 클라이언트가 임의 IP로 위장</li>
+ *   <li>[Trap] 같은 NAT 뒤 사용자는 IP 버킷을 공유 - IP 한도는 회원 한도보다 넉넉하게</li>
+ * </ul>
+ */
+@Component
+public class BookingRateLimiter implements AutoCloseable {
+
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final TokenBucketRateLimiter<String> byIp;
+    private final TokenBucketRateLimiter<MemberId> byMember;
+    private final ScheduledExecutorService sweeper;
+
+    public BookingRateLimiter(
+            MeterRegistry registry,
+            @Value("${travel.booking.rate-limit.enabled:true}") boolean enabled,
+            @Value("${travel.booking.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${travel.booking.rate-limit.ip.per-minute:120}") int ipPerMinute,
+            @Value("${travel.booking.rate-limit.member.capacity:5}") int memberCapacity,
+            @Value("${travel.booking.rate-limit.member.per-minute:20}") int memberPerMinute,
+            @Value("${travel.booking.rate-limit.max-keys:500000}") int maxKeys,
+            @Value("${travel.booking.rate-limit.sweep-interval:30s}") Duration sweepInterval,
+            @Value("${travel.booking.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor
+    ) {
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+        this.byIp = new TokenBucketRateLimiter<>(ipCapacity, ipPerMinute, maxKeys, System::nanoTime);
+        this.byMember = new TokenBucketRateLimiter<>(memberCapacity, memberPerMinute, maxKeys, System::nanoTime);
+        register(registry, "ip", byIp);
+        register(registry, "member", byMember);
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("booking-rate-limit-sweep").daemon().factory());
+        long millis = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // ============================================
+    // [Key Point] 검사
+    // ============================================
+
+    public boolean allowIp(String clientIp) {
+        return !enabled || byIp.tryAcquire(clientIp);
+    }
+
+    public boolean allowMember(MemberId memberId) {
+        return !enabled || byMember.tryAcquire(memberId);
+    }
+
+    public Duration ipRetryAfter(String clientIp) {
+        return byIp.retryAfter(clientIp);
+    }
+
+    public Duration memberRetryAfter(MemberId memberId) {
+        return byMember.retryAfter(memberId);
+    }
+
+    /**
+     * 클라이언트 IP - trust-forwarded-for면 X-Forwarded-For의 첫 주소
+     */
+    public String clientIp(String remoteAddr, String forwardedFor) {
+        if (trustForwardedFor && forwardedFor != null && !forwardedFor.isBlank()) {
+            int comma = forwardedFor.indexOf(',');
+            return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+        }
+        return remoteAddr;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초, 올림, 최소 1)
+     */
+    public static String retryAfterSeconds(Duration wait) {
+        return String.valueOf(Math.max(1, (wait.toMillis() + 999) / 1000));
+    }
+
+    // ============================================
+    // 정리 / 계측
+    // ============================================
+
+    private void sweep() {
+        try {
+            byIp.evictIdle();
+            byMember.evictIdle();
+        } catch (RuntimeException e) {
+            System.out.println("[IS] 요청 제한 버킷 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private static <K> void register(MeterRegistry registry, String scope, TokenBucketRateLimiter<K> limiter) {
+        FunctionCounter.builder("booking.rate_limit.requests", limiter, TokenBucketRateLimiter::allowedCount)
+                .description("예약 API 요청 제한 검사 수")
+                .tag("scope", scope)
+                .tag("result", "allowed")
+                .register(registry);
+        FunctionCounter.builder("booking.rate_limit.requests", limiter, TokenBucketRateLimiter::rejectedCount)
+                .description("예약 API 요청 제한 검사 수")
+                .tag("scope", scope)
+                .tag("result", "rejected")
+                .register(registry);
+        FunctionCounter.builder("booking.rate_limit.evicted", limiter, TokenBucketRateLimiter::evictedCount)
+                .description("정리된 유휴 버킷 수")
+                .tag("scope", scope)
+                .register(registry);
+        Gauge.builder("booking.rate_limit.buckets", limiter, TokenBucketRateLimiter::size)
+                .description("추적 중인 버킷 수")
+                .tag("scope", scope)
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+}
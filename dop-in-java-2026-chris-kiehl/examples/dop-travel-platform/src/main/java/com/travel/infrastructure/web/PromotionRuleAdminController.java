@@ -0,0 +1,101 @@
+package com.travel.infrastructure.web;
+
+import com.travel.application.promotion.PromotionRuleMetrics;
+import com.travel.application.promotion.PromotionRuleProfile;
+import com.travel.application.promotion.PromotionRuleRegistry;
+import com.travel.domain.promotion.PromotionRuleParser;
+import com.travel.domain.promotion.PromotionRuleSet;
+import com.travel.shared.Result;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로모션 규칙 관리 API - 재기동 없는 배포/롤백
+ *
+ * <pre>
+ * GET  /api/admin/promotion-rules                  현재 스냅샷 (버전, 규칙, 보관 버전)
+ * POST /api/admin/promotion-rules/reload           출처를 다시 읽어 배포 (검증 실패 시 422 + 오류 목록, 현재 규칙 유지)
+ * POST /api/admin/promotion-rules/rollback         직전 버전으로
+ * POST /api/admin/promotion-rules/rollback?version=3  보관 중인 특정 버전으로
+ * GET  /api/admin/promotion-rules/metrics          노드별 평가/충족 횟수, 평균 시간 (계측이 켜져 있을 때)
+ * </pre>
+ *
+ * <p>[Trap] 인증/권한은 이 예제 범위 밖 - 운영에서는 관리자 경로 보호 필요</p>
+ */
+@RestController
+@RequestMapping("/api/admin/promotion-rules")
+public class PromotionRuleAdminController {
+
+    private final PromotionRuleRegistry registry;
+    private final PromotionRuleMetrics metrics;
+
+    public PromotionRuleAdminController(PromotionRuleRegistry registry, PromotionRuleMetrics metrics) {
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 스냅샷 응답 - 규칙은 PromotionRuleParser 문법 (단순화된 형태)
+     */
+    public record RuleSetResponse(
+            long version,
+            String source,
+            Instant loadedAt,
+            Map<String, String> rules,
+            List<Long> retainedVersions
+    ) {}
+
+    public record ErrorResponse(String error, List<String> messages) {}
+
+    /**
+     * 노드별 통계 - 횟수는 샘플 기준 (전체 추정치 = 횟수 × sampleRate)
+     */
+    public record MetricsResponse(
+            boolean enabled,
+            int sampleRate,
+            Map<String, List<PromotionRuleProfile.NodeStats>> promotions
+    ) {}
+
+    @GetMapping
+    public ResponseEntity<?> current() {
+        return ResponseEntity.ok(toResponse(registry.current()));
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        return respond(registry.reload(), "RuleSetRejected");
+    }
+
+    @PostMapping("/rollback")
+    public ResponseEntity<?> rollback(@RequestParam(name = "version", required = false) Long version) {
+        return respond(version == null ? registry.rollback() : registry.rollbackTo(version), "RollbackFailed");
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<MetricsResponse> metrics() {
+        return ResponseEntity.ok(metrics.profiler()
+                .map(profiler -> new MetricsResponse(true, profiler.sampleRate(), profiler.stats()))
+                .orElseGet(() -> new MetricsResponse(false, 0, Map.of())));
+    }
+
+    private ResponseEntity<?> respond(Result<PromotionRuleSet, List<String>> result, String error) {
+        return result.fold(
+                set -> ResponseEntity.ok(toResponse(set)),
+                messages -> ResponseEntity.unprocessableEntity().body(new ErrorResponse(error, messages)));
+    }
+
+    private RuleSetResponse toResponse(PromotionRuleSet set) {
+        Map<String, String> rules = new LinkedHashMap<>();
+        set.rules().forEach((id, rule) -> rules.put(id, PromotionRuleParser.format(rule)));
+        return new RuleSetResponse(set.version(), set.source(), set.loadedAt(), rules, registry.retainedVersions());
+    }
+}
@@ -0,0 +1,170 @@
+package com.travel.infrastructure.web;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 - 버킷 하나가 long 하나 (잠금 없음)
+ *
+ * <h2>목적 (Purpose)</h2>
+ * 같은 IP/회원의 요청이 몰릴 때 DB에 닿기 전에 거절 - 키마다 capacity개까지 몰아서, 이후에는 초당 일정 비율만 허용
+ *
+ * <h2>핵심 개념 (Key Concept): 토큰 수 대신 "다음 토큰 시각" 하나만 저장 (GCRA)</h2>
+ * <pre>
+ * interval  = 토큰 하나가 다시 차는 시간 (1분 / permitsPerMinute)
+ * tat       = 버킷이 가득 차는 시각 (theoretical arrival time)
+ *
+ * 요청 시각 now:
+ *   start = max(tat, now)                       비어 있던 만큼은 이미 채워진 것으로 봄
+ *   start - now &gt; (capacity - 1) × interval     → 남은 토큰 없음, 거절
+ *   아니면 CAS(tat, start + interval)            → 토큰 하나 사용 (실패하면 다시 읽고 반복)
+ *
+ * [Key Point] 임의의 길이 T 구간에서 허용되는 요청 ≤ capacity + T / interval
+ *   → 요청 시각 목록을 들고 있는 슬라이딩 윈도와 같은 상한을, 키당 long 하나로 보장
+ * [Key Point] tat ≤ now = 버킷이 가득 참 = 지워도 결과가 같음 → evictIdle 대상
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] evictIdle과 같은 키의 요청이 겹치면 지워진 버킷에 사용한 토큰 하나가 잊힘 - 가득 찬 버킷만 지우므로 최대 1개 초과</li>
+ *   <li>[Trap] maxKeys에 닿으면 정리 후에도 남은 자리가 없을 때 새 키를 거절 (메모리 상한 우선)</li>
+ *   <li>[Why nanoTime] 벽시계는 NTP 보정으로 뒤로 갈 수 있음 - 단조 시계만 사용</li>
+ * </ul>
+ *
+ * @param <K> 버킷 키 (IP 문자열, MemberId 등 - equals/hashCode 필요)
+ */
+public final class TokenBucketRateLimiter<K> {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * @param capacity         키당 연속 허용 수 (버킷 크기)
+     * @param permitsPerMinute 키당 분당 보충 토큰 수
+     * @param maxKeys          동시에 추적하는 키 상한
+     * @param nanoClock        단조 시계 (System::nanoTime)
+     */
+    public TokenBucketRateLimiter(int capacity, int permitsPerMinute, int maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1) throw new IllegalArgumentException("버킷 크기는 1 이상이어야 합니다: " + capacity);
+        if (permitsPerMinute < 1) {
+            throw new IllegalArgumentException("분당 허용 수는 1 이상이어야 합니다: " + permitsPerMinute);
+        }
+        if (maxKeys < 1) throw new IllegalArgumentException("키 상한은 1 이상이어야 합니다: " + maxKeys);
+        this.capacity = capacity;
+        this.intervalNanos = Duration.ofMinutes(1).toNanos() / permitsPerMinute;
+        this.toleranceNanos = (capacity - 1) * intervalNanos;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    // ============================================
+    // [Key Point] 토큰 사용
+    // ============================================
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @return 허용이면 true
+     */
+    public boolean tryAcquire(K key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+            if (bucket == null) {
+                rejected.increment();
+                return false;
+            }
+        }
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            if (start - now > toleranceNanos) {
+                rejected.increment();
+                return false;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                allowed.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰까지 남은 시간 (토큰이 있으면 0) - 거절 응답의 Retry-After
+     */
+    public Duration retryAfter(K key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return Duration.ZERO;
+        }
+        long wait = bucket.get() - toleranceNanos - nanoClock.getAsLong();
+        return wait <= 0 ? Duration.ZERO : Duration.ofNanos(wait);
+    }
+
+    private AtomicLong newBucket(K key, long now) {
+        if (buckets.size() >= maxKeys) {
+            evictIdle();
+            if (buckets.size() >= maxKeys) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+    }
+
+    // ============================================
+    // 정리
+    // ============================================
+
+    /**
+     * 가득 찬(= 한동안 요청이 없던) 버킷 제거
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (Map.Entry<K, AtomicLong> entry : buckets.entrySet()) {
+            if (entry.getValue().get() <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        evicted.add(removed);
+        return removed;
+    }
+
+    // ============================================
+    // 조회 (계측)
+    // ============================================
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public long allowedCount() {
+        return allowed.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long evictedCount() {
+        return evicted.sum();
+    }
+}
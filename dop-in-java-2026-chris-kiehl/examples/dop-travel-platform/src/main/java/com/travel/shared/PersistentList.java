@@ -0,0 +1,205 @@
+package com.travel.shared;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추가 전용 영속 리스트 - 구조 공유로 amortized O(1) append
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Validation 오류 누적, Booking 항목 추가처럼 "기존 리스트 + 새 원소" 결과를 계속 만드는 경우
+ * 매번 전체를 복사하지 않고 뒤에 이어 붙이기
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 2 불변성과 구조 공유</h2>
+ * <pre>
+ * [Before] new ArrayList(e1) + addAll(e2) → List.copyOf
+ *   k개 오류를 하나씩 누적하면 1 + 2 + ... + k = O(k²) 복사
+ *
+ * [After] 여러 리스트가 하나의 배열을 공유, 각 리스트는 자기 길이(size)만 기억
+ *
+ *   backing: [e1][e2][e3][  ][  ][  ]   claimed = 3
+ *   list A  : size 2  → [e1 e2]
+ *   list B  : size 3  → [e1 e2 e3]       (A.append(e3)의 결과)
+ *
+ *   B.append(e4): B.size == claimed → CAS로 슬롯 3 점유 후 기록, 복사 없음
+ *   A.append(x) : A.size(2) != claimed(3) → 슬롯 2는 이미 B 소유 → 새 배열로 복사
+ *
+ * 배열이 가득 차면 2배 크기로 복사 (ArrayList와 같은 amortized O(1))
+ *
+ * B.removeAt(3): 마지막 원소 제거 → 같은 배열의 size 3 구간, 복사 없음
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Key Point] 이미 만들어진 리스트가 보는 구간 [0, size)는 절대 다시 쓰지 않음 → 외부에서 보면 완전 불변</li>
+ *   <li>[Why CAS] 같은 리스트에서 두 스레드가 동시에 append해도 한쪽만 슬롯을 점유하고 다른 쪽은 복사 경로로 감</li>
+ *   <li>[Trap] null 원소 불가 - List.copyOf와 같은 규칙</li>
+ *   <li>[Trap] 수정 메서드(add, set, remove)는 UnsupportedOperationException - 결과는 append로 새 리스트 받기</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입
+ */
+public final class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Backing(new Object[0], 0), 0);
+
+    /**
+     * 여러 리스트가 공유하는 배열과 점유된 길이
+     */
+    private static final class Backing {
+        final Object[] items;
+        final AtomicInteger claimed;
+
+        Backing(Object[] items, int claimed) {
+            this.items = items;
+            this.claimed = new AtomicInteger(claimed);
+        }
+    }
+
+    private final Backing backing;
+    private final int size;
+
+    private PersistentList(Backing backing, int size) {
+        this.backing = backing;
+        this.size = size;
+    }
+
+    // ============================================
+    // 정적 팩토리 메서드
+    // ============================================
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * 리스트 복사 - 이미 PersistentList면 복사 없이 그대로 반환
+     *
+     * @throws NullPointerException 원소에 null이 있는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> source) {
+        if (source instanceof PersistentList<?> persistent) {
+            return (PersistentList<T>) persistent;
+        }
+        Object[] items = source.toArray();
+        for (Object item : items) {
+            Objects.requireNonNull(item, "원소는 null일 수 없습니다");
+        }
+        return items.length == 0 ? empty() : new PersistentList<>(new Backing(items, items.length), items.length);
+    }
+
+    // ============================================
+    // [Key Point] 영속 append / remove
+    // ============================================
+
+    /**
+     * 원소 하나를 뒤에 붙인 새 리스트
+     */
+    public PersistentList<T> append(T item) {
+        Objects.requireNonNull(item, "원소는 null일 수 없습니다");
+        if (tryClaim(1)) {
+            backing.items[size] = item;
+            return new PersistentList<>(backing, size + 1);
+        }
+        Object[] items = grow(size + 1);
+        items[size] = item;
+        return new PersistentList<>(new Backing(items, size + 1), size + 1);
+    }
+
+    /**
+     * 여러 원소를 뒤에 붙인 새 리스트
+     */
+    public PersistentList<T> appendAll(List<? extends T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return copyOf(other);
+        }
+        int n = other.size();
+        Object[] items;
+        Backing target;
+        if (tryClaim(n)) {
+            target = backing;
+            items = backing.items;
+        } else {
+            items = grow(size + n);
+            target = new Backing(items, size + n);
+        }
+        if (other instanceof PersistentList<?> persistent) {
+            System.arraycopy(persistent.backing.items, 0, items, size, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                items[size + i] = Objects.requireNonNull(other.get(i), "원소는 null일 수 없습니다");
+            }
+        }
+        return new PersistentList<>(target, size + n);
+    }
+
+    /**
+     * index 위치 원소를 뺀 새 리스트
+     *
+     * <p>[Key Point] 마지막 원소 제거는 같은 배열의 더 짧은 구간 → 복사 없이 O(1).
+     * 중간 원소 제거는 나머지를 새 배열로 복사 (O(n))</p>
+     */
+    public PersistentList<T> removeAt(int index) {
+        Objects.checkIndex(index, size);
+        if (size == 1) {
+            return empty();
+        }
+        if (index == size - 1) {
+            // [0, size - 1)는 이미 공개된 구간이라 다시 쓰이지 않음, 이후 append는 CAS 실패 → 복사 경로
+            return new PersistentList<>(backing, size - 1);
+        }
+        Object[] items = new Object[size - 1];
+        System.arraycopy(backing.items, 0, items, 0, index);
+        System.arraycopy(backing.items, index + 1, items, index, size - index - 1);
+        return new PersistentList<>(new Backing(items, items.length), items.length);
+    }
+
+    /**
+     * 공유 배열의 [size, size + n) 구간 점유 시도
+     *
+     * <p>이 리스트가 배열의 마지막 점유자이고 남은 공간이 있을 때만 성공</p>
+     */
+    private boolean tryClaim(int n) {
+        return size + n <= backing.items.length
+                && backing.claimed.compareAndSet(size, size + n);
+    }
+
+    private Object[] grow(int minCapacity) {
+        int capacity = Math.max(MIN_CAPACITY, Math.max(minCapacity, size << 1));
+        Object[] items = new Object[capacity];
+        System.arraycopy(backing.items, 0, items, 0, size); // [size, ...)는 다른 리스트 소유일 수 있으므로 복사하지 않음
+        return items;
+    }
+
+    // ============================================
+    // List 구현 (읽기 전용)
+    // ============================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) backing.items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(backing.items, size);
+    }
+}
@@ -1,6 +1,5 @@
 package com.travel.shared;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -69,7 +68,8 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
             if (errors.isEmpty()) {
                 throw new IllegalArgumentException("Invalid는 최소 하나의 오류가 필요합니다");
             }
-            errors = List.copyOf(errors); // 불변 복사
+            // [Key Point] 이미 PersistentList면 복사 없이 공유 (오류 누적 시 O(k²) 복사 방지)
+            errors = PersistentList.copyOf(errors);
         }
 
         /**
@@ -165,21 +165,24 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
             };
             case Invalid<Function<A, B>, F>(var errors1) -> switch (va) {
                 case Valid<A, F> v -> invalid(errors1);
-                case Invalid<A, F>(var errors2) -> {
-                    // [Key Point] 양쪽 모두 Invalid면 오류 결합
-                    var combined = new ArrayList<F>(errors1.size() + errors2.size());
-                    combined.addAll(errors1);
-                    combined.addAll(errors2);
-                    yield invalid(combined);
-                }
+                // [Key Point] 양쪽 모두 Invalid면 오류 결합 - errors1 뒤에 이어 붙이므로 errors2 길이만큼만 비용
+                case Invalid<A, F>(var errors2) -> invalid(PersistentList.copyOf(errors1).appendAll(errors2));
             };
         };
     }
 
     // ============================================
     // [Key Point] 편의 결합 메서드
-    // 2~4개 Validation을 결합하는 헬퍼
+    // 2~5개 Validation을 결합하는 헬퍼
     // ============================================
+    //
+    // [Why ap을 쓰지 않음] ap 체인으로 구현하면 (N개 결합 시)
+    //   커리된 람다 N개 + 중간 Valid N개 + 오류 리스트 복사 최대 N-1회
+    // 직접 구현은 입력을 한 번씩만 검사하고 combiner를 한 번만 호출:
+    //   전부 Valid → 결과 Valid 1개, 하나라도 Invalid → 오류 리스트 1개
+    // 결과는 ap 체인과 동일 (오류 순서 = 인자 순서)
+    //
+    // 5개를 넘는 결합은 ValidationBuilder 사용
 
     /**
      * 2개 Validation 결합
@@ -197,7 +200,10 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
             Validation<B, F> vb,
             Function2<A, B, R> combiner
     ) {
-        return ap(va.map(a -> b -> combiner.apply(a, b)), vb);
+        if (va instanceof Valid<A, F>(var a) && vb instanceof Valid<B, F>(var b)) {
+            return valid(combiner.apply(a, b));
+        }
+        return invalid(collectErrors(va, vb));
     }
 
     /**
@@ -209,9 +215,12 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
             Validation<C, F> vc,
             Function3<A, B, C, R> combiner
     ) {
-        Validation<Function<B, Function<C, R>>, F> step1 = va.map(a -> b -> c -> combiner.apply(a, b, c));
-        Validation<Function<C, R>, F> step2 = ap(step1, vb);
-        return ap(step2, vc);
+        if (va instanceof Valid<A, F>(var a)
+                && vb instanceof Valid<B, F>(var b)
+                && vc instanceof Valid<C, F>(var c)) {
+            return valid(combiner.apply(a, b, c));
+        }
+        return invalid(collectErrors(va, vb, vc));
     }
 
     /**
@@ -224,11 +233,48 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
             Validation<D, F> vd,
             Function4<A, B, C, D, R> combiner
     ) {
-        Validation<Function<B, Function<C, Function<D, R>>>, F> step1 =
-                va.map(a -> b -> c -> d -> combiner.apply(a, b, c, d));
-        Validation<Function<C, Function<D, R>>, F> step2 = ap(step1, vb);
-        Validation<Function<D, R>, F> step3 = ap(step2, vc);
-        return ap(step3, vd);
+        if (va instanceof Valid<A, F>(var a)
+                && vb instanceof Valid<B, F>(var b)
+                && vc instanceof Valid<C, F>(var c)
+                && vd instanceof Valid<D, F>(var d)) {
+            return valid(combiner.apply(a, b, c, d));
+        }
+        return invalid(collectErrors(va, vb, vc, vd));
+    }
+
+    /**
+     * 5개 Validation 결합
+     */
+    static <A, B, C, D, E, R, F> Validation<R, F> combine(
+            Validation<A, F> va,
+            Validation<B, F> vb,
+            Validation<C, F> vc,
+            Validation<D, F> vd,
+            Validation<E, F> ve,
+            Function5<A, B, C, D, E, R> combiner
+    ) {
+        if (va instanceof Valid<A, F>(var a)
+                && vb instanceof Valid<B, F>(var b)
+                && vc instanceof Valid<C, F>(var c)
+                && vd instanceof Valid<D, F>(var d)
+                && ve instanceof Valid<E, F>(var e)) {
+            return valid(combiner.apply(a, b, c, d, e));
+        }
+        return invalid(collectErrors(va, vb, vc, vd, ve));
+    }
+
+    /**
+     * 인자 순서대로 모든 오류를 하나의 리스트에 수집
+     *
+     * <p>[Key Point] 실패 경로에서만 호출 - 성공 경로는 varargs 배열도 만들지 않음</p>
+     */
+    @SafeVarargs
+    private static <F> List<F> collectErrors(Validation<?, F>... validations) {
+        PersistentList<F> errors = PersistentList.empty();
+        for (Validation<?, F> v : validations) {
+            errors = errors.appendAll(v.errors());
+        }
+        return errors;
     }
 
     // ============================================
@@ -307,4 +353,9 @@ public sealed interface Validation<S, F> permits Validation.Valid, Validation.In
     interface Function4<A, B, C, D, R> {
         R apply(A a, B b, C c, D d);
     }
+
+    @FunctionalInterface
+    interface Function5<A, B, C, D, E, R> {
+        R apply(A a, B b, C c, D d, E e);
+    }
 }
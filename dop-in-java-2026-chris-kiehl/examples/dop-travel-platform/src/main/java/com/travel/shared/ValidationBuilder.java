@@ -0,0 +1,156 @@
+package com.travel.shared;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 임의 개수 Validation 결합 빌더
+ *
+ * <h2>목적 (Purpose)</h2>
+ * Validation.combine은 5개까지만 지원하므로, 필드가 많은 폼 검증을
+ * 커리된 ap 체인 없이 한 번에 결합
+ *
+ * <h2>핵심 개념 (Key Concept): Ch 5 Applicative - N-ary 결합</h2>
+ * <pre>
+ * var b = ValidationBuilder.&lt;String&gt;create();
+ * var name  = b.add(validateName(input.name()));
+ * var email = b.add(validateEmail(input.email()));
+ * var phone = b.add(validatePhone(input.phone()));
+ * ...
+ * Validation&lt;Member, String&gt; result =
+ *     b.build(v -> new Member(v.get(name), v.get(email), v.get(phone), ...));
+ *
+ * [Key Point] add()가 돌려주는 Slot&lt;A&gt;가 타입을 기억하므로 get()에서 캐스팅 불필요
+ * [Key Point] build()는 입력을 한 번씩만 검사하고
+ *   - 전부 Valid   → combiner 1회 호출
+ *   - 하나라도 Invalid → 모든 오류를 하나의 리스트에 (add 순서대로) 수집, combiner 미호출
+ * </pre>
+ *
+ * <h2>놓치기 쉬운 부분 (Common Mistakes)</h2>
+ * <ul>
+ *   <li>[Trap] 다른 빌더의 Slot 사용 → IllegalArgumentException</li>
+ *   <li>[Trap] 빌더는 스레드 안전하지 않음 - 요청마다 새로 생성 (지역 변수로 사용)</li>
+ *   <li>[Why 의존적 검증 불가] Applicative이므로 앞 필드 값을 보고 뒤 필드를 검증하려면 Result 사용</li>
+ * </ul>
+ *
+ * @param <F> 오류 타입
+ */
+public final class ValidationBuilder<F> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Validation<?, F>[] inputs;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    private ValidationBuilder(int capacity) {
+        this.inputs = (Validation<?, F>[]) new Validation<?, ?>[capacity];
+    }
+
+    public static <F> ValidationBuilder<F> create() {
+        return new ValidationBuilder<>(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedInputs 결합할 Validation 개수 (배열 재할당 방지용 힌트)
+     */
+    public static <F> ValidationBuilder<F> withExpectedSize(int expectedInputs) {
+        return new ValidationBuilder<>(Math.max(1, expectedInputs));
+    }
+
+    // ============================================
+    // 슬롯 - 타입 안전한 값 핸들
+    // ============================================
+
+    /**
+     * add()로 등록한 입력의 위치와 타입을 기억하는 핸들
+     *
+     * @param <A> 해당 입력이 Valid일 때의 값 타입
+     */
+    public static final class Slot<A> {
+        private final ValidationBuilder<?> owner;
+        private final int index;
+
+        private Slot(ValidationBuilder<?> owner, int index) {
+            this.owner = owner;
+            this.index = index;
+        }
+
+        public int index() {
+            return index;
+        }
+    }
+
+    /**
+     * 모든 입력이 Valid일 때 combiner에 전달되는 값 묶음
+     */
+    public final class Values {
+        private final Object[] values;
+
+        private Values(Object[] values) {
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <A> A get(Slot<A> slot) {
+            if (slot.owner != ValidationBuilder.this) {
+                throw new IllegalArgumentException("다른 빌더의 슬롯입니다: " + slot.index);
+            }
+            return (A) values[slot.index];
+        }
+
+        public int size() {
+            return values.length;
+        }
+    }
+
+    // ============================================
+    // 입력 등록 / 결합
+    // ============================================
+
+    /**
+     * 검증 결과 등록
+     *
+     * @return 결합 시 값을 꺼낼 슬롯
+     */
+    public <A> Slot<A> add(Validation<A, F> validation) {
+        Objects.requireNonNull(validation, "Validation은 null일 수 없습니다");
+        if (size == inputs.length) {
+            inputs = Arrays.copyOf(inputs, size << 1);
+        }
+        inputs[size] = validation;
+        return new Slot<>(this, size++);
+    }
+
+    /**
+     * 등록된 모든 입력 결합
+     *
+     * @param combiner 모든 입력이 Valid일 때 한 번 호출
+     * @return 결합 결과
+     */
+    public <R> Validation<R, F> build(Function<Values, R> combiner) {
+        PersistentList<F> errors = PersistentList.empty();
+        for (int i = 0; i < size; i++) {
+            if (inputs[i] instanceof Validation.Invalid<?, F>(var e)) {
+                errors = errors.appendAll(e);
+            }
+        }
+        if (!errors.isEmpty()) {
+            return Validation.invalid(errors);
+        }
+
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = ((Validation.Valid<?, F>) inputs[i]).value();
+        }
+        return Validation.valid(combiner.apply(new Values(values)));
+    }
+
+    /**
+     * 등록된 입력 수
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -1,5 +1,7 @@
 package com.travel.shared.types;
 
+import com.travel.shared.Validation;
+
 import java.util.regex.Pattern;
 
 /**
@@ -87,14 +89,30 @@ public final class Email<S> {
      * <p>[Why private] 생성자가 public이면 new Email&lt;Verified&gt;("...")로
      * 검증을 우회할 수 있음</p>
      */
-    private Email(String value) {
+    private Email(String normalized) {
+        this.value = normalized;
+    }
+
+    /**
+     * 형식 검사 + 정규화 (소문자, 앞뒤 공백 제거)
+     *
+     * @throws IllegalArgumentException 비어 있거나 형식이 틀린 경우
+     */
+    private static String normalize(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("이메일은 비어있을 수 없습니다");
         }
         if (!EMAIL_PATTERN.matcher(value).matches()) {
             throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다: " + value);
         }
-        this.value = value.toLowerCase().trim();
+        return value.toLowerCase().trim();
+    }
+
+    /**
+     * 형식 검사와 정규화를 이미 마친 값 - validateUnverified/verify에서 정규식을 두 번 돌리지 않기 위함
+     */
+    private static <S> Email<S> ofNormalized(String normalized) {
+        return new Email<>(normalized);
     }
 
     // ============================================
@@ -111,7 +129,26 @@ public final class Email<S> {
      * @return 미검증 이메일
      */
     public static Email<Unverified> unverified(String email) {
-        return new Email<>(email);
+        return ofNormalized(normalize(email));
+    }
+
+    /**
+     * 미검증 이메일 생성 - 예외 대신 Validation으로 실패 반환
+     *
+     * <p>[Key Point] 대량 가져오기처럼 잘못된 입력이 흔한 경로용 -
+     * 예외 생성(스택 트레이스 수집) 비용 없이 오류를 다른 필드 오류와 함께 누적</p>
+     *
+     * @param email 이메일 문자열
+     * @return 미검증 이메일 또는 오류 메시지
+     */
+    public static Validation<Email<Unverified>, String> validateUnverified(String email) {
+        if (email == null || email.isBlank()) {
+            return Validation.invalid("이메일은 비어있을 수 없습니다");
+        }
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            return Validation.invalid("올바른 이메일 형식이 아닙니다: " + email);
+        }
+        return Validation.valid(ofNormalized(email.toLowerCase().trim()));
     }
 
     /**
@@ -132,7 +169,7 @@ public final class Email<S> {
             throw new IllegalArgumentException("유효하지 않은 검증 코드입니다");
         }
         // 검증 성공 시 새로운 Verified 타입 인스턴스 반환
-        return new Email<>(email.value);
+        return ofNormalized(email.value);
     }
 
     /**
@@ -145,7 +182,7 @@ public final class Email<S> {
      * @return 검증된 이메일
      */
     public static Email<Verified> alreadyVerified(String email) {
-        return new Email<>(email);
+        return ofNormalized(normalize(email));
     }
 
     // ============================================
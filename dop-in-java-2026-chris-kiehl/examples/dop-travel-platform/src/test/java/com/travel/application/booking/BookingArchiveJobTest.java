@@ -0,0 +1,277 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingArchive;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.settlement.SettlementCheckpointRepository;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingArchiveJob 테스트 - 메모리 보관소로 배치 반복/보관 조건/보관 상한 검사
+ */
+@DisplayName("BookingArchiveJob - 오래된 종료 예약 보관")
+class BookingArchiveJobTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final MemberId MEMBER = MemberId.generate();
+
+    /** 활성 테이블(hot)과 월별 보관(archived)을 Map으로 흉내 */
+    static final class InMemoryArchive implements BookingArchive {
+        final Map<BookingId, Booking> hot = new LinkedHashMap<>();
+        final Map<YearMonth, List<Booking>> archived = new LinkedHashMap<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public Batch archiveBatch(Instant cutoff, int limit) {
+            List<Booking> moving = hot.values().stream()
+                    .filter(booking -> BookingArchive.isArchivable(booking, cutoff))
+                    .sorted(Comparator.comparing(booking -> booking.id().value().toString()))
+                    .limit(limit)
+                    .toList();
+            Set<YearMonth> months = new HashSet<>();
+            for (Booking booking : moving) {
+                YearMonth month = BookingArchive.partitionOf(booking.createdAt(), SEOUL);
+                archived.computeIfAbsent(month, m -> new ArrayList<>()).add(booking);
+                months.add(month);
+                hot.remove(booking.id());
+            }
+            batchSizes.add(moving.size());
+            return new Batch(moving.size(), months);
+        }
+
+        @Override
+        public Optional<Booking> findById(BookingId id) {
+            return archived.values().stream().flatMap(List::stream).filter(b -> b.id().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<Booking> findByMemberId(MemberId memberId) {
+            return archived.values().stream().flatMap(List::stream).filter(b -> b.memberId().equals(memberId)).toList();
+        }
+
+        @Override
+        public boolean existsById(BookingId id) {
+            return findById(id).isPresent();
+        }
+
+        @Override
+        public boolean existsByMemberIdAndProductId(MemberId memberId, String productId) {
+            return findByMemberId(memberId).stream()
+                    .anyMatch(b -> b.items().stream().anyMatch(item -> item.productId().equals(productId)));
+        }
+
+        @Override
+        public List<MemberId> findAllMemberIds() {
+            return archived.values().stream().flatMap(List::stream).map(Booking::memberId).distinct().toList();
+        }
+    }
+
+    /** 마지막 정산 기간만 돌려주는 정산 진행 기록 */
+    static final class SettledUntil implements SettlementCheckpointRepository {
+        final Optional<YearMonth> lastSettled;
+
+        SettledUntil(YearMonth lastSettled) {
+            this.lastSettled = Optional.ofNullable(lastSettled);
+        }
+
+        @Override
+        public Set<String> findCompletedPartnerIds(YearMonth period) {
+            return Set.of();
+        }
+
+        @Override
+        public void markCompleted(YearMonth period, String partnerId, int settlementCount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<YearMonth> findLastSettledPeriod() {
+            return lastSettled;
+        }
+    }
+
+    private static BookingArchiveJob job(BookingArchive archive, int batchSize) {
+        return job(archive, batchSize, new SettledUntil(YearMonth.of(2024, 12)));
+    }
+
+    private static BookingArchiveJob job(BookingArchive archive, int batchSize, SettlementCheckpointRepository settled) {
+        return new BookingArchiveJob(archive, settled, batchSize, Duration.ofDays(90), "Asia/Seoul");
+    }
+
+    private static Booking booking(BookingStatus status, Instant createdAt, Instant updatedAt) {
+        var created = Booking.create(MEMBER, List.of(new BookingItem.Accommodation(
+                "ROOM-1", "호텔", "디럭스",
+                new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                Money.krw(100_000), 2)));
+        return new Booking(created.id(), created.memberId(), created.items(), status,
+                created.totalAmount(), created.discountAmount(), created.finalAmount(), null, createdAt, updatedAt);
+    }
+
+    private static Booking completed(Instant createdAt, Instant completedAt) {
+        return booking(new BookingStatus.Completed(completedAt), createdAt, completedAt);
+    }
+
+    private static Instant seoul(int year, int month, int day, int hour) {
+        return LocalDate.of(year, month, day).atTime(hour, 0).atZone(SEOUL).toInstant();
+    }
+
+    @Nested
+    @DisplayName("보관 조건")
+    class Policy {
+
+        @Test
+        @DisplayName("최종 상태이고 cutoff 이전에 끝난 예약만 대상")
+        void archivable_only_final_and_old() {
+            Instant cutoff = seoul(2025, 1, 1, 0);
+            Instant old = seoul(2023, 5, 1, 12);
+
+            assertTrue(BookingArchive.isArchivable(completed(old, old), cutoff));
+            assertTrue(BookingArchive.isArchivable(booking(new BookingStatus.Cancelled(
+                    "고객 요청", old, null, BookingStatus.Cancelled.CancelledBy.USER), old, old), cutoff));
+            assertFalse(BookingArchive.isArchivable(booking(BookingStatus.Pending.withDefaultExpiry(), old, old), cutoff));
+            assertFalse(BookingArchive.isArchivable(completed(old, cutoff), cutoff));
+        }
+
+        @Test
+        @DisplayName("보관 월은 zone 기준 - 서울 1일 새벽 예약은 UTC로는 전달이지만 그 달로")
+        void partition_uses_zone() {
+            Instant firstOfMonthDawn = seoul(2024, 3, 1, 2);
+
+            assertEquals(YearMonth.of(2024, 3), BookingArchive.partitionOf(firstOfMonthDawn, SEOUL));
+            assertEquals(YearMonth.of(2024, 2), BookingArchive.partitionOf(firstOfMonthDawn, ZoneId.of("UTC")));
+        }
+    }
+
+    @Nested
+    @DisplayName("실행")
+    class Run {
+
+        @Test
+        @DisplayName("배치 크기씩 반복해 모두 옮기고, 0건 배치에서 멈춤")
+        void moves_in_batches_until_empty() {
+            // Given - 2023년 1~3월 생성, 완료 예약 7건
+            var archive = new InMemoryArchive();
+            for (int i = 0; i < 7; i++) {
+                Instant created = seoul(2023, 1 + i % 3, 10, 12);
+                Booking booking = completed(created, created.plusSeconds(86_400));
+                archive.hot.put(booking.id(), booking);
+            }
+            var job = job(archive, 3);
+
+            // When
+            var report = job.run(LocalDate.of(2025, 1, 1));
+
+            // Then
+            assertEquals(7, report.archived());
+            assertEquals(3, report.batches());
+            assertEquals(List.of(3, 3, 1, 0), archive.batchSizes);
+            assertEquals(List.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3)),
+                    List.copyOf(report.months()));
+            assertTrue(archive.hot.isEmpty());
+            assertEquals(seoul(2025, 1, 1, 0), report.cutoff());
+        }
+
+        @Test
+        @DisplayName("진행 중 예약과 cutoff 이후에 끝난 예약은 남김")
+        void keeps_active_and_recent() {
+            // Given
+            var archive = new InMemoryArchive();
+            Instant old = seoul(2023, 6, 1, 12);
+            Booking oldCompleted = completed(old, old);
+            Booking recentCompleted = completed(old, seoul(2025, 6, 1, 12));
+            Booking pending = booking(BookingStatus.Pending.withDefaultExpiry(), old, old);
+            List.of(oldCompleted, recentCompleted, pending).forEach(b -> archive.hot.put(b.id(), b));
+
+            // When
+            var report = job(archive, 100).run(LocalDate.of(2025, 1, 1));
+
+            // Then
+            assertEquals(1, report.archived());
+            assertEquals(Set.of(recentCompleted.id(), pending.id()), archive.hot.keySet());
+            assertEquals(Optional.of(oldCompleted), archive.findById(oldCompleted.id()));
+        }
+
+        @Test
+        @DisplayName("옮길 예약이 없으면 배치 0개")
+        void nothing_to_archive() {
+            var report = job(new InMemoryArchive(), 10).run(LocalDate.of(2025, 1, 1));
+
+            assertEquals(0, report.archived());
+            assertEquals(0, report.batches());
+            assertTrue(report.months().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("보관 상한")
+    class Limit {
+
+        private final InMemoryArchive archive = new InMemoryArchive();
+
+        @Test
+        @DisplayName("마지막 정산 기간의 다음 달 1일까지는 허용")
+        void allows_cutoff_at_end_of_last_settled_period() {
+            var report = job(archive, 10, new SettledUntil(YearMonth.of(2024, 12))).run(LocalDate.of(2025, 1, 1));
+
+            assertEquals(seoul(2025, 1, 1, 0), report.cutoff());
+        }
+
+        @Test
+        @DisplayName("마지막 정산 기간 이후 cutoff는 거부 - 아무것도 옮기지 않음")
+        void rejects_cutoff_after_last_settled_period() {
+            var job = job(archive, 10, new SettledUntil(YearMonth.of(2024, 12)));
+
+            var error = assertThrows(IllegalArgumentException.class, () -> job.run(LocalDate.of(2025, 1, 2)));
+
+            assertTrue(error.getMessage().contains("마지막 정산 기간 2024-12 이후"), error.getMessage());
+            assertTrue(archive.batchSizes.isEmpty());
+        }
+
+        @Test
+        @DisplayName("정산 기록이 없으면 거부")
+        void rejects_when_nothing_settled() {
+            var job = job(archive, 10, new SettledUntil(null));
+
+            var error = assertThrows(IllegalArgumentException.class, () -> job.run(LocalDate.of(2020, 1, 1)));
+
+            assertTrue(error.getMessage().startsWith("정산 기록이 없어"), error.getMessage());
+            assertTrue(archive.batchSizes.isEmpty());
+        }
+
+        @Test
+        @DisplayName("오늘 - min-age 이후 cutoff는 정산이 끝났어도 거부")
+        void rejects_cutoff_younger_than_min_age() {
+            var job = job(archive, 10, new SettledUntil(YearMonth.now(SEOUL)));
+            LocalDate tooRecent = LocalDate.now(SEOUL).minusDays(30);
+
+            var error = assertThrows(IllegalArgumentException.class, () -> job.run(tooRecent));
+            job.run(LocalDate.now(SEOUL).minusDays(90));
+
+            assertTrue(error.getMessage().contains("travel.booking.archive.min-age"), error.getMessage());
+            assertEquals(List.of(0), archive.batchSizes);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.BookingError;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberRepository;
+import com.travel.infrastructure.persistence.mapper.BookingMapper;
+import com.travel.infrastructure.persistence.mapper.CouponMapper;
+import com.travel.infrastructure.persistence.mapper.MemberMapper;
+import com.travel.infrastructure.persistence.repository.JpaBookingArchive;
+import com.travel.infrastructure.persistence.repository.JpaBookingRepository;
+import com.travel.infrastructure.persistence.repository.JpaCouponRepository;
+import com.travel.infrastructure.persistence.repository.JpaMemberRepository;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingMetrics 테스트 - 예약 생성 성공 1건 + 실패 1건 후 SimpleMeterRegistry의 미터 확인
+ *
+ * <p>JpaBookingRepository까지 실제로 거쳐야 booking.repository Timer가 기록되므로 내장 H2 위에서 실행</p>
+ */
+@DataJpaTest
+@Import({
+        BookingMetricsTest.Metrics.class,
+        BookingMetrics.class,
+        CreateBookingUseCase.class,
+        JpaBookingRepository.class,
+        JpaBookingArchive.class,
+        BookingMapper.class,
+        JpaMemberRepository.class,
+        MemberMapper.class,
+        JpaCouponRepository.class,
+        CouponMapper.class
+})
+@DisplayName("BookingMetrics - 예약 UseCase/Repository 미터")
+class BookingMetricsTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private CreateBookingUseCase createBooking;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private static List<BookingItem> items() {
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        return List.of(new BookingItem.Accommodation("ROOM-1", "호텔", "디럭스",
+                new DateRange(checkIn, checkIn.plusDays(2)), Money.krw(100_000), 2));
+    }
+
+    private Timer timer(String name, String... tags) {
+        return registry.get(name).tags(tags).timer();
+    }
+
+    private double failures(String error) {
+        return registry.get("booking.usecase.failures").tags("usecase", "create", "error", error).counter().count();
+    }
+
+    @Test
+    @DisplayName("성공 1건 + 쿠폰 실패 1건 → UseCase/단계/실패/Repository 미터")
+    void records_create_success_and_failure() {
+        // Given
+        Member member = memberRepository.save(Member.create("metrics@example.com", "홍길동", "010-1234-5678"));
+
+        // When
+        var success = createBooking.execute(new CreateBookingCommand(member.id(), items(), null));
+        var failure = createBooking.execute(new CreateBookingCommand(member.id(), items(), "NO-SUCH-COUPON"));
+
+        // Then - 결과
+        assertTrue(success.isSuccess());
+        assertInstanceOf(BookingError.CouponNotApplicable.class, failure.errorOrNull());
+
+        // Then - UseCase 전체 Timer: 성공/실패 모두 기록
+        assertEquals(2, timer("booking.usecase", "usecase", "create").count());
+
+        // Then - 단계 Timer: 실패는 쿠폰 검증에서 멈춤
+        assertEquals(2, timer("booking.usecase.stage", "usecase", "create", "stage", "member_lookup").count());
+        assertEquals(1, timer("booking.usecase.stage", "usecase", "create", "stage", "coupon_validation").count());
+        assertEquals(1, timer("booking.usecase.stage", "usecase", "create", "stage", "availability").count());
+        assertEquals(1, timer("booking.usecase.stage", "usecase", "create", "stage", "pricing").count());
+        assertEquals(1, timer("booking.usecase.stage", "usecase", "create", "stage", "persistence").count());
+
+        // Then - 실패 Counter: BookingError 레코드마다 미리 등록, 발생한 종류만 증가
+        Set<String> errorTags = registry.get("booking.usecase.failures").tags("usecase", "create").counters().stream()
+                .map(counter -> counter.getId().getTag("error"))
+                .collect(Collectors.toSet());
+        Set<String> variants = Arrays.stream(BookingError.class.getPermittedSubclasses())
+                .map(Class::getSimpleName)
+                .collect(Collectors.toSet());
+        assertEquals(variants, errorTags);
+        assertEquals(1, failures("CouponNotApplicable"));
+        assertEquals(0, failures("ValidationFailed"));
+
+        // Then - Repository Timer: 성공 건의 save 1회, 태그는 operation만
+        assertEquals(1, timer("booking.repository", "operation", "save").count());
+        assertEquals(0, timer("booking.repository", "operation", "find_by_id").count());
+        assertEquals(Set.of("find_by_id", "find_by_member_id", "find_active_by_product_id",
+                        "save", "save_all", "update_statuses"),
+                registry.get("booking.repository").timers().stream()
+                        .map(timer -> timer.getId().getTag("operation"))
+                        .collect(Collectors.toSet()));
+    }
+}
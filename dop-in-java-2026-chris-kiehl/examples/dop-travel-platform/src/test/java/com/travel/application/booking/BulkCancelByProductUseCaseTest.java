@@ -0,0 +1,331 @@
+package com.travel.application.booking;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingError;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingRepository;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.domain.payment.RefundRequestRepository;
+import com.travel.shared.Result;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulkCancelByProductUseCase 테스트 - 메모리 저장소 + 기록용 이벤트 발행기
+ */
+@DisplayName("BulkCancelByProductUseCase - 상품 일괄 취소")
+class BulkCancelByProductUseCaseTest {
+
+    private static final String PRODUCT = "ROOM-1";
+    private static final LocalDate FAR_CHECK_IN = LocalDate.now().plusDays(30);
+
+    /** 예약 ID 문자열 순 keyset 페이지를 흉내 내고, 요청된 cursor를 기록 */
+    static final class InMemoryBookingRepository implements BookingRepository {
+        final Map<BookingId, Booking> bookings = new LinkedHashMap<>();
+        final List<BookingId> cursors = new ArrayList<>();
+        Consumer<InMemoryBookingRepository> beforeUpdate = repository -> {};
+
+        void put(Booking booking) {
+            bookings.put(booking.id(), booking);
+        }
+
+        @Override
+        public Result<Booking, BookingError> findById(BookingId id) {
+            return findByIdOptional(id)
+                    .map(Result::<Booking, BookingError>success)
+                    .orElseGet(() -> Result.failure(new BookingError.NotFound(id)));
+        }
+
+        @Override
+        public Optional<Booking> findByIdOptional(BookingId id) {
+            return Optional.ofNullable(bookings.get(id));
+        }
+
+        @Override
+        public List<Booking> findByMemberId(MemberId memberId) {
+            return bookings.values().stream().filter(b -> b.memberId().equals(memberId)).toList();
+        }
+
+        @Override
+        public List<Booking> findByMemberIdAndStatus(MemberId memberId, Class<? extends BookingStatus> statusClass) {
+            return findByMemberId(memberId).stream().filter(statusClass::isInstance).toList();
+        }
+
+        @Override
+        public List<Booking> findExpiredPendingBookings() {
+            return List.of();
+        }
+
+        @Override
+        public List<MemberId> findAllMemberIds() {
+            return bookings.values().stream().map(Booking::memberId).distinct().toList();
+        }
+
+        @Override
+        public List<Booking> findActiveByProductId(String productId, BookingId after, int limit) {
+            cursors.add(after);
+            String afterKey = after == null ? null : after.value().toString();
+            return bookings.values().stream()
+                    .filter(b -> b.isPending() || b.isConfirmed())
+                    .filter(b -> b.items().stream().anyMatch(item -> item.productId().equals(productId)))
+                    .filter(b -> afterKey == null || b.id().value().toString().compareTo(afterKey) > 0)
+                    .sorted(Comparator.comparing(b -> b.id().value().toString()))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public Booking save(Booking booking) {
+            put(booking);
+            return booking;
+        }
+
+        @Override
+        public List<BookingStatusChanged> updateStatuses(List<BookingStatusChanged> changes) {
+            beforeUpdate.accept(this);
+            return BookingRepository.super.updateStatuses(changes);
+        }
+
+        @Override
+        public boolean existsById(BookingId id) {
+            return bookings.containsKey(id);
+        }
+
+        @Override
+        public boolean existsByMemberIdAndProductId(MemberId memberId, String productId) {
+            return findByMemberId(memberId).stream()
+                    .anyMatch(b -> b.items().stream().anyMatch(item -> item.productId().equals(productId)));
+        }
+    }
+
+    static final class InMemoryRefundRequestRepository implements RefundRequestRepository {
+        final Map<BookingId, RefundRequest> requests = new LinkedHashMap<>();
+
+        @Override
+        public void saveAll(List<RefundRequest> batch) {
+            for (RefundRequest request : batch) {
+                if (requests.putIfAbsent(request.bookingId(), request) != null) {
+                    throw new IllegalStateException("중복 환불 요청: " + request.bookingId());
+                }
+            }
+        }
+
+        @Override
+        public RefundRequest update(RefundRequest request) {
+            requests.put(request.bookingId(), request);
+            return request;
+        }
+
+        @Override
+        public List<RefundRequest> findPending(BookingId after, int limit) {
+            return requests.values().stream()
+                    .filter(RefundRequest::isPending)
+                    .filter(r -> after == null || r.bookingId().value().toString().compareTo(after.value().toString()) > 0)
+                    .sorted(Comparator.comparing(r -> r.bookingId().value().toString()))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    /** 페이지마다 트랜잭션이 하나씩 열리는지 세기만 함 */
+    static final class CountingTransactionManager implements PlatformTransactionManager {
+        int commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {}
+    }
+
+    private final InMemoryBookingRepository bookings = new InMemoryBookingRepository();
+    private final InMemoryRefundRequestRepository refunds = new InMemoryRefundRequestRepository();
+    private final List<Object> published = new ArrayList<>();
+    private final CountingTransactionManager transactions = new CountingTransactionManager();
+
+    private BulkCancelByProductUseCase useCase(int pageSize) {
+        return new BulkCancelByProductUseCase(bookings, refunds, published::add, transactions, pageSize, "Asia/Seoul");
+    }
+
+    private static Booking pending(String productId) {
+        return Booking.create(MemberId.generate(), List.of(new BookingItem.Accommodation(
+                productId, "호텔", "디럭스",
+                new DateRange(FAR_CHECK_IN, FAR_CHECK_IN.plusDays(2)),
+                Money.krw(100_000), 1)));
+    }
+
+    private static Booking confirmed(String productId) {
+        return pending(productId).confirm(UUID.randomUUID().toString());
+    }
+
+    private List<BookingStatusChanged> publishedChanges() {
+        return published.stream()
+                .map(BookingStatusChanged.class::cast)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("keyset 페이지")
+    class Paging {
+
+        @Test
+        @DisplayName("직전 페이지 마지막 예약 ID를 다음 cursor로, 페이지마다 트랜잭션 1개")
+        void pages_by_last_booking_id() {
+            // Given - 활성 예약 5건, 페이지 크기 2
+            for (int i = 0; i < 5; i++) {
+                bookings.put(pending(PRODUCT));
+            }
+            List<BookingId> sorted = bookings.bookings.keySet().stream()
+                    .sorted(Comparator.comparing(id -> id.value().toString()))
+                    .toList();
+
+            // When
+            var report = useCase(2).execute(PRODUCT, "호텔 폐업");
+
+            // Then - 3페이지 (2, 2, 1), cursor는 null → 2번째 → 4번째
+            assertEquals(5, report.scanned());
+            assertEquals(5, report.cancelled());
+            assertEquals(0, report.skipped());
+            assertEquals(Arrays.asList(null, sorted.get(1), sorted.get(3)), bookings.cursors);
+            assertEquals(3, transactions.commits);
+            assertTrue(bookings.bookings.values().stream().allMatch(Booking::isCancelled));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지가 꽉 차면 빈 페이지를 한 번 더 읽고 멈춤")
+        void full_last_page_reads_one_empty_page() {
+            for (int i = 0; i < 4; i++) {
+                bookings.put(pending(PRODUCT));
+            }
+
+            var report = useCase(2).execute(PRODUCT, "결항");
+
+            assertEquals(4, report.cancelled());
+            assertEquals(3, bookings.cursors.size());
+            assertEquals(3, transactions.commits);
+        }
+
+        @Test
+        @DisplayName("다른 상품과 이미 끝난 예약은 건드리지 않음")
+        void leaves_other_products_and_finished() {
+            Booking target = pending(PRODUCT);
+            Booking other = pending("ROOM-2");
+            Booking cancelled = pending(PRODUCT).cancel("고객 요청", null, BookingStatus.Cancelled.CancelledBy.USER);
+            List.of(target, other, cancelled).forEach(bookings::put);
+
+            var report = useCase(10).execute(PRODUCT, "결항");
+
+            assertEquals(1, report.scanned());
+            assertTrue(bookings.bookings.get(target.id()).isCancelled());
+            assertTrue(bookings.bookings.get(other.id()).isPending());
+            assertEquals(cancelled, bookings.bookings.get(cancelled.id()));
+        }
+    }
+
+    @Nested
+    @DisplayName("환불 outbox와 이벤트")
+    class RefundOutbox {
+
+        @Test
+        @DisplayName("확정 예약만 PENDING 환불 요청 - 결제 ID는 이전 상태에서, 30일 전 취소라 전액")
+        void queues_refund_for_confirmed_only() {
+            // Given - 30일 전 취소 → 100% 환불
+            Booking confirmed = confirmed(PRODUCT);
+            Booking pending = pending(PRODUCT);
+            bookings.put(confirmed);
+            bookings.put(pending);
+
+            // When
+            var report = useCase(10).execute(PRODUCT, "결항");
+
+            // Then
+            assertEquals(2, report.cancelled());
+            assertEquals(1, report.refundsQueued());
+            RefundRequest refund = refunds.requests.get(confirmed.id());
+            assertEquals(RefundRequest.Status.PENDING, refund.status());
+            assertEquals(((BookingStatus.Confirmed) confirmed.status()).paymentId(), refund.paymentId());
+            assertEquals(confirmed.finalAmount(), refund.amount());
+            assertFalse(refunds.requests.containsKey(pending.id()));
+        }
+
+        @Test
+        @DisplayName("반영된 변경마다 BookingStatusChanged 발행 (관리자 취소, 이전 상태 포함)")
+        void publishes_status_changes() {
+            Booking confirmed = confirmed(PRODUCT);
+            bookings.put(confirmed);
+
+            useCase(10).execute(PRODUCT, "결항");
+
+            List<BookingStatusChanged> changes = publishedChanges();
+            assertEquals(1, changes.size());
+            assertEquals(confirmed, changes.getFirst().previous());
+            var status = assertInstanceOf(BookingStatus.Cancelled.class, changes.getFirst().current().status());
+            assertEquals(BookingStatus.Cancelled.CancelledBy.ADMIN, status.cancelledBy());
+            assertEquals("결항", status.reason());
+        }
+
+        @Test
+        @DisplayName("읽은 뒤 다른 경로로 바뀐 예약은 건너뜀 - 환불 요청/이벤트 없음")
+        void skips_changed_after_read() {
+            // Given - updateStatuses 직전에 고객이 직접 취소
+            Booking raced = confirmed(PRODUCT);
+            Booking untouched = confirmed(PRODUCT);
+            bookings.put(raced);
+            bookings.put(untouched);
+            bookings.beforeUpdate = repository -> repository.put(
+                    raced.cancel("고객 요청", Money.krw(100_000), BookingStatus.Cancelled.CancelledBy.USER));
+
+            // When
+            var report = useCase(10).execute(PRODUCT, "결항");
+
+            // Then
+            assertEquals(2, report.scanned());
+            assertEquals(1, report.cancelled());
+            assertEquals(1, report.skipped());
+            assertEquals(List.of(untouched.id()), List.copyOf(refunds.requests.keySet()));
+            assertEquals(List.of(untouched.id()), publishedChanges().stream().map(c -> c.current().id()).toList());
+            var status = (BookingStatus.Cancelled) bookings.bookings.get(raced.id()).status();
+            assertEquals(BookingStatus.Cancelled.CancelledBy.USER, status.cancelledBy());
+        }
+    }
+
+    @Test
+    @DisplayName("상품 ID/사유가 없으면 거부")
+    void rejects_blank_arguments() {
+        var useCase = useCase(10);
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(" ", "결항"));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(PRODUCT, null));
+    }
+}
@@ -0,0 +1,188 @@
+package com.travel.application.member;
+
+import com.travel.application.member.MemberImportPipeline.RejectReason;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.member.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MemberImportPipeline 단위 테스트 (메모리 Repository)
+ */
+@DisplayName("MemberImportPipeline - 회원 대량 가져오기")
+class MemberImportPipelineTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * 이메일 → 회원 (saveAll 호출 횟수 기록)
+     */
+    static class InMemoryMemberRepository implements MemberRepository {
+        final Map<String, Member> byEmail = new ConcurrentHashMap<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override public Optional<Member> findById(MemberId id) {
+            return byEmail.values().stream().filter(m -> m.id().equals(id)).findFirst();
+        }
+        @Override public Optional<Member> findByEmail(String email) { return Optional.ofNullable(byEmail.get(email)); }
+        @Override public Member save(Member member) { byEmail.put(member.email().value(), member); return member; }
+        @Override public List<Member> saveAll(List<Member> members) {
+            batchSizes.add(members.size());
+            members.forEach(this::save);
+            return members;
+        }
+        @Override public boolean existsById(MemberId id) { return findById(id).isPresent(); }
+        @Override public boolean existsByEmail(String email) { return byEmail.containsKey(email); }
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(dir.resolve(name), List.of(lines));
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("유효한 행은 배치로 저장하고 거절 행은 사유별로 집계한다")
+        void imports_and_rejects() throws IOException {
+            // Given
+            var repository = new InMemoryMemberRepository();
+            repository.save(Member.create("taken@travel.com", "기존회원", null));
+            var input = write("members.csv",
+                    "name,email,phone",
+                    "홍길동,hong@travel.com,010-1234-5678",
+                    "\"김, 철수\",kim@travel.com,",
+                    "이영희,not-an-email,abc",
+                    "박민수,HONG@travel.com,",
+                    "최기존,taken@travel.com,",
+                    "\"닫히지 않음,x@travel.com,");
+            var errorReport = dir.resolve("errors.csv");
+
+            // When
+            var report = new MemberImportPipeline(repository, 2, 1).run(input, errorReport);
+
+            // Then
+            assertEquals(6, report.rowsRead());
+            assertEquals(2, report.imported());
+            assertEquals(Map.of(
+                    RejectReason.INVALID, 1L,
+                    RejectReason.DUPLICATE_IN_FILE, 1L,
+                    RejectReason.DUPLICATE_IN_DB, 1L,
+                    RejectReason.PARSE_ERROR, 1L), report.rejected());
+            assertEquals("김, 철수", repository.byEmail.get("kim@travel.com").name());
+            assertNull(repository.byEmail.get("kim@travel.com").phoneNumber());
+
+            var invalid = report.errorSamples().stream()
+                    .filter(e -> e.reason() == RejectReason.INVALID).findFirst().orElseThrow();
+            assertEquals(4, invalid.lineNumber());
+            assertEquals(2, invalid.messages().size(), "이메일/전화번호 오류가 모두 누적되어야 함");
+
+            assertEquals(5, Files.readAllLines(errorReport).size(), "헤더 + 거절 4행");
+            assertTrue(report.rowsPerSecond() > 0);
+        }
+
+        @Test
+        @DisplayName("email/name 헤더가 없으면 실패한다")
+        void requires_header() throws IOException {
+            // Given
+            var input = write("members.csv", "mail,fullname", "a@travel.com,에이");
+
+            // When / Then
+            assertThrows(IllegalStateException.class,
+                    () -> new MemberImportPipeline(new InMemoryMemberRepository(), 10, 2).run(input, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("한 줄에 객체 하나 - 이스케이프와 null 값을 처리한다")
+        void imports_ndjson() throws IOException {
+            // Given
+            var repository = new InMemoryMemberRepository();
+            var input = write("members.ndjson",
+                    "{\"email\":\"a@travel.com\",\"name\":\"\\\"에이\\\" \\uD55C\",\"phone\":null}",
+                    "",
+                    "{\"email\":\"b@travel.com\",\"name\":\"비\",\"tags\":[1]}",
+                    "{\"email\":\"c@travel.com\"}");
+
+            // When
+            var report = new MemberImportPipeline(repository, 10, 2).run(input, null);
+
+            // Then
+            assertEquals(3, report.rowsRead());
+            assertEquals(1, report.imported());
+            assertEquals("\"에이\" 한", repository.byEmail.get("a@travel.com").name());
+            assertEquals(1L, report.rejected().get(RejectReason.PARSE_ERROR));
+            assertEquals(1L, report.rejected().get(RejectReason.INVALID));
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 / 실패 처리")
+    class Volume {
+
+        @Test
+        @DisplayName("큐 용량보다 훨씬 많은 배치도 모두 저장하고 배치 크기를 지킨다")
+        void many_batches() throws IOException {
+            // Given
+            var repository = new InMemoryMemberRepository();
+            List<String> lines = new ArrayList<>();
+            lines.add("email,name");
+            for (int i = 0; i < 10_000; i++) {
+                lines.add("user" + i + "@travel.com,회원" + i);
+            }
+            var input = Files.write(dir.resolve("bulk.csv"), lines);
+
+            // When
+            var report = new MemberImportPipeline(repository, 256, 2).run(input, null);
+
+            // Then
+            assertEquals(10_000, report.imported());
+            assertEquals(10_000, repository.byEmail.size());
+            assertTrue(repository.batchSizes.stream().allMatch(size -> size <= 256));
+        }
+
+        @Test
+        @DisplayName("저장 단계가 실패하면 막힌 단계까지 멈추고 원인 예외를 알린다")
+        void writer_failure_stops_pipeline() throws IOException {
+            // Given
+            var repository = new InMemoryMemberRepository() {
+                @Override public List<Member> saveAll(List<Member> members) {
+                    throw new IllegalArgumentException("DB 연결 끊김");
+                }
+            };
+            List<String> lines = new ArrayList<>();
+            lines.add("email,name");
+            for (int i = 0; i < 5_000; i++) {
+                lines.add("user" + i + "@travel.com,회원" + i);
+            }
+            var input = Files.write(dir.resolve("bulk.csv"), lines);
+
+            // When
+            var e = assertThrows(IllegalStateException.class,
+                    () -> new MemberImportPipeline(repository, 10, 1).run(input, null));
+
+            // Then
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+    }
+}
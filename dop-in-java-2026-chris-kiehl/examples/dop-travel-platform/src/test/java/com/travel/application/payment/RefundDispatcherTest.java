@@ -0,0 +1,279 @@
+package com.travel.application.payment;
+
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.payment.IdempotencyKey;
+import com.travel.domain.payment.Payment;
+import com.travel.domain.payment.PaymentError;
+import com.travel.domain.payment.PaymentGateway;
+import com.travel.domain.payment.PaymentId;
+import com.travel.domain.payment.RefundRequest;
+import com.travel.domain.payment.RefundRequestRepository;
+import com.travel.shared.Result;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RefundDispatcher 테스트 - 메모리 outbox + 가짜 PG로 동시성 상한/재시도 검사
+ */
+@DisplayName("RefundDispatcher - 환불 outbox 전송")
+class RefundDispatcherTest {
+
+    /** 전송 스레드가 동시에 update하므로 스레드 안전한 정렬 맵 - failingUpdates의 예약은 update에서 예외 */
+    static final class InMemoryRefundRequestRepository implements RefundRequestRepository {
+        final Map<String, RefundRequest> requests = new ConcurrentSkipListMap<>();
+        final Set<BookingId> failingUpdates = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void saveAll(List<RefundRequest> batch) {
+            batch.forEach(request -> requests.put(request.bookingId().value().toString(), request));
+        }
+
+        @Override
+        public RefundRequest update(RefundRequest request) {
+            if (failingUpdates.contains(request.bookingId())) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            requests.put(request.bookingId().value().toString(), request);
+            return request;
+        }
+
+        @Override
+        public List<RefundRequest> findPending(BookingId after, int limit) {
+            String afterKey = after == null ? "" : after.value().toString();
+            return requests.entrySet().stream()
+                    .filter(e -> e.getKey().compareTo(afterKey) > 0 && e.getValue().isPending())
+                    .limit(limit)
+                    .map(Map.Entry::getValue)
+                    .toList();
+        }
+
+        RefundRequest get(BookingId id) {
+            return requests.get(id.value().toString());
+        }
+    }
+
+    /**
+     * 가짜 PG - 동시 호출 수 최대값, 멱등성 키 기록, 지정한 결제 ID는 실패
+     *
+     * <p>처음 gate개 호출은 gate개가 모두 들어올 때까지 대기 → 상한만큼 동시에 열리는지 결정적으로 확인</p>
+     */
+    static final class FakeGateway implements PaymentGateway {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+        final Set<String> failing = ConcurrentHashMap.newKeySet();
+        final Set<String> throwing = ConcurrentHashMap.newKeySet();
+        final CountDownLatch gate;
+
+        FakeGateway(int gate) {
+            this.gate = new CountDownLatch(gate);
+        }
+
+        @Override
+        public Result<RefundResult, PaymentError> refund(PaymentId paymentId, Money refundAmount, IdempotencyKey idempotencyKey) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                gate.countDown();
+                gate.await(2, TimeUnit.SECONDS);
+                idempotencyKeys.add(idempotencyKey.key());
+                String id = paymentId.value().toString();
+                if (throwing.contains(id)) {
+                    throw new IllegalStateException("연결 끊김");
+                }
+                if (failing.contains(id)) {
+                    return Result.failure(new PaymentError.GatewayError("fake", "503", "일시 장애"));
+                }
+                return Result.success(new RefundResult("RF-" + id, refundAmount, Instant.now()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Result<PaymentResult, PaymentError> charge(Payment payment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Result<CancelResult, PaymentError> cancel(PaymentId paymentId, String reason) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Result<PaymentStatusResult, PaymentError> getStatus(PaymentId paymentId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final InMemoryRefundRequestRepository repository = new InMemoryRefundRequestRepository();
+
+    private List<RefundRequest> seed(int count) {
+        List<RefundRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(RefundRequest.pending(BookingId.generate(), UUID.randomUUID().toString(),
+                    Money.krw(10_000), Instant.now()));
+        }
+        repository.saveAll(requests);
+        return requests;
+    }
+
+    private RefundDispatcher dispatcher(FakeGateway gateway, int maxConcurrency, int maxAttempts, int pageSize) {
+        return new RefundDispatcher(repository, Optional.ofNullable(gateway), maxConcurrency, maxAttempts, pageSize);
+    }
+
+    @Nested
+    @DisplayName("동시성 상한")
+    class BoundedConcurrency {
+
+        @Test
+        @DisplayName("동시에 열린 PG 호출은 max-concurrency를 넘지 않음")
+        void never_exceeds_max_concurrency() {
+            // Given - 30건, 동시 3개, 페이지 7건
+            seed(30);
+            var gateway = new FakeGateway(3);
+
+            // When
+            var report = dispatcher(gateway, 3, 5, 7).dispatchPending();
+
+            // Then
+            assertEquals(3, gateway.maxInFlight.get());
+            assertEquals(30, report.completed());
+            assertEquals(30, report.total());
+        }
+
+        @Test
+        @DisplayName("여러 페이지를 끝까지 읽고, 멱등성 키는 refund-예약 ID")
+        void pages_through_all_pending() {
+            List<RefundRequest> requests = seed(10);
+            var gateway = new FakeGateway(1);
+
+            var report = dispatcher(gateway, 2, 5, 4).dispatchPending();
+
+            assertEquals(10, report.completed());
+            for (RefundRequest request : requests) {
+                RefundRequest stored = repository.get(request.bookingId());
+                assertEquals(RefundRequest.Status.COMPLETED, stored.status());
+                assertEquals("RF-" + request.paymentId(), stored.refundId());
+            }
+            assertEquals(Set.copyOf(requests.stream().map(r -> "refund-" + r.bookingId().value()).toList()),
+                    Set.copyOf(gateway.idempotencyKeys));
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도")
+    class Retry {
+
+        @Test
+        @DisplayName("실패한 요청은 PENDING으로 남아 다음 호출에서 다시 전송")
+        void failed_stays_pending_and_is_retried() {
+            // Given
+            RefundRequest flaky = seed(3).getFirst();
+            var gateway = new FakeGateway(1);
+            gateway.failing.add(flaky.paymentId());
+            var dispatcher = dispatcher(gateway, 2, 5, 10);
+
+            // When - 1회차: 실패
+            var first = dispatcher.dispatchPending();
+
+            // Then
+            assertEquals(new RefundDispatcher.Report(2, 1, 0), first);
+            RefundRequest afterFirst = repository.get(flaky.bookingId());
+            assertEquals(RefundRequest.Status.PENDING, afterFirst.status());
+            assertEquals(1, afterFirst.attempts());
+            assertTrue(afterFirst.lastError().startsWith("GATEWAY_ERROR"));
+
+            // When - 2회차: PG 복구, 남은 1건만 전송
+            gateway.failing.clear();
+            var second = dispatcher.dispatchPending();
+
+            // Then
+            assertEquals(new RefundDispatcher.Report(1, 0, 0), second);
+            assertEquals(RefundRequest.Status.COMPLETED, repository.get(flaky.bookingId()).status());
+            assertEquals(4, gateway.idempotencyKeys.size());
+        }
+
+        @Test
+        @DisplayName("max-attempts에 도달하면 FAILED - 이후 호출에서 보내지 않음")
+        void gives_up_after_max_attempts() {
+            RefundRequest broken = seed(1).getFirst();
+            var gateway = new FakeGateway(1);
+            gateway.failing.add(broken.paymentId());
+            var dispatcher = dispatcher(gateway, 2, 2, 10);
+
+            assertEquals(new RefundDispatcher.Report(0, 1, 0), dispatcher.dispatchPending());
+            assertEquals(new RefundDispatcher.Report(0, 0, 1), dispatcher.dispatchPending());
+            assertEquals(new RefundDispatcher.Report(0, 0, 0), dispatcher.dispatchPending());
+            assertEquals(RefundRequest.Status.FAILED, repository.get(broken.bookingId()).status());
+            assertEquals(2, gateway.idempotencyKeys.size());
+        }
+
+        @Test
+        @DisplayName("PG 클라이언트 예외도 실패로 기록 - 다른 요청은 계속 전송")
+        void exception_is_recorded_as_failure() {
+            List<RefundRequest> requests = seed(3);
+            var gateway = new FakeGateway(1);
+            gateway.throwing.add(requests.get(1).paymentId());
+
+            var report = dispatcher(gateway, 2, 5, 10).dispatchPending();
+
+            assertEquals(new RefundDispatcher.Report(2, 1, 0), report);
+            assertTrue(repository.get(requests.get(1).bookingId()).lastError().startsWith("IllegalStateException"));
+        }
+
+        @Test
+        @DisplayName("결과 저장이 실패하면 retrying으로 집계 - PENDING으로 남아 같은 멱등성 키로 재전송")
+        void update_failure_is_counted_as_retrying() {
+            // Given
+            List<RefundRequest> requests = seed(3);
+            RefundRequest unsaved = requests.get(2);
+            repository.failingUpdates.add(unsaved.bookingId());
+            var gateway = new FakeGateway(1);
+            var dispatcher = dispatcher(gateway, 2, 5, 10);
+
+            // When
+            var first = dispatcher.dispatchPending();
+            repository.failingUpdates.clear();
+            var second = dispatcher.dispatchPending();
+
+            // Then
+            assertEquals(new RefundDispatcher.Report(2, 1, 0), first);
+            assertEquals(new RefundDispatcher.Report(1, 0, 0), second);
+            assertEquals(RefundRequest.Status.COMPLETED, repository.get(unsaved.bookingId()).status());
+            String key = "refund-" + unsaved.bookingId().value();
+            assertEquals(2, gateway.idempotencyKeys.stream().filter(key::equals).count());
+        }
+    }
+
+    @Test
+    @DisplayName("PaymentGateway가 없으면 아무것도 보내지 않음")
+    void no_gateway_leaves_outbox_untouched() {
+        List<RefundRequest> requests = seed(2);
+
+        var report = dispatcher(null, 2, 5, 10).dispatchPending();
+
+        assertEquals(0, report.total());
+        requests.forEach(request -> assertEquals(request, repository.get(request.bookingId())));
+    }
+}
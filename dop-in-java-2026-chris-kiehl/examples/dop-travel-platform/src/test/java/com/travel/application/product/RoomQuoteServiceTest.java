@@ -0,0 +1,211 @@
+package com.travel.application.product;
+
+import com.travel.domain.product.CatalogueChange;
+import com.travel.domain.product.ProductCatalogue;
+import com.travel.domain.product.ProductCatalogueSource;
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomPricesChanged;
+import com.travel.domain.product.accommodation.RoomType;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoomQuoteService 테스트 - RoomPricesChanged 전후 견적
+ */
+@DisplayName("RoomQuoteService - 객실 견적과 요금 변경")
+class RoomQuoteServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(10);
+    private static final DateRange TWO_NIGHTS = new DateRange(CHECK_IN, CHECK_IN.plusDays(2));
+
+    /** product_catalogue처럼 상품당 마지막 변경 한 건만 보관하는 카탈로그 출처 */
+    static final class InMemorySource implements ProductCatalogueSource {
+        final Map<String, CatalogueChange> rows = new HashMap<>();
+        long lastIssued;
+
+        void upsert(Room room) {
+            commit(new CatalogueChange.RoomUpserted(issue(), room));
+        }
+
+        void remove(String productId) {
+            commit(new CatalogueChange.Removed(issue(), productId));
+        }
+
+        /** 번호만 먼저 받음 - 커밋은 나중에 */
+        long issue() {
+            return ++lastIssued;
+        }
+
+        void commit(CatalogueChange change) {
+            rows.put(change.productId(), change);
+        }
+
+        @Override
+        public long latestVersion() {
+            return rows.values().stream().mapToLong(CatalogueChange::version).max().orElse(0);
+        }
+
+        @Override
+        public List<CatalogueChange> changesSince(long version) {
+            return rows.values().stream()
+                    .filter(change -> change.version() > version)
+                    .sorted(Comparator.comparingLong(CatalogueChange::version))
+                    .toList();
+        }
+
+        @Override
+        public String description() {
+            return "memory";
+        }
+    }
+
+    private static Room room(String id, String hotelId, long rate) {
+        return new Room(id, hotelId, "서울 호텔", new RoomType.Deluxe(), Money.krw(rate), 2, List.of(), "디럭스 객실");
+    }
+
+    private final RoomQuoteService quotes = new RoomQuoteService(1_000, 30, "Asia/Seoul");
+
+    @Test
+    @DisplayName("RoomPricesChanged 전에는 견적 없음, 후에는 새 요금 - 캐시된 이전 견적은 무효")
+    void quote_changes_after_event() {
+        // Given
+        assertEquals(Optional.empty(), quotes.quote("R1", TWO_NIGHTS));
+        quotes.on(new RoomPricesChanged("H1", List.of(room("R1", "H1", 100_000)), List.of()));
+        assertEquals(Optional.of(Money.krw(200_000)), quotes.quote("R1", TWO_NIGHTS));
+        assertEquals(1, quotes.cachedQuotes());
+
+        // When
+        quotes.on(new RoomPricesChanged("H1", List.of(room("R1", "H1", 150_000)), List.of()));
+
+        // Then
+        assertEquals(Optional.of(Money.krw(300_000)), quotes.quote("R1", TWO_NIGHTS));
+    }
+
+    @Nested
+    @DisplayName("ProductCatalogueService가 발행")
+    class FromCatalogue {
+
+        private final InMemorySource source = new InMemorySource();
+        private final List<RoomPricesChanged> published = new ArrayList<>();
+        private ProductCatalogueService catalogue;
+
+        private ProductCatalogueService start() {
+            catalogue = new ProductCatalogueService(source, event -> {
+                if (event instanceof RoomPricesChanged changed) {
+                    published.add(changed);
+                    quotes.on(changed);
+                }
+            }, new SimpleMeterRegistry(), Duration.ZERO, 10);
+            return catalogue;
+        }
+
+        @AfterEach
+        void close() {
+            catalogue.close();
+        }
+
+        @Test
+        @DisplayName("기동 완료 시 모든 숙소 발행 - 생성자 적재는 발행하지 않음")
+        void publishes_all_hotels_on_context_refresh() {
+            source.upsert(room("R1", "H1", 100_000));
+            source.upsert(room("R2", "H2", 80_000));
+
+            var service = start();
+            assertTrue(published.isEmpty());
+            service.publishAllRoomPrices();
+
+            assertEquals(2, published.size());
+            assertEquals(Optional.of(Money.krw(200_000)), quotes.quote("R1", TWO_NIGHTS));
+            assertEquals(Optional.of(Money.krw(160_000)), quotes.quote("R2", TWO_NIGHTS));
+        }
+
+        @Test
+        @DisplayName("요금 수정 후 refresh → 바뀐 숙소만 발행, 견적이 새 요금으로")
+        void refresh_updates_quote() {
+            // Given
+            source.upsert(room("R1", "H1", 100_000));
+            source.upsert(room("R2", "H2", 80_000));
+            var service = start();
+            service.publishAllRoomPrices();
+            assertEquals(Optional.of(Money.krw(200_000)), quotes.quote("R1", TWO_NIGHTS));
+            published.clear();
+
+            // When
+            source.upsert(room("R1", "H1", 120_000));
+            service.refresh();
+
+            // Then
+            assertEquals(List.of("H1"), published.stream().map(RoomPricesChanged::hotelId).toList());
+            assertEquals(Optional.of(Money.krw(240_000)), quotes.quote("R1", TWO_NIGHTS));
+            assertEquals(Optional.of(Money.krw(160_000)), quotes.quote("R2", TWO_NIGHTS));
+        }
+
+        @Test
+        @DisplayName("객실 삭제 → 숙소의 남은 객실로 발행, 삭제된 객실은 견적 없음")
+        void removal_stops_quotes() {
+            source.upsert(room("R1", "H1", 100_000));
+            source.upsert(room("R2", "H1", 90_000));
+            var service = start();
+            service.publishAllRoomPrices();
+
+            source.remove("R1");
+            service.refresh();
+
+            assertEquals(List.of("R2"), published.getLast().rooms().stream().map(Room::id).toList());
+            assertEquals(Optional.empty(), quotes.quote("R1", TWO_NIGHTS));
+            assertEquals(Map.of("R2", Money.krw(180_000)), quotes.quoteHotel("H1", TWO_NIGHTS));
+        }
+
+        @Test
+        @DisplayName("변경이 없으면 발행하지 않음 - lag window로 다시 읽은 행도 이미 반영된 것이면 무시")
+        void no_change_no_event() {
+            source.upsert(room("R1", "H1", 100_000));
+            var service = start();
+            ProductCatalogue before = service.current();
+
+            service.refresh();
+
+            assertTrue(published.isEmpty());
+            assertSame(before, service.current());
+        }
+
+        @Test
+        @DisplayName("낮은 번호가 늦게 커밋돼도 lag window 안이면 다음 refresh에 반영")
+        void late_commit_within_lag_window() {
+            // Given - 번호 2를 받은 쓰기가 끝나기 전에 번호 3이 커밋되고 스냅샷이 v3까지 읽음
+            source.upsert(room("R1", "H1", 100_000));
+            var service = start();
+            long slow = source.issue();
+            source.upsert(room("R3", "H2", 80_000));
+            service.refresh();
+            assertEquals(3, service.current().version());
+            assertTrue(service.room("R2").isEmpty());
+            published.clear();
+
+            // When
+            source.commit(new CatalogueChange.RoomUpserted(slow, room("R2", "H1", 90_000)));
+            service.refresh();
+
+            // Then
+            assertEquals(3, service.current().version());
+            assertEquals(Money.krw(90_000), service.room("R2").orElseThrow().nightlyRate());
+            assertEquals(List.of("H1"), published.stream().map(RoomPricesChanged::hotelId).toList());
+        }
+    }
+}
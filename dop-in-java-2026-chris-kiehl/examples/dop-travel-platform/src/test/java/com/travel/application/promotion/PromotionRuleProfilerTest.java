@@ -0,0 +1,137 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.domain.membership.MembershipTier;
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleEngine.PromotionContext;
+import com.travel.domain.promotion.PromotionRuleSet;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Email;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PromotionRuleProfiler / PromotionRuleProfile 단위 테스트
+ */
+@DisplayName("PromotionRuleProfiler - 규칙 노드별 계측")
+class PromotionRuleProfilerTest {
+
+    private static PromotionRuleSet rules(long version, String... lines) {
+        List<PromotionRuleDefinition> definitions = new ArrayList<>();
+        for (String line : lines) {
+            String[] parts = line.split("=", 2);
+            definitions.add(new PromotionRuleDefinition(parts[0].strip(), parts[1].strip()));
+        }
+        return PromotionRuleSet.compile(version, definitions, "test", Instant.now()).getOrThrow();
+    }
+
+    private static PromotionContext context(MembershipTier tier, long amount) {
+        var member = new Member(MemberId.generate(), Email.unverified("test@example.com"), "테스트",
+                "010-1234-5678", tier, Money.krw(1_000_000), 10, Instant.now(), Instant.now());
+        var item = new BookingItem.Accommodation("ROOM-001", "호텔", "디럭스",
+                new DateRange(LocalDate.now().plusDays(7), LocalDate.now().plusDays(9)), Money.krw(amount), 2);
+        return new PromotionContext(member, Booking.create(member.id(), List.of(item)), LocalDate.now(), false);
+    }
+
+    /**
+     * 통지를 기록하는 Listener
+     */
+    static class RecordingListener implements PromotionRuleProfiler.Listener {
+        final List<String> events = new ArrayList<>();
+
+        @Override public void added(String promotionId, PromotionRuleProfile profile) {
+            events.add("+" + promotionId);
+        }
+        @Override public void removed(String promotionId, PromotionRuleProfile profile) {
+            events.add("-" + promotionId);
+        }
+    }
+
+    @Nested
+    @DisplayName("계측 평가")
+    class Evaluate {
+
+        @Test
+        @DisplayName("결과는 계측 없는 평가와 같고, 단락 평가로 건너뛴 노드는 횟수가 늘지 않는다")
+        void counts_per_node() {
+            // Given
+            var set = rules(1, "VIP = and(membership(GOLD), min_amount(300000 KRW))", "ALL = always");
+            var profiler = new PromotionRuleProfiler(1, PromotionRuleProfiler.Listener.NONE);
+            var gold = context(MembershipTier.GOLD, 500_000);
+            var silver = context(MembershipTier.SILVER, 500_000);
+
+            // When
+            List<String> goldResult = profiler.eligiblePromotions(set, gold);
+            List<String> silverResult = profiler.eligiblePromotions(set, silver);
+
+            // Then
+            assertEquals(set.eligiblePromotions(gold), goldResult);
+            assertEquals(set.eligiblePromotions(silver), silverResult);
+            assertEquals(List.of("VIP", "ALL"), goldResult);
+
+            var vip = profiler.stats().get("VIP");
+            assertEquals(List.of("0", "0.0", "0.1"), vip.stream().map(PromotionRuleProfile.NodeStats::path).toList());
+            assertEquals("min_amount(300000 KRW)", vip.get(2).rule());
+            assertEquals(2, vip.get(0).evaluations());
+            assertEquals(1, vip.get(0).passes());
+            assertEquals(2, vip.get(1).evaluations());
+            assertEquals(1, vip.get(2).evaluations());
+            assertTrue(vip.get(0).totalNanos() >= vip.get(1).totalNanos());
+        }
+
+        @Test
+        @DisplayName("샘플링 비율만큼 계측 횟수가 줄어도 결과는 같다")
+        void sampling() {
+            // Given
+            var set = rules(1, "VIP = membership(GOLD)");
+            var profiler = new PromotionRuleProfiler(10, PromotionRuleProfiler.Listener.NONE);
+            var gold = context(MembershipTier.GOLD, 100_000);
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(List.of("VIP"), profiler.eligiblePromotions(set, gold));
+            }
+
+            // Then: 기댓값 1000
+            long sampled = profiler.stats().get("VIP").getFirst().evaluations();
+            assertTrue(sampled > 700 && sampled < 1_300, "sampled=" + sampled);
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 교체")
+    class Snapshots {
+
+        @Test
+        @DisplayName("같은 규칙은 카운터를 이어가고, 바뀐 규칙은 새로 시작하며, 사라진 규칙은 제거를 통지한다")
+        void sync_on_new_snapshot() {
+            // Given
+            var listener = new RecordingListener();
+            var profiler = new PromotionRuleProfiler(1, listener);
+            var gold = context(MembershipTier.GOLD, 100_000);
+            profiler.eligiblePromotions(rules(1, "A = always", "B = first_booking", "C = never"), gold);
+
+            // When
+            profiler.eligiblePromotions(rules(2, "A = always", "B = item_count(1)", "D = never"), gold);
+
+            // Then
+            assertEquals(List.of("+A", "+B", "+C", "-B", "+B", "+D", "-C"), listener.events);
+            var stats = profiler.stats();
+            assertEquals(List.of("A", "B", "D"), List.copyOf(stats.keySet()));
+            assertEquals(2, stats.get("A").getFirst().evaluations());
+            assertEquals(1, stats.get("B").getFirst().evaluations());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.travel.application.promotion;
+
+import com.travel.domain.promotion.PromotionRuleDefinition;
+import com.travel.domain.promotion.PromotionRuleSet;
+import com.travel.domain.promotion.PromotionRuleSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PromotionRuleRegistry 단위 테스트 (메모리 출처)
+ */
+@DisplayName("PromotionRuleRegistry - 규칙 스냅샷 배포/롤백")
+class PromotionRuleRegistryTest {
+
+    /**
+     * 테스트가 내용을 바꾸는 출처
+     */
+    static class MutableSource implements PromotionRuleSource {
+        volatile List<PromotionRuleDefinition> definitions;
+        volatile RuntimeException failure;
+
+        MutableSource(String... lines) {
+            set(lines);
+        }
+
+        void set(String... lines) {
+            List<PromotionRuleDefinition> parsed = new ArrayList<>();
+            for (String line : lines) {
+                String[] parts = line.split("=", 2);
+                parsed.add(new PromotionRuleDefinition(parts[0].strip(), parts[1].strip()));
+            }
+            definitions = parsed;
+        }
+
+        @Override public List<PromotionRuleDefinition> load() {
+            if (failure != null) throw failure;
+            return definitions;
+        }
+        @Override public String description() { return "memory"; }
+    }
+
+    @Nested
+    @DisplayName("배포")
+    class Reload {
+
+        @Test
+        @DisplayName("생성 시 v1을 배포하고, 규칙이 바뀌면 새 버전을 배포한다")
+        void publishes_new_versions() {
+            // Given
+            var source = new MutableSource("A = membership(GOLD)");
+            var registry = new PromotionRuleRegistry(source, 10);
+            PromotionRuleSet v1 = registry.current();
+
+            // When
+            source.set("A = membership(GOLD)", "B = first_booking");
+            var result = registry.reload();
+
+            // Then
+            assertEquals(1, v1.version());
+            assertEquals(2, result.getOrThrow().version());
+            assertSame(result.getOrThrow(), registry.current());
+            assertEquals(1, v1.rules().size());
+        }
+
+        @Test
+        @DisplayName("규칙이 같으면 버전을 올리지 않는다")
+        void same_rules_keep_version() {
+            var registry = new PromotionRuleRegistry(new MutableSource("A = always"), 10);
+
+            assertSame(registry.current(), registry.reload().getOrThrow());
+            assertEquals(List.of(1L), registry.retainedVersions());
+        }
+
+        @Test
+        @DisplayName("검증 실패나 출처 오류면 이전 스냅샷을 유지하고 오류를 돌려준다")
+        void invalid_keeps_current() {
+            // Given
+            var source = new MutableSource("A = always");
+            var registry = new PromotionRuleRegistry(source, 10);
+            PromotionRuleSet before = registry.current();
+
+            // When
+            source.set("A = always", "B = membership(VIP)");
+            var invalid = registry.reload();
+            source.failure = new IllegalStateException("파일 없음");
+            var unreadable = registry.reload();
+
+            // Then
+            assertTrue(invalid.isFailure());
+            assertTrue(invalid.errorOrNull().getFirst().startsWith("[B]"));
+            assertTrue(unreadable.errorOrNull().getFirst().contains("파일 없음"));
+            assertSame(before, registry.current());
+        }
+
+        @Test
+        @DisplayName("첫 로드가 실패하면 생성 실패")
+        void initial_failure() {
+            assertThrows(RuntimeException.class,
+                    () -> new PromotionRuleRegistry(new MutableSource("A = nope"), 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("롤백")
+    class Rollback {
+
+        @Test
+        @DisplayName("직전 버전으로 롤백하고, 다음 배포는 최대 버전 + 1")
+        void rollback_then_reload() {
+            // Given: v1, v2, v3
+            var source = new MutableSource("A = always");
+            var registry = new PromotionRuleRegistry(source, 10);
+            PromotionRuleSet v1 = registry.current();
+            source.set("A = never");
+            PromotionRuleSet v2 = registry.reload().getOrThrow();
+            source.set("A = first_booking");
+            registry.reload();
+
+            // When / Then
+            assertSame(v2, registry.rollback().getOrThrow());
+            assertSame(v1, registry.rollback().getOrThrow());
+            assertTrue(registry.rollback().isFailure());
+            assertEquals(3, registry.rollbackTo(3).getOrThrow().version());
+
+            source.set("A = item_count(3)");
+            assertEquals(4, registry.reload().getOrThrow().version());
+        }
+
+        @Test
+        @DisplayName("보관 개수를 넘으면 새 배포 때 가장 오래된 버전부터 버린다")
+        void history_is_bounded() {
+            // Given
+            var source = new MutableSource("A = item_count(1)");
+            var registry = new PromotionRuleRegistry(source, 3);
+            for (int i = 2; i <= 4; i++) {
+                source.set("A = item_count(" + i + ")");
+                registry.reload();
+            }
+
+            // When: v2로 롤백 후 새 배포
+            registry.rollbackTo(2).getOrThrow();
+            source.set("A = item_count(5)");
+            registry.reload();
+
+            // Then
+            assertEquals(List.of(3L, 4L, 5L), registry.retainedVersions());
+            assertTrue(registry.rollbackTo(2).isFailure());
+            assertEquals(4, registry.rollback().getOrThrow().version());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 읽기")
+    class ConcurrentReaders {
+
+        @Test
+        @DisplayName("배포 중에도 읽는 쪽은 항상 완전한 스냅샷을 본다")
+        void readers_see_whole_snapshots() throws InterruptedException {
+            // Given: 버전 n의 규칙 = A, B 모두 item_count(n)
+            var source = new MutableSource("A = item_count(1)", "B = item_count(1)");
+            var registry = new PromotionRuleRegistry(source, 5);
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicReference<String> torn = new AtomicReference<>();
+            Thread reader = Thread.ofPlatform().start(() -> {
+                while (!done.get()) {
+                    PromotionRuleSet set = registry.current();
+                    if (!set.rule("A").equals(set.rule("B"))) {
+                        torn.set("v" + set.version());
+                    }
+                }
+            });
+
+            // When
+            for (int n = 2; n <= 200; n++) {
+                source.set("A = item_count(" + n + ")", "B = item_count(" + n + ")");
+                registry.reload();
+            }
+            done.set(true);
+            reader.join();
+
+            // Then
+            assertNull(torn.get());
+            assertEquals(200, registry.current().version());
+        }
+    }
+}
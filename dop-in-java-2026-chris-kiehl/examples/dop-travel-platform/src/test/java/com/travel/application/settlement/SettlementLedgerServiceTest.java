@@ -0,0 +1,348 @@
+package com.travel.application.settlement;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.domain.settlement.ledger.Ledger;
+import com.travel.domain.settlement.ledger.LedgerAccount;
+import com.travel.domain.settlement.ledger.LedgerBalance;
+import com.travel.domain.settlement.ledger.LedgerEntry;
+import com.travel.domain.settlement.ledger.LedgerRepository;
+import com.travel.domain.settlement.ledger.LedgerTransaction;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SettlementLedgerService 테스트 - 지연 열기, 멱등 기록, 체크포인트, 시점 잔액, 재기동, 검증
+ */
+@DisplayName("SettlementLedgerService - 정산 원장 기록/조회")
+class SettlementLedgerServiceTest {
+
+    private static final LedgerAccount CASH = new LedgerAccount.Cash();
+    private static final Instant START = Instant.parse("2026-09-01T00:00:00Z");
+
+    private final InMemoryLedgerRepository repository = new InMemoryLedgerRepository();
+    private final TickingClock clock = new TickingClock(START);
+
+    private static LedgerAccount partner(String partnerId) {
+        return new LedgerAccount.PartnerPayable(partnerId);
+    }
+
+    private SettlementLedgerService service(int checkpointInterval) {
+        return new SettlementLedgerService(repository, checkpointInterval, clock);
+    }
+
+    @Test
+    @DisplayName("생성자는 저장소를 읽지 않음 - 첫 호출 때 열기")
+    void opens_lazily() {
+        // Given
+        var service = service(100);
+
+        // Then
+        assertEquals(0, repository.reads);
+
+        // When
+        service.partnerPayable("H1", Currency.KRW);
+
+        // Then
+        assertTrue(repository.reads > 0);
+    }
+
+    @Test
+    @DisplayName("체크포인트 간격이 1 미만이면 생성 실패")
+    void rejects_invalid_checkpoint_interval() {
+        assertThrows(IllegalArgumentException.class, () -> service(0));
+    }
+
+    @Nested
+    @DisplayName("기록")
+    class Recording {
+
+        @Test
+        @DisplayName("같은 거래 ID는 한 번만 기록")
+        void idempotent_by_transaction_id() {
+            var service = service(100);
+
+            List<LedgerEntry> first = service.recordRefund("R-1", "H1", Money.krw(5_000));
+            List<LedgerEntry> again = service.recordRefund("R-1", "H1", Money.krw(5_000));
+
+            assertEquals(2, first.size());
+            assertTrue(again.isEmpty());
+            assertEquals(5_000, service.partnerPayable("H1", Currency.KRW).debits());
+        }
+
+        @Test
+        @DisplayName("수수료 0원/실지급 0원 정산은 분개 없음, 미지급 정산의 지급 기록은 거부")
+        void skips_zero_amounts() {
+            var service = service(100);
+            var item = new Settlement.SettlementItem("B-1", "서울 호텔", Money.krw(100_000), START);
+            Settlement noFee = Settlement.create("H1", LocalDate.of(2026, 9, 30), List.of(item), 0);
+
+            assertTrue(service.recordCommission(noFee).isEmpty());
+            assertThrows(IllegalStateException.class, () -> service.recordPayout(noFee));
+            assertEquals(0, service.lastSequence());
+        }
+
+        @Test
+        @DisplayName("체크포인트에는 바뀐 계정만 기록")
+        void checkpoint_writes_changed_accounts_only() {
+            // Given - H1 거래 후 체크포인트, 그 다음 H2 거래만
+            var service = service(1_000);
+            service.recordBookingRevenue("B-1", "H1", Money.krw(10_000));
+            service.checkpoint();
+            service.recordBookingRevenue("B-2", "H2", Money.krw(20_000));
+
+            // When
+            service.checkpoint();
+
+            // Then - 두 번째 체크포인트는 Cash, H2만
+            assertEquals(Set.of(CASH, partner("H2")), repository.checkpointAccounts(service.lastSequence()));
+            assertEquals(-10_000, service.balanceAt(partner("H1"), Currency.KRW, service.lastSequence() - 1).net());
+        }
+
+        @Test
+        @DisplayName("checkpointInterval개를 넘으면 자동 체크포인트")
+        void checkpoints_every_interval() {
+            var service = service(4);
+
+            postRandomEvents(service, 5);
+
+            assertEquals(List.of(4L, 8L), List.copyOf(repository.checkpoints.keySet()));
+        }
+    }
+
+    @Nested
+    @DisplayName("과거 시점 잔액")
+    class PointInTime {
+
+        @Test
+        @DisplayName("모든 일련번호에서 체크포인트 + 재생 = 처음부터 재생")
+        void every_sequence_matches_full_replay() {
+            // Given - 체크포인트 간격 7, 파트너 5곳에 무작위 사건 200건
+            var service = service(7);
+            postRandomEvents(service, 200);
+
+            // When / Then
+            for (long sequence = 0; sequence <= service.lastSequence(); sequence++) {
+                long upTo = sequence;
+                Ledger.Checkpoint expected = Ledger.replay(Ledger.Checkpoint.empty(),
+                        repository.entries.stream().filter(entry -> entry.sequence() <= upTo).toList());
+                for (int p = 0; p < 5; p++) {
+                    LedgerAccount account = partner("H" + p);
+                    assertEquals(expected.balance(account, Currency.KRW),
+                            service.balanceAt(account, Currency.KRW, sequence), "#" + sequence + " " + account.key());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("시각 기준 조회 - 그 시각까지 기록된 분개만")
+        void balance_at_instant() {
+            // Given - 거래마다 시계 1분 진행
+            var service = service(2);
+            for (int i = 1; i <= 5; i++) {
+                service.recordBookingRevenue("B-" + i, "H1", Money.krw(10_000));
+            }
+
+            // When
+            LedgerBalance atThird = service.partnerPayableAt("H1", Currency.KRW, START.plus(Duration.ofMinutes(2)));
+            LedgerBalance beforeAll = service.partnerPayableAt("H1", Currency.KRW, START.minusSeconds(1));
+
+            // Then
+            assertEquals(-30_000, atThird.net());
+            assertEquals(0, beforeAll.net());
+        }
+    }
+
+    @Nested
+    @DisplayName("재기동과 검증")
+    class Recovery {
+
+        @Test
+        @DisplayName("다시 열면 마지막 체크포인트 + 이후 분개로 같은 잔액")
+        void reopen_restores_balances() {
+            // Given
+            var service = service(10);
+            postRandomEvents(service, 55);
+
+            // When
+            var reopened = service(10);
+
+            // Then
+            for (int p = 0; p < 5; p++) {
+                assertEquals(service.partnerPayable("H" + p, Currency.KRW), reopened.partnerPayable("H" + p, Currency.KRW));
+            }
+            assertEquals(service.balance(CASH, Currency.KRW), reopened.balance(CASH, Currency.KRW));
+            assertEquals(service.lastSequence(), reopened.lastSequence());
+            assertTrue(reopened.verify().isBalanced());
+        }
+
+        @Test
+        @DisplayName("close는 남은 분개를 체크포인트로 - 열지 않은 서비스는 아무것도 쓰지 않음")
+        void close_checkpoints_remaining_entries() {
+            var service = service(100);
+            service.recordBookingRevenue("B-1", "H1", Money.krw(10_000));
+
+            service.close();
+            service(100).close();
+
+            assertEquals(List.of(2L), List.copyOf(repository.checkpoints.keySet()));
+        }
+
+        @Test
+        @DisplayName("검증 - 저장소에 직접 넣은 한쪽 분개를 찾아냄")
+        void verify_detects_one_sided_entry() {
+            // Given
+            var service = service(7);
+            postRandomEvents(service, 20);
+            repository.append(List.of(new LedgerEntry(service.lastSequence() + 1, "forged", CASH,
+                    LedgerEntry.Side.DEBIT, 1_000, Currency.KRW, clock.instant())));
+
+            // When
+            Ledger.Verification verification = service(7).verify();
+
+            // Then
+            assertFalse(verification.isBalanced());
+            assertTrue(verification.violations().stream().anyMatch(v -> v.contains("forged")));
+            assertTrue(verification.violations().stream().anyMatch(v -> v.startsWith("KRW 차변 합계")));
+        }
+    }
+
+    // ============================================
+    // 테스트 도우미
+    // ============================================
+
+    private static void postRandomEvents(SettlementLedgerService service, int count) {
+        SplittableRandom random = new SplittableRandom(47);
+        for (int i = 0; i < count; i++) {
+            String partnerId = "H" + random.nextInt(5);
+            Money amount = Money.krw(1_000L * (1 + random.nextInt(100)));
+            switch (random.nextInt(3)) {
+                case 0, 1 -> service.recordBookingRevenue("B-" + i, partnerId, amount);
+                default -> service.recordRefund("R-" + i, partnerId, amount);
+            }
+        }
+    }
+
+    /**
+     * instant()를 부를 때마다 1분씩 진행하는 시계 - 첫 값은 START
+     */
+    private static final class TickingClock extends Clock {
+        private Instant next;
+
+        TickingClock(Instant start) {
+            this.next = start;
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() {
+            Instant now = next;
+            next = next.plus(Duration.ofMinutes(1));
+            return now;
+        }
+    }
+
+    private static final class InMemoryLedgerRepository implements LedgerRepository {
+
+        final List<LedgerEntry> entries = new ArrayList<>();
+        final TreeMap<Long, List<LedgerBalance>> checkpoints = new TreeMap<>();
+        int reads;
+
+        Set<LedgerAccount> checkpointAccounts(long sequence) {
+            Set<LedgerAccount> accounts = new HashSet<>();
+            checkpoints.get(sequence).forEach(balance -> accounts.add(balance.account()));
+            return accounts;
+        }
+
+        @Override
+        public void append(List<LedgerEntry> appended) {
+            entries.addAll(appended);
+        }
+
+        @Override
+        public boolean containsTransaction(String transactionId) {
+            reads++;
+            return entries.stream().anyMatch(entry -> entry.transactionId().equals(transactionId));
+        }
+
+        @Override
+        public long lastSequence() {
+            reads++;
+            return entries.isEmpty() ? 0 : entries.getLast().sequence();
+        }
+
+        @Override
+        public long sequenceAt(Instant at) {
+            return entries.stream().filter(entry -> !entry.postedAt().isAfter(at))
+                    .mapToLong(LedgerEntry::sequence).max().orElse(0);
+        }
+
+        @Override
+        public List<LedgerEntry> findEntries(long afterSequence, int limit) {
+            reads++;
+            return entries.stream().filter(entry -> entry.sequence() > afterSequence).limit(limit).toList();
+        }
+
+        @Override
+        public List<LedgerEntry> findEntries(LedgerAccount account, Currency currency, long afterSequence, long upToSequence) {
+            return entries.stream()
+                    .filter(entry -> entry.account().equals(account) && entry.currency() == currency)
+                    .filter(entry -> entry.sequence() > afterSequence && entry.sequence() <= upToSequence)
+                    .toList();
+        }
+
+        @Override
+        public void saveCheckpoint(long sequence, List<LedgerBalance> changed) {
+            if (checkpoints.putIfAbsent(sequence, List.copyOf(changed)) != null) {
+                throw new IllegalStateException("체크포인트 중복: " + sequence);
+            }
+        }
+
+        @Override
+        public Optional<CheckpointBalance> findCheckpointBalance(LedgerAccount account, Currency currency, long atOrBefore) {
+            return checkpoints.headMap(atOrBefore, true).descendingMap().entrySet().stream()
+                    .flatMap(checkpoint -> checkpoint.getValue().stream()
+                            .filter(balance -> balance.account().equals(account) && balance.currency() == currency)
+                            .map(balance -> new CheckpointBalance(checkpoint.getKey(), balance)))
+                    .findFirst();
+        }
+
+        @Override
+        public List<CheckpointBalance> findCheckpointBalances(long atOrBefore) {
+            reads++;
+            Map<LedgerBalance.Key, CheckpointBalance> latest = new TreeMap<>(
+                    Comparator.comparing((LedgerBalance.Key key) -> key.account().key()).thenComparing(LedgerBalance.Key::currency));
+            checkpoints.headMap(atOrBefore, true).forEach((sequence, balances) -> balances.forEach(
+                    balance -> latest.put(balance.key(), new CheckpointBalance(sequence, balance))));
+            return List.copyOf(latest.values());
+        }
+
+        @Override
+        public long lastCheckpointSequence() {
+            reads++;
+            return checkpoints.isEmpty() ? 0 : checkpoints.lastKey();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.travel.domain.booking;
 
+import com.travel.domain.member.MemberId;
 import com.travel.shared.types.Currency;
 import com.travel.shared.types.DateRange;
 import com.travel.shared.types.Money;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -137,6 +139,42 @@ class BookingCalculationsTest {
         }
     }
 
+    @Nested
+    @DisplayName("calculateCancellationRefund")
+    class CalculateCancellationRefund {
+
+        private static Booking booking(LocalDate checkIn) {
+            var room = new BookingItem.Accommodation(
+                    "ROOM-001", "호텔", "디럭스",
+                    new DateRange(checkIn, checkIn.plusDays(2)),
+                    Money.krw(50000), 2);
+            return Booking.create(MemberId.generate(), List.of(room));
+        }
+
+        @Test
+        @DisplayName("확정 예약은 여행 시작일까지 남은 일수로 환불율을 정한다")
+        void confirmed_uses_days_before_trip() {
+            // Given
+            var confirmed = booking(LocalDate.of(2026, 7, 10)).confirm("PAY-1");
+
+            // When
+            var threeDays = BookingCalculations.calculateCancellationRefund(confirmed, LocalDate.of(2026, 7, 7));
+            var sameDay = BookingCalculations.calculateCancellationRefund(confirmed, LocalDate.of(2026, 7, 10));
+
+            // Then
+            assertEquals(Optional.of(Money.krw(70000)), threeDays);
+            assertEquals(Optional.of(Money.krw(0)), sameDay);
+        }
+
+        @Test
+        @DisplayName("결제 전(Pending) 예약은 환불 금액이 없다")
+        void pending_has_no_refund() {
+            // When / Then
+            assertTrue(BookingCalculations.calculateCancellationRefund(
+                    booking(LocalDate.of(2026, 7, 10)), LocalDate.of(2026, 7, 1)).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("calculatePercentDiscount")
     class CalculatePercentDiscount {
@@ -0,0 +1,141 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Booking 항목 변경 단위 테스트
+ */
+@DisplayName("Booking - 항목 추가/제거")
+class BookingTest {
+
+    private static BookingItem room(String productId, long pricePerNight) {
+        return new BookingItem.Accommodation(
+                productId, "호텔", "디럭스",
+                new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                Money.krw(pricePerNight), 2);
+    }
+
+    /**
+     * 전체 재계산 기준 - 증분 합계가 항상 이 값과 같아야 함
+     */
+    private static void assertTotalsMatchRecompute(Booking booking) {
+        Money recomputed = BookingCalculations.calculateTotalAmount(booking.items());
+        assertEquals(recomputed, booking.totalAmount());
+        assertEquals(recomputed.subtract(booking.discountAmount()), booking.finalAmount());
+    }
+
+    @Nested
+    @DisplayName("증분 합계")
+    class IncrementalTotals {
+
+        @Test
+        @DisplayName("항목 추가 시 총 금액과 최종 금액을 갱신하고 원본은 그대로 둔다")
+        void add_updates_totals() {
+            // Given
+            var booking = Booking.create(MemberId.generate(), List.of(room("ROOM-1", 100_000)))
+                    .withDiscount(Money.krw(20_000), "COUPON-1");
+
+            // When
+            var updated = booking.withAddedItem(room("ROOM-2", 50_000));
+
+            // Then: 20만 + 10만 - 2만
+            assertEquals(Money.krw(300_000), updated.totalAmount());
+            assertEquals(Money.krw(280_000), updated.finalAmount());
+            assertEquals(1, booking.itemCount());
+            assertEquals(Money.krw(200_000), booking.totalAmount());
+        }
+
+        @Test
+        @DisplayName("여러 항목을 한 번에 추가하면 하나씩 추가한 것과 같다")
+        void add_all_equals_add_one_by_one() {
+            // Given
+            var booking = Booking.create(MemberId.generate(), List.of(room("ROOM-1", 100_000)));
+            var added = List.of(room("ROOM-2", 10_000), room("ROOM-3", 20_000), room("ROOM-4", 30_000));
+
+            // When
+            var bulk = booking.withAddedItems(added);
+            var single = booking;
+            for (BookingItem item : added) {
+                single = single.withAddedItem(item);
+            }
+
+            // Then
+            assertEquals(single.items(), bulk.items());
+            assertEquals(single.totalAmount(), bulk.totalAmount());
+        }
+
+        @Test
+        @DisplayName("같은 예약에서 갈라진 추가는 서로 영향을 주지 않는다")
+        void branches_are_independent() {
+            // Given
+            var base = Booking.create(MemberId.generate(), List.of(room("ROOM-1", 100_000)));
+
+            // When
+            var left = base.withAddedItem(room("LEFT", 10_000));
+            var right = base.withAddedItem(room("RIGHT", 20_000));
+
+            // Then
+            assertEquals("LEFT", left.items().get(1).productId());
+            assertEquals("RIGHT", right.items().get(1).productId());
+            assertEquals(1, base.itemCount());
+        }
+
+        @Test
+        @DisplayName("없는 항목 제거와 마지막 항목 제거는 거부한다")
+        void rejects_invalid_removal() {
+            // Given
+            var only = room("ROOM-1", 100_000);
+            var booking = Booking.create(MemberId.generate(), List.of(only));
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> booking.withRemovedItem(room("ROOM-X", 1)));
+            assertThrows(IllegalArgumentException.class, () -> booking.withRemovedItem(only));
+        }
+
+        @Test
+        @DisplayName("[속성] 임의의 추가/일괄 추가/제거 순서에서 합계는 항상 전체 재계산과 같다")
+        void totals_always_equal_recompute() {
+            for (long seed = 0; seed < 200; seed++) {
+                // Given
+                Random random = new Random(seed);
+                Booking booking = Booking.create(MemberId.generate(), List.of(room("ROOM-0", 100_000)));
+                if (random.nextBoolean()) {
+                    booking = booking.withDiscount(Money.krw(random.nextInt(50_000)), "COUPON");
+                }
+
+                // When
+                for (int step = 0; step < 40; step++) {
+                    int op = random.nextInt(3);
+                    if (op == 0) {
+                        booking = booking.withAddedItem(room("ROOM-" + step, 10_000 + random.nextInt(90_000)));
+                    } else if (op == 1) {
+                        List<BookingItem> added = new ArrayList<>();
+                        for (int k = random.nextInt(4); k > 0; k--) {
+                            added.add(room("BULK-" + step + "-" + k, 10_000 + random.nextInt(90_000)));
+                        }
+                        booking = booking.withAddedItems(added);
+                    } else if (booking.itemCount() > 1) {
+                        // 첫 항목(20만)은 남김 → 총 금액이 최대 할인(5만 미만)보다 항상 큼
+                        int index = 1 + random.nextInt(booking.itemCount() - 1);
+                        booking = booking.withRemovedItem(booking.items().get(index));
+                    }
+
+                    // Then
+                    assertTotalsMatchRecompute(booking);
+                }
+            }
+        }
+    }
+}
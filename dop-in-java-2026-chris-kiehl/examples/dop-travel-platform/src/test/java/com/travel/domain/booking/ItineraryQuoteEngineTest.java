@@ -0,0 +1,264 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.coupon.Coupon;
+import com.travel.domain.coupon.CouponStatus;
+import com.travel.domain.coupon.CouponType;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItineraryQuoteEngine 단위 테스트
+ */
+@DisplayName("ItineraryQuoteEngine - 일정 일괄 견적")
+class ItineraryQuoteEngineTest {
+
+    private static final MemberId MEMBER = MemberId.generate();
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 7, 1);
+
+    private static BookingItem room(String id, Money nightlyRate, int nights) {
+        return new BookingItem.Accommodation(id, "호텔", "디럭스",
+                new DateRange(CHECK_IN, CHECK_IN.plusDays(nights)), nightlyRate, 2);
+    }
+
+    private static BookingItem flight(String id, BookingItem.Flight.SeatClass seatClass, Money price) {
+        LocalDateTime departure = CHECK_IN.atTime(9, 0);
+        return new BookingItem.Flight(id, "항공사", "KE123", "ICN", "NRT",
+                departure, departure.plusHours(2), seatClass, price, 1);
+    }
+
+    private static Coupon fixed(String id, Money amount, Money minOrder) {
+        return new Coupon(id, "CODE-" + id, CouponType.FIXED_AMOUNT, amount, 0, minOrder, null,
+                MEMBER, new CouponStatus.Available(), TODAY.minusDays(1), TODAY.plusDays(1), Instant.now());
+    }
+
+    private static Coupon percent(String id, int percent, Money minOrder, Money cap) {
+        return new Coupon(id, "CODE-" + id, CouponType.PERCENTAGE, null, percent, minOrder, cap,
+                MEMBER, new CouponStatus.Available(), TODAY.minusDays(1), TODAY.plusDays(1), Instant.now());
+    }
+
+    /**
+     * 기존 경로: 후보마다 합계 → 사용 가능한 쿠폰 중 최대 할인 (할인 > 합계 제외, 동률은 먼저) → 정렬 → 상위 K
+     */
+    private static List<ItineraryQuote> naive(List<Itinerary> itineraries, List<Coupon> coupons, int k) {
+        record Ranked(int index, ItineraryQuote quote) {}
+        List<Ranked> ranked = new ArrayList<>();
+        for (int i = 0; i < itineraries.size(); i++) {
+            Itinerary itinerary = itineraries.get(i);
+            Money total = BookingCalculations.calculateTotalAmount(itinerary.items());
+            Money discount = Money.zero(total.currency());
+            String couponId = null;
+            for (Coupon coupon : coupons) {
+                if (!coupon.isUsable() || !coupon.isOwnedBy(MEMBER)) continue;
+                Money candidate = coupon.calculateDiscount(total);
+                if (candidate.isGreaterThan(discount) && !candidate.isGreaterThan(total)) {
+                    discount = candidate;
+                    couponId = coupon.id();
+                }
+            }
+            ranked.add(new Ranked(i,
+                    new ItineraryQuote(itinerary, total, discount, total.subtract(discount), couponId)));
+        }
+        return ranked.stream()
+                .sorted(Comparator.<Ranked, BigDecimal>comparing(r -> r.quote().finalAmount().amount())
+                        .thenComparingInt(Ranked::index))
+                .limit(k)
+                .map(Ranked::quote)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("[속성] 기존 경로와 같은 결과")
+    class MatchesNaivePath {
+
+        @Test
+        @DisplayName("임의의 후보와 쿠폰에서 상위 K 견적이 후보별 계산 후 정렬한 결과와 같다")
+        void random_batches() {
+            for (long seed = 0; seed < 50; seed++) {
+                // Given: 공유 항목 (항공 좌석 등급 × 객실) 조합
+                Random random = new Random(seed);
+                List<BookingItem> flights = new ArrayList<>();
+                for (var seatClass : BookingItem.Flight.SeatClass.values()) {
+                    flights.add(flight("FL-" + seatClass, seatClass, Money.krw(100_000 + random.nextInt(900) * 1_000L)));
+                }
+                List<BookingItem> rooms = new ArrayList<>();
+                for (int r = 0; r < 8; r++) {
+                    rooms.add(room("R" + r, Money.krw(50_000 + random.nextInt(200) * 1_000L + random.nextInt(10)),
+                            1 + random.nextInt(5)));
+                }
+                List<Itinerary> itineraries = new ArrayList<>();
+                for (int f = 0; f < flights.size(); f++) {
+                    for (int r = 0; r < rooms.size(); r++) {
+                        itineraries.add(new Itinerary("I-" + f + "-" + r, List.of(flights.get(f), rooms.get(r))));
+                    }
+                }
+                List<Coupon> coupons = List.of(
+                        fixed("C1", Money.krw(random.nextInt(100) * 1_000L), Money.krw(random.nextInt(800) * 1_000L)),
+                        percent("C2", 1 + random.nextInt(30), Money.krw(random.nextInt(800) * 1_000L),
+                                random.nextBoolean() ? Money.krw(random.nextInt(150) * 1_000L) : null),
+                        percent("C3", 1 + random.nextInt(30), null, null),
+                        fixed("C4", Money.krw(2_000_000), null));
+                int k = 1 + random.nextInt(10);
+
+                // When
+                var batch = ItineraryQuoteEngine.forMember(MEMBER, coupons, TODAY).quote(itineraries, k);
+
+                // Then
+                assertEquals(naive(itineraries, coupons, k), batch.best(), "seed=" + seed);
+                assertEquals(itineraries.size(), batch.quoted());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("상위 K")
+    class TopK {
+
+        @Test
+        @DisplayName("최종 금액 오름차순, 같은 금액은 입력 순서대로")
+        void ordered_best_first_ties_by_input_order() {
+            // Given
+            var cheap = room("R1", Money.krw(100_000), 1);
+            var expensive = room("R2", Money.krw(300_000), 1);
+            var itineraries = List.of(
+                    new Itinerary("A", List.of(expensive)),
+                    new Itinerary("B", List.of(cheap)),
+                    new Itinerary("C", List.of(cheap)),
+                    new Itinerary("D", List.of(cheap, cheap)));
+
+            // When
+            var batch = ItineraryQuoteEngine.forMember(MEMBER, List.of(), TODAY).quote(itineraries, 3);
+
+            // Then
+            assertEquals(List.of("B", "C", "D"), batch.best().stream().map(q -> q.itinerary().id()).toList());
+            assertEquals(Money.krw(200_000), batch.best().get(2).finalAmount());
+        }
+
+        @Test
+        @DisplayName("힙이 찬 뒤 할인 상한을 받아도 못 드는 후보는 쿠폰 평가 없이 가지치기")
+        void prunes_hopeless_candidates() {
+            // Given: 10% 쿠폰, 가격이 점점 비싸지는 후보
+            List<Itinerary> itineraries = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                itineraries.add(new Itinerary("I" + i, List.of(room("R" + i, Money.krw(100_000 + i * 10_000L), 1))));
+            }
+
+            // When
+            var batch = ItineraryQuoteEngine.forMember(MEMBER, List.of(percent("C1", 10, null, null)), TODAY)
+                    .quote(itineraries, 5);
+
+            // Then
+            assertTrue(batch.pruned() > 0);
+            assertEquals(List.of("I0", "I1", "I2", "I3", "I4"),
+                    batch.best().stream().map(q -> q.itinerary().id()).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 적용")
+    class CouponSelection {
+
+        @Test
+        @DisplayName("정률 할인은 Money.multiplyPercent와 같은 반올림 (HALF_EVEN)")
+        void percent_rounding_matches_money() {
+            // Given: 12,345 USD 센트 합계 후보
+            var item = room("R1", Money.usd(123.45), 1);
+            var itinerary = new Itinerary("I1", List.of(item));
+
+            for (int p = 1; p <= 99; p++) {
+                // When
+                var quote = ItineraryQuoteEngine.forMember(MEMBER, List.of(percent("C", p, null, null)), TODAY)
+                        .quote(List.of(itinerary), 1).best().getFirst();
+
+                // Then
+                assertEquals(Money.usd(123.45).multiplyPercent(p), quote.discountAmount(), "percent=" + p);
+            }
+        }
+
+        @Test
+        @DisplayName("할인이 합계를 넘는 쿠폰은 건너뛰고 다음으로 유리한 쿠폰을 적용")
+        void skips_discount_over_total() {
+            // Given
+            var itinerary = new Itinerary("I1", List.of(room("R1", Money.krw(50_000), 1)));
+            var coupons = List.of(fixed("BIG", Money.krw(60_000), null), fixed("SMALL", Money.krw(5_000), null));
+
+            // When
+            var quote = ItineraryQuoteEngine.forMember(MEMBER, coupons, TODAY)
+                    .quote(List.of(itinerary), 1).best().getFirst();
+
+            // Then
+            assertEquals("SMALL", quote.couponId());
+            assertEquals(Money.krw(45_000), quote.finalAmount());
+        }
+
+        @Test
+        @DisplayName("다른 회원 쿠폰, 사용된 쿠폰, 기간 밖 쿠폰, 다른 통화 쿠폰은 적용하지 않는다")
+        void ineligible_coupons() {
+            // Given
+            var itinerary = new Itinerary("I1", List.of(room("R1", Money.krw(100_000), 1)));
+            var otherMember = new Coupon("C1", "CODE-1", CouponType.FIXED_AMOUNT, Money.krw(10_000), 0, null, null,
+                    MemberId.generate(), new CouponStatus.Available(), TODAY, TODAY, Instant.now());
+            var used = fixed("C2", Money.krw(10_000), null).markAsUsed();
+            var expired = new Coupon("C3", "CODE-3", CouponType.FIXED_AMOUNT, Money.krw(10_000), 0, null, null,
+                    MEMBER, new CouponStatus.Available(), TODAY.minusDays(10), TODAY.minusDays(1), Instant.now());
+            var usd = fixed("C4", Money.usd(10), null);
+
+            // When
+            var quote = ItineraryQuoteEngine.forMember(MEMBER, List.of(otherMember, used, expired, usd), TODAY)
+                    .quote(List.of(itinerary), 1).best().getFirst();
+
+            // Then
+            assertTrue(quote.coupon().isEmpty());
+            assertEquals(Money.krw(100_000), quote.finalAmount());
+        }
+    }
+
+    @Nested
+    @DisplayName("제외")
+    class Rejected {
+
+        @Test
+        @DisplayName("빈 일정, 통화가 섞인 일정, 첫 후보와 통화가 다른 일정은 제외")
+        void rejects_empty_and_mixed_currency() {
+            // Given
+            var krw = room("R1", Money.krw(100_000), 1);
+            var usd = room("R2", Money.usd(100), 1);
+            var itineraries = List.of(
+                    new Itinerary("EMPTY", List.of()),
+                    new Itinerary("KRW", List.of(krw)),
+                    new Itinerary("MIXED", List.of(krw, usd)),
+                    new Itinerary("USD", List.of(usd)));
+
+            // When
+            var batch = ItineraryQuoteEngine.forMember(MEMBER, List.of(), TODAY).quote(itineraries, 10);
+
+            // Then
+            assertEquals(3, batch.rejected());
+            assertEquals(1, batch.quoted());
+            assertEquals(List.of("KRW"), batch.best().stream().map(q -> q.itinerary().id()).toList());
+        }
+
+        @Test
+        @DisplayName("k가 1 미만이면 예외")
+        void rejects_invalid_k() {
+            var engine = ItineraryQuoteEngine.forMember(MEMBER, List.of(), TODAY);
+
+            assertThrows(IllegalArgumentException.class, () -> engine.quote(List.of(), 0));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.travel.domain.booking;
+
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MemberBookingSummary 단위 테스트
+ */
+@DisplayName("MemberBookingSummary - 회원별 예약 요약 읽기 모델")
+class MemberBookingSummaryTest {
+
+    private static final MemberId MEMBER = MemberId.generate();
+
+    private static Booking booking(LocalDate checkIn, long nightlyRate) {
+        var room = new BookingItem.Accommodation(
+                "ROOM-" + checkIn, "호텔", "디럭스",
+                new DateRange(checkIn, checkIn.plusDays(2)),
+                Money.krw(nightlyRate), 2);
+        return Booking.create(MEMBER, List.of(room));
+    }
+
+    @Nested
+    @DisplayName("이벤트 적용")
+    class Apply {
+
+        @Test
+        @DisplayName("생성 → 확정 → 완료 이벤트를 적용하면 상태별 수와 지출이 이동한다")
+        void lifecycle() {
+            // Given
+            var pending = booking(LocalDate.of(2026, 7, 10), 100_000);
+            var confirmed = pending.confirm("PAY-1");
+            var completed = confirmed.complete();
+
+            // When
+            var summary = MemberBookingSummary.empty(MEMBER)
+                    .apply(BookingStatusChanged.created(pending))
+                    .apply(BookingStatusChanged.transitioned(pending, confirmed));
+            var afterCompletion = summary.apply(BookingStatusChanged.transitioned(confirmed, completed));
+
+            // Then
+            assertEquals(1, summary.counts().confirmed());
+            assertEquals(0, summary.counts().pending());
+            assertEquals(Money.krw(200_000), summary.spendIn(Currency.KRW));
+            assertEquals(1, summary.upcomingTrips().size());
+
+            assertEquals(1, afterCompletion.counts().completed());
+            assertEquals(Money.krw(200_000), afterCompletion.spendIn(Currency.KRW));
+            assertTrue(afterCompletion.upcomingTrips().isEmpty());
+        }
+
+        @Test
+        @DisplayName("확정된 예약을 취소하면 지출과 예정 여행에서 빠진다")
+        void cancellation_removes_contribution() {
+            // Given
+            var confirmed = booking(LocalDate.of(2026, 7, 10), 100_000).confirm("PAY-1");
+            var summary = MemberBookingSummary.of(MEMBER, List.of(confirmed));
+            var cancelled = confirmed.cancel("일정 변경", Money.krw(200_000),
+                    BookingStatus.Cancelled.CancelledBy.USER);
+
+            // When
+            var updated = summary.apply(BookingStatusChanged.transitioned(confirmed, cancelled));
+
+            // Then
+            assertEquals(new MemberBookingSummary.StatusCounts(0, 0, 0, 1, 0), updated.counts());
+            assertTrue(updated.spend().isEmpty());
+            assertTrue(updated.upcomingTrips().isEmpty());
+        }
+
+        @Test
+        @DisplayName("요약에 없는 기여를 차감하면 IllegalStateException")
+        void detects_drift() {
+            // Given: 확정 예약이 반영되지 않은 요약
+            var confirmed = booking(LocalDate.of(2026, 7, 10), 100_000).confirm("PAY-1");
+            var stale = MemberBookingSummary.empty(MEMBER);
+
+            // When / Then
+            assertThrows(IllegalStateException.class,
+                    () -> stale.apply(BookingStatusChanged.transitioned(confirmed, confirmed.complete())));
+        }
+
+        @Test
+        @DisplayName("다른 회원의 예약 이벤트는 거부한다")
+        void rejects_other_member() {
+            // Given
+            var other = Booking.create(MemberId.generate(), booking(LocalDate.of(2026, 7, 10), 1_000).items());
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> MemberBookingSummary.empty(MEMBER).apply(BookingStatusChanged.created(other)));
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Queries {
+
+        @Test
+        @DisplayName("예정 여행은 시작일 순이고 기준일 이전 여행은 제외한다")
+        void upcoming_trips_filtered_by_today() {
+            // Given
+            var august = booking(LocalDate.of(2026, 8, 1), 50_000);
+            var june = booking(LocalDate.of(2026, 6, 1), 50_000);
+            var july = booking(LocalDate.of(2026, 7, 1), 50_000).confirm("PAY-1");
+
+            // When
+            var summary = MemberBookingSummary.of(MEMBER, List.of(august, june, july));
+
+            // Then
+            assertEquals(List.of(june.id(), july.id(), august.id()),
+                    summary.upcomingTrips().stream().map(MemberBookingSummary.Trip::bookingId).toList());
+            assertEquals(List.of(july.id(), august.id()),
+                    summary.upcomingTrips(LocalDate.of(2026, 7, 1)).stream()
+                            .map(MemberBookingSummary.Trip::bookingId).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("[속성] 증분 적용 = 전체 재계산")
+    class IncrementalEqualsRecompute {
+
+        @Test
+        @DisplayName("임의의 생성/전이 이벤트를 순서대로 적용한 결과는 최종 예약 목록에서 재계산한 값과 같다")
+        void fold_equals_of() {
+            for (long seed = 0; seed < 100; seed++) {
+                // Given
+                Random random = new Random(seed);
+                List<Booking> bookings = new ArrayList<>();
+                MemberBookingSummary summary = MemberBookingSummary.empty(MEMBER);
+
+                // When
+                for (int step = 0; step < 60; step++) {
+                    int index = bookings.isEmpty() ? -1 : random.nextInt(bookings.size() + 1) - 1;
+                    if (index < 0) {
+                        var created = booking(LocalDate.of(2026, 7, 1).plusDays(random.nextInt(60)),
+                                10_000 + random.nextInt(90_000));
+                        bookings.add(created);
+                        summary = summary.apply(BookingStatusChanged.created(created));
+                        continue;
+                    }
+                    Booking previous = bookings.get(index);
+                    Booking next = transition(previous, random);
+                    if (next != null) {
+                        bookings.set(index, next);
+                        summary = summary.apply(BookingStatusChanged.transitioned(previous, next));
+                    }
+                }
+
+                // Then
+                assertEquals(MemberBookingSummary.of(MEMBER, bookings), summary, "seed=" + seed);
+            }
+        }
+
+        private static Booking transition(Booking booking, Random random) {
+            return switch (booking.status()) {
+                case BookingStatus.Pending p -> random.nextBoolean()
+                        ? booking.confirm("PAY")
+                        : booking.cancel("변심", null, BookingStatus.Cancelled.CancelledBy.USER);
+                case BookingStatus.Confirmed c -> switch (random.nextInt(3)) {
+                    case 0 -> booking.complete();
+                    case 1 -> booking.markNoShow(Money.krw(1_000));
+                    default -> booking.cancel("변심", booking.finalAmount(), BookingStatus.Cancelled.CancelledBy.USER);
+                };
+                default -> null;
+            };
+        }
+    }
+}
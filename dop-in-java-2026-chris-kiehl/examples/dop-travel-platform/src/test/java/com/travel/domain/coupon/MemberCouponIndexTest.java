@@ -0,0 +1,170 @@
+package com.travel.domain.coupon;
+
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MemberCouponIndex 단위 테스트
+ */
+@DisplayName("MemberCouponIndex - 회원 쿠폰 인덱스")
+class MemberCouponIndexTest {
+
+    private static final MemberId MEMBER = MemberId.generate();
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private static Coupon fixed(String id, long amount, Long minOrder) {
+        return new Coupon(id, "CODE-" + id, CouponType.FIXED_AMOUNT, Money.krw(amount), 0,
+                minOrder == null ? null : Money.krw(minOrder), null,
+                MEMBER, new CouponStatus.Available(), TODAY.minusDays(1), TODAY.plusDays(1), Instant.now());
+    }
+
+    private static Coupon percent(String id, int percent, Long minOrder, Long cap) {
+        return new Coupon(id, "CODE-" + id, CouponType.PERCENTAGE, null, percent,
+                minOrder == null ? null : Money.krw(minOrder), cap == null ? null : Money.krw(cap),
+                MEMBER, new CouponStatus.Available(), TODAY.minusDays(1), TODAY.plusDays(1), Instant.now());
+    }
+
+    private static Coupon valid(Coupon coupon, LocalDate from, LocalDate until) {
+        return new Coupon(coupon.id(), coupon.code(), coupon.couponType(), coupon.discountAmount(),
+                coupon.discountPercent(), coupon.minOrderAmount(), coupon.maxDiscountAmount(), coupon.ownerId(),
+                coupon.status(), from, until, coupon.createdAt());
+    }
+
+    /**
+     * selectBestCoupon과 같은 선택 - 단, 할인이 0이면 쿠폰 없음
+     */
+    private static Optional<Coupon> naive(List<Coupon> coupons, Money orderAmount) {
+        Coupon best = CouponCalculations.selectBestCoupon(coupons, orderAmount);
+        if (best == null || best.calculateDiscount(orderAmount).isZero()) {
+            return Optional.empty();
+        }
+        return Optional.of(best);
+    }
+
+    @Nested
+    @DisplayName("[속성] selectBestCoupon과 같은 선택")
+    class MatchesSelectBestCoupon {
+
+        @Test
+        @DisplayName("임의의 쿠폰 묶음과 주문 금액에서 같은 쿠폰을 고른다 (같은 할인은 먼저 나온 쿠폰)")
+        void random_coupons() {
+            for (long seed = 0; seed < 100; seed++) {
+                // Given: 같은 조건이 반복되는 캠페인 쿠폰 포함
+                Random random = new Random(seed);
+                List<Coupon> coupons = new ArrayList<>();
+                int count = 1 + random.nextInt(60);
+                for (int i = 0; i < count; i++) {
+                    Long minOrder = random.nextBoolean() ? null : random.nextInt(20) * 10_000L;
+                    coupons.add(random.nextBoolean()
+                            ? fixed("F" + i, random.nextInt(10) * 1_000L, minOrder)
+                            : percent("P" + i, 1 + random.nextInt(5) * 5, minOrder,
+                                    random.nextBoolean() ? null : random.nextInt(10) * 2_000L));
+                }
+                var index = MemberCouponIndex.build(MEMBER, coupons, TODAY);
+
+                // When / Then
+                for (int i = 0; i < 50; i++) {
+                    Money orderAmount = Money.krw(random.nextInt(300_000) + random.nextInt(2) * 5L);
+                    assertEquals(naive(coupons, orderAmount), index.best(orderAmount),
+                            "seed=" + seed + " order=" + orderAmount);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("정률 할인은 반올림 후 비교 - 소액 주문에서 할인이 같으면 먼저 나온 쿠폰")
+        void small_order_rounding_ties() {
+            // Given: 12원 주문 - 5% = 0.6 → 1원, 10% = 1.2 → 1원
+            var first = percent("P5", 5, null, null);
+            var second = percent("P10", 10, null, null);
+            var index = MemberCouponIndex.build(MEMBER, List.of(first, second), TODAY);
+
+            // When / Then
+            assertEquals(Optional.of(first), index.best(Money.krw(12)));
+            assertEquals(Optional.of(second), index.best(Money.krw(100)));
+        }
+    }
+
+    @Nested
+    @DisplayName("지배 쿠폰 제거")
+    class Frontier {
+
+        @Test
+        @DisplayName("같은 조건의 캠페인 쿠폰 수백 장은 후보 한 장으로 줄어든다")
+        void campaign_duplicates_collapse() {
+            // Given
+            List<Coupon> coupons = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                coupons.add(percent("P" + i, 10, 50_000L, 20_000L));
+                coupons.add(fixed("F" + i, 5_000, 30_000L));
+            }
+
+            // When
+            var index = MemberCouponIndex.build(MEMBER, coupons, TODAY);
+
+            // Then
+            assertEquals(2, index.candidateCount());
+            assertEquals("P0", index.best(Money.krw(100_000)).orElseThrow().id());
+            assertEquals("F0", index.best(Money.krw(40_000)).orElseThrow().id());
+            assertTrue(index.best(Money.krw(10_000)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("적격성과 유효 기간")
+    class Eligibility {
+
+        @Test
+        @DisplayName("사용된 쿠폰, 다른 회원 쿠폰, 다른 통화 쿠폰은 후보가 아니다")
+        void excludes_ineligible() {
+            // Given
+            var used = fixed("USED", 10_000, null).markAsUsed();
+            var other = new Coupon("OTHER", "CODE-OTHER", CouponType.FIXED_AMOUNT, Money.krw(10_000), 0, null, null,
+                    MemberId.generate(), new CouponStatus.Available(), TODAY, TODAY, Instant.now());
+            var usd = new Coupon("USD", "CODE-USD", CouponType.FIXED_AMOUNT, Money.usd(10), 0, null, null,
+                    MEMBER, new CouponStatus.Available(), TODAY, TODAY, Instant.now());
+            var krw = fixed("KRW", 1_000, null);
+
+            // When
+            var index = MemberCouponIndex.build(MEMBER, List.of(used, other, usd, krw), TODAY);
+
+            // Then
+            assertEquals("KRW", index.best(Money.krw(50_000)).orElseThrow().id());
+            assertEquals("USD", index.best(Money.usd(50)).orElseThrow().id());
+            assertTrue(index.best(Money.zero(Currency.JPY)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("가장 먼저 만료되는 쿠폰의 종료일까지, 시작 전 쿠폰의 시작 전날까지만 유효")
+        void valid_until_next_change() {
+            // Given: 3일 뒤 만료 쿠폰, 5일 뒤 시작 쿠폰
+            var expiring = valid(fixed("E", 1_000, null), TODAY.minusDays(1), TODAY.plusDays(3));
+            var upcoming = valid(fixed("U", 2_000, null), TODAY.plusDays(5), TODAY.plusDays(10));
+
+            // When
+            var index = MemberCouponIndex.build(MEMBER, List.of(expiring, upcoming), TODAY);
+            var onlyUpcoming = MemberCouponIndex.build(MEMBER, List.of(upcoming), TODAY);
+
+            // Then
+            assertTrue(index.isValidOn(TODAY.plusDays(3)));
+            assertFalse(index.isValidOn(TODAY.plusDays(4)));
+            assertFalse(index.isValidOn(TODAY.minusDays(1)));
+            assertTrue(onlyUpcoming.isValidOn(TODAY.plusDays(4)));
+            assertFalse(onlyUpcoming.isValidOn(TODAY.plusDays(5)));
+            assertTrue(onlyUpcoming.best(Money.krw(50_000)).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.travel.domain.fx;
+
+import com.travel.shared.Result;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConvertingAggregator / DailyRates 단위 테스트
+ */
+@DisplayName("ConvertingAggregator - 다중 통화 환산 합산")
+class ConvertingAggregatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 1);
+
+    private static final DailyRates RATES = DailyRates.of(DATE, List.of(
+            new ExchangeRate(Currency.USD, Currency.KRW, DATE, new BigDecimal("1385.20")),
+            new ExchangeRate(Currency.JPY, Currency.KRW, DATE, new BigDecimal("9.2815"))));
+
+    /**
+     * DailyRates 기반 조회 + 호출 횟수 기록
+     */
+    private static ExchangeRates counting(DailyRates rates, AtomicInteger lookups) {
+        return (from, to, date) -> {
+            lookups.incrementAndGet();
+            return rates.rate(from, to)
+                    .<Result<BigDecimal, FxError>>map(Result::success)
+                    .orElseGet(() -> Result.failure(new FxError.RateNotFound(from, to, date)));
+        };
+    }
+
+    @Nested
+    @DisplayName("DailyRates - 환율 도출")
+    class Resolution {
+
+        @Test
+        @DisplayName("직접 고시가 있으면 그대로 사용한다")
+        void direct() {
+            assertEquals(new BigDecimal("1385.20"), RATES.rate(Currency.USD, Currency.KRW).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("역 방향만 고시되면 역수를 사용한다")
+        void inverse() {
+            // When
+            BigDecimal krwToUsd = RATES.rate(Currency.KRW, Currency.USD).orElseThrow();
+
+            // Then
+            assertEquals(Money.usd(1.00), FxCalculations.convert(Money.krw(1_385), Currency.USD, krwToUsd));
+        }
+
+        @Test
+        @DisplayName("직접/역 고시가 없으면 KRW를 거친 교차 환율을 사용한다")
+        void cross() {
+            // When
+            BigDecimal usdToJpy = RATES.rate(Currency.USD, Currency.JPY).orElseThrow();
+
+            // Then: 1385.20 / 9.2815 = 149.243...
+            assertEquals(new Money(new BigDecimal("149"), Currency.JPY),
+                    FxCalculations.convert(Money.usd(1.00), Currency.JPY, usdToJpy));
+        }
+
+        @Test
+        @DisplayName("고시가 전혀 없는 통화 쌍은 empty")
+        void missing() {
+            var onlyUsd = DailyRates.of(DATE, List.of(
+                    new ExchangeRate(Currency.USD, Currency.KRW, DATE, new BigDecimal("1385.20"))));
+
+            assertTrue(onlyUsd.rate(Currency.JPY, Currency.USD).isEmpty());
+            assertEquals(2, onlyUsd.resolveAll().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("반올림 규칙")
+    class Rounding {
+
+        @Test
+        @DisplayName("대상 통화 자릿수로 HALF_EVEN 반올림한다")
+        void half_even_to_target_scale() {
+            // Given: $10.005 상당 - KRW 10005 × 0.001
+            var rate = new BigDecimal("0.001");
+
+            // When / Then
+            assertEquals(Money.usd(10.00), FxCalculations.convert(Money.krw(10_005), Currency.USD, rate));
+            assertEquals(Money.usd(10.02), FxCalculations.convert(Money.krw(10_015), Currency.USD, rate));
+        }
+
+        @Test
+        @DisplayName("합산 후 한 번 반올림 - 건별 반올림의 누적 오차가 없다")
+        void rounds_once_after_sum() {
+            // Given: ₩7 → $0.0049 (건별로는 $0.00)
+            var rates = DailyRates.of(DATE, List.of(
+                    new ExchangeRate(Currency.KRW, Currency.USD, DATE, new BigDecimal("0.0007"))));
+            var aggregator = new ConvertingAggregator(Currency.USD, DATE, counting(rates, new AtomicInteger()));
+
+            // When
+            aggregator.add(Money.krw(7)).add(Money.krw(7));
+
+            // Then
+            assertEquals(Money.usd(0.01), aggregator.total().getOrThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("합산")
+    class Aggregation {
+
+        @Test
+        @DisplayName("여러 통화를 대상 통화로 합산하고, 대상 통화는 환산하지 않는다")
+        void mixed_currencies() {
+            // Given
+            var aggregator = new ConvertingAggregator(Currency.KRW, DATE, counting(RATES, new AtomicInteger()));
+
+            // When
+            aggregator.add(Money.krw(100_000))
+                    .add(Money.usd(10.50))                              // 14,544.6
+                    .add(new Money(new BigDecimal("1000"), Currency.JPY)); // 9,281.5
+
+            // Then: 123,826.1 → 123,826
+            assertEquals(Money.krw(123_826), aggregator.total().getOrThrow());
+            assertEquals(3, aggregator.count());
+        }
+
+        @Test
+        @DisplayName("건수와 관계없이 환율은 (대상 외 통화 × 기준일)마다 한 번만 조회한다")
+        void one_lookup_per_currency() {
+            // Given
+            var lookups = new AtomicInteger();
+            var aggregator = new ConvertingAggregator(Currency.USD, DATE, counting(RATES, lookups));
+
+            // When
+            for (int i = 0; i < 100_000; i++) {
+                aggregator.add(i % 2 == 0 ? Money.krw(1_000) : new Money(new BigDecimal("100"), Currency.JPY));
+            }
+            aggregator.add(Money.krw(1_000), DATE.minusDays(1));
+            aggregator.total();
+
+            // Then: KRW/JPY × 기준일 + KRW × 전일
+            assertEquals(3, lookups.get());
+        }
+
+        @Test
+        @DisplayName("건별 정확 환산의 합을 한 번 반올림한 값과 같다")
+        void equals_exact_per_item_sum() {
+            // Given
+            Random random = new Random(42);
+            List<Money> monies = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                monies.add(switch (random.nextInt(3)) {
+                    case 0 -> Money.krw(random.nextInt(1_000_000));
+                    case 1 -> new Money(BigDecimal.valueOf(random.nextInt(100_000), 2), Currency.USD);
+                    default -> new Money(BigDecimal.valueOf(random.nextInt(100_000)), Currency.JPY);
+                });
+            }
+            BigDecimal expected = BigDecimal.ZERO;
+            for (Money money : monies) {
+                expected = expected.add(FxCalculations.convertExact(money.amount(),
+                        RATES.rate(money.currency(), Currency.USD).orElseThrow()));
+            }
+
+            // When
+            var total = new ConvertingAggregator(Currency.USD, DATE, counting(RATES, new AtomicInteger()))
+                    .addAll(monies).total();
+
+            // Then
+            assertEquals(new Money(FxCalculations.round(expected, Currency.USD), Currency.USD), total.getOrThrow());
+        }
+
+        @Test
+        @DisplayName("[결합법칙] 병렬 Collector 결과는 순차 합산과 같다")
+        void parallel_collector() {
+            // Given
+            List<Money> monies = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                monies.add(i % 3 == 0 ? Money.usd(1.25) : Money.krw(1_001));
+            }
+            ExchangeRates rates = counting(RATES, new AtomicInteger());
+
+            // When
+            var parallel = monies.parallelStream()
+                    .collect(ConvertingAggregator.collector(Currency.KRW, DATE, rates));
+            var sequential = new ConvertingAggregator(Currency.KRW, DATE, rates).addAll(monies).total();
+
+            // Then
+            assertEquals(sequential.getOrThrow(), parallel.getOrThrow());
+        }
+
+        @Test
+        @DisplayName("환율이 없는 통화가 섞이면 RateNotFound")
+        void missing_rate() {
+            // Given
+            var onlyUsd = DailyRates.of(DATE, List.of(
+                    new ExchangeRate(Currency.USD, Currency.KRW, DATE, new BigDecimal("1385.20"))));
+            var aggregator = new ConvertingAggregator(Currency.KRW, DATE, counting(onlyUsd, new AtomicInteger()));
+
+            // When
+            var total = aggregator.add(Money.usd(1.00))
+                    .add(new Money(BigDecimal.TEN, Currency.JPY))
+                    .total();
+
+            // Then
+            assertEquals(new FxError.RateNotFound(Currency.JPY, Currency.KRW, DATE), total.errorOrNull());
+        }
+
+        @Test
+        @DisplayName("아무것도 더하지 않으면 대상 통화 0")
+        void empty() {
+            var aggregator = new ConvertingAggregator(Currency.USD, DATE, counting(RATES, new AtomicInteger()));
+
+            assertEquals(Money.ZERO_USD, aggregator.total().getOrThrow());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.travel.domain.membership;
+
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.Member;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MembershipTierEngine 단위 테스트
+ */
+@DisplayName("MembershipTierEngine - 증분 등급 계산")
+class MembershipTierEngineTest {
+
+    private static final BookingStatus CONFIRMED = new BookingStatus.Confirmed("PAY-1", Instant.now());
+    private static final BookingStatus COMPLETED = new BookingStatus.Completed(Instant.now());
+
+    private static Optional<MembershipTierEngine.TierChange> complete(
+            MembershipTierEngine engine, MemberId memberId, long amount) {
+        return engine.onTransition(memberId, CONFIRMED, COMPLETED, Money.krw(amount));
+    }
+
+    @Nested
+    @DisplayName("누적 실적 갱신")
+    class RunningTotals {
+
+        @Test
+        @DisplayName("이용 완료 전이는 금액과 횟수를 누적한다")
+        void completion_accumulates() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+
+            // When
+            complete(engine, memberId, 100_000);
+            complete(engine, memberId, 50_000);
+
+            // Then
+            assertEquals(150_000, engine.totalAmountOf(memberId));
+            assertEquals(2, engine.bookingCountOf(memberId));
+        }
+
+        @Test
+        @DisplayName("확정 → 취소 전이는 실적에 영향이 없다")
+        void cancellation_of_confirmed_is_noop() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+            var cancelled = CONFIRMED.cancel("일정 변경", Money.krw(10_000), BookingStatus.Cancelled.CancelledBy.USER);
+
+            // When
+            var change = engine.onTransition(memberId, CONFIRMED, cancelled, Money.krw(10_000));
+
+            // Then
+            assertTrue(change.isEmpty());
+            assertEquals(0, engine.trackedMembers());
+        }
+
+        @Test
+        @DisplayName("노쇼는 패널티 금액만 인정하고 횟수는 늘지 않는다")
+        void no_show_credits_penalty_only() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+            var noShow = CONFIRMED.markNoShow(Money.krw(30_000));
+
+            // When
+            engine.onTransition(memberId, CONFIRMED, noShow, Money.krw(100_000));
+
+            // Then
+            assertEquals(30_000, engine.totalAmountOf(memberId));
+            assertEquals(0, engine.bookingCountOf(memberId));
+        }
+
+        @Test
+        @DisplayName("테이블 확장 후에도 모든 회원의 누적값이 유지된다")
+        void survives_resize() {
+            // Given
+            var engine = new MembershipTierEngine(0);
+            var ids = new MemberId[5_000];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = MemberId.generate();
+                complete(engine, ids[i], i);
+            }
+
+            // Then
+            assertEquals(ids.length, engine.trackedMembers());
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(i, engine.totalAmountOf(ids[i]));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("등급 변경 이벤트")
+    class TierChanges {
+
+        @Test
+        @DisplayName("금액 기준만 넘고 횟수 기준을 못 넘으면 이벤트가 없다")
+        void amount_only_does_not_cross() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+
+            // When: 60만원 1회 - SILVER는 3회 필요
+            var change = complete(engine, memberId, 600_000);
+
+            // Then
+            assertTrue(change.isEmpty());
+            assertEquals(MembershipTier.BRONZE, engine.tierOf(memberId));
+        }
+
+        @Test
+        @DisplayName("두 기준을 모두 넘는 순간 한 번만 승급 이벤트가 발생한다")
+        void emits_once_on_crossing() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+            complete(engine, memberId, 200_000);
+            complete(engine, memberId, 200_000);
+
+            // When: 3회째, 누적 60만원 → SILVER
+            var change = complete(engine, memberId, 200_000);
+            var next = complete(engine, memberId, 10_000);
+
+            // Then
+            assertTrue(change.isPresent());
+            assertEquals(MembershipTier.BRONZE, change.get().previousTier());
+            assertEquals(MembershipTier.SILVER, change.get().newTier());
+            assertTrue(change.get().isUpgrade());
+            assertTrue(next.isEmpty());
+            assertEquals(MembershipTier.SILVER, engine.tierOf(memberId));
+        }
+
+        @Test
+        @DisplayName("seed된 실적에서 이어서 계산한다")
+        void continues_from_seed() {
+            // Given: 누적 99만원, 9회의 SILVER 회원
+            var engine = new MembershipTierEngine();
+            var member = Member.create("tier@example.com", "홍길동", "010-0000-0000")
+                    .withBookingStats(Money.krw(990_000), 9)
+                    .withMembershipTier(MembershipTier.SILVER);
+            engine.seed(member);
+
+            // When: 1회 추가로 100만원, 10회 → GOLD
+            var change = complete(engine, member.id(), 10_000);
+
+            // Then
+            assertTrue(change.isPresent());
+            assertEquals(MembershipTier.SILVER, change.get().previousTier());
+            assertEquals(MembershipTier.GOLD, change.get().newTier());
+            assertEquals(1_000_000, change.get().totalAmount());
+            assertEquals(10, change.get().bookingCount());
+        }
+
+        @Test
+        @DisplayName("증분 결과는 전체 재집계 결과와 같다")
+        void matches_full_recalculation() {
+            // Given
+            var engine = new MembershipTierEngine();
+            var memberId = MemberId.generate();
+            long total = 0;
+
+            // When
+            for (int i = 1; i <= 60; i++) {
+                long amount = 50_000L * (i % 7 + 1);
+                total += amount;
+                complete(engine, memberId, amount);
+            }
+
+            // Then
+            assertEquals(MembershipCalculations.calculateEligibleTier(Money.krw(total), 60),
+                    engine.tierOf(memberId));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.travel.domain.product;
+
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomType;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.flight.SeatClass;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProductCatalogue 단위 테스트
+ */
+@DisplayName("ProductCatalogue - 상품 카탈로그 스냅샷")
+class ProductCatalogueTest {
+
+    private static Room room(String id, long rate) {
+        return new Room(id, "HOTEL-1", "서울 호텔", new RoomType.Deluxe(), Money.krw(rate), 2,
+                List.of("wifi"), "디럭스 객실");
+    }
+
+    private static Flight flight(String id) {
+        LocalDateTime departure = LocalDateTime.of(2026, 7, 1, 9, 0);
+        return new Flight(id, "대한항공", "KE001", "ICN", "NRT", departure, departure.plusHours(2),
+                Map.of(new SeatClass.Economy(), Money.krw(300_000)), Map.of(new SeatClass.Economy(), 100));
+    }
+
+    @Nested
+    @DisplayName("증분 적용")
+    class Apply {
+
+        @Test
+        @DisplayName("변경 번호 순서대로 추가/수정/삭제하고, 스냅샷 version은 마지막 변경 번호")
+        void applies_changes() {
+            // Given
+            var v2 = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(1, room("R1", 100_000)),
+                    new CatalogueChange.FlightUpserted(2, flight("F1"))));
+
+            // When
+            var v4 = v2.apply(List.of(
+                    new CatalogueChange.RoomUpserted(3, room("R1", 120_000)),
+                    new CatalogueChange.Removed(4, "F1")));
+
+            // Then
+            assertEquals(2, v2.version());
+            assertEquals(4, v4.version());
+            assertEquals(Money.krw(100_000), v2.room("R1").orElseThrow().nightlyRate());
+            assertEquals(Money.krw(120_000), v4.room("R1").orElseThrow().nightlyRate());
+            assertTrue(v2.flight("F1").isPresent());
+            assertTrue(v4.flight("F1").isEmpty());
+        }
+
+        @Test
+        @DisplayName("변경이 닿지 않은 종류의 Map은 이전 스냅샷과 공유하고, 변경이 없으면 같은 스냅샷")
+        void shares_untouched_maps() {
+            // Given
+            var before = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(1, room("R1", 100_000)),
+                    new CatalogueChange.FlightUpserted(2, flight("F1"))));
+
+            // When
+            var after = before.apply(List.of(new CatalogueChange.RoomUpserted(3, room("R2", 90_000))));
+
+            // Then
+            assertSame(before.flights(), after.flights());
+            assertNotSame(before.rooms(), after.rooms());
+            assertSame(after, after.apply(List.of()));
+        }
+
+        @Test
+        @DisplayName("같은 ID가 다른 종류로 바뀌면 이전 종류에서 제거")
+        void type_change_moves_product() {
+            var catalogue = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(1, room("P1", 100_000)),
+                    new CatalogueChange.FlightUpserted(2, flight("P1"))));
+
+            assertTrue(catalogue.room("P1").isEmpty());
+            assertTrue(catalogue.flight("P1").isPresent());
+            assertEquals(1, catalogue.size());
+        }
+
+        @Test
+        @DisplayName("순서가 어긋난 변경은 거부")
+        void rejects_out_of_order_versions() {
+            var catalogue = ProductCatalogue.empty().apply(List.of(new CatalogueChange.Removed(5, "X")));
+
+            assertThrows(IllegalArgumentException.class, () -> catalogue.apply(List.of(
+                    new CatalogueChange.Removed(7, "Y"), new CatalogueChange.Removed(6, "Z"))));
+            assertThrows(IllegalArgumentException.class, () -> catalogue.apply(List.of(
+                    new CatalogueChange.Removed(6, "Y"), new CatalogueChange.Removed(6, "Z"))));
+        }
+
+        @Test
+        @DisplayName("늦게 커밋된 낮은 번호의 변경도 적용 - version은 그대로")
+        void applies_late_commits() {
+            // Given - 번호 2를 받은 쓰기가 3보다 늦게 커밋
+            var v3 = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(1, room("R1", 100_000)),
+                    new CatalogueChange.RoomUpserted(3, room("R3", 80_000))));
+
+            // When
+            var late = v3.apply(List.of(new CatalogueChange.RoomUpserted(2, room("R2", 90_000))));
+
+            // Then
+            assertEquals(3, late.version());
+            assertEquals(Money.krw(90_000), late.room("R2").orElseThrow().nightlyRate());
+            assertEquals(3, late.size());
+        }
+
+        @Test
+        @DisplayName("reflects - 같은 상품 값이거나 삭제된 상품이면 이미 반영됨")
+        void reflects_current_state() {
+            var catalogue = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(1, room("R1", 100_000)),
+                    new CatalogueChange.Removed(2, "F1")));
+
+            assertTrue(catalogue.reflects(new CatalogueChange.RoomUpserted(1, room("R1", 100_000))));
+            assertFalse(catalogue.reflects(new CatalogueChange.RoomUpserted(1, room("R1", 120_000))));
+            assertTrue(catalogue.reflects(new CatalogueChange.Removed(2, "F1")));
+            assertFalse(catalogue.reflects(new CatalogueChange.Removed(3, "R1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("메모리 추정")
+    class Footprint {
+
+        @Test
+        @DisplayName("상품 수를 세고, 상품이 늘면 추정 크기도 는다")
+        void grows_with_products() {
+            // Given
+            var one = ProductCatalogue.empty().apply(List.of(new CatalogueChange.RoomUpserted(1, room("R1", 1_000))));
+            var two = one.apply(List.of(new CatalogueChange.FlightUpserted(2, flight("F1"))));
+
+            // When / Then
+            assertEquals(new ProductCatalogue.Footprint(0, 0, 0, 0), ProductCatalogue.empty().footprint());
+            assertEquals(1, one.footprint().rooms());
+            assertEquals(1, two.footprint().flights());
+            assertTrue(one.footprint().estimatedBytes() > 200);
+            assertTrue(two.footprint().estimatedBytes() > one.footprint().estimatedBytes());
+        }
+
+        @Test
+        @DisplayName("변경분으로 갱신한 추정치 = 같은 상품을 한 번에 적재한 추정치")
+        void incremental_matches_full_load() {
+            // Given - 추가, 수정, 종류 변경, 삭제를 거친 스냅샷
+            var incremental = ProductCatalogue.empty()
+                    .apply(List.of(
+                            new CatalogueChange.RoomUpserted(1, room("R1", 100_000)),
+                            new CatalogueChange.RoomUpserted(2, room("P1", 50_000)),
+                            new CatalogueChange.FlightUpserted(3, flight("F1"))))
+                    .apply(List.of(
+                            new CatalogueChange.RoomUpserted(4, new Room("R1", "HOTEL-1", "서울 호텔",
+                                    new RoomType.Deluxe(), Money.krw(120_000), 2, List.of("wifi", "조식"), "디럭스 객실")),
+                            new CatalogueChange.FlightUpserted(5, flight("P1")),
+                            new CatalogueChange.Removed(6, "F1")));
+
+            // When - 최종 상태만 한 번에 적재
+            var full = ProductCatalogue.empty().apply(List.of(
+                    new CatalogueChange.RoomUpserted(4, incremental.room("R1").orElseThrow()),
+                    new CatalogueChange.FlightUpserted(5, flight("P1"))));
+
+            // Then
+            assertEquals(full.footprint(), incremental.footprint());
+            assertEquals(new ProductCatalogue.Footprint(1, 1, 0, full.footprint().estimatedBytes()),
+                    incremental.footprint());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.travel.domain.product.accommodation;
+
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoomPriceTable 단위 테스트
+ */
+@DisplayName("RoomPriceTable - 객실 × 숙박일 가격표")
+class RoomPriceTableTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 10, 1);
+    private static final String HOTEL = "HOTEL-1";
+
+    private static Room room(String id, Money nightlyRate) {
+        return new Room(id, HOTEL, "서울 호텔", new RoomType.Deluxe(), nightlyRate, 2, List.of(), "");
+    }
+
+    private static DateRange stay(int fromDay, int nights) {
+        return new DateRange(START.plusDays(fromDay), START.plusDays(fromDay + nights));
+    }
+
+    @Nested
+    @DisplayName("견적")
+    class Quote {
+
+        @Test
+        @DisplayName("날짜별 요금이 없으면 Room.calculatePrice와 같다")
+        void equals_calculate_price() {
+            // Given
+            var room = room("R1", Money.krw(123_000));
+            var usdRoom = room("R2", Money.usd(99.99));
+            var table = RoomPriceTable.build(HOTEL, List.of(room, usdRoom), List.of(), START, 30);
+
+            // When / Then
+            for (int nights = 0; nights <= 10; nights++) {
+                assertEquals(Optional.of(room.calculatePrice(nights)), table.quote("R1", stay(3, nights)));
+                assertEquals(Optional.of(usdRoom.calculatePrice(nights)), table.quote("R2", stay(3, nights)));
+            }
+        }
+
+        @Test
+        @DisplayName("날짜별 요금은 그 날 밤에만 적용된다 (체크아웃 날짜 제외)")
+        void nightly_override() {
+            // Given: 10/3만 150,000원
+            var table = RoomPriceTable.build(HOTEL, List.of(room("R1", Money.krw(100_000))),
+                    List.of(new NightlyRate("R1", START.plusDays(2), Money.krw(150_000))), START, 30);
+
+            // When / Then
+            assertEquals(Money.krw(250_000), table.quote("R1", stay(1, 2)).orElseThrow());  // 10/2, 10/3
+            assertEquals(Money.krw(200_000), table.quote("R1", stay(0, 2)).orElseThrow());  // 10/1, 10/2
+            assertEquals(Money.krw(200_000), table.quote("R1", stay(3, 2)).orElseThrow());  // 10/4, 10/5
+        }
+
+        @Test
+        @DisplayName("가격표 기간 밖의 밤은 기본 요금으로 계산한다")
+        void outside_horizon() {
+            // Given: 10/1 ~ 10/5 (5박) 가격표, 10/5만 200,000원
+            var table = RoomPriceTable.build(HOTEL, List.of(room("R1", Money.krw(100_000))),
+                    List.of(new NightlyRate("R1", START.plusDays(4), Money.krw(200_000))), START, 5);
+
+            // When / Then
+            assertEquals(Money.krw(400_000), table.quote("R1", stay(3, 3)).orElseThrow());   // 10/4, 10/5(200,000), 10/6
+            assertEquals(Money.krw(300_000), table.quote("R1", stay(-2, 3)).orElseThrow());  // 9/29, 9/30, 10/1
+            assertEquals(Money.krw(200_000), table.quote("R1", stay(10, 2)).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("quoteAll은 객실 순서대로 quote와 같은 값을 낸다")
+        void quote_all_matches_quote() {
+            // Given
+            var table = RoomPriceTable.build(HOTEL,
+                    List.of(room("R1", Money.krw(100_000)), room("R2", Money.usd(80.50))),
+                    List.of(new NightlyRate("R2", START.plusDays(1), Money.usd(120.25))), START, 30);
+
+            // When
+            var quotes = table.quoteAll(stay(0, 3));
+
+            // Then
+            assertEquals(List.of("R1", "R2"), table.roomIds());
+            assertEquals(List.of(Money.krw(300_000), Money.usd(281.25)), quotes);
+            assertEquals(table.quote("R2", stay(0, 3)).orElseThrow(), quotes.get(1));
+        }
+
+        @Test
+        @DisplayName("가격표에 없는 객실은 empty")
+        void unknown_room() {
+            var table = RoomPriceTable.build(HOTEL, List.of(room("R1", Money.krw(100_000))), List.of(), START, 5);
+
+            assertTrue(table.quote("R9", stay(0, 1)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("[속성] 누적합 견적 = 밤별 요금 합")
+    class PrefixSumEqualsNightlySum {
+
+        @Test
+        @DisplayName("임의의 날짜별 요금과 숙박 기간에서 밤마다 더한 값과 같다")
+        void random_stays() {
+            for (long seed = 0; seed < 50; seed++) {
+                // Given
+                Random random = new Random(seed);
+                var base = Money.krw(50_000 + random.nextInt(100) * 1_000L);
+                Money[] nightly = new Money[60];
+                List<NightlyRate> overrides = new ArrayList<>();
+                for (int n = 0; n < nightly.length; n++) {
+                    nightly[n] = base;
+                    if (random.nextInt(4) == 0) {
+                        nightly[n] = Money.krw(random.nextInt(300) * 1_000L);
+                        overrides.add(new NightlyRate("R1", START.plusDays(n), nightly[n]));
+                    }
+                }
+                var table = RoomPriceTable.build(HOTEL, List.of(room("R1", base)), overrides, START, nightly.length);
+
+                // When / Then
+                for (int i = 0; i < 20; i++) {
+                    int from = random.nextInt(70) - 5;
+                    int nights = random.nextInt(15);
+                    Money expected = Money.ZERO_KRW;
+                    for (int n = from; n < from + nights; n++) {
+                        expected = expected.add(n >= 0 && n < nightly.length ? nightly[n] : base);
+                    }
+                    assertEquals(expected, table.quote("R1", stay(from, nights)).orElseThrow(),
+                            "seed=" + seed + " from=" + from + " nights=" + nights);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("생성 검증")
+    class Build {
+
+        @Test
+        @DisplayName("기간 밖 날짜별 요금, 다른 통화, 다른 숙소 객실은 거부한다")
+        void rejects_invalid_input() {
+            var r1 = room("R1", Money.krw(100_000));
+
+            assertThrows(IllegalArgumentException.class, () -> RoomPriceTable.build(HOTEL, List.of(r1),
+                    List.of(new NightlyRate("R1", START.plusDays(5), Money.krw(1))), START, 5));
+            assertThrows(IllegalArgumentException.class, () -> RoomPriceTable.build(HOTEL, List.of(r1),
+                    List.of(new NightlyRate("R1", START, Money.usd(1))), START, 5));
+            assertThrows(IllegalArgumentException.class, () -> RoomPriceTable.build("HOTEL-2", List.of(r1),
+                    List.of(), START, 5));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.travel.domain.product.flight;
+
+import com.travel.shared.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SeatMap 테스트 - 붙은 좌석 탐색과 동시 배정
+ */
+@DisplayName("SeatMap - 비트셋 좌석 배치도")
+class SeatMapTest {
+
+    private static final SeatClass ECONOMY = new SeatClass.Economy();
+    private static final SeatClass BUSINESS = new SeatClass.Business();
+
+    /** 비즈니스 1~3행 1-2-1, 이코노미 10~39행 3-4-3 (한 단어 6행, 마지막 단어는 일부만 사용) */
+    private static SeatMap seatMap() {
+        return SeatMap.of("F1", List.of(
+                new CabinLayout(BUSINESS, 1, 3, "A DE K"),
+                new CabinLayout(ECONOMY, 10, 39, "ABC DEFG HJK")));
+    }
+
+    private static List<String> labels(List<Seat> seats) {
+        return seats.stream().map(Seat::label).toList();
+    }
+
+    @Nested
+    @DisplayName("붙은 좌석 배정")
+    class Adjacent {
+
+        @Test
+        @DisplayName("앞 행, 왼쪽 묶음부터 채움")
+        void fills_front_left_first() {
+            // Given
+            SeatMap map = seatMap();
+
+            // When
+            List<Seat> first = map.allocateAdjacent(ECONOMY, 3).getOrThrow();
+            List<Seat> second = map.allocateAdjacent(ECONOMY, 3).getOrThrow();
+
+            // Then
+            assertEquals(List.of("10A", "10B", "10C"), labels(first));
+            assertEquals(List.of("10D", "10E", "10F"), labels(second));
+        }
+
+        @Test
+        @DisplayName("통로 건너편은 붙은 좌석이 아님 - 남은 1석 묶음을 건너뜀")
+        void does_not_span_aisle() {
+            // Given
+            SeatMap map = seatMap();
+            map.allocateAdjacent(ECONOMY, 2).getOrThrow();   // 10A 10B
+
+            // When
+            List<Seat> seats = map.allocateAdjacent(ECONOMY, 2).getOrThrow();
+
+            // Then - 10C + 10D는 통로 사이라 안 됨
+            assertEquals(List.of("10D", "10E"), labels(seats));
+        }
+
+        @Test
+        @DisplayName("묶음보다 큰 그룹은 GroupTooLarge")
+        void group_too_large() {
+            Result<List<Seat>, SeatAllocationError> result = seatMap().allocateAdjacent(ECONOMY, 5);
+
+            assertEquals(new SeatAllocationError.GroupTooLarge(5, 4), result.errorOrNull());
+        }
+
+        @Test
+        @DisplayName("빈 좌석이 흩어져 있으면 NoAdjacentSeats - 빈 좌석 수는 함께 알려줌")
+        void no_adjacent_seats() {
+            // Given - 비즈니스 가운데 묶음(D E)마다 한 석씩만 남김
+            SeatMap map = seatMap();
+            for (int row = 1; row <= 3; row++) {
+                map.claim(row + "D").getOrThrow();
+            }
+
+            // When
+            Result<List<Seat>, SeatAllocationError> result = map.allocateAdjacent(BUSINESS, 2);
+
+            // Then
+            assertEquals(new SeatAllocationError.NoAdjacentSeats(BUSINESS, 2, 9), result.errorOrNull());
+        }
+
+        @Test
+        @DisplayName("마지막 단어의 사용하지 않는 비트에는 배정하지 않음")
+        void respects_last_partial_word() {
+            // Given - 이코노미 30행 × 10석, 4석 묶음 30개
+            SeatMap map = seatMap();
+
+            // When
+            int allocated = 0;
+            while (map.allocateAdjacent(ECONOMY, 4).isSuccess()) {
+                allocated++;
+            }
+
+            // Then
+            assertEquals(30, allocated);
+            assertEquals(180, map.available(ECONOMY));
+        }
+
+        @Test
+        @DisplayName("findAdjacent는 배정하지 않음")
+        void find_does_not_claim() {
+            SeatMap map = seatMap();
+
+            List<Seat> found = map.findAdjacent(BUSINESS, 2).getOrThrow();
+
+            assertEquals(List.of("1D", "1E"), labels(found));
+            assertEquals(12, map.available(BUSINESS));
+        }
+    }
+
+    @Nested
+    @DisplayName("지정 좌석")
+    class Claim {
+
+        @Test
+        @DisplayName("배정 → 중복 배정 실패 → 해제 후 재배정")
+        void claim_and_release() {
+            // Given
+            SeatMap map = seatMap();
+            Seat seat = map.claim("12C").getOrThrow();
+
+            // When
+            Result<Seat, SeatAllocationError> again = map.claim("12C");
+            map.release(List.of(seat));
+
+            // Then
+            assertEquals(new SeatAllocationError.SeatTaken(seat), again.errorOrNull());
+            assertTrue(map.claim("12C").isSuccess());
+        }
+
+        @Test
+        @DisplayName("배치도에 없는 좌석 - 없는 문자, 객실 밖 행")
+        void no_such_seat() {
+            SeatMap map = seatMap();
+
+            assertInstanceOf(SeatAllocationError.NoSuchSeat.class, map.claim("12I").errorOrNull());
+            assertInstanceOf(SeatAllocationError.NoSuchSeat.class, map.claim("5A").errorOrNull());
+            assertInstanceOf(SeatAllocationError.NoSuchSeat.class, map.claim("1B").errorOrNull());
+        }
+
+        @Test
+        @DisplayName("availableSeats - 등급별 빈 좌석 수")
+        void available_seats() {
+            SeatMap map = seatMap();
+            map.claim("1A").getOrThrow();
+            map.allocateAdjacent(ECONOMY, 3).getOrThrow();
+
+            assertEquals(11, map.availableSeats().get(BUSINESS));
+            assertEquals(297, map.availableSeats().get(ECONOMY));
+        }
+
+        @Test
+        @DisplayName("행 범위가 겹치는 객실은 만들 수 없음")
+        void rejects_overlapping_cabins() {
+            assertThrows(IllegalArgumentException.class, () -> SeatMap.of("F1", List.of(
+                    new CabinLayout(BUSINESS, 1, 10, "AB"),
+                    new CabinLayout(ECONOMY, 10, 20, "ABC"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 배정")
+    class Contention {
+
+        @Test
+        @DisplayName("여러 스레드가 만석까지 그룹 배정 - 한 좌석도 두 번 나가지 않음")
+        void no_double_booking_under_contention() throws InterruptedException {
+            // Given
+            SeatMap map = seatMap();
+            int threads = 8;
+            ConcurrentLinkedQueue<Seat> allocated = new ConcurrentLinkedQueue<>();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // When - 스레드마다 1~4명 그룹을 돌려가며 요청, 더 이상 배정이 안 될 때까지
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = offset; ; i++) {
+                        int count = i % 4 + 1;
+                        Result<List<Seat>, SeatAllocationError> result = map.allocateAdjacent(ECONOMY, count);
+                        if (result.isSuccess()) {
+                            allocated.addAll(result.getOrThrow());
+                        } else if (count == 1) {
+                            return null;
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            // Then
+            Set<Seat> unique = new HashSet<>(allocated);
+            assertEquals(allocated.size(), unique.size(), "중복 배정된 좌석");
+            assertEquals(300, unique.size());
+            assertEquals(0, map.available(ECONOMY));
+        }
+
+        @Test
+        @DisplayName("같은 좌석을 동시에 요청 - 정확히 한 스레드만 성공")
+        void exactly_one_claim_wins() throws InterruptedException {
+            for (int round = 0; round < 50; round++) {
+                // Given
+                SeatMap map = seatMap();
+                AtomicInteger winners = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    threads.add(Thread.ofPlatform().start(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        if (map.claim("25F").isSuccess()) {
+                            winners.incrementAndGet();
+                        }
+                    }));
+                }
+
+                // When
+                start.countDown();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+
+                // Then
+                assertEquals(1, winners.get());
+                assertEquals(299, map.available(ECONOMY));
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.travel.domain.promotion;
+
+import com.travel.domain.membership.MembershipTier;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PromotionRuleParser / PromotionRuleSet.compile 단위 테스트
+ */
+@DisplayName("PromotionRuleParser - 규칙 텍스트 파싱")
+class PromotionRuleParserTest {
+
+    @Nested
+    @DisplayName("파싱")
+    class Parse {
+
+        @Test
+        @DisplayName("모든 규칙 종류를 AST로 변환한다 (and/or는 왼쪽부터 묶음)")
+        void all_rule_types() {
+            // Given
+            String text = """
+                    and(or(membership(GOLD), membership(PLATINUM)),
+                        min_amount(300000 KRW),
+                        not(item_type(FLIGHT)),
+                        date(2026-07-01, 2026-08-31),
+                        item_count(2), first_booking, always())
+                    """;
+
+            // When
+            PromotionRule rule = PromotionRuleParser.parse(text).getOrThrow();
+
+            // Then
+            PromotionRule expected = PromotionRule.membershipIs(MembershipTier.GOLD)
+                    .or(PromotionRule.membershipIs(MembershipTier.PLATINUM))
+                    .and(PromotionRule.minimumAmount(Money.krw(300_000)))
+                    .and(PromotionRule.itemTypeIs(PromotionRule.ItemTypeIs.ItemType.FLIGHT).not())
+                    .and(PromotionRule.dateInRange(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 8, 31)))
+                    .and(PromotionRule.itemCountAtLeast(2))
+                    .and(PromotionRule.firstBooking())
+                    .and(PromotionRule.always());
+            assertEquals(expected, rule);
+        }
+
+        @Test
+        @DisplayName("format 결과를 다시 파싱하면 같은 규칙")
+        void format_round_trip() {
+            // Given
+            PromotionRule rule = PromotionRule.membershipIs(MembershipTier.DIAMOND)
+                    .and(PromotionRule.minimumAmount(Money.usd(99.5)).or(PromotionRule.never()))
+                    .and(PromotionRule.dateInRange(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 1)).not());
+
+            // When
+            String text = PromotionRuleParser.format(rule);
+
+            // Then
+            assertEquals(rule, PromotionRuleParser.parse(text).getOrThrow());
+        }
+
+        @Test
+        @DisplayName("문법 오류는 위치와 사유를 담은 failure")
+        void syntax_errors() {
+            assertEquals("위치 1: 알 수 없는 규칙: vip",
+                    PromotionRuleParser.parse("vip").errorOrNull());
+            assertTrue(PromotionRuleParser.parse("membership(GOLDD)").errorOrNull().contains("MembershipTier 값이 아닙니다"));
+            assertTrue(PromotionRuleParser.parse("min_amount(100.5 KRW)").errorOrNull().contains("소수 자릿수"));
+            assertTrue(PromotionRuleParser.parse("date(2026-08-31, 2026-07-01)").errorOrNull().contains("시작일이 종료일보다"));
+            assertTrue(PromotionRuleParser.parse("and(always)").errorOrNull().contains("2개 이상"));
+            assertTrue(PromotionRuleParser.parse("not(always").errorOrNull().contains("')'가 필요합니다"));
+            assertTrue(PromotionRuleParser.parse("always never").errorOrNull().contains("남은 문자"));
+            assertTrue(PromotionRuleParser.parse(" ").isFailure());
+        }
+
+        @Test
+        @DisplayName("중첩 깊이 제한을 넘으면 failure (StackOverflowError 없음)")
+        void depth_limit() {
+            // Given
+            String deep = "not(".repeat(10_000) + "always" + ")".repeat(10_000);
+
+            // When / Then
+            assertTrue(PromotionRuleParser.parse(deep).errorOrNull().contains("중첩"));
+            assertTrue(PromotionRuleParser.parse("not(".repeat(30) + "always" + ")".repeat(30)).isSuccess());
+        }
+    }
+
+    @Nested
+    @DisplayName("PromotionRuleSet.compile")
+    class Compile {
+
+        @Test
+        @DisplayName("정의를 파싱하고 simplify한 규칙을 정의 순서대로 담는다")
+        void compiles_and_simplifies() {
+            // Given
+            var definitions = List.of(
+                    new PromotionRuleDefinition("B", "and(always, membership(GOLD))"),
+                    new PromotionRuleDefinition("A", "or(never, not(not(first_booking)))"));
+
+            // When
+            var set = PromotionRuleSet.compile(1, definitions, "test", Instant.now()).getOrThrow();
+
+            // Then
+            assertEquals(List.of("B", "A"), List.copyOf(set.rules().keySet()));
+            assertEquals(PromotionRule.membershipIs(MembershipTier.GOLD), set.rule("B").orElseThrow());
+            assertEquals(PromotionRule.firstBooking(), set.rule("A").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("ID 누락, 중복, 문법 오류를 모두 모아 Invalid")
+        void collects_all_errors() {
+            // Given
+            var definitions = List.of(
+                    new PromotionRuleDefinition("A", "always"),
+                    new PromotionRuleDefinition(" ", "always"),
+                    new PromotionRuleDefinition("A", "never"),
+                    new PromotionRuleDefinition("C", "membership(VIP)"));
+
+            // When
+            var compiled = PromotionRuleSet.compile(1, definitions, "test", Instant.now());
+
+            // Then
+            assertTrue(compiled.isInvalid());
+            assertEquals(3, compiled.errors().size());
+            assertTrue(compiled.errors().get(2).startsWith("[C] 위치"));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.travel.domain.settlement;
+
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SettlementCalculations 단위 테스트
+ */
+@DisplayName("SettlementCalculations - 정산 계산")
+class SettlementCalculationsTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 9, 30);
+    private static final Instant COMPLETED_AT = Instant.parse("2026-09-15T03:00:00Z");
+
+    private static Settlement.SettlementItem item(String bookingId, Money amount) {
+        return new Settlement.SettlementItem(bookingId, "호텔 디럭스", amount, COMPLETED_AT);
+    }
+
+    @Nested
+    @DisplayName("settleByCurrency - 파트너 정산 생성")
+    class SettleByCurrency {
+
+        @Test
+        @DisplayName("통화마다 정산 1건을 만들고 각 정산은 같은 통화 항목만 담는다")
+        void splits_by_currency() {
+            // Given
+            var items = List.of(
+                    item("B-1", Money.krw(100_000)),
+                    item("B-2", new Money(new BigDecimal("120.50"), Currency.USD)),
+                    item("B-3", Money.krw(50_000)));
+
+            // When
+            var settlements = SettlementCalculations.settleByCurrency("HOTEL:그랜드", DATE, items, 10);
+
+            // Then
+            assertEquals(2, settlements.size());
+            var krw = settlements.stream()
+                    .filter(s -> s.totalAmount().currency() == Currency.KRW).findFirst().orElseThrow();
+            assertEquals(2, krw.itemCount());
+            assertEquals(Money.krw(150_000), krw.totalAmount());
+            assertEquals(Money.krw(15_000), krw.fee());
+            assertEquals(Money.krw(135_000), krw.netAmount());
+            assertTrue(settlements.stream().allMatch(s -> s.partnerId().equals("HOTEL:그랜드")
+                    && s.settlementDate().equals(DATE) && s.isPending()));
+        }
+
+        @Test
+        @DisplayName("수수료는 합계에 한 번만 반올림한다 - 총액 - 수수료 = 실지급액")
+        void fee_rounded_once_on_total() {
+            // Given: 항목별 10% 수수료를 반올림해 더하면 0.03 × 3 = 0.09, 합계 기준이면 0.10
+            var usd = List.of(
+                    item("B-1", new Money(new BigDecimal("0.33"), Currency.USD)),
+                    item("B-2", new Money(new BigDecimal("0.33"), Currency.USD)),
+                    item("B-3", new Money(new BigDecimal("0.34"), Currency.USD)));
+
+            // When
+            var settlement = SettlementCalculations.settleByCurrency("AIRLINE:KE", DATE, usd, 10).getFirst();
+
+            // Then
+            assertEquals(new Money(new BigDecimal("1.00"), Currency.USD), settlement.totalAmount());
+            assertEquals(new Money(new BigDecimal("0.10"), Currency.USD), settlement.fee());
+            assertEquals(settlement.totalAmount().subtract(settlement.fee()), settlement.netAmount());
+        }
+
+        @Test
+        @DisplayName("항목이 없으면 정산도 없다")
+        void empty_items() {
+            assertTrue(SettlementCalculations.settleByCurrency("HOTEL:그랜드", DATE, List.of(), 10).isEmpty());
+        }
+    }
+}
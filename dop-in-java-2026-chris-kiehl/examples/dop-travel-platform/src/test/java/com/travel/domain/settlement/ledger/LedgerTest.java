@@ -0,0 +1,227 @@
+package com.travel.domain.settlement.ledger;
+
+import com.travel.domain.settlement.Settlement;
+import com.travel.shared.types.Currency;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ledger 테스트 - 분개 생성, 체크포인트 + 분개 fold, 검증 (저장소 없이 순수 함수만)
+ */
+@DisplayName("Ledger - 정산 복식부기 원장 계산")
+class LedgerTest {
+
+    private static final LedgerAccount CASH = new LedgerAccount.Cash();
+    private static final LedgerAccount COMMISSION = new LedgerAccount.CommissionRevenue();
+    private static final Instant START = Instant.parse("2026-09-01T00:00:00Z");
+
+    private final List<LedgerEntry> journal = new ArrayList<>();
+
+    private static LedgerAccount partner(String partnerId) {
+        return new LedgerAccount.PartnerPayable(partnerId);
+    }
+
+    private static Settlement settlement(String partnerId, long total) {
+        var item = new Settlement.SettlementItem("B-1", "서울 호텔", Money.krw(total), START);
+        return Settlement.create(partnerId, LocalDate.of(2026, 9, 30), List.of(item), 10);
+    }
+
+    /** 거래를 분개로 바꿔 journal 끝에 붙임 - 거래마다 1분씩 진행 */
+    private List<LedgerEntry> post(LedgerTransaction transaction) {
+        long lastSequence = journal.isEmpty() ? 0 : journal.getLast().sequence();
+        Instant lastPostedAt = journal.isEmpty() ? Instant.EPOCH : journal.getLast().postedAt();
+        List<LedgerEntry> entries = Ledger.journal(transaction, lastSequence, lastPostedAt,
+                START.plus(Duration.ofMinutes(journal.size())));
+        journal.addAll(entries);
+        return entries;
+    }
+
+    private Ledger.Checkpoint replayAll() {
+        return Ledger.replay(Ledger.Checkpoint.empty(), journal);
+    }
+
+    @Nested
+    @DisplayName("분개 생성")
+    class Journal {
+
+        @Test
+        @DisplayName("차변과 대변이 다른 거래는 만들 수 없음")
+        void rejects_unbalanced_transaction() {
+            assertThrows(IllegalArgumentException.class, () -> new LedgerTransaction("tx", "", List.of(
+                    LedgerTransaction.Posting.debit(CASH, Money.krw(1_000)),
+                    LedgerTransaction.Posting.credit(partner("H1"), Money.krw(900)))));
+        }
+
+        @Test
+        @DisplayName("일련번호는 lastSequence 다음부터, 금액은 최소 단위")
+        void numbers_entries_after_last_sequence() {
+            List<LedgerEntry> entries = Ledger.journal(
+                    LedgerTransaction.bookingRevenue("B-1", "H1", Money.usd(75.50)), 41, Instant.EPOCH, START);
+
+            assertEquals(List.of(42L, 43L), entries.stream().map(LedgerEntry::sequence).toList());
+            assertEquals(List.of(7_550L, 7_550L), entries.stream().map(LedgerEntry::amount).toList());
+            assertEquals("booking:B-1", entries.getFirst().transactionId());
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 기록 시각은 lastPostedAt 이상")
+        void posted_at_never_decreases() {
+            Instant lastPostedAt = START.plusSeconds(60);
+
+            List<LedgerEntry> entries = Ledger.journal(
+                    LedgerTransaction.refund("R-1", "H1", Money.krw(5_000)), 2, lastPostedAt, START);
+
+            assertTrue(entries.stream().allMatch(entry -> entry.postedAt().equals(lastPostedAt)));
+        }
+    }
+
+    @Nested
+    @DisplayName("잔액 fold")
+    class Replay {
+
+        @Test
+        @DisplayName("매출 → 수수료 → 지급 - 파트너 미지급 0, 현금 = 수수료")
+        void revenue_commission_payout() {
+            // Given
+            Settlement settlement = settlement("H1", 300_000).approve().pay("TX-1");
+            post(LedgerTransaction.bookingRevenue("B-1", "H1", Money.krw(300_000)));
+            post(LedgerTransaction.commission(settlement));
+            LedgerBalance beforePayout = replayAll().balance(partner("H1"), Currency.KRW);
+
+            // When
+            post(LedgerTransaction.payout(settlement));
+            Ledger.Checkpoint after = replayAll();
+
+            // Then
+            assertEquals(-270_000, beforePayout.net());
+            assertEquals(0, after.balance(partner("H1"), Currency.KRW).net());
+            assertEquals(30_000, after.balance(CASH, Currency.KRW).net());
+            assertEquals(-30_000, after.balance(COMMISSION, Currency.KRW).net());
+            assertEquals(journal.getLast().sequence(), after.sequence());
+        }
+
+        @Test
+        @DisplayName("통화별 잔액은 분리")
+        void balances_per_currency() {
+            post(LedgerTransaction.bookingRevenue("B-1", "H1", Money.krw(100_000)));
+            post(LedgerTransaction.bookingRevenue("B-2", "H1", Money.usd(75.50)));
+
+            Ledger.Checkpoint checkpoint = replayAll();
+
+            assertEquals(-100_000, checkpoint.balance(partner("H1"), Currency.KRW).net());
+            assertEquals(-7_550, checkpoint.balance(partner("H1"), Currency.USD).net());
+            assertEquals(0, checkpoint.balance(partner("H1"), Currency.JPY).net());
+        }
+
+        @Test
+        @DisplayName("모든 일련번호에서 체크포인트 + 나머지 분개 = 처음부터 재생")
+        void checkpoint_plus_journal_matches_full_replay() {
+            // Given - 파트너 5곳에 무작위 사건 100건
+            postRandomEvents(100);
+            Ledger.Checkpoint full = replayAll();
+
+            // When / Then
+            for (int split = 0; split <= journal.size(); split++) {
+                Ledger.Checkpoint checkpoint = Ledger.replay(Ledger.Checkpoint.empty(), journal.subList(0, split));
+                assertEquals(full, Ledger.replay(checkpoint, journal.subList(split, journal.size())), "#" + split);
+            }
+        }
+
+        @Test
+        @DisplayName("계정 하나의 fold - 체크포인트 잔액 + 그 계정 분개, 다른 계정 분개는 거부")
+        void single_account_replay() {
+            postRandomEvents(50);
+            List<LedgerEntry> h1 = journal.stream()
+                    .filter(entry -> entry.account().equals(partner("H1"))).toList();
+            int split = h1.size() / 2;
+
+            LedgerBalance checkpoint = Ledger.replay(LedgerBalance.zero(partner("H1"), Currency.KRW), h1.subList(0, split));
+            LedgerBalance balance = Ledger.replay(checkpoint, h1.subList(split, h1.size()));
+
+            assertEquals(replayAll().balance(partner("H1"), Currency.KRW), balance);
+            assertThrows(IllegalArgumentException.class,
+                    () -> Ledger.replay(LedgerBalance.zero(partner("H1"), Currency.KRW), journal));
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Verify {
+
+        @Test
+        @DisplayName("통화별 차변 합계 = 대변 합계, 체크포인트/누계 일치")
+        void verify_balanced_ledger() {
+            postRandomEvents(100);
+            post(LedgerTransaction.bookingRevenue("B-USD", "H1", Money.usd(10)));
+            Ledger.Checkpoint stored = Ledger.replay(Ledger.Checkpoint.empty(), journal.subList(0, 70));
+
+            Ledger.Verification verification = Ledger.verify(journal, stored, replayAll().balances());
+
+            assertTrue(verification.isBalanced(), verification.violations().toString());
+            assertEquals(verification.debits(), verification.credits());
+            assertEquals(journal.size(), verification.entries());
+            assertEquals(101, verification.transactions());
+        }
+
+        @Test
+        @DisplayName("한쪽만 있는 분개를 찾아냄")
+        void verify_detects_one_sided_entry() {
+            // Given
+            postRandomEvents(20);
+            journal.add(new LedgerEntry(journal.size() + 1, "forged", CASH,
+                    LedgerEntry.Side.DEBIT, 1_000, Currency.KRW, START));
+
+            // When
+            Ledger.Verification verification = Ledger.verify(journal, Ledger.Checkpoint.empty(), replayAll().balances());
+
+            // Then
+            assertFalse(verification.isBalanced());
+            assertTrue(verification.violations().stream().anyMatch(v -> v.contains("forged")));
+            assertTrue(verification.violations().stream().anyMatch(v -> v.startsWith("KRW 차변 합계")));
+        }
+
+        @Test
+        @DisplayName("체크포인트/메모리 누계가 재생 결과와 다르면 위반")
+        void verify_detects_stale_checkpoint_and_balances() {
+            postRandomEvents(20);
+            Map<LedgerBalance.Key, LedgerBalance> wrong = new HashMap<>(replayAll().balances());
+            wrong.put(new LedgerBalance.Key(CASH, Currency.KRW), LedgerBalance.zero(CASH, Currency.KRW));
+            Ledger.Checkpoint stored = new Ledger.Checkpoint(10, wrong);
+
+            Ledger.Verification verification = Ledger.verify(journal, stored, wrong);
+
+            assertEquals(2, verification.violations().size(), verification.violations().toString());
+            assertEquals("체크포인트 #10 잔액이 분개 재생 결과와 다릅니다", verification.violations().get(0));
+            assertTrue(verification.violations().get(1).startsWith("메모리 누계가 분개 재생 결과와 다릅니다"));
+        }
+    }
+
+    // ============================================
+    // 테스트 도우미
+    // ============================================
+
+    private void postRandomEvents(int count) {
+        SplittableRandom random = new SplittableRandom(47);
+        for (int i = 0; i < count; i++) {
+            String partnerId = "H" + random.nextInt(5);
+            Money amount = Money.krw(1_000L * (1 + random.nextInt(100)));
+            post(switch (random.nextInt(3)) {
+                case 0, 1 -> LedgerTransaction.bookingRevenue("B-" + i, partnerId, amount);
+                default -> LedgerTransaction.refund("R-" + i, partnerId, amount);
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.travel.infrastructure.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AuditRingBuffer 테스트 - 순서, 가득 참, 여러 생산자
+ */
+@DisplayName("AuditRingBuffer - 잠금 없는 링 버퍼")
+class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼냄 - 여러 바퀴 돌아도 같음")
+    void fifo_across_wraps() {
+        var ring = new AuditRingBuffer<Integer>(4);
+        List<Integer> out = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ring.offer(i));
+            if (i % 2 == 1) {
+                ring.drainTo(out, 10);
+            }
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), out);
+        assertNull(ring.poll());
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer가 false, 하나 꺼내면 다시 true")
+    void rejects_when_full() {
+        // Given
+        var ring = new AuditRingBuffer<String>(2);
+        assertTrue(ring.offer("a"));
+        assertTrue(ring.offer("b"));
+
+        // When & Then
+        assertFalse(ring.offer("c"));
+        assertEquals(2, ring.size());
+        assertEquals("a", ring.poll());
+        assertTrue(ring.offer("c"));
+    }
+
+    @Test
+    @DisplayName("drainTo는 max개까지만")
+    void drain_respects_max() {
+        var ring = new AuditRingBuffer<Integer>(8);
+        for (int i = 0; i < 5; i++) {
+            ring.offer(i);
+        }
+        List<Integer> out = new ArrayList<>();
+
+        assertEquals(3, ring.drainTo(out, 3));
+        assertEquals(List.of(0, 1, 2), out);
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    @DisplayName("크기가 2의 거듭제곱이 아니면 예외")
+    void capacity_must_be_power_of_two() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer<>(100));
+    }
+
+    @Test
+    @DisplayName("생산자 4개 + 소비자 1개 - 잃거나 두 번 꺼내는 값 없음, 생산자별 순서 유지")
+    void concurrent_producers() throws InterruptedException {
+        // Given
+        var ring = new AuditRingBuffer<Long>(64);
+        int producers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p << 32;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        Set<Long> seen = new HashSet<>();
+        long[] lastByProducer = {-1, -1, -1, -1};
+        while (seen.size() < producers * perProducer) {
+            Long value = ring.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) (value >>> 32);
+            long sequence = value & 0xFFFFFFFFL;
+            assertTrue(sequence > lastByProducer[producer], "생산자별 순서");
+            lastByProducer[producer] = sequence;
+            assertTrue(seen.add(value), "중복 " + value);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(producers * perProducer, seen.size());
+        assertNull(ring.poll());
+    }
+}
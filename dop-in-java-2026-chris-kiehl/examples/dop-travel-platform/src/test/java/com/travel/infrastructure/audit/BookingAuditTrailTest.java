@@ -0,0 +1,288 @@
+package com.travel.infrastructure.audit;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingAuditEntry;
+import com.travel.domain.booking.BookingAuditRepository;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingAuditTrail 테스트 - 메모리 Repository + 임시 spill 디렉토리
+ */
+@DisplayName("BookingAuditTrail - write-behind 감사 기록")
+class BookingAuditTrailTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    /** 저장된 기록 (id → 기록), failing이면 예외 */
+    static final class InMemoryAuditRepository implements BookingAuditRepository {
+        final Map<String, BookingAuditEntry> rows = new ConcurrentHashMap<>();
+        volatile boolean failing;
+        volatile int inserts;
+
+        @Override
+        public synchronized void insertAll(List<BookingAuditEntry> entries) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            for (BookingAuditEntry entry : entries) {
+                assertNull(rows.putIfAbsent(entry.id(), entry), "중복 INSERT " + entry.id());
+            }
+            inserts++;
+        }
+
+        @Override
+        public Set<String> findExistingIds(Collection<String> ids) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return ids.stream().filter(rows::containsKey).collect(Collectors.toSet());
+        }
+    }
+
+    private final InMemoryAuditRepository repository = new InMemoryAuditRepository();
+
+    private BookingAuditTrail trail(int bufferSize, Duration flushInterval) {
+        return new BookingAuditTrail(repository, bufferSize, 100, flushInterval, Duration.ofMillis(20),
+                spillDirectory.toString(), Duration.ofSeconds(1));
+    }
+
+    private static BookingAuditEntry entry(int n) {
+        return new BookingAuditEntry(UUID.randomUUID().toString(), BookingId.generate(),
+                n == 0 ? null : "Pending", "Confirmed", Instant.ofEpochSecond(1_800_000_000L + n, n), "SYSTEM");
+    }
+
+    private static List<BookingAuditEntry> entries(int count) {
+        List<BookingAuditEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(entry(i));
+        }
+        return entries;
+    }
+
+    private void awaitRows(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (repository.rows.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, repository.rows.size());
+    }
+
+    @Nested
+    @DisplayName("정상 경로")
+    class WriteBehind {
+
+        @Test
+        @DisplayName("배경 스레드가 배치로 저장 - 요청 수보다 INSERT 트랜잭션이 적음")
+        void writes_in_batches() throws InterruptedException {
+            // Given
+            var trail = trail(1024, Duration.ofMillis(5));
+
+            // When
+            entries(500).forEach(trail::record);
+
+            // Then
+            awaitRows(500);
+            assertTrue(repository.inserts < 500, "배치 수 " + repository.inserts);
+            trail.close();
+            assertEquals(500, trail.stats().written());
+        }
+
+        @Test
+        @DisplayName("종료 시 링 버퍼에 남은 기록을 모두 저장")
+        void close_drains_buffer() {
+            // Given - 배경 스레드가 깨어나기 전에 닫음
+            var trail = trail(1024, Duration.ofHours(1));
+            List<BookingAuditEntry> recorded = entries(50);
+            recorded.forEach(trail::record);
+
+            // When
+            trail.close();
+
+            // Then
+            assertEquals(50, repository.rows.size());
+            recorded.forEach(e -> assertEquals(e, repository.rows.get(e.id())));
+        }
+
+        @Test
+        @DisplayName("종료 후 도착한 기록은 유실로 집계 - spill 파일을 다시 열지 않음")
+        void records_after_close_are_lost() {
+            // Given
+            var trail = trail(1024, Duration.ofHours(1));
+            trail.close();
+
+            // When
+            entries(3).forEach(trail::record);
+
+            // Then
+            assertEquals(3, trail.stats().lost());
+            assertEquals(0, trail.stats().spilled());
+            assertFalse(Files.exists(spillDirectory.resolve("active.log")));
+            assertEquals(0, repository.rows.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("감사 범위 - BookingStatusChanged를 발행하는 경로만")
+    class Coverage {
+
+        @Test
+        @DisplayName("생성 / 회원 취소 / 상품 일괄 취소가 발행하는 이벤트 → 이전/이후 상태와 주체")
+        void records_published_transitions() {
+            // Given - CreateBookingUseCase, CancelBookingUseCase, BulkCancelByProductUseCase가 발행하는 이벤트
+            var trail = trail(1024, Duration.ofHours(1));
+            Booking created = Booking.create(MemberId.generate(), List.of(new BookingItem.Accommodation(
+                    "ROOM-1", "호텔", "디럭스",
+                    new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                    Money.krw(100_000), 2)));
+            Booking cancelledByUser = created.cancel("고객 요청", null, BookingStatus.Cancelled.CancelledBy.USER);
+            Booking cancelledByAdmin = created.cancel("상품 판매 중단", null, BookingStatus.Cancelled.CancelledBy.ADMIN);
+
+            // When
+            trail.on(BookingStatusChanged.created(created));
+            trail.on(BookingStatusChanged.transitioned(created, cancelledByUser));
+            trail.on(BookingStatusChanged.transitioned(created, cancelledByAdmin));
+            trail.close();
+
+            // Then
+            assertEquals(Set.of(
+                    List.of("-", "Pending", "MEMBER"),
+                    List.of("Pending", "Cancelled", "USER"),
+                    List.of("Pending", "Cancelled", "ADMIN")
+            ), repository.rows.values().stream()
+                    .map(e -> List.of(e.fromStatus() == null ? "-" : e.fromStatus(), e.toStatus(), e.actor()))
+                    .collect(Collectors.toSet()));
+            assertTrue(repository.rows.values().stream().allMatch(e -> e.bookingId().equals(created.id())));
+        }
+    }
+
+    @Nested
+    @DisplayName("spill")
+    class Spill {
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 spill 파일로 - 재처리 후 모두 저장")
+        void spills_when_buffer_full() throws InterruptedException {
+            // Given - 배경 스레드가 깨어나지 않는 동안 8칸을 넘겨 기록
+            var trail = trail(8, Duration.ofMillis(200));
+            List<BookingAuditEntry> recorded = entries(40);
+
+            // When
+            recorded.forEach(trail::record);
+
+            // Then
+            assertTrue(trail.stats().spilled() > 0);
+            awaitRows(40);
+            trail.close();
+            assertEquals(40, trail.stats().written() + trail.stats().replayed());
+            assertEquals(0, trail.stats().lost());
+        }
+
+        @Test
+        @DisplayName("저장 실패 배치는 spill로 → DB가 살아나면 재처리")
+        void retries_after_failure() throws InterruptedException {
+            // Given
+            repository.failing = true;
+            var trail = trail(1024, Duration.ofMillis(5));
+            entries(30).forEach(trail::record);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (trail.stats().spilled() < 30 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(30, trail.stats().spilled());
+
+            // When
+            repository.failing = false;
+
+            // Then
+            awaitRows(30);
+            trail.close();
+            assertEquals(30, trail.stats().replayed());
+        }
+
+        @Test
+        @DisplayName("종료 시 DB가 실패하면 spill에 남기고, 다음 기동 때 재처리")
+        void replays_on_next_start() throws InterruptedException {
+            // Given
+            repository.failing = true;
+            var first = trail(1024, Duration.ofHours(1));
+            entries(20).forEach(first::record);
+            first.close();
+            assertEquals(0, repository.rows.size());
+            assertEquals(20, first.stats().spilled());
+
+            // When
+            repository.failing = false;
+            var second = trail(1024, Duration.ofMillis(5));
+
+            // Then
+            awaitRows(20);
+            second.close();
+        }
+
+        @Test
+        @DisplayName("재처리는 이미 저장된 id를 건너뜀")
+        void replay_skips_existing_ids() throws InterruptedException {
+            // Given - 저장은 됐지만 spill에도 남은 기록 (저장 후 응답 전 실패)
+            List<BookingAuditEntry> recorded = entries(10);
+            repository.insertAll(recorded.subList(0, 6));
+            try (var spill = BookingAuditSpill.open(spillDirectory)) {
+                spill.append(recorded);
+            }
+
+            // When
+            var trail = trail(1024, Duration.ofMillis(5));
+
+            // Then
+            awaitRows(10);
+            trail.close();
+            assertEquals(4, trail.stats().replayed());
+        }
+
+        @Test
+        @DisplayName("기록 중 끊긴 꼬리는 버리고 앞의 기록만 읽음")
+        void ignores_torn_tail() throws IOException {
+            // Given
+            List<BookingAuditEntry> recorded = entries(3);
+            try (var spill = BookingAuditSpill.open(spillDirectory)) {
+                spill.append(recorded);
+            }
+            Path active = spillDirectory.resolve("active.log");
+            Files.write(active, new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+            // When
+            List<BookingAuditEntry> read = BookingAuditSpill.read(active);
+
+            // Then
+            assertEquals(recorded, read);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.travel.infrastructure.persistence.eventstore;
+
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingError;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.booking.BookingStatusChanged;
+import com.travel.domain.member.MemberId;
+import com.travel.shared.Result;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EventSourcedBookingRepository 단위 테스트
+ */
+@DisplayName("EventSourcedBookingRepository - 이벤트 로그 기반 저장소")
+class EventSourcedBookingRepositoryTest {
+
+    private static final int SEGMENT_SIZE = 8 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final List<BookingEventLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeLogs() {
+        opened.forEach(BookingEventLog::close);
+    }
+
+    private BookingEventLog openLog() {
+        BookingEventLog log = BookingEventLog.open(dir, SEGMENT_SIZE, false);
+        opened.add(log);
+        return log;
+    }
+
+    private static Booking newBooking(MemberId memberId) {
+        var room = new BookingItem.Accommodation(
+                "ROOM-001", "호텔 A", "디럭스",
+                new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                Money.krw(150_000), 2);
+        var flight = new BookingItem.Flight(
+                "FL-001", "항공사", "KE123", "ICN", "NRT",
+                LocalDateTime.of(2026, 7, 10, 9, 0),
+                LocalDateTime.of(2026, 7, 10, 11, 30),
+                BookingItem.Flight.SeatClass.BUSINESS,
+                Money.krw(450_000), 1);
+        return Booking.create(memberId, List.of(room, flight));
+    }
+
+    /**
+     * 로그의 레코드 타입 목록 (기록 순)
+     */
+    private static List<Byte> recordTypes(BookingEventLog log) {
+        List<Byte> types = new ArrayList<>();
+        log.replay((position, type, payload) -> types.add(type));
+        return types;
+    }
+
+    @Nested
+    @DisplayName("저장과 조회")
+    class SaveAndFind {
+
+        @Test
+        @DisplayName("저장한 예약을 모든 필드가 같게 다시 읽는다")
+        void round_trip() {
+            // Given
+            var repository = new EventSourcedBookingRepository(openLog(), 16);
+            var booking = newBooking(MemberId.generate()).withDiscount(Money.krw(30_000), "COUPON-1");
+
+            // When
+            repository.save(booking);
+
+            // Then
+            assertEquals(booking, repository.findById(booking.id()).getOrThrow());
+            assertTrue(repository.existsById(booking.id()));
+        }
+
+        @Test
+        @DisplayName("상태만 바뀌면 스냅샷 대신 상태 전이 이벤트를 추가한다")
+        void status_change_appends_event() {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 16);
+            var pending = repository.save(newBooking(MemberId.generate()));
+
+            // When
+            var confirmed = repository.save(pending.confirm("PAY-1"));
+            var completed = repository.save(confirmed.complete());
+
+            // Then
+            assertEquals(List.of(BookingEventLog.SNAPSHOT, BookingEventLog.STATUS_CHANGED,
+                    BookingEventLog.STATUS_CHANGED), recordTypes(log));
+            assertEquals(completed, repository.findById(pending.id()).getOrThrow());
+        }
+
+        @Test
+        @DisplayName("상태 외 필드가 바뀌면 새 스냅샷을 기록한다")
+        void other_change_appends_snapshot() {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 16);
+            var pending = repository.save(newBooking(MemberId.generate()));
+
+            // When
+            var discounted = repository.save(pending.withDiscount(Money.krw(10_000), "COUPON-2"));
+
+            // Then
+            assertEquals(List.of(BookingEventLog.SNAPSHOT, BookingEventLog.SNAPSHOT), recordTypes(log));
+            assertEquals(discounted, repository.findById(pending.id()).getOrThrow());
+        }
+
+        @Test
+        @DisplayName("스냅샷 이후 이벤트가 간격만큼 쌓이면 다음 저장은 스냅샷이다")
+        void snapshot_interval() {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 2);
+            var booking = repository.save(newBooking(MemberId.generate()));
+
+            // When: 이벤트 2개 후 세 번째 상태 변경
+            booking = repository.save(booking.confirm("PAY-1"));
+            booking = repository.save(booking.withStatus(new BookingStatus.Confirmed("PAY-2", booking.updatedAt())));
+            booking = repository.save(booking.complete());
+
+            // Then
+            assertEquals(List.of(BookingEventLog.SNAPSHOT, BookingEventLog.STATUS_CHANGED,
+                    BookingEventLog.STATUS_CHANGED, BookingEventLog.SNAPSHOT), recordTypes(log));
+            assertEquals(booking, repository.findById(booking.id()).getOrThrow());
+        }
+
+        @Test
+        @DisplayName("없는 예약은 NotFound 실패를 반환한다")
+        void not_found() {
+            // Given
+            var repository = new EventSourcedBookingRepository(openLog(), 16);
+            var id = BookingId.generate();
+
+            // When
+            Result<Booking, BookingError> result = repository.findById(id);
+
+            // Then
+            assertEquals(Result.failure(new BookingError.NotFound(id)), result);
+            assertTrue(repository.findByIdOptional(id).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 조회 - 인덱스")
+    class Queries {
+
+        @Test
+        @DisplayName("회원별/상태별/상품별 조회는 현재 상태 기준이다")
+        void member_status_product() {
+            // Given
+            var repository = new EventSourcedBookingRepository(openLog(), 16);
+            var memberId = MemberId.generate();
+            var first = repository.save(newBooking(memberId));
+            var second = repository.save(newBooking(memberId));
+            repository.save(newBooking(MemberId.generate()));
+
+            // When
+            repository.save(second.confirm("PAY-1"));
+
+            // Then
+            assertEquals(2, repository.findByMemberId(memberId).size());
+            assertEquals(List.of(first),
+                    repository.findByMemberIdAndStatus(memberId, BookingStatus.Pending.class));
+            assertEquals(1, repository.findByMemberIdAndStatus(memberId, BookingStatus.Confirmed.class).size());
+            assertTrue(repository.existsByMemberIdAndProductId(memberId, "FL-001"));
+            assertFalse(repository.existsByMemberIdAndProductId(memberId, "FL-999"));
+        }
+
+        @Test
+        @DisplayName("상품별 활성 예약은 예약 ID 순 keyset 페이지로 조회하고 취소/완료 예약은 제외한다")
+        void active_by_product_keyset() {
+            // Given
+            var repository = new EventSourcedBookingRepository(openLog(), 16);
+            var bookings = new ArrayList<Booking>();
+            for (int i = 0; i < 5; i++) {
+                bookings.add(repository.save(newBooking(MemberId.generate())));
+            }
+            var cancelled = bookings.get(0);
+            repository.save(cancelled.cancel("변심", null, BookingStatus.Cancelled.CancelledBy.USER));
+            var expected = bookings.subList(1, 5).stream()
+                    .map(Booking::id)
+                    .sorted(Comparator.comparing(BookingId::toString))
+                    .toList();
+
+            // When
+            var firstPage = repository.findActiveByProductId("ROOM-001", null, 3);
+            var secondPage = repository.findActiveByProductId("ROOM-001", firstPage.getLast().id(), 3);
+
+            // Then
+            assertEquals(expected.subList(0, 3), firstPage.stream().map(Booking::id).toList());
+            assertEquals(expected.subList(3, 4), secondPage.stream().map(Booking::id).toList());
+            assertTrue(repository.findActiveByProductId("ROOM-999", null, 3).isEmpty());
+        }
+
+        @Test
+        @DisplayName("updateStatuses는 읽은 뒤 상태가 바뀐 예약을 건너뛴다")
+        void update_statuses_skips_stale() {
+            // Given
+            var repository = new EventSourcedBookingRepository(openLog(), 16);
+            var fresh = repository.save(newBooking(MemberId.generate()));
+            var stale = repository.save(newBooking(MemberId.generate()));
+            repository.save(stale.confirm("PAY-1"));
+
+            var admin = BookingStatus.Cancelled.CancelledBy.ADMIN;
+            var changes = List.of(
+                    BookingStatusChanged.transitioned(fresh, fresh.cancel("결항", null, admin)),
+                    BookingStatusChanged.transitioned(stale, stale.cancel("결항", null, admin)));
+
+            // When
+            var applied = repository.updateStatuses(changes);
+
+            // Then
+            assertEquals(List.of(changes.get(0)), applied);
+            assertInstanceOf(BookingStatus.Cancelled.class, repository.findById(fresh.id()).getOrThrow().status());
+            assertInstanceOf(BookingStatus.Confirmed.class, repository.findById(stale.id()).getOrThrow().status());
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작과 복구")
+    class Recovery {
+
+        @Test
+        @DisplayName("로그를 다시 열면 인덱스를 재구성하여 같은 상태를 읽는다")
+        void reopen_rebuilds_index() {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 16);
+            var memberId = MemberId.generate();
+            var booking = repository.save(newBooking(memberId));
+            var cancelled = repository.save(booking.cancel("일정 변경", Money.krw(0),
+                    BookingStatus.Cancelled.CancelledBy.USER));
+            log.close();
+
+            // When
+            var reopened = new EventSourcedBookingRepository(openLog(), 16);
+
+            // Then
+            assertEquals(cancelled, reopened.findById(booking.id()).getOrThrow());
+            assertEquals(List.of(cancelled),
+                    reopened.findByMemberIdAndStatus(memberId, BookingStatus.Cancelled.class));
+        }
+
+        @Test
+        @DisplayName("마지막 레코드가 손상되면 그 레코드만 버리고 이어서 기록한다")
+        void torn_tail_is_truncated() throws IOException {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 16);
+            var booking = repository.save(newBooking(MemberId.generate()));
+            repository.save(booking.confirm("PAY-1"));
+            long[] last = {0};
+            log.replay((position, type, payload) -> last[0] = position);
+            log.close();
+
+            // 마지막 레코드의 페이로드 1바이트 변조 → CRC 불일치
+            int offset = (int) last[0] + BookingEventLog.HEADER_SIZE;
+            try (var channel = FileChannel.open(dir.resolve("booking-events-00000000.log"), StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x7F}), offset);
+            }
+
+            // When
+            var recovered = openLog();
+            var reopened = new EventSourcedBookingRepository(recovered, 16);
+
+            // Then: 확정 이벤트는 사라지고 Pending 스냅샷만 남음
+            assertEquals(booking, reopened.findById(booking.id()).getOrThrow());
+            var completed = reopened.save(booking.confirm("PAY-2").complete());
+            assertEquals(completed, reopened.findById(booking.id()).getOrThrow());
+            assertEquals(2, recordTypes(recovered).size());
+        }
+
+        @Test
+        @DisplayName("세그먼트가 차면 새 파일로 넘어가고 재시작 후에도 모두 읽는다")
+        void rolls_segments() {
+            // Given
+            var log = openLog();
+            var repository = new EventSourcedBookingRepository(log, 16);
+            List<Booking> saved = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 60; i++) {
+                saved.add(repository.save(newBooking(MemberId.generate())));
+            }
+            int segments = log.segmentCount();
+            log.close();
+            var reopened = new EventSourcedBookingRepository(openLog(), 16);
+
+            // Then
+            assertTrue(segments > 1, "세그먼트 수: " + segments);
+            assertEquals(60, reopened.size());
+            for (Booking booking : saved) {
+                assertEquals(booking, reopened.findById(booking.id()).getOrThrow());
+            }
+        }
+    }
+}
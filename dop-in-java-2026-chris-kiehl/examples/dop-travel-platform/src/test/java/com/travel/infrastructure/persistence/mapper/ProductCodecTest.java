@@ -0,0 +1,57 @@
+package com.travel.infrastructure.persistence.mapper;
+
+import com.travel.domain.product.accommodation.Room;
+import com.travel.domain.product.accommodation.RoomType;
+import com.travel.domain.product.flight.Flight;
+import com.travel.domain.product.flight.SeatClass;
+import com.travel.domain.product.travelpackage.TravelPackage;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProductCodec 왕복 테스트
+ */
+@DisplayName("ProductCodec - 상품 바이너리 왕복")
+class ProductCodecTest {
+
+    @Test
+    @DisplayName("객실 - 파라미터가 있는 객실 유형과 null 설명 포함")
+    void room_round_trip() {
+        var room = new Room("R1", "HOTEL-1", "서울 호텔", new RoomType.Penthouse(42), Money.usd(350.25), 4,
+                List.of("wifi", "수영장"), null);
+
+        assertEquals(room, ProductCodec.decodeRoom(ProductCodec.encode(room)));
+    }
+
+    @Test
+    @DisplayName("항공편 - 좌석 등급별 요금/잔여 좌석")
+    void flight_round_trip() {
+        LocalDateTime departure = LocalDateTime.of(2026, 7, 1, 9, 30, 15);
+        var flight = new Flight("F1", "대한항공", "KE001", "ICN", "NRT", departure, departure.plusMinutes(135),
+                Map.of(new SeatClass.Economy(), Money.krw(300_000), new SeatClass.First(), Money.krw(2_000_000)),
+                Map.of(new SeatClass.Economy(), 120, new SeatClass.First(), 0));
+
+        assertEquals(flight, ProductCodec.decodeFlight(ProductCodec.encode(flight)));
+    }
+
+    @Test
+    @DisplayName("패키지 - 일정과 포함/불포함 목록")
+    void package_round_trip() {
+        var travelPackage = new TravelPackage("P1", "제주 3일", "설명", "제주",
+                new DateRange(LocalDate.of(2026, 8, 1), LocalDate.of(2026, 8, 3)), Money.krw(450_000), 2, 10,
+                List.of("항공", "숙박"), List.of(),
+                List.of(new TravelPackage.DayItinerary(1, "도착", null, List.of("체크인")),
+                        new TravelPackage.DayItinerary(2, "한라산", "등반", List.of())));
+
+        assertEquals(travelPackage, ProductCodec.decodeTravelPackage(ProductCodec.encode(travelPackage)));
+    }
+}
@@ -0,0 +1,243 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.application.booking.BookingMetrics;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingArchive;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.mapper.BookingMapper;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JpaBookingArchive 테스트 - 내장 H2에서 보관 대상 JPQL, 월 테이블 네이티브 SQL, 스냅샷 조회
+ *
+ * <p>[Trap] 월 테이블 CREATE TABLE은 H2에서 암묵적 커밋 → 테스트 트랜잭션 없이 실행하고 끝나면 직접 비움</p>
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        JpaBookingArchiveTest.Metrics.class,
+        BookingMetrics.class,
+        JpaBookingRepository.class,
+        JpaBookingArchive.class,
+        BookingMapper.class
+})
+@DisplayName("JpaBookingArchive - 월별 보관 테이블")
+class JpaBookingArchiveTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant CUTOFF = seoul(2025, 1, 1, 0);
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JpaBookingArchive archive;
+
+    @Autowired
+    private JpaBookingRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MemberId member = MemberId.generate();
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private long count(String sql, Object... parameters) {
+        return inTransaction(() -> {
+            var query = entityManager.createNativeQuery(sql);
+            for (int i = 0; i < parameters.length; i++) {
+                query.setParameter(i + 1, parameters[i]);
+            }
+            return ((Number) query.getSingleResult()).longValue();
+        });
+    }
+
+    @AfterEach
+    void clear() {
+        inTransaction(() -> {
+            @SuppressWarnings("unchecked")
+            List<String> tables = entityManager.createNativeQuery("SELECT table_name FROM information_schema.tables "
+                    + "WHERE LOWER(table_name) LIKE 'bookings_archive_%'").getResultList();
+            tables.forEach(table -> entityManager.createNativeQuery("DELETE FROM " + table).executeUpdate());
+            for (String table : List.of("booking_archive_product", "booking_archive_index", "booking_items", "bookings")) {
+                entityManager.createNativeQuery("DELETE FROM " + table).executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    @Nested
+    @DisplayName("archiveBatch")
+    class ArchiveBatch {
+
+        @Test
+        @DisplayName("최종 상태이고 cutoff 이전에 끝난 예약만 생성 월 테이블로 - bookings/booking_items에서는 삭제")
+        void moves_final_old_bookings_to_month_tables() {
+            // Given - 2023년 1월/2월 생성 후 끝난 예약 2건, 진행 중 1건, cutoff 이후에 끝난 1건
+            Instant january = seoul(2023, 1, 10, 12);
+            Instant february = seoul(2023, 2, 10, 12);
+            Booking completed = completed(january, january.plusSeconds(86_400));
+            Booking cancelled = cancelled(february, february.plusSeconds(3_600));
+            Booking pending = booking(BookingStatus.Pending.withDefaultExpiry(), january, january);
+            Booking recent = completed(january, seoul(2025, 6, 1, 12));
+            repository.saveAll(List.of(completed, cancelled, pending, recent));
+
+            // When
+            BookingArchive.Batch batch = archive.archiveBatch(CUTOFF, 100);
+
+            // Then - 옮긴 수와 월 테이블
+            assertEquals(2, batch.archived());
+            assertEquals(Set.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2)), batch.months());
+            assertEquals(1, count("SELECT COUNT(*) FROM bookings_archive_202301 WHERE id = ?", id(completed)));
+            assertEquals(1, count("SELECT COUNT(*) FROM bookings_archive_202302 WHERE id = ? AND status = 'CANCELLED'",
+                    id(cancelled)));
+            assertEquals(2, count("SELECT COUNT(*) FROM booking_archive_index WHERE member_id = ?",
+                    member.value().toString()));
+
+            // Then - 활성 테이블에는 남은 2건만, 항목도 함께 삭제
+            assertEquals(2, count("SELECT COUNT(*) FROM bookings WHERE member_id = ?", member.value().toString()));
+            assertEquals(0, count("SELECT COUNT(*) FROM booking_items WHERE booking_id IN (?, ?)",
+                    id(completed), id(cancelled)));
+            assertEquals(0, archive.archiveBatch(CUTOFF, 100).archived());
+        }
+
+        @Test
+        @DisplayName("limit건씩 - 다시 부르면 남은 것만, 모두 옮기면 0건")
+        void moves_at_most_limit() {
+            Instant created = seoul(2023, 3, 5, 9);
+            for (int i = 0; i < 5; i++) {
+                repository.saveAll(List.of(completed(created, created.plusSeconds(60L * i))));
+            }
+
+            assertEquals(List.of(2, 2, 1, 0), List.of(
+                    archive.archiveBatch(CUTOFF, 2).archived(),
+                    archive.archiveBatch(CUTOFF, 2).archived(),
+                    archive.archiveBatch(CUTOFF, 2).archived(),
+                    archive.archiveBatch(CUTOFF, 2).archived()));
+            assertEquals(5, count("SELECT COUNT(*) FROM bookings_archive_202303"));
+        }
+
+        @Test
+        @DisplayName("보관 월은 zone 기준 - 서울 1일 새벽 생성은 UTC로는 전달이지만 그 달 테이블로")
+        void partitions_by_zone() {
+            Instant firstOfMonthDawn = seoul(2024, 3, 1, 2);
+            Booking booking = completed(firstOfMonthDawn, firstOfMonthDawn.plusSeconds(86_400));
+            repository.saveAll(List.of(booking));
+
+            BookingArchive.Batch batch = archive.archiveBatch(CUTOFF, 10);
+
+            assertEquals(Set.of(YearMonth.of(2024, 3)), batch.months());
+            assertEquals(1, count("SELECT COUNT(*) FROM bookings_archive_202403 WHERE id = ?", id(booking)));
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Reads {
+
+        @Test
+        @DisplayName("스냅샷을 그대로 복원 - 보관 전 활성 테이블에서 읽은 값과 같음")
+        void restores_snapshots() {
+            // Given - 서로 다른 월 테이블 2개에 보관
+            Instant january = seoul(2023, 1, 10, 12);
+            Instant march = seoul(2023, 3, 10, 12);
+            Booking first = completed(january, january.plusSeconds(86_400));
+            Booking second = cancelled(march, march.plusSeconds(3_600));
+            repository.saveAll(List.of(first, second));
+            Booking firstBefore = inTransaction(() -> repository.findByIdOptional(first.id())).orElseThrow();
+            Booking secondBefore = inTransaction(() -> repository.findByIdOptional(second.id())).orElseThrow();
+
+            // When
+            archive.archiveBatch(CUTOFF, 10);
+
+            // Then
+            assertEquals(Optional.of(firstBefore), archive.findById(first.id()));
+            assertEquals(Set.of(firstBefore, secondBefore), Set.copyOf(archive.findByMemberId(member)));
+            assertTrue(archive.existsById(second.id()));
+            assertEquals(List.of(member), archive.findAllMemberIds());
+            assertEquals(2, count("SELECT COUNT(*) FROM booking_archive_product WHERE product_id = 'ROOM-1'"));
+        }
+
+        @Test
+        @DisplayName("보관되지 않은 예약/회원은 비어 있음")
+        void empty_when_not_archived() {
+            Booking active = booking(BookingStatus.Pending.withDefaultExpiry(), CUTOFF, CUTOFF);
+            repository.saveAll(List.of(active));
+
+            assertEquals(Optional.empty(), archive.findById(active.id()));
+            assertFalse(archive.existsById(active.id()));
+            assertEquals(List.of(), archive.findByMemberId(member));
+        }
+    }
+
+    // ============================================
+    // 테스트 도우미
+    // ============================================
+
+    private Booking booking(BookingStatus status, Instant createdAt, Instant updatedAt) {
+        var created = Booking.create(member, List.of(new BookingItem.Accommodation(
+                "ROOM-1", "호텔", "디럭스",
+                new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                Money.krw(100_000), 2)));
+        return new Booking(created.id(), created.memberId(), created.items(), status,
+                created.totalAmount(), created.discountAmount(), created.finalAmount(), null, createdAt, updatedAt);
+    }
+
+    private Booking completed(Instant createdAt, Instant completedAt) {
+        return booking(new BookingStatus.Completed(completedAt), createdAt, completedAt);
+    }
+
+    private Booking cancelled(Instant createdAt, Instant cancelledAt) {
+        return booking(new BookingStatus.Cancelled("고객 요청", cancelledAt, null,
+                BookingStatus.Cancelled.CancelledBy.USER), createdAt, cancelledAt);
+    }
+
+    private static String id(Booking booking) {
+        return booking.id().value().toString();
+    }
+
+    private static Instant seoul(int year, int month, int day, int hour) {
+        return LocalDate.of(year, month, day).atTime(hour, 0).atZone(SEOUL).toInstant();
+    }
+}
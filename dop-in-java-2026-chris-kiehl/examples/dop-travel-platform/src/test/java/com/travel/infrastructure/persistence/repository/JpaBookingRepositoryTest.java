@@ -0,0 +1,229 @@
+package com.travel.infrastructure.persistence.repository;
+
+import com.travel.application.booking.BookingMetrics;
+import com.travel.domain.booking.Booking;
+import com.travel.domain.booking.BookingId;
+import com.travel.domain.booking.BookingItem;
+import com.travel.domain.booking.BookingStatus;
+import com.travel.domain.member.MemberId;
+import com.travel.infrastructure.persistence.mapper.BookingMapper;
+import com.travel.shared.types.DateRange;
+import com.travel.shared.types.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JpaBookingRepository 테스트 - 활성 테이블 + 보관소 이어서 조회 (findByMemberId / findByMemberIdAndStatus / existsByMemberIdAndProductId)
+ *
+ * <p>[Trap] 보관 배치의 CREATE TABLE은 H2에서 암묵적 커밋 → 테스트 트랜잭션 없이 실행하고 끝나면 직접 비움</p>
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        JpaBookingRepositoryTest.Metrics.class,
+        BookingMetrics.class,
+        JpaBookingRepository.class,
+        JpaBookingArchive.class,
+        BookingMapper.class
+})
+@DisplayName("JpaBookingRepository - 보관소 이어서 조회")
+class JpaBookingRepositoryTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant CUTOFF = LocalDate.of(2025, 1, 1).atStartOfDay(SEOUL).toInstant();
+    private static final Instant OLD = LocalDate.of(2023, 5, 10).atTime(12, 0).atZone(SEOUL).toInstant();
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JpaBookingRepository repository;
+
+    @Autowired
+    private JpaBookingArchive archive;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MemberId member = MemberId.generate();
+    private final MemberId otherMember = MemberId.generate();
+
+    // 활성 테이블: 진행 중 1건, 최근 완료 1건 / 보관소: 오래된 완료 1건, 오래된 취소 1건
+    private Booking pending;
+    private Booking recentCompleted;
+    private Booking archivedCompleted;
+    private Booking archivedCancelled;
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    @BeforeEach
+    void seed() {
+        pending = booking(member, BookingStatus.Pending.withDefaultExpiry(), OLD);
+        recentCompleted = booking(member, new BookingStatus.Completed(CUTOFF.plusSeconds(86_400)),
+                CUTOFF.plusSeconds(86_400));
+        archivedCompleted = booking(member, new BookingStatus.Completed(OLD), OLD);
+        archivedCancelled = booking(member, new BookingStatus.Cancelled("고객 요청", OLD, null,
+                BookingStatus.Cancelled.CancelledBy.USER), OLD);
+        Booking otherArchived = booking(otherMember, new BookingStatus.Completed(OLD), OLD);
+        repository.saveAll(List.of(pending, recentCompleted, archivedCompleted, archivedCancelled, otherArchived));
+        assertEquals(3, archive.archiveBatch(CUTOFF, 100).archived());
+    }
+
+    @AfterEach
+    void clear() {
+        inTransaction(() -> {
+            @SuppressWarnings("unchecked")
+            List<String> tables = entityManager.createNativeQuery("SELECT table_name FROM information_schema.tables "
+                    + "WHERE LOWER(table_name) LIKE 'bookings_archive_%'").getResultList();
+            tables.forEach(table -> entityManager.createNativeQuery("DELETE FROM " + table).executeUpdate());
+            for (String table : List.of("booking_archive_product", "booking_archive_index", "booking_items", "bookings")) {
+                entityManager.createNativeQuery("DELETE FROM " + table).executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    @Nested
+    @DisplayName("findByMemberId")
+    class FindByMemberId {
+
+        @Test
+        @DisplayName("활성 테이블 + 보관소 - 다른 회원의 보관 예약은 섞이지 않음")
+        void merges_active_and_archived() {
+            List<Booking> bookings = inTransaction(() -> repository.findByMemberId(member));
+
+            assertEquals(4, bookings.size());
+            assertEquals(ids(pending, recentCompleted, archivedCompleted, archivedCancelled), ids(bookings));
+        }
+
+        @Test
+        @DisplayName("두 조회 사이에 보관된 예약(양쪽에 있는 예약)은 한 번만")
+        void deduplicates_booking_in_both() {
+            // Given - 보관 배치가 커밋된 직후 활성 테이블을 읽은 것과 같은 상태
+            repository.saveAll(List.of(archivedCompleted));
+
+            // When
+            List<Booking> bookings = inTransaction(() -> repository.findByMemberId(member));
+            List<Booking> completed = inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.Completed.class));
+
+            // Then
+            assertEquals(4, bookings.size());
+            assertEquals(ids(pending, recentCompleted, archivedCompleted, archivedCancelled), ids(bookings));
+            assertEquals(2, completed.size());
+        }
+
+        @Test
+        @DisplayName("보관된 예약만 있는 회원도 조회됨")
+        void archived_only_member() {
+            List<Booking> bookings = inTransaction(() -> repository.findByMemberId(otherMember));
+
+            assertEquals(1, bookings.size());
+            assertEquals(otherMember, bookings.getFirst().memberId());
+        }
+    }
+
+    @Nested
+    @DisplayName("findByMemberIdAndStatus")
+    class FindByMemberIdAndStatus {
+
+        @Test
+        @DisplayName("최종 상태 - 활성 테이블 + 보관소에서 같은 상태만")
+        void final_status_includes_archive() {
+            List<Booking> completed = inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.Completed.class));
+            List<Booking> cancelled = inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.Cancelled.class));
+
+            assertEquals(ids(recentCompleted, archivedCompleted), ids(completed));
+            assertEquals(ids(archivedCancelled), ids(cancelled));
+            assertEquals(List.of(), inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.NoShow.class)));
+        }
+
+        @Test
+        @DisplayName("진행 중 상태 - 보관소는 읽지 않음 (보관 대상이 아님)")
+        void active_status_skips_archive() {
+            List<Booking> bookings = inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.Pending.class));
+
+            assertEquals(ids(pending), ids(bookings));
+            assertEquals(List.of(), inTransaction(
+                    () -> repository.findByMemberIdAndStatus(member, BookingStatus.Confirmed.class)));
+        }
+    }
+
+    @Nested
+    @DisplayName("existsByMemberIdAndProductId")
+    class ExistsByMemberIdAndProductId {
+
+        @Test
+        @DisplayName("보관된 예약의 상품도 라우팅 인덱스로 확인 - 다른 회원/다른 상품은 없음")
+        void checks_archived_products() {
+            // Given - otherMember는 보관된 예약만 있음
+            MemberId stranger = MemberId.generate();
+
+            // When / Then
+            assertTrue(repository.existsByMemberIdAndProductId(member, "ROOM-1"));
+            assertTrue(repository.existsByMemberIdAndProductId(otherMember, "ROOM-1"));
+            assertFalse(repository.existsByMemberIdAndProductId(otherMember, "ROOM-2"));
+            assertFalse(repository.existsByMemberIdAndProductId(stranger, "ROOM-1"));
+        }
+    }
+
+    // ============================================
+    // 테스트 도우미
+    // ============================================
+
+    private static Booking booking(MemberId memberId, BookingStatus status, Instant updatedAt) {
+        var created = Booking.create(memberId, List.of(new BookingItem.Accommodation(
+                "ROOM-1", "호텔", "디럭스",
+                new DateRange(LocalDate.of(2026, 7, 10), LocalDate.of(2026, 7, 12)),
+                Money.krw(100_000), 2)));
+        return new Booking(created.id(), created.memberId(), created.items(), status,
+                created.totalAmount(), created.discountAmount(), created.finalAmount(), null, OLD, updatedAt);
+    }
+
+    private static Set<BookingId> ids(Booking... bookings) {
+        return ids(List.of(bookings));
+    }
+
+    private static Set<BookingId> ids(List<Booking> bookings) {
+        return bookings.stream().map(Booking::id).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,95 @@
+package com.travel.infrastructure.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BookingController 테스트 - 요청 검증 단계 (UseCase/Repository까지 가지 않는 요청만)
+ */
+@DisplayName("BookingController - 예약 생성 요청 검증")
+class BookingControllerTest {
+
+    private static final String MEMBER_ID = UUID.randomUUID().toString();
+
+    // 검증에서 멈추는 요청만 보내므로 협력 객체는 필요 없음
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new BookingController(null, null, null))
+            .build();
+
+    private ResultActions create(String itemJson) throws Exception {
+        return mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"memberId": "%s", "items": [%s]}
+                        """.formatted(MEMBER_ID, itemJson)));
+    }
+
+    private static String accommodation(String typeField) {
+        return """
+                {%s"productId": "ROOM-1", "name": "호텔", "option": "디럭스",
+                 "startDate": "2026-12-01", "endDate": "2026-12-03", "price": 100000, "quantity": 2}
+                """.formatted(typeField);
+    }
+
+    @Nested
+    @DisplayName("항목 유형(type)")
+    class ItemType {
+
+        @Test
+        @DisplayName("type 누락 → 400 InvalidRequest (500 아님)")
+        void missing_type_is_bad_request() throws Exception {
+            create(accommodation(""))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("InvalidRequest"))
+                    .andExpect(jsonPath("$.messages[0]").value("항목 유형(type)은 필수입니다: ACCOMMODATION, FLIGHT"));
+        }
+
+        @Test
+        @DisplayName("type null/공백 → 400 InvalidRequest")
+        void null_or_blank_type_is_bad_request() throws Exception {
+            create(accommodation("\"type\": null, "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("InvalidRequest"));
+            create(accommodation("\"type\": \" \", "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("InvalidRequest"));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 type → 400 InvalidRequest")
+        void unknown_type_is_bad_request() throws Exception {
+            create(accommodation("\"type\": \"CRUISE\", "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.messages[0]").value("지원하지 않는 항목 유형: CRUISE"));
+        }
+    }
+
+    @Test
+    @DisplayName("items 안의 null 항목 → 400 InvalidRequest")
+    void null_item_is_bad_request() throws Exception {
+        create("null")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("InvalidRequest"));
+    }
+
+    @Test
+    @DisplayName("items 없음 → 400 ValidationFailed (Applicative Validation 오류 목록)")
+    void missing_items_is_validation_failure() throws Exception {
+        mockMvc.perform(post("/api/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": \"" + MEMBER_ID + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("ValidationFailed"));
+    }
+}
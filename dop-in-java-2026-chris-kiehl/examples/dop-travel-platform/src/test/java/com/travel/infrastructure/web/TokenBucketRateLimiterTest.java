@@ -0,0 +1,186 @@
+package com.travel.infrastructure.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucketRateLimiter 테스트 - 시계를 직접 움직여 검사
+ */
+@DisplayName("TokenBucketRateLimiter - 키별 토큰 버킷")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    /** 버킷 5개, 분당 60개 = 1초에 1개 보충 */
+    private TokenBucketRateLimiter<String> limiter(int maxKeys) {
+        return new TokenBucketRateLimiter<>(5, 60, maxKeys, clock::get);
+    }
+
+    private int acquireAll(TokenBucketRateLimiter<String> limiter, String key) {
+        int allowed = 0;
+        while (limiter.tryAcquire(key)) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("허용/거절")
+    class Acquire {
+
+        @Test
+        @DisplayName("처음에는 버킷 크기만큼 연속 허용, 그 다음 거절")
+        void burst_up_to_capacity() {
+            var limiter = limiter(100);
+
+            assertEquals(5, acquireAll(limiter, "1.1.1.1"));
+            assertEquals(1, limiter.rejectedCount());
+        }
+
+        @Test
+        @DisplayName("시간이 지난 만큼만 보충 - 2.5초 후 2개")
+        void refills_over_time() {
+            // Given
+            var limiter = limiter(100);
+            acquireAll(limiter, "1.1.1.1");
+
+            // When
+            clock.addAndGet(2 * SECOND + SECOND / 2);
+
+            // Then
+            assertEquals(2, acquireAll(limiter, "1.1.1.1"));
+            assertEquals(Duration.ofMillis(500), limiter.retryAfter("1.1.1.1"));
+        }
+
+        @Test
+        @DisplayName("오래 쉬어도 버킷 크기 이상은 쌓이지 않음")
+        void refill_is_capped() {
+            var limiter = limiter(100);
+            acquireAll(limiter, "1.1.1.1");
+
+            clock.addAndGet(3_600 * SECOND);
+
+            assertEquals(5, acquireAll(limiter, "1.1.1.1"));
+        }
+
+        @Test
+        @DisplayName("어느 10초 구간에서도 허용 수 ≤ 버킷 크기 + 10")
+        void sliding_window_bound() {
+            // Given - 100ms마다 요청 (분당 허용량의 10배)
+            var limiter = limiter(100);
+            List<Long> allowedAt = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                if (limiter.tryAcquire("bot")) {
+                    allowedAt.add(clock.get());
+                }
+                clock.addAndGet(SECOND / 10);
+            }
+
+            // Then
+            for (int i = 0; i < allowedAt.size(); i++) {
+                int inWindow = 0;
+                for (int j = i; j < allowedAt.size() && allowedAt.get(j) - allowedAt.get(i) < 10 * SECOND; j++) {
+                    inWindow++;
+                }
+                assertTrue(inWindow <= 5 + 10, "구간 시작 " + i + ": " + inWindow);
+            }
+        }
+
+        @Test
+        @DisplayName("키마다 따로 셈")
+        void keys_are_independent() {
+            var limiter = limiter(100);
+
+            acquireAll(limiter, "1.1.1.1");
+
+            assertTrue(limiter.tryAcquire("2.2.2.2"));
+        }
+    }
+
+    @Nested
+    @DisplayName("정리와 메모리 상한")
+    class Eviction {
+
+        @Test
+        @DisplayName("가득 찬 버킷만 정리 - 토큰을 쓴 버킷은 남음")
+        void evicts_only_full_buckets() {
+            // Given
+            var limiter = limiter(100);
+            limiter.tryAcquire("idle");
+            clock.addAndGet(2 * SECOND);
+            acquireAll(limiter, "busy");
+
+            // When
+            int removed = limiter.evictIdle();
+
+            // Then
+            assertEquals(1, removed);
+            assertEquals(1, limiter.size());
+            assertFalse(limiter.tryAcquire("busy"));
+        }
+
+        @Test
+        @DisplayName("키 상한에 닿으면 유휴 버킷을 정리하고, 자리가 없으면 새 키 거절")
+        void max_keys() {
+            // Given
+            var limiter = limiter(2);
+            limiter.tryAcquire("a");
+            limiter.tryAcquire("b");
+
+            // When / Then - a, b 모두 토큰을 쓴 상태 → 자리 없음
+            assertFalse(limiter.tryAcquire("c"));
+
+            clock.addAndGet(SECOND);
+            assertTrue(limiter.tryAcquire("c"));
+            assertTrue(limiter.size() <= 2);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 동시에 요청 - 정확히 버킷 크기만큼 허용")
+    void concurrent_acquire_is_exact() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            // Given
+            var limiter = new TokenBucketRateLimiter<String>(50, 60, 100, clock::get);
+            AtomicInteger allowed = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire("shared")) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            // When
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Then
+            assertEquals(50, allowed.get());
+            assertEquals(750, limiter.rejectedCount());
+        }
+    }
+}
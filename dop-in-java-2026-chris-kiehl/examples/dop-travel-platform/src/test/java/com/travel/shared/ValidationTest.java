@@ -0,0 +1,194 @@
+package com.travel.shared;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Validation 결합 단위 테스트
+ */
+@DisplayName("Validation - 결합 연산")
+class ValidationTest {
+
+    private static Validation<String, String> ok(String value) {
+        return Validation.valid(value);
+    }
+
+    private static Validation<String, String> fail(String error) {
+        return Validation.invalid(error);
+    }
+
+    /**
+     * 커리된 ap 체인 - 직접 결합 구현과 결과가 같아야 하는 기준
+     */
+    private static <A, B, C, D, R> Validation<R, String> viaAp(
+            Validation<A, String> va, Validation<B, String> vb,
+            Validation<C, String> vc, Validation<D, String> vd,
+            Validation.Function4<A, B, C, D, R> f) {
+        Validation<Function<B, Function<C, Function<D, R>>>, String> step1 =
+                va.map(a -> b -> c -> d -> f.apply(a, b, c, d));
+        return Validation.ap(Validation.ap(Validation.ap(step1, vb), vc), vd);
+    }
+
+    @Nested
+    @DisplayName("combine - 직접 N-ary 결합")
+    class Combine {
+
+        @Test
+        @DisplayName("모든 입력이 Valid면 combiner를 한 번 호출한다")
+        void all_valid() {
+            // Given
+            int[] calls = {0};
+
+            // When
+            var result = Validation.combine(ok("a"), ok("b"), ok("c"), ok("d"), ok("e"),
+                    (a, b, c, d, e) -> {
+                        calls[0]++;
+                        return a + b + c + d + e;
+                    });
+
+            // Then
+            assertEquals("abcde", result.getOrThrow());
+            assertEquals(1, calls[0]);
+        }
+
+        @Test
+        @DisplayName("Invalid가 있으면 combiner를 호출하지 않고 오류를 인자 순서대로 모은다")
+        void collects_errors_in_order() {
+            // When
+            Validation<String, String> result = Validation.combine(
+                    fail("e1"), ok("b"), fail("e3"), fail("e4"),
+                    (a, b, c, d) -> fail("combiner 호출됨").getOrThrow());
+
+            // Then
+            assertEquals(List.of("e1", "e3", "e4"), result.errors());
+        }
+
+        @Test
+        @DisplayName("모든 Valid/Invalid 조합에서 ap 체인과 같은 결과를 낸다")
+        void equivalent_to_ap_chain() {
+            for (int mask = 0; mask < 16; mask++) {
+                // Given
+                var va = (mask & 1) != 0 ? fail("a") : ok("A");
+                var vb = (mask & 2) != 0 ? fail("b") : ok("B");
+                var vc = (mask & 4) != 0 ? fail("c") : ok("C");
+                var vd = (mask & 8) != 0 ? fail("d") : ok("D");
+                Validation.Function4<String, String, String, String, String> f = (a, b, c, d) -> a + b + c + d;
+
+                // When / Then
+                assertEquals(viaAp(va, vb, vc, vd, f), Validation.combine(va, vb, vc, vd, f));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ValidationBuilder - 임의 개수 결합")
+    class Builder {
+
+        @Test
+        @DisplayName("슬롯으로 타입 안전하게 값을 꺼낸다")
+        void typed_slots() {
+            // Given
+            var b = ValidationBuilder.<String>create();
+            var name = b.add(ok("홍길동"));
+            var age = b.add(Validation.<Integer, String>valid(30));
+
+            // When
+            var result = b.build(v -> v.get(name) + ":" + (v.get(age) + 1));
+
+            // Then
+            assertEquals("홍길동:31", result.getOrThrow());
+        }
+
+        @Test
+        @DisplayName("초기 용량을 넘어도 모든 오류를 등록 순서대로 모은다")
+        void grows_and_collects_all_errors() {
+            // Given
+            var b = ValidationBuilder.<String>withExpectedSize(2);
+            for (int i = 0; i < 20; i++) {
+                b.add(i % 2 == 0 ? fail("e" + i) : ok("v" + i));
+            }
+
+            // When
+            var result = b.build(v -> "never");
+
+            // Then
+            assertEquals(20, b.size());
+            assertEquals(10, result.errors().size());
+            assertEquals("e0", result.errors().get(0));
+            assertEquals("e18", result.errors().get(9));
+        }
+
+        @Test
+        @DisplayName("다른 빌더의 슬롯은 사용할 수 없다")
+        void rejects_foreign_slot() {
+            // Given
+            var other = ValidationBuilder.<String>create();
+            var foreign = other.add(ok("x"));
+            var b = ValidationBuilder.<String>create();
+            b.add(ok("y"));
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> b.build(v -> v.get(foreign)));
+        }
+    }
+
+    @Nested
+    @DisplayName("오류 누적 - PersistentList")
+    class ErrorAccumulation {
+
+        @Test
+        @DisplayName("긴 ap 체인에서도 모든 오류를 순서대로 누적한다")
+        void long_chain_accumulates_in_order() {
+            // Given
+            Validation<Function<String, String>, String> acc = Validation.invalid("e0");
+
+            // When: 오류 2만 개 누적 (O(k²) 복사라면 수억 회 원소 복사)
+            for (int i = 1; i < 20_000; i++) {
+                acc = Validation.ap(acc.map(f -> s -> s), fail("e" + i))
+                        .map(s -> (Function<String, String>) x -> x);
+            }
+
+            // Then
+            assertEquals(20_000, acc.errors().size());
+            assertEquals("e0", acc.errors().get(0));
+            assertEquals("e19999", acc.errors().get(19_999));
+            assertInstanceOf(PersistentList.class, acc.errors());
+        }
+
+        @Test
+        @DisplayName("같은 리스트에서 갈라진 두 결과는 서로 영향을 주지 않는다")
+        void branches_are_independent() {
+            // Given
+            var base = PersistentList.<String>empty().append("a").append("b");
+
+            // When
+            var left = base.append("L");
+            var right = base.append("R");
+            var leftMore = left.appendAll(List.of("L2", "L3"));
+
+            // Then
+            assertEquals(List.of("a", "b"), base);
+            assertEquals(List.of("a", "b", "L"), left);
+            assertEquals(List.of("a", "b", "R"), right);
+            assertEquals(List.of("a", "b", "L", "L2", "L3"), leftMore);
+        }
+
+        @Test
+        @DisplayName("Invalid의 오류 목록은 수정할 수 없고 null을 허용하지 않는다")
+        void immutable_and_null_hostile() {
+            // Given
+            Validation<String, String> invalid = Validation.invalid(List.of("e1", "e2"));
+
+            // When / Then
+            assertThrows(UnsupportedOperationException.class, () -> invalid.errors().add("e3"));
+            assertThrows(NullPointerException.class,
+                    () -> Validation.invalid(java.util.Arrays.asList("e1", null)));
+        }
+    }
+}